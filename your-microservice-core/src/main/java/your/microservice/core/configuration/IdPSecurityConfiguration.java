@@ -3,7 +3,7 @@ package your.microservice.core.configuration;
 import your.microservice.core.system.messaging.jms.MessagePublisherService;
 import your.microservice.core.security.idp.security.AuthenticationTokenFilter;
 import your.microservice.core.security.idp.security.EntryPointUnauthorizedHandler;
-import your.microservice.core.security.idp.security.YourMicroserviceSecurityConstants;
+import your.microservice.core.security.idp.security.service.PasswordVerificationService;
 import your.microservice.core.security.idp.security.service.SecurityService;
 import your.microservice.core.security.idp.security.YourMSAuthenticationManager;
 import your.microservice.core.security.idp.security.YourMicroserviceUserDetailsService;
@@ -46,6 +46,12 @@ public class IdPSecurityConfiguration extends WebSecurityConfigurerAdapter {
     @Autowired
     private YourMicroserviceUserDetailsService detailsService;
 
+    /**
+     * Password Verification Service
+     */
+    @Autowired
+    private PasswordVerificationService passwordVerificationService;
+
     /**
      * MessagePublisherService
      */
@@ -72,14 +78,14 @@ public class IdPSecurityConfiguration extends WebSecurityConfigurerAdapter {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(YourMicroserviceSecurityConstants.BCRYPT_STRENGTH_SETTING);
+        return new BCryptPasswordEncoder(passwordVerificationService.getStrength());
     }
 
     @Bean
     @Override
     public AuthenticationManager authenticationManagerBean() throws Exception {
         //return super.authenticationManagerBean();
-        return new YourMSAuthenticationManager(detailsService, messagePublisherService);
+        return new YourMSAuthenticationManager(detailsService, passwordVerificationService, messagePublisherService);
     }
 
     @Bean
@@ -110,6 +116,8 @@ public class IdPSecurityConfiguration extends WebSecurityConfigurerAdapter {
                 .antMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 // Auth
                 .antMatchers("/api/auth").permitAll()
+                .antMatchers("/api/auth/jwks").permitAll()
+                .antMatchers("/api/auth/token").permitAll()
 
                 // Special Swagger Endpoint for Auth
                 .antMatchers("/api/auth/").permitAll()
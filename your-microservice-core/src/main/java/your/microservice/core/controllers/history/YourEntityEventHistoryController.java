@@ -0,0 +1,233 @@
+package your.microservice.core.controllers.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import your.microservice.core.dm.dto.history.EntityEventHistoryPageDTO;
+import your.microservice.core.security.idp.model.security.YourMicroserviceUserDetails;
+import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Date;
+
+/**
+ * YourEntityEventHistoryController
+ *
+ * Provides the Event History of an Entity, either by Page, Newest First, each Page
+ * bearing the Cursor of the next, or as a Stream of Newline Delimited JSON, written
+ * as each Event is Read, so no Response is ever held whole.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@RestController
+@RequestMapping("/api/{serviceName}/{version}/history/events")
+public class YourEntityEventHistoryController {
+    /**
+     * Logging
+     */
+    private final static Logger LOGGER = LoggerFactory.getLogger(YourEntityEventHistoryController.class);
+    /**
+     * Identity Provider Entity Manager
+     */
+    @Autowired
+    private IdentityProviderEntityManager identityProviderEntityManager;
+    /**
+     * Object Mapper, as Configured for the Application, so Streamed Events
+     * are Written as the Paged Events are.
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+    /**
+     * Constants
+     */
+    public static final String APPLICATION_JSON_WITH_UTF8_ENCODING_VALUE = "application/json;charset=UTF-8";
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final int DEFAULT_PAGE_LIMIT = 50;
+    private static final int MAXIMUM_PAGE_LIMIT = 500;
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+    private static final byte[] NEWLINE = {'\n'};
+
+    /**
+     * getEventHistoryPage
+     * Obtain a Page of the Authenticated Entity's Event History.
+     *
+     * @param authentication Reference to Authenticated Entity.
+     * @param serviceName    Service Name Associated to this Instance.
+     * @param version        API Version
+     * @param before         Cursor Created Date in Epoch Milliseconds, absent for the first Page.
+     * @param beforeId       Cursor Event Identifier, absent for the first Page.
+     * @param limit          Maximum Number of Events in the Page.
+     * @return EntityEventHistoryPageDTO Page of Event History.
+     */
+    @RequestMapping(
+            value = {""},
+            method = RequestMethod.GET,
+            produces = APPLICATION_JSON_WITH_UTF8_ENCODING_VALUE
+    )
+    @ResponseBody
+    public EntityEventHistoryPageDTO getEventHistoryPage(Authentication authentication,
+                                                         @PathVariable String serviceName,
+                                                         @PathVariable String version,
+                                                         @RequestParam(required = false) Long before,
+                                                         @RequestParam(required = false) Long beforeId,
+                                                         @RequestParam(required = false) Integer limit) {
+        return page(principalID(authentication), before, beforeId, limit);
+    }
+
+    /**
+     * streamEventHistory
+     * Stream the Authenticated Entity's Event History as Newline Delimited JSON.
+     *
+     * @param authentication Reference to Authenticated Entity.
+     * @param serviceName    Service Name Associated to this Instance.
+     * @param version        API Version
+     * @param response       Response to which each Event is Written.
+     */
+    @RequestMapping(
+            value = {"/stream"},
+            method = RequestMethod.GET,
+            produces = APPLICATION_NDJSON_VALUE
+    )
+    public void streamEventHistory(Authentication authentication,
+                                   @PathVariable String serviceName,
+                                   @PathVariable String version,
+                                   HttpServletResponse response) throws IOException {
+        stream(principalID(authentication), response);
+    }
+
+    /**
+     * getEntityEventHistoryPage
+     * Obtain a Page of any Entity's Event History.
+     *
+     * @param serviceName Service Name Associated to this Instance.
+     * @param version     API Version
+     * @param entityId    Identifier of the Entity.
+     * @param before      Cursor Created Date in Epoch Milliseconds, absent for the first Page.
+     * @param beforeId    Cursor Event Identifier, absent for the first Page.
+     * @param limit       Maximum Number of Events in the Page.
+     * @return EntityEventHistoryPageDTO Page of Event History.
+     */
+    @RequestMapping(
+            value = {"/entity/{entityId}"},
+            method = RequestMethod.GET,
+            produces = APPLICATION_JSON_WITH_UTF8_ENCODING_VALUE
+    )
+    @ResponseBody
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public EntityEventHistoryPageDTO getEntityEventHistoryPage(@PathVariable String serviceName,
+                                                               @PathVariable String version,
+                                                               @PathVariable Long entityId,
+                                                               @RequestParam(required = false) Long before,
+                                                               @RequestParam(required = false) Long beforeId,
+                                                               @RequestParam(required = false) Integer limit) {
+        return page(entityId, before, beforeId, limit);
+    }
+
+    /**
+     * streamEntityEventHistory
+     * Stream any Entity's Event History as Newline Delimited JSON.
+     *
+     * @param serviceName Service Name Associated to this Instance.
+     * @param version     API Version
+     * @param entityId    Identifier of the Entity.
+     * @param response    Response to which each Event is Written.
+     */
+    @RequestMapping(
+            value = {"/entity/{entityId}/stream"},
+            method = RequestMethod.GET,
+            produces = APPLICATION_NDJSON_VALUE
+    )
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public void streamEntityEventHistory(@PathVariable String serviceName,
+                                         @PathVariable String version,
+                                         @PathVariable Long entityId,
+                                         HttpServletResponse response) throws IOException {
+        stream(entityId, response);
+    }
+
+    /**
+     * resolveAccessDeniedExceptions
+     * Resolved here, as the Error would otherwise be Rendered as JSON, which a Stream does not Produce.
+     *
+     * @return String Forbidden.
+     */
+    @ExceptionHandler({AccessDeniedException.class})
+    @ResponseStatus(HttpStatus.FORBIDDEN) // 403
+    @ResponseBody
+    public String resolveAccessDeniedExceptions() {
+        return "forbidden";
+    }
+
+    /**
+     * page
+     *
+     * @param entityId Identifier of the Entity.
+     * @param before   Cursor Created Date in Epoch Milliseconds.
+     * @param beforeId Cursor Event Identifier.
+     * @param limit    Requested Limit, Bounded.
+     * @return EntityEventHistoryPageDTO Page of Event History.
+     */
+    // PMD 5.1 False Positive: UnusedPrivateMethod cannot resolve the @RequestParam Arguments of its Callers.
+    @SuppressWarnings("PMD.UnusedPrivateMethod")
+    private EntityEventHistoryPageDTO page(Long entityId, Long before, Long beforeId, Integer limit) {
+        int boundedLimit = limit == null || limit <= 0 ? DEFAULT_PAGE_LIMIT : Math.min(limit, MAXIMUM_PAGE_LIMIT);
+        return new EntityEventHistoryPageDTO(
+                identityProviderEntityManager.findYourEntityEventHistoryPage(entityId,
+                        (before == null) ? null : new Date(before), beforeId, boundedLimit), boundedLimit);
+    }
+
+    /**
+     * stream
+     * Write each Event as it is Read from the Cursor, Flushing periodically so the Client
+     * receives Events while the remainder are Read.
+     *
+     * @param entityId Identifier of the Entity.
+     * @param response Response to which each Event is Written.
+     */
+    private void stream(Long entityId, HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        final OutputStream outputStream = response.getOutputStream();
+        final int[] written = {0};
+        try {
+            identityProviderEntityManager.streamYourEntityEventHistory(entityId, event -> {
+                try {
+                    outputStream.write(objectMapper.writeValueAsBytes(event));
+                    outputStream.write(NEWLINE);
+                    if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                        outputStream.flush();
+                    }
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            });
+        } catch (UncheckedIOException uioe) {
+            /**
+             * The Client has gone away, abandon the Cursor.
+             */
+            LOGGER.info("Event History Stream for Entity:[{}] Abandoned after '{}' Events: {}",
+                    entityId, written[0], uioe.getCause().getMessage());
+            return;
+        }
+        outputStream.flush();
+    }
+
+    /**
+     * principalID
+     *
+     * @param authentication Reference to Authenticated Entity.
+     * @return Long Identifier of the Authenticated Entity.
+     */
+    private static Long principalID(Authentication authentication) {
+        return ((YourMicroserviceUserDetails) authentication.getPrincipal()).getPrincipalID();
+    }
+}
@@ -15,6 +15,10 @@ import java.util.Map;
  */
 @JsonSerialize(include = JsonSerialize.Inclusion.NON_NULL)
 public class EntityEventHistoryDTO implements Serializable {
+    /**
+     * Event Identifier, with the Created Date the Cursor of a Page.
+     */
+    private Long id;
     /**
      * Event Created Data
      */
@@ -34,6 +38,22 @@ public class EntityEventHistoryDTO implements Serializable {
      */
     private Map<String, String> eventTagProperties = new HashMap<>();
 
+    /**
+     * EntityEventHistoryDTO
+     * Projection of an Event, its Tag Properties are Added as Read.
+     *
+     * @param id Event Identifier
+     * @param createdByDate Event Date
+     * @param eventMessage Event Message
+     * @param eventTagName Tag Name
+     */
+    public EntityEventHistoryDTO(Long id, Date createdByDate, String eventMessage, String eventTagName) {
+        this.id = id;
+        this.createdByDate = createdByDate;
+        this.eventMessage = eventMessage;
+        this.eventTagName = eventTagName;
+    }
+
     /**
      * EntityEventHistoryDTO
      *
@@ -50,6 +70,14 @@ public class EntityEventHistoryDTO implements Serializable {
         this.eventTagProperties = eventTagProperties;
     }
 
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public Date getCreatedByDate() {
         return createdByDate;
     }
@@ -0,0 +1,75 @@
+package your.microservice.core.dm.dto.history;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * EntityEventHistoryPageDTO
+ * <p>
+ * A Page of Event History, Newest First, with the Cursor of the next Page,
+ * absent once the last Page has been Read.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@JsonSerialize(include = JsonSerialize.Inclusion.NON_NULL)
+public class EntityEventHistoryPageDTO implements Serializable {
+    /**
+     * Events of this Page.
+     */
+    private List<EntityEventHistoryDTO> events;
+    /**
+     * Cursor of the next Page, Created Date in Epoch Milliseconds and Event Identifier.
+     */
+    private Long nextBefore;
+    private Long nextBeforeId;
+
+    /**
+     * EntityEventHistoryPageDTO
+     *
+     * @param events Events of this Page.
+     * @param limit  Page Limit Requested, a full Page has a next Page Cursor.
+     */
+    public EntityEventHistoryPageDTO(List<EntityEventHistoryDTO> events, int limit) {
+        this.events = events;
+        if (!events.isEmpty() && events.size() >= limit) {
+            EntityEventHistoryDTO last = events.get(events.size() - 1);
+            this.nextBefore = last.getCreatedByDate().getTime();
+            this.nextBeforeId = last.getId();
+        }
+    }
+
+    public List<EntityEventHistoryDTO> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<EntityEventHistoryDTO> events) {
+        this.events = events;
+    }
+
+    public Long getNextBefore() {
+        return nextBefore;
+    }
+
+    public void setNextBefore(Long nextBefore) {
+        this.nextBefore = nextBefore;
+    }
+
+    public Long getNextBeforeId() {
+        return nextBeforeId;
+    }
+
+    public void setNextBeforeId(Long nextBeforeId) {
+        this.nextBeforeId = nextBeforeId;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityEventHistoryPageDTO{" +
+                "events=" + events.size() +
+                ", nextBefore=" + nextBefore +
+                ", nextBeforeId=" + nextBeforeId +
+                '}';
+    }
+}
@@ -6,6 +6,29 @@ package your.microservice.core.security.idp.jwt;
  * @author jeff.a.schenk@gmail.com on 7/24/16.
  */
 public class YourMicroserviceInvalidTokenException extends Exception {
+
+    /**
+     * Reason
+     * Why a Token was Rejected.
+     */
+    public enum Reason {
+        NO_TOKEN,
+        MALFORMED,
+        UNKNOWN_KEY,
+        DECRYPTION_FAILED,
+        BAD_SIGNATURE,
+        EXPIRED,
+        INVALID_CLAIMS,
+        INVALID_MANIFEST,
+        REVOKED,
+        UNKNOWN
+    }
+
+    /**
+     * Reason for Rejection.
+     */
+    private final Reason reason;
+
     /**
      * Constructs a new exception with the specified detail message.  The
      * cause is not initialized, and may subsequently be initialized by
@@ -16,6 +39,7 @@ public class YourMicroserviceInvalidTokenException extends Exception {
      */
     public YourMicroserviceInvalidTokenException(String message) {
         super(message);
+        this.reason = Reason.UNKNOWN;
     }
 
     /**
@@ -34,6 +58,7 @@ public class YourMicroserviceInvalidTokenException extends Exception {
      */
     public YourMicroserviceInvalidTokenException(String message, Throwable cause) {
         super(message, cause);
+        this.reason = Reason.UNKNOWN;
     }
 
     /**
@@ -49,6 +74,7 @@ public class YourMicroserviceInvalidTokenException extends Exception {
      */
     public YourMicroserviceInvalidTokenException(Throwable cause) {
         super(cause);
+        this.reason = Reason.UNKNOWN;
     }
 
     /**
@@ -67,5 +93,56 @@ public class YourMicroserviceInvalidTokenException extends Exception {
      */
     protected YourMicroserviceInvalidTokenException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
         super(message, cause, enableSuppression, writableStackTrace);
+        this.reason = Reason.UNKNOWN;
+    }
+
+    /**
+     * Constructs a new exception with the specified detail message and
+     * Reason for Rejection.
+     *
+     * @param message the detail message.
+     * @param reason  the Reason the Token was Rejected.
+     */
+    public YourMicroserviceInvalidTokenException(String message, Reason reason) {
+        super(message);
+        this.reason = reason;
+    }
+
+    /**
+     * Constructs a new exception with the specified detail message,
+     * Reason for Rejection and cause.
+     *
+     * @param message the detail message.
+     * @param reason  the Reason the Token was Rejected.
+     * @param cause   the cause.  (A {@code null} value is permitted,
+     *                and indicates that the cause is nonexistent or unknown.)
+     */
+    public YourMicroserviceInvalidTokenException(String message, Reason reason, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+    }
+
+    /**
+     * Constructs a new exception with the specified detail message,
+     * Reason for Rejection and writable stack trace enabled or disabled.
+     * A Stack Trace is of no value when answering a previously Rejected Token.
+     *
+     * @param message            the detail message.
+     * @param reason             the Reason the Token was Rejected.
+     * @param writableStackTrace whether or not the stack trace should
+     *                           be writable
+     */
+    public YourMicroserviceInvalidTokenException(String message, Reason reason, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.reason = reason;
+    }
+
+    /**
+     * getReason
+     *
+     * @return Reason the Token was Rejected.
+     */
+    public Reason getReason() {
+        return reason;
     }
 }
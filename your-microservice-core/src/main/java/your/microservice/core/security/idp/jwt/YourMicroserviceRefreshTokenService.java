@@ -0,0 +1,72 @@
+package your.microservice.core.security.idp.jwt;
+
+import your.microservice.core.security.idp.model.base.YourEntityRefreshToken;
+
+/**
+ * YourMicroserviceRefreshTokenService
+ * <p>
+ * Provides the Interface for Issuing and Exchanging long lived, Opaque Refresh Tokens, so a Consumer
+ * whose Access Token has Expired obtains another without presenting Credentials again.  Refresh Tokens
+ * Rotate upon each Exchange, and the Reuse of a Rotated Refresh Token Revokes its entire Family.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public interface YourMicroserviceRefreshTokenService {
+
+    /**
+     * issueRefreshToken
+     * Issue a Refresh Token, beginning a new Family, upon Authentication.
+     * <p>
+     * The Refresh Token is Persisted before it is Returned, on the Response Path, rather than Written
+     * behind as the Token History is: a Refresh Token handed out before it is Durable could be
+     * Presented to an Instance which does not yet know it, or be Lost altogether.
+     *
+     * @param subject  Subject, our UserName, aka Primary Email.
+     * @param audience Audience of the Access Tokens to be Issued upon Exchange.
+     * @param familyId Refresh Token Family, as Claimed by the Access Token Issued alongside.
+     * @return String Opaque Refresh Token, or null if it could not be Persisted.
+     */
+    String issueRefreshToken(String subject, String audience, String familyId);
+
+    /**
+     * exchangeRefreshToken
+     * Validate the Refresh Token as Presented, the Exchange is Completed upon its Rotation.
+     *
+     * @param refreshToken Opaque Refresh Token as Presented.
+     * @return YourEntityRefreshToken Presented Refresh Token.
+     * @throws YourMicroserviceInvalidTokenException If the Refresh Token is Unknown, Expired, or has been Rotated
+     *                                               or Revoked, the Reuse of a Rotated Token Revokes its Family.
+     */
+    YourEntityRefreshToken exchangeRefreshToken(String refreshToken) throws YourMicroserviceInvalidTokenException;
+
+    /**
+     * rotateRefreshToken
+     * Consume the Presented Refresh Token and Issue its Successor, within its Family, as one Transaction.
+     * Should the Rotation Fail, the Presented Refresh Token remains Active, so the Consumer may Retry with it.
+     *
+     * @param presented Presented Refresh Token, as Validated by its Exchange.
+     * @return String Opaque Successor Refresh Token.
+     * @throws YourMicroserviceInvalidTokenException If the Refresh Token was Rotated by a concurrent Exchange,
+     *                                               a Replay, which Revokes its Family.
+     * @throws org.springframework.security.authentication.AuthenticationServiceException Should the Rotation
+     *                                               itself Fail, which is not a Reuse.
+     */
+    String rotateRefreshToken(YourEntityRefreshToken presented) throws YourMicroserviceInvalidTokenException;
+
+    /**
+     * revokeRefreshTokenFamily
+     *
+     * @param familyId Refresh Token Family.
+     */
+    void revokeRefreshTokenFamily(String familyId);
+
+    /**
+     * revokeRefreshTokensBySubject
+     * Revoke every Active Refresh Token of the Subject, upon a Logout of every Session.
+     *
+     * @param subject Subject, our UserName, aka Primary Email.
+     * @return Integer Count of Refresh Tokens Revoked.
+     */
+    Integer revokeRefreshTokensBySubject(String subject);
+
+}
@@ -0,0 +1,199 @@
+package your.microservice.core.security.idp.jwt;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.stereotype.Service;
+import your.microservice.core.security.idp.model.base.YourEntityRefreshToken;
+import your.microservice.core.security.idp.model.types.YourEntityTokenStatus;
+import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+import your.microservice.core.util.DigestUtility;
+import your.microservice.core.util.IdentifierUtility;
+
+import javax.annotation.PostConstruct;
+import java.util.Date;
+
+/**
+ * YourMicroserviceRefreshTokenServiceImpl
+ * <p>
+ * Refresh Tokens are Random, Opaque Values, only their Digest is Persisted, so an Exchange is a
+ * single Indexed Lookup and a conditional Update, with no Password Hash and no Decryption.
+ * <p>
+ * A Refresh Token is Rotated upon each Exchange.  Should a Rotated, or otherwise Inactive, Refresh
+ * Token be Presented, it has been Replayed, and its entire Family is Revoked, so both the Consumer
+ * and whoever Replayed it must Authenticate again.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@Service
+public class YourMicroserviceRefreshTokenServiceImpl implements YourMicroserviceRefreshTokenService {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(YourMicroserviceRefreshTokenServiceImpl.class);
+
+    /**
+     * Number of Random Bytes within a Refresh Token.
+     */
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
+    /**
+     * TOKEN_REFRESH_EXPIRATION_IN_SECONDS
+     *
+     * Lifetime of each Refresh Token, every Rotation begins a new Lifetime.
+     */
+    @Value("${your.microservice.security.token.refresh.expiration:2592000}")
+    private Long TOKEN_REFRESH_EXPIRATION_IN_SECONDS = 2592000L;
+
+    /**
+     * Identity Provider Entity Manager
+     */
+    @Autowired
+    private IdentityProviderEntityManager identityProviderEntityManager;
+
+    /**
+     * Metric Registry
+     */
+    @Autowired
+    private MetricRegistry metricRegistry;
+
+    /**
+     * Metrics
+     */
+    private Counter exchangedCounter;
+    private Counter rejectedCounter;
+    private Counter reusedCounter;
+
+    /**
+     * initialization
+     * Entered when Bean is initialized.
+     */
+    @PostConstruct
+    public void initialization() {
+        exchangedCounter = metricRegistry.counter("counter.your.microservice.security.token.refresh.exchanged");
+        rejectedCounter = metricRegistry.counter("counter.your.microservice.security.token.refresh.rejected");
+        reusedCounter = metricRegistry.counter("counter.your.microservice.security.token.refresh.reused");
+        LOGGER.info("{}Refresh Token Expiration:[{}] Seconds.",
+                YourMicroserviceToken.LOGGING_HEADER, TOKEN_REFRESH_EXPIRATION_IN_SECONDS);
+    }
+
+    @Override
+    public String issueRefreshToken(String subject, String audience, String familyId) {
+        String refreshToken = IdentifierUtility.randomToken(REFRESH_TOKEN_BYTES);
+        try {
+            return (identityProviderEntityManager.createRefreshToken(
+                    newRefreshToken(refreshToken, subject, audience, familyId)) == null) ? null : refreshToken;
+        } catch (RuntimeException e) {
+            /**
+             * The Failure may yet Surface upon Commit.
+             */
+            LOGGER.error("{}Refresh Token could not be Issued for Subject:[{}]: {}",
+                    YourMicroserviceToken.LOGGING_HEADER, subject, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public YourEntityRefreshToken exchangeRefreshToken(String refreshToken) throws YourMicroserviceInvalidTokenException {
+        if (refreshToken == null || refreshToken.isEmpty()) {
+            rejectedCounter.inc();
+            throw new YourMicroserviceInvalidTokenException("No Refresh Token Presented",
+                    YourMicroserviceInvalidTokenException.Reason.NO_TOKEN, false);
+        }
+        String tokenHash = DigestUtility.sha256(refreshToken);
+        YourEntityRefreshToken presented = identityProviderEntityManager.readRefreshToken(tokenHash);
+        if (presented == null) {
+            rejectedCounter.inc();
+            throw new YourMicroserviceInvalidTokenException("Refresh Token Unknown",
+                    YourMicroserviceInvalidTokenException.Reason.UNKNOWN, false);
+        }
+        if (presented.getStatus() != YourEntityTokenStatus.ACTIVE) {
+            throw reused(presented);
+        }
+        if (presented.getExpiration().getTime() <= System.currentTimeMillis()) {
+            rejectedCounter.inc();
+            throw new YourMicroserviceInvalidTokenException("Refresh Token Expired",
+                    YourMicroserviceInvalidTokenException.Reason.EXPIRED, false);
+        }
+        return presented;
+    }
+
+    @Override
+    public String rotateRefreshToken(YourEntityRefreshToken presented) throws YourMicroserviceInvalidTokenException {
+        String successor = IdentifierUtility.randomToken(REFRESH_TOKEN_BYTES);
+        /**
+         * Only one Exchange may Rotate the Token, a concurrent Exchange of the same Token is a Replay.
+         * The Successor is Persisted within the same Transaction, should either Fail, neither is Committed.
+         */
+        Integer rotated;
+        try {
+            rotated = identityProviderEntityManager.rotateRefreshToken(presented.getTokenHash(),
+                    newRefreshToken(successor, presented.getSubject(), presented.getAudience(), presented.getFamilyId()));
+        } catch (RuntimeException e) {
+            rejectedCounter.inc();
+            throw new AuthenticationServiceException("Refresh Token could not be Rotated", e);
+        }
+        if (rotated == 0) {
+            throw reused(presented);
+        }
+        presented.setStatus(YourEntityTokenStatus.INACTIVE);
+        exchangedCounter.inc();
+        return successor;
+    }
+
+    @Override
+    public void revokeRefreshTokenFamily(String familyId) {
+        identityProviderEntityManager.revokeRefreshTokenFamily(familyId);
+    }
+
+    @Override
+    public Integer revokeRefreshTokensBySubject(String subject) {
+        return identityProviderEntityManager.revokeRefreshTokensBySubject(subject);
+    }
+
+    /**
+     * newRefreshToken
+     *
+     * @param refreshToken Opaque Refresh Token, only its Digest is Persisted.
+     * @param subject  Subject, our UserName, aka Primary Email.
+     * @param audience Audience of the Access Tokens to be Issued upon Exchange.
+     * @param familyId Refresh Token Family.
+     * @return YourEntityRefreshToken Refresh Token Entity to be Persisted.
+     */
+    private YourEntityRefreshToken newRefreshToken(String refreshToken, String subject, String audience,
+                                                   String familyId) {
+        long now = System.currentTimeMillis();
+        YourEntityRefreshToken yourEntityRefreshToken = new YourEntityRefreshToken();
+        yourEntityRefreshToken.setTokenHash(DigestUtility.sha256(refreshToken));
+        yourEntityRefreshToken.setFamilyId(familyId);
+        yourEntityRefreshToken.setSubject(subject);
+        yourEntityRefreshToken.setAudience(audience);
+        yourEntityRefreshToken.setStatus(YourEntityTokenStatus.ACTIVE);
+        yourEntityRefreshToken.setIssuedAt(new Date(now));
+        yourEntityRefreshToken.setExpiration(new Date(now + TOKEN_REFRESH_EXPIRATION_IN_SECONDS * 1000));
+        return yourEntityRefreshToken;
+    }
+
+    /**
+     * reused
+     * A Refresh Token no longer Active has been Presented, Revoke its Family.
+     *
+     * @param consumed Refresh Token as Presented.
+     * @return YourMicroserviceInvalidTokenException to be Thrown.
+     */
+    private YourMicroserviceInvalidTokenException reused(YourEntityRefreshToken consumed) {
+        reusedCounter.inc();
+        rejectedCounter.inc();
+        Integer revoked = identityProviderEntityManager.revokeRefreshTokenFamily(consumed.getFamilyId());
+        LOGGER.warn("{}Refresh Token Reused, Subject:[{}], Family:[{}], Revoked '{}' Refresh Tokens.",
+                YourMicroserviceToken.LOGGING_HEADER, consumed.getSubject(), consumed.getFamilyId(), revoked);
+        return new YourMicroserviceInvalidTokenException("Refresh Token no longer Active",
+                YourMicroserviceInvalidTokenException.Reason.REVOKED, false);
+    }
+
+}
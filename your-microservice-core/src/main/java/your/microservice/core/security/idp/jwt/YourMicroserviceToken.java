@@ -3,6 +3,7 @@ package your.microservice.core.security.idp.jwt;
 import com.nimbusds.jwt.JWTClaimsSet;
 import org.slf4j.LoggerFactory;
 import org.springframework.mobile.device.Device;
+import org.springframework.security.core.userdetails.UserDetails;
 
 
 import java.util.Date;
@@ -68,6 +69,7 @@ public interface YourMicroserviceToken {
     String AUDIENCE_MOBILE = "mobile";
     String AUDIENCE_TABLET = "tablet";
     String AUDIENCE_BOT = "bot";
+    String AUDIENCE_SERVICE = "service";
 
     /**
      * Publicly Registered Claim Names
@@ -83,6 +85,20 @@ public interface YourMicroserviceToken {
      * Private Claim Names
      */
     String CLAIM_NAME_YOUR_MICROSERVICE = "yms";
+    /**
+     * Private Claim Names, of Stateless Authorization.
+     */
+    String CLAIM_NAME_AUTHORITIES = "ath";
+    String CLAIM_NAME_ACCOUNT_STATUS = "acs";
+    String CLAIM_NAME_PRINCIPAL_ID = "pid";
+    /**
+     * Private Claim Name, of the Refresh Token Family Issued alongside the Token.
+     */
+    String CLAIM_NAME_REFRESH_FAMILY = "rfi";
+    String ACCOUNT_STATUS_NON_EXPIRED = "accountNonExpired";
+    String ACCOUNT_STATUS_NON_LOCKED = "accountNonLocked";
+    String ACCOUNT_STATUS_CREDENTIALS_NON_EXPIRED = "credentialsNonExpired";
+    String ACCOUNT_STATUS_ENABLED = "enabled";
 
     /**
      * getUsernameFromToken
@@ -151,6 +167,74 @@ public interface YourMicroserviceToken {
      */
     String refreshToken(String token);
 
+    /**
+     * refreshToken
+     * Construct a new JWT for the applicable User per an already Verified JWT.  Without the
+     * Principal's current User Details, no Principal Claims are Issued.
+     *
+     * @param verifiedToken Verified JWT
+     * @return YourMicroserviceVerifiedToken representing new JWT for applicable Authenticated Subject.
+     */
+    YourMicroserviceVerifiedToken refreshToken(YourMicroserviceVerifiedToken verifiedToken);
+
+    /**
+     * refreshToken
+     * Construct a new JWT for the applicable User per an already Verified JWT, with the Principal's
+     * Authorities and Account Status as of now, when Stateless Authorization is Enabled.
+     *
+     * @param verifiedToken Verified JWT
+     * @param userDetails Current User Details of the Token's Subject.
+     * @return YourMicroserviceVerifiedToken representing new JWT for applicable Authenticated Subject.
+     */
+    YourMicroserviceVerifiedToken refreshToken(YourMicroserviceVerifiedToken verifiedToken, UserDetails userDetails);
+
+    /**
+     * issueToken
+     *
+     * @param subject Subject Representing a Principal, example an Account's Email Address.
+     * @param device Current Device Type User is performing Request from.
+     * @return YourMicroserviceVerifiedToken Representing the constructed JWT and its Claims.
+     */
+    YourMicroserviceVerifiedToken issueToken(String subject, String device);
+
+    /**
+     * issueToken
+     * When Stateless Authorization is Enabled, the Principal's Authorities and Account Status are
+     * placed in the Token's Claims, so Requests may be Authorized without a User Lookup.
+     *
+     * @param userDetails Authenticated User Details.
+     * @param device Current Device Type User is performing Request from.
+     * @return YourMicroserviceVerifiedToken Representing the constructed JWT and its Claims.
+     */
+    YourMicroserviceVerifiedToken issueToken(UserDetails userDetails, String device);
+
+    /**
+     * issueToken
+     * As above, the Token also Claims the Refresh Token Family Issued alongside it, so a Logout
+     * of this Session Revokes only that Family.
+     *
+     * @param userDetails Authenticated User Details.
+     * @param device Current Device Type User is performing Request from.
+     * @param refreshFamilyId Refresh Token Family Issued alongside the Token.
+     * @return YourMicroserviceVerifiedToken Representing the constructed JWT and its Claims.
+     */
+    YourMicroserviceVerifiedToken issueToken(UserDetails userDetails, String device, String refreshFamilyId);
+
+    /**
+     * isStatelessAuthorization
+     *
+     * @return boolean indicating if Requests are Authorized from the Token's Claims alone.
+     */
+    boolean isStatelessAuthorization();
+
+    /**
+     * issueToken
+     *
+     * @param claims Claims to be used to build Token.
+     * @return YourMicroserviceVerifiedToken Representing the constructed JWT and its Claims.
+     */
+    YourMicroserviceVerifiedToken issueToken(Map<String, Object> claims);
+
     /**
      * verifyToken
      * Performs the JWT validation for an incoming Token against User Details Obtained.
@@ -161,6 +245,26 @@ public interface YourMicroserviceToken {
      */
     JWTClaimsSet verifyToken(String token) throws YourMicroserviceInvalidTokenException;
 
+    /**
+     * verify
+     * Performs the JWT validation for an incoming Token once, providing all Claims
+     * and the Your Microservice Manifest as a single Immutable Result.
+     *
+     * @param token JWT to be Validated
+     * @return YourMicroserviceVerifiedToken Verified Token.
+     * @throws YourMicroserviceInvalidTokenException If not a Valid Token.
+     */
+    YourMicroserviceVerifiedToken verify(String token) throws YourMicroserviceInvalidTokenException;
+
+    /**
+     * getPublicVerificationKeys
+     * Provides the Public Keys, as a JWK Set, with which other Services may Verify our Signed Tokens
+     * locally, without Sharing our SecretKey.  Empty when Tokens are not Signed Asymmetrically.
+     *
+     * @return Map representing the JWK Set.
+     */
+    Map<String, Object> getPublicVerificationKeys();
+
     /**
      * transformAudienceType, Helper Method to generate the Audience Mnemonic based upon
      * the Device Type.
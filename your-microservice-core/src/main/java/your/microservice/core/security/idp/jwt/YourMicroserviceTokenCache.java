@@ -0,0 +1,67 @@
+package your.microservice.core.security.idp.jwt;
+
+/**
+ * YourMicroserviceTokenCache
+ * <p>
+ * Provides the Interface for the Cache of Verified Tokens, which
+ * sits in front of the full Decryption and Verification of a Token.
+ * <p>
+ * Entries are keyed by a Digest of the Token String and each Entry is evicted
+ * no later than the Token's 'exp' claim.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public interface YourMicroserviceTokenCache {
+
+    /**
+     * getVerifiedToken
+     *
+     * @param token JWT
+     * @return YourMicroserviceVerifiedToken previously Verified for this Token or null if not Cached.
+     */
+    YourMicroserviceVerifiedToken getVerifiedToken(String token);
+
+    /**
+     * putVerifiedToken
+     *
+     * @param verifiedToken Token which has been fully Verified or Issued.
+     */
+    void putVerifiedToken(YourMicroserviceVerifiedToken verifiedToken);
+
+    /**
+     * getRejectedToken
+     *
+     * @param token JWT
+     * @return Reason the Token was recently Rejected, or null if not Rejected recently.
+     */
+    YourMicroserviceInvalidTokenException.Reason getRejectedToken(String token);
+
+    /**
+     * putRejectedToken
+     * Remember a Rejected Token for a short period, so Replays are answered before any Crypto is performed.
+     *
+     * @param token  JWT which was Rejected.
+     * @param reason Reason the Token was Rejected.
+     */
+    void putRejectedToken(String token, YourMicroserviceInvalidTokenException.Reason reason);
+
+    /**
+     * invalidate
+     *
+     * @param token JWT to be removed from Cache.
+     */
+    void invalidate(String token);
+
+    /**
+     * invalidateAll
+     * Clear all Cached Entries.
+     */
+    void invalidateAll();
+
+    /**
+     * purgeExpired
+     * Sweep all Expired Entries from the Cache.
+     */
+    void purgeExpired();
+
+}
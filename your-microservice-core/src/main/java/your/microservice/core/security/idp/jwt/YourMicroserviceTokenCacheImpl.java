@@ -0,0 +1,191 @@
+package your.microservice.core.security.idp.jwt;
+
+import com.codahale.metrics.annotation.Gauge;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import your.microservice.core.util.BoundedExpiringCache;
+import your.microservice.core.util.DigestUtility;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * YourMicroserviceTokenCacheImpl
+ * <p>
+ * Bounded, Expiry aware Cache of Verified Tokens.  The same Bearer Token
+ * is typically presented many times during its lifetime, this Cache allows us to perform
+ * the full Decryption and Verification only once per Token.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@Component
+public class YourMicroserviceTokenCacheImpl implements YourMicroserviceTokenCache {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(YourMicroserviceTokenCacheImpl.class);
+
+    /**
+     * TOKEN_CACHE_ENABLED
+     *
+     * Indicates if Verified Tokens should be Cached.
+     */
+    @Value("${your.microservice.security.token.cache.enabled:true}")
+    private Boolean TOKEN_CACHE_ENABLED = true;
+
+    /**
+     * TOKEN_CACHE_MAXIMUM_ENTRIES
+     *
+     * Maximum Number of Verified Tokens to be Cached.
+     */
+    @Value("${your.microservice.security.token.cache.maximum.entries:10000}")
+    private Integer TOKEN_CACHE_MAXIMUM_ENTRIES = 10000;
+
+    /**
+     * TOKEN_CACHE_REJECTED_TTL_IN_SECONDS
+     *
+     * Number of Seconds a Rejected Token is Remembered.
+     */
+    @Value("${your.microservice.security.token.cache.rejected.ttl:60}")
+    private Long TOKEN_CACHE_REJECTED_TTL_IN_SECONDS = 60L;
+
+    /**
+     * TOKEN_CACHE_REJECTED_MAXIMUM_ENTRIES
+     *
+     * Maximum Number of Rejected Tokens to be Remembered.
+     */
+    @Value("${your.microservice.security.token.cache.rejected.maximum.entries:10000}")
+    private Integer TOKEN_CACHE_REJECTED_MAXIMUM_ENTRIES = 10000;
+
+    /**
+     * Rejected Tokens, keyed by Token Digest.
+     */
+    private BoundedExpiringCache<String, YourMicroserviceInvalidTokenException.Reason> rejectedTokens;
+
+    /**
+     * Verified Tokens, keyed by Token Digest.
+     */
+    private BoundedExpiringCache<String, YourMicroserviceVerifiedToken> verifiedTokens;
+
+    /**
+     * initialization
+     * Entered when Bean is initialized.
+     */
+    @PostConstruct
+    public void initialization() {
+        verifiedTokens = new BoundedExpiringCache<>(TOKEN_CACHE_MAXIMUM_ENTRIES);
+        rejectedTokens = new BoundedExpiringCache<>(TOKEN_CACHE_REJECTED_MAXIMUM_ENTRIES);
+        LOGGER.info("{}Verified Token Cache Enabled:[{}], Maximum Entries:[{}], Rejected Maximum Entries:[{}], Rejected TTL:[{}s].",
+                YourMicroserviceToken.LOGGING_HEADER, TOKEN_CACHE_ENABLED, TOKEN_CACHE_MAXIMUM_ENTRIES,
+                TOKEN_CACHE_REJECTED_MAXIMUM_ENTRIES, TOKEN_CACHE_REJECTED_TTL_IN_SECONDS);
+    }
+
+    /**
+     * destroyBean
+     * Entered when Bean is being destroyed or torn down from the runtime Environment.
+     */
+    @PreDestroy
+    public void destroyBean() {
+        LOGGER.info("{}Verified Token Cache Shutdown, Hits:[{}], Misses:[{}], Evictions:[{}].",
+                YourMicroserviceToken.LOGGING_HEADER, getHits(), getMisses(), getEvictions());
+        verifiedTokens.clear();
+        rejectedTokens.clear();
+    }
+
+    @Override
+    public YourMicroserviceVerifiedToken getVerifiedToken(String token) {
+        if (!TOKEN_CACHE_ENABLED || token == null) {
+            return null;
+        }
+        return verifiedTokens.get(DigestUtility.sha256(token));
+    }
+
+    @Override
+    public void putVerifiedToken(YourMicroserviceVerifiedToken verifiedToken) {
+        if (!TOKEN_CACHE_ENABLED || verifiedToken == null || verifiedToken.getToken() == null) {
+            return;
+        }
+        verifiedTokens.put(DigestUtility.sha256(verifiedToken.getToken()), verifiedToken,
+                verifiedToken.getExpirationTime());
+    }
+
+    @Override
+    public YourMicroserviceInvalidTokenException.Reason getRejectedToken(String token) {
+        if (!TOKEN_CACHE_ENABLED || token == null) {
+            return null;
+        }
+        return rejectedTokens.get(DigestUtility.sha256(token));
+    }
+
+    @Override
+    public void putRejectedToken(String token, YourMicroserviceInvalidTokenException.Reason reason) {
+        if (!TOKEN_CACHE_ENABLED || token == null || reason == null) {
+            return;
+        }
+        rejectedTokens.put(DigestUtility.sha256(token), reason,
+                System.currentTimeMillis() + TOKEN_CACHE_REJECTED_TTL_IN_SECONDS * 1000);
+    }
+
+    @Override
+    public void invalidate(String token) {
+        if (token != null) {
+            verifiedTokens.remove(DigestUtility.sha256(token));
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        verifiedTokens.clear();
+        rejectedTokens.clear();
+    }
+
+    /**
+     * Sweep Expired Entries every Minute.
+     */
+    @Override
+    @Scheduled(initialDelay = 60000, fixedDelay = 60000)
+    public void purgeExpired() {
+        int purged = verifiedTokens.purgeExpired() + rejectedTokens.purgeExpired();
+        if (purged > 0) {
+            LOGGER.debug("{}Verified Token Cache Purged '{}' Expired Entries.",
+                    YourMicroserviceToken.LOGGING_HEADER, purged);
+        }
+    }
+
+    /**
+     * Metric Gauges.
+     */
+    @Gauge(name = "gauge.your.microservice.security.token.cache.size", absolute = true)
+    public int getSize() {
+        return verifiedTokens.size();
+    }
+
+    @Gauge(name = "gauge.your.microservice.security.token.cache.hits", absolute = true)
+    public long getHits() {
+        return verifiedTokens.getHits();
+    }
+
+    @Gauge(name = "gauge.your.microservice.security.token.cache.misses", absolute = true)
+    public long getMisses() {
+        return verifiedTokens.getMisses();
+    }
+
+    @Gauge(name = "gauge.your.microservice.security.token.cache.evictions", absolute = true)
+    public long getEvictions() {
+        return verifiedTokens.getEvictions();
+    }
+
+    @Gauge(name = "gauge.your.microservice.security.token.cache.rejected.size", absolute = true)
+    public int getRejectedSize() {
+        return rejectedTokens.size();
+    }
+
+    @Gauge(name = "gauge.your.microservice.security.token.cache.rejected.hits", absolute = true)
+    public long getRejectedHits() {
+        return rejectedTokens.getHits();
+    }
+}
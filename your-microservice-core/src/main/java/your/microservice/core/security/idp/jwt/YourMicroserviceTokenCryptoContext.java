@@ -0,0 +1,172 @@
+package your.microservice.core.security.idp.jwt;
+
+import com.nimbusds.jose.*;
+import com.nimbusds.jose.crypto.DirectDecrypter;
+import com.nimbusds.jose.crypto.DirectEncrypter;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.proc.BadJWTException;
+import com.nimbusds.jwt.proc.DefaultJWTClaimsVerifier;
+import net.minidev.json.JSONObject;
+
+import javax.crypto.SecretKey;
+import java.util.UUID;
+
+/**
+ * YourMicroserviceTokenCryptoContext
+ * <p>
+ * Holds all Cryptographic Objects required to Issue and Verify Tokens for a single SecretKey,
+ * identified by its Key Identifier, which is carried in the 'kid' Header of Issued Tokens.
+ * The Nimbus Signer, Verifier, Encrypter and Decrypter as well as the Headers and Claims Verifier
+ * are all Thread-Safe, so they are constructed once and shared across all Requests, instead of
+ * being constructed, along with copies of the Key Material, upon each Issue and Verify.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public final class YourMicroserviceTokenCryptoContext {
+
+    private final String keyId;
+    private final JWSSigner jwsSigner;
+    private final JWSVerifier jwsVerifier;
+    private final JWEEncrypter jweEncrypter;
+    private final JWEDecrypter jweDecrypter;
+    private final JWSHeader jwsHeader;
+    private final JWEHeader jweHeader;
+    private final YourMicroserviceClaimsVerifier claimsVerifier;
+
+    /**
+     * Default Constructor
+     *
+     * @param keyId Key Identifier of the SecretKey, placed in the 'kid' Header of Issued Tokens.
+     * @param secretKey SecretKey used for both HMAC and Encryption.
+     * @throws JOSEException If the SecretKey is not acceptable.
+     */
+    public YourMicroserviceTokenCryptoContext(String keyId, SecretKey secretKey) throws JOSEException {
+        this.keyId = keyId;
+        this.jwsSigner = new MACSigner(secretKey);
+        this.jwsVerifier = new MACVerifier(secretKey);
+        this.jweEncrypter = new DirectEncrypter(secretKey);
+        this.jweDecrypter = new DirectDecrypter(secretKey);
+        this.jwsHeader = new JWSHeader.Builder(JWSAlgorithm.HS256)
+                .keyID(keyId)
+                .build();
+        this.jweHeader = new JWEHeader.Builder(JWEAlgorithm.DIR, EncryptionMethod.A256GCM)
+                .contentType("JWT") // required to signal nested JWT
+                .keyID(keyId)
+                .build();
+        this.claimsVerifier = new YourMicroserviceClaimsVerifier();
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public JWSSigner getJwsSigner() {
+        return jwsSigner;
+    }
+
+    public JWSVerifier getJwsVerifier() {
+        return jwsVerifier;
+    }
+
+    public JWEEncrypter getJweEncrypter() {
+        return jweEncrypter;
+    }
+
+    public JWEDecrypter getJweDecrypter() {
+        return jweDecrypter;
+    }
+
+    public JWSHeader getJwsHeader() {
+        return jwsHeader;
+    }
+
+    public JWEHeader getJweHeader() {
+        return jweHeader;
+    }
+
+    public YourMicroserviceClaimsVerifier getClaimsVerifier() {
+        return claimsVerifier;
+    }
+
+    /**
+     * isUUIDValid
+     * Validate a Your Microservice Generated UUID.
+     *
+     * @param uuid To be Validated.
+     * @return boolean indicator if UUID if valid or not.
+     */
+    static boolean isUUIDValid(final String uuid) {
+        if (uuid == null || uuid.trim().isEmpty() || uuid.trim().length() != 36) {
+            return false;
+        }
+        try {
+            UUID.fromString(uuid.trim());
+            return true;
+        } catch (IllegalArgumentException exception) {
+            YourMicroserviceToken.LOGGER.error("Error in Validating UUID:'{}', {}", uuid, exception.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * YourMicroserviceClaimsVerifier
+     * <p>
+     * Our Standard Claims Verifier.  This class is thread-safe.
+     * <p>
+     * Performs the following checks:
+     * <p>
+     * + If an expiration time (exp) claim is present, makes sure it is ahead of the current time, else the JWT claims set is rejected.
+     * + If a not-before-time (nbf) claim is present, makes sure it is before the current time, else the JWT claims set is rejected.
+     * + Issuer, Subject, Token Identifier, Audience and Your Microservice Claim are Present and Valid.
+     */
+    public static class YourMicroserviceClaimsVerifier extends DefaultJWTClaimsVerifier {
+
+        @Override
+        public void verify(JWTClaimsSet claimsSet)
+                throws BadJWTException {
+            /**
+             * Verify the Expiration of the Token and Not Before Use.
+             */
+            super.verify(claimsSet);
+            /**
+             * Ensure Correct Issuer is from our own Eco-System.
+             */
+            String issuer = claimsSet.getIssuer();
+            if (issuer == null || !issuer.equals(YourMicroserviceToken.YOUR_ORGANIZATION_ISSUER)) {
+                throw new BadJWTException("Invalid Token issuer");
+            }
+            /**
+             * Ensure Subject Specified.
+             */
+            String subject = claimsSet.getSubject();
+            if (subject == null || subject.isEmpty()) {
+                throw new BadJWTException("Invalid Token Subject");
+            }
+            /**
+             * Ensure Token Identifier Specified.
+             */
+            String jti = claimsSet.getJWTID();
+            if (!isUUIDValid(jti)) {
+                throw new BadJWTException("Invalid Token Identifier");
+            }
+            /**
+             * Validate Audience, we need at least Once Specified.
+             */
+            if (claimsSet.getAudience() == null || claimsSet.getAudience().isEmpty()) {
+                throw new BadJWTException("Invalid Audience");
+            }
+            /**
+             * Ensure Your Microservice was Specified.
+             */
+            Object yms = claimsSet.getClaim(YourMicroserviceToken.CLAIM_NAME_YOUR_MICROSERVICE);
+            if (!(yms instanceof JSONObject) || ((JSONObject) yms).isEmpty()) {
+                throw new BadJWTException("Invalid Your Microservice Claim");
+            }
+            /**
+             * Add Additional Claims Verification Here if and when Applicable...
+             */
+        }
+    }
+}
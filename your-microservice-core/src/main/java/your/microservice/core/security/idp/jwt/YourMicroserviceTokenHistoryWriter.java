@@ -0,0 +1,32 @@
+package your.microservice.core.security.idp.jwt;
+
+import your.microservice.core.security.idp.model.base.YourEntityTokenHistory;
+
+/**
+ * YourMicroserviceTokenHistoryWriter
+ * <p>
+ * Provides the Interface for Writing Token History Write-Behind, so Issuing a Token never waits
+ * upon the Token History Store.  Token History is Queued, and Written in Batches by a Background
+ * Writer, and upon Shutdown.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public interface YourMicroserviceTokenHistoryWriter {
+
+    /**
+     * write
+     * Queue the Token History to be Written.
+     *
+     * @param yourEntityTokenHistory Token History of a newly Issued Token.
+     */
+    void write(YourEntityTokenHistory yourEntityTokenHistory);
+
+    /**
+     * flush
+     * Write all Queued Token History now.
+     *
+     * @return int Number of Token History Entities Written.
+     */
+    int flush();
+
+}
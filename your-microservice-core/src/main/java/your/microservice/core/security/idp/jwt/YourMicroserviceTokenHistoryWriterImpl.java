@@ -0,0 +1,292 @@
+package your.microservice.core.security.idp.jwt;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.annotation.Gauge;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import your.microservice.core.security.idp.model.base.YourEntityTokenHistory;
+import your.microservice.core.security.idp.model.types.YourEntityTokenStatus;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * YourMicroserviceTokenHistoryWriterImpl
+ * <p>
+ * Queues Token History upon a bounded Queue, drained by a single Background Writer as JDBC Batch
+ * Inserts.  The Writer wakes as soon as Token History is Queued, and takes whatever has accumulated,
+ * up to the Batch Size, so under Load Batches grow and Inserts per Token fall.
+ * <p>
+ * Should the Queue be Full, the Caller Writes its own Token History, so none is Lost.  Should a
+ * Batch Insert Fail, its Token History is Written Row by Row, so only the offending Rows are Lost.
+ * Upon Shutdown, the Writer is Stopped and all Queued Token History is Written.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@Service
+public class YourMicroserviceTokenHistoryWriterImpl implements YourMicroserviceTokenHistoryWriter {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(YourMicroserviceTokenHistoryWriterImpl.class);
+
+    /**
+     * Token History Batch Insert Statement.
+     */
+    private static final String INSERT_TOKEN_HISTORY_SQL =
+            "INSERT INTO YourEntityTokenHistory (jti, subject, status, issuedat, expiration, notusedbefore, lastused, usagecount) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Token History Revoked Status Update Statement.
+     */
+    private static final String UPDATE_TOKEN_HISTORY_REVOKED_SQL =
+            "UPDATE YourEntityTokenHistory SET status = ? WHERE jti = ?";
+
+    /**
+     * TOKEN_HISTORY_QUEUE_CAPACITY
+     *
+     * Maximum Number of Token History Entities awaiting the Writer.
+     */
+    @Value("${your.microservice.security.token.history.queue.capacity:10000}")
+    private Integer TOKEN_HISTORY_QUEUE_CAPACITY = 10000;
+
+    /**
+     * TOKEN_HISTORY_BATCH_SIZE
+     *
+     * Maximum Number of Token History Entities Inserted in a single Batch.
+     */
+    @Value("${your.microservice.security.token.history.batch.size:500}")
+    private Integer TOKEN_HISTORY_BATCH_SIZE = 500;
+
+    /**
+     * JDBC Template
+     */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Token Revocation Service
+     */
+    @Autowired
+    private YourMicroserviceTokenRevocationService yourMicroserviceTokenRevocationService;
+
+    /**
+     * Metric Registry
+     */
+    @Autowired
+    private MetricRegistry metricRegistry;
+
+    /**
+     * Queue, Writer and Metrics.
+     */
+    private BlockingQueue<YourEntityTokenHistory> queue;
+    private Thread writer;
+    private volatile boolean running;
+    private Histogram batchSizeHistogram;
+    private Counter overflowCounter;
+    private Counter failedCounter;
+
+    /**
+     * initialization
+     * Entered when Bean is initialized.
+     */
+    @PostConstruct
+    public void initialization() {
+        queue = new ArrayBlockingQueue<>(TOKEN_HISTORY_QUEUE_CAPACITY);
+        batchSizeHistogram = metricRegistry.histogram("histogram.your.microservice.security.token.history.batch.size");
+        overflowCounter = metricRegistry.counter("counter.your.microservice.security.token.history.overflow");
+        failedCounter = metricRegistry.counter("counter.your.microservice.security.token.history.failed");
+        running = true;
+        writer = new Thread(this::drain, "token-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+        LOGGER.info("{}Token History Writer Initialized, Queue Capacity:[{}], Batch Size:[{}].",
+                YourMicroserviceToken.LOGGING_HEADER, TOKEN_HISTORY_QUEUE_CAPACITY, TOKEN_HISTORY_BATCH_SIZE);
+    }
+
+    /**
+     * destroyBean
+     * Entered when Bean is being destroyed or torn down from the runtime Environment,
+     * Stop the Writer and Write all Queued Token History so it is not lost.  The Writer is not
+     * Interrupted, which could abandon a Batch mid Insert, it Stops upon its next Poll, within a Second
+     * of its current Batch.
+     */
+    @PreDestroy
+    public void destroyBean() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        int written = flush();
+        LOGGER.info("{}Token History Writer Shutdown, Flushed '{}' Token History Entities.",
+                YourMicroserviceToken.LOGGING_HEADER, written);
+    }
+
+    @Override
+    public void write(YourEntityTokenHistory yourEntityTokenHistory) {
+        if (yourEntityTokenHistory == null) {
+            return;
+        }
+        if (!queue.offer(yourEntityTokenHistory)) {
+            /**
+             * The Writer has fallen behind, Write upon the Caller rather than Drop.
+             */
+            overflowCounter.inc();
+            List<YourEntityTokenHistory> batch = new ArrayList<>(1);
+            batch.add(yourEntityTokenHistory);
+            insert(batch);
+        }
+    }
+
+    @Override
+    public int flush() {
+        int written = 0;
+        List<YourEntityTokenHistory> batch = new ArrayList<>(TOKEN_HISTORY_BATCH_SIZE);
+        while (queue.drainTo(batch, TOKEN_HISTORY_BATCH_SIZE) > 0) {
+            written += insert(batch);
+            batch.clear();
+        }
+        return written;
+    }
+
+    /**
+     * drain
+     * Background Writer, awaits Token History, then Inserts all that has accumulated, in Batches.
+     */
+    private void drain() {
+        List<YourEntityTokenHistory> batch = new ArrayList<>(TOKEN_HISTORY_BATCH_SIZE);
+        while (running) {
+            try {
+                YourEntityTokenHistory first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, TOKEN_HISTORY_BATCH_SIZE - 1);
+                insert(batch);
+            } catch (InterruptedException ie) {
+                /**
+                 * Interrupted only while awaiting Token History, none is Taken, what remains
+                 * Queued is Written upon Shutdown.
+                 */
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                LOGGER.error("{}Token History Writer Exception: {}",
+                        YourMicroserviceToken.LOGGING_HEADER, e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * insert
+     * Insert a Batch of Token History, then Record any Revocation which arrived before it was Written.
+     *
+     * @param batch Token History to be Inserted.
+     * @return int Number of Token History Entities Inserted.
+     */
+    private int insert(List<YourEntityTokenHistory> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (YourEntityTokenHistory tokenHistory : batch) {
+            rows.add(row(tokenHistory));
+        }
+        List<YourEntityTokenHistory> written;
+        try {
+            jdbcTemplate.batchUpdate(INSERT_TOKEN_HISTORY_SQL, rows);
+            written = batch;
+        } catch (DataAccessException dae) {
+            LOGGER.warn("{}Unable to Batch Write '{}' Token History Entities, Writing Row by Row: {}",
+                    YourMicroserviceToken.LOGGING_HEADER, batch.size(), dae.getMessage());
+            written = insertEach(batch);
+        }
+        batchSizeHistogram.update(batch.size());
+        /**
+         * A Token may be Revoked before its Token History is Written.
+         */
+        List<Object[]> revoked = new ArrayList<>();
+        for (YourEntityTokenHistory tokenHistory : written) {
+            if (tokenHistory.getStatus() != YourEntityTokenStatus.REVOKED &&
+                    yourMicroserviceTokenRevocationService.isRevoked(tokenHistory.getJti())) {
+                revoked.add(new Object[]{YourEntityTokenStatus.REVOKED.name(), tokenHistory.getJti()});
+            }
+        }
+        if (!revoked.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_TOKEN_HISTORY_REVOKED_SQL, revoked);
+        }
+        return written.size();
+    }
+
+    /**
+     * insertEach
+     * Insert Token History Row by Row, after its Batch has Failed.  Rows the failed Batch had already
+     * Written are Duplicates, and are counted as Written.
+     *
+     * @param batch Token History to be Inserted.
+     * @return List of Token History Entities Written.
+     */
+    private List<YourEntityTokenHistory> insertEach(List<YourEntityTokenHistory> batch) {
+        List<YourEntityTokenHistory> written = new ArrayList<>(batch.size());
+        for (YourEntityTokenHistory tokenHistory : batch) {
+            try {
+                jdbcTemplate.update(INSERT_TOKEN_HISTORY_SQL, row(tokenHistory));
+                written.add(tokenHistory);
+            } catch (DuplicateKeyException dke) {
+                written.add(tokenHistory);
+            } catch (DataAccessException dae) {
+                failedCounter.inc();
+                LOGGER.warn("{}Unable to Write Token History:[{}]: {}",
+                        YourMicroserviceToken.LOGGING_HEADER, tokenHistory.getJti(), dae.getMessage());
+            }
+        }
+        return written;
+    }
+
+    /**
+     * row
+     *
+     * @param tokenHistory Token History.
+     * @return Object[] Insert Statement Parameters.
+     */
+    private static Object[] row(YourEntityTokenHistory tokenHistory) {
+        return new Object[]{tokenHistory.getJti(), tokenHistory.getSubject(),
+                tokenHistory.getStatus().name(), timestamp(tokenHistory.getIssuedAt()),
+                timestamp(tokenHistory.getExpiration()), timestamp(tokenHistory.getNotUsedBefore()),
+                timestamp(tokenHistory.getLastUsed()), tokenHistory.getUsageCount()};
+    }
+
+    private static Timestamp timestamp(java.util.Date date) {
+        return (date == null) ? null : new Timestamp(date.getTime());
+    }
+
+    /**
+     * Metric Gauges.
+     */
+    @Gauge(name = "gauge.your.microservice.security.token.history.queue.depth", absolute = true)
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+}
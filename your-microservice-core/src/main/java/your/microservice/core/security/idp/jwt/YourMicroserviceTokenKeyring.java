@@ -0,0 +1,141 @@
+package your.microservice.core.security.idp.jwt;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+
+import java.util.*;
+
+/**
+ * YourMicroserviceTokenKeyring
+ * <p>
+ * Immutable Set of Crypto Contexts, one per Versioned Key, keyed by Key Identifier.
+ * Tokens are Issued with the Active Key and Verified with the Key named by their 'kid' Header,
+ * so Tokens Issued with a previous Key remain Valid after a Rotation.
+ * <p>
+ * When Tokens are Signed Asymmetrically, the Keyring also holds the Signing Keys, of which the
+ * Active Signing Key Issues Tokens, and the Public JWK Set of those Keys to be Published.
+ * <p>
+ * A Keyring is never modified, upon Reload a new Keyring replaces the current one.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public final class YourMicroserviceTokenKeyring {
+
+    private final Map<String, YourMicroserviceTokenCryptoContext> cryptoContexts;
+    private final YourMicroserviceTokenCryptoContext activeContext;
+    private final YourMicroserviceTokenCryptoContext legacyContext;
+    private final Map<String, YourMicroserviceTokenSigningKey> signingKeys;
+    private final YourMicroserviceTokenSigningKey activeSigningKey;
+    private final Map<String, Object> publicJwkSet;
+
+    /**
+     * Default Constructor
+     *
+     * @param cryptoContexts Crypto Contexts by Key Identifier.
+     * @param activeKeyId Key Identifier of the Key used to Issue Tokens.
+     * @param legacyKeyId Key Identifier of the un-versioned Key, used to Verify Tokens without a 'kid' Header,
+     *                    may be null.
+     */
+    public YourMicroserviceTokenKeyring(Map<String, YourMicroserviceTokenCryptoContext> cryptoContexts,
+                                        String activeKeyId, String legacyKeyId) {
+        this(cryptoContexts, activeKeyId, legacyKeyId, Collections.emptyMap(), null);
+    }
+
+    /**
+     * Constructor with Asymmetric Signing Keys.
+     *
+     * @param cryptoContexts Crypto Contexts by Key Identifier.
+     * @param activeKeyId Key Identifier of the Key used to Encrypt Tokens.
+     * @param legacyKeyId Key Identifier of the un-versioned Key, used to Verify Tokens without a 'kid' Header,
+     *                    may be null.
+     * @param signingKeys Asymmetric Signing Keys by Key Identifier.
+     * @param activeSigningKeyId Key Identifier of the Signing Key used to Sign Tokens, or null if Tokens
+     *                           are not Signed Asymmetrically.
+     */
+    public YourMicroserviceTokenKeyring(Map<String, YourMicroserviceTokenCryptoContext> cryptoContexts,
+                                        String activeKeyId, String legacyKeyId,
+                                        Map<String, YourMicroserviceTokenSigningKey> signingKeys,
+                                        String activeSigningKeyId) {
+        this.cryptoContexts = Collections.unmodifiableMap(new HashMap<>(cryptoContexts));
+        this.activeContext = this.cryptoContexts.get(activeKeyId);
+        if (this.activeContext == null) {
+            throw new IllegalArgumentException("Active Key Identifier:[" + activeKeyId + "] not found in Keyring.");
+        }
+        this.legacyContext = (legacyKeyId == null) ? activeContext : this.cryptoContexts.get(legacyKeyId);
+        this.signingKeys = Collections.unmodifiableMap(new HashMap<>(signingKeys));
+        this.activeSigningKey = (activeSigningKeyId == null) ? null : this.signingKeys.get(activeSigningKeyId);
+        if (activeSigningKeyId != null && (this.activeSigningKey == null || !this.activeSigningKey.canSign())) {
+            throw new IllegalArgumentException("Active Signing Key Identifier:[" + activeSigningKeyId + "] not found in Keyring.");
+        }
+        List<JWK> publicJwks = new ArrayList<>();
+        for (YourMicroserviceTokenSigningKey signingKey : this.signingKeys.values()) {
+            if (signingKey.canSign()) {
+                publicJwks.add(signingKey.getPublicJwk());
+            }
+        }
+        this.publicJwkSet = Collections.unmodifiableMap(new JWKSet(publicJwks).toJSONObject());
+    }
+
+    /**
+     * getActive
+     *
+     * @return YourMicroserviceTokenCryptoContext used to Issue Tokens.
+     */
+    public YourMicroserviceTokenCryptoContext getActive() {
+        return activeContext;
+    }
+
+    /**
+     * get
+     *
+     * @param keyId Key Identifier from a Token's 'kid' Header, may be null for Tokens Issued without one.
+     * @return YourMicroserviceTokenCryptoContext for the Key Identifier or null if the Key is not in this Keyring.
+     */
+    public YourMicroserviceTokenCryptoContext get(String keyId) {
+        return (keyId == null) ? legacyContext : cryptoContexts.get(keyId);
+    }
+
+    /**
+     * getActiveSigningKey
+     *
+     * @return YourMicroserviceTokenSigningKey used to Sign Tokens, or null if Tokens are not Signed Asymmetrically.
+     */
+    public YourMicroserviceTokenSigningKey getActiveSigningKey() {
+        return activeSigningKey;
+    }
+
+    /**
+     * getSigningKey
+     *
+     * @param keyId Key Identifier from a Signed Token's 'kid' Header.
+     * @return YourMicroserviceTokenSigningKey for the Key Identifier or null if not in this Keyring.
+     */
+    public YourMicroserviceTokenSigningKey getSigningKey(String keyId) {
+        return (keyId == null) ? null : signingKeys.get(keyId);
+    }
+
+    /**
+     * getPublicJwkSet
+     *
+     * @return Map representing the JWK Set of Public Keys of our own Signing Keys, never any Secret.
+     */
+    public Map<String, Object> getPublicJwkSet() {
+        return publicJwkSet;
+    }
+
+    public Set<String> getSigningKeyIds() {
+        return signingKeys.keySet();
+    }
+
+    public String getActiveKeyId() {
+        return activeContext.getKeyId();
+    }
+
+    public Set<String> getKeyIds() {
+        return cryptoContexts.keySet();
+    }
+
+    public int size() {
+        return cryptoContexts.size();
+    }
+}
@@ -0,0 +1,95 @@
+package your.microservice.core.security.idp.jwt;
+
+import your.microservice.core.security.idp.repository.YourEntityChangedEvent;
+
+/**
+ * YourMicroserviceTokenRevocationService
+ * <p>
+ * Provides the Interface for the In-Memory Set of Revoked Token Identifiers and the
+ * per Subject Not Before Epochs.
+ * A Revoked Token Identifier is Retained only until the Token's 'exp' claim, after which
+ * the Token would be Rejected as Expired regardless, likewise a Subject Epoch is Retained
+ * only for the Lifetime of a Token.
+ * <p>
+ * Revocations performed on one Instance are Broadcast to all Instances, so the
+ * per-request Revocation check never requires the Token History Store.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public interface YourMicroserviceTokenRevocationService {
+
+    /**
+     * isRevoked
+     *
+     * @param jti Token Identifier.
+     * @return boolean indicating if the Token Identifier has been Revoked.
+     */
+    boolean isRevoked(String jti);
+
+    /**
+     * isRevoked
+     *
+     * @param verifiedToken Verified Token.
+     * @return boolean indicating if the Token has been Revoked, either by its Token Identifier
+     * or by having been Issued before its Subject's Not Before Epoch.
+     */
+    boolean isRevoked(YourMicroserviceVerifiedToken verifiedToken);
+
+    /**
+     * revokeToken
+     * Revoke the Token on this Instance, mark the Token History as Revoked and Broadcast
+     * the Revocation to all other Instances.
+     *
+     * @param verifiedToken Token to be Revoked.
+     * @return Integer Count of Token History Entities marked as Revoked, should be only 1.
+     */
+    Integer revokeToken(YourMicroserviceVerifiedToken verifiedToken);
+
+    /**
+     * applyRevocation
+     * Retain a Revocation on this Instance only, as received from a Broadcast or
+     * from the Token History Store.
+     *
+     * @param jti Token Identifier.
+     * @param expirationTime Expiration Time of the Token in Milliseconds.
+     */
+    void applyRevocation(String jti, long expirationTime);
+
+    /**
+     * revokeAllTokens
+     * Revoke every outstanding Token for the Subject, by establishing a Not Before Epoch of now,
+     * in whole Seconds, persisting the Epoch and Broadcasting it to all other Instances.  Tokens
+     * Issued at or before the Epoch are Denied.
+     *
+     * @param subject Token Subject, whose outstanding Tokens are to be Revoked.
+     * @return boolean indicating if the Epoch was Persisted.
+     */
+    boolean revokeAllTokens(String subject);
+
+    /**
+     * applyEpoch
+     * Retain a Subject's Not Before Epoch on this Instance only, as received from a Broadcast or
+     * from the Token Epoch Store.
+     *
+     * @param subject Token Subject.
+     * @param notBeforeTime Not Before Epoch Time in Milliseconds.
+     */
+    void applyEpoch(String subject, long notBeforeTime);
+
+    /**
+     * onYourEntityChanged
+     * Revoke every outstanding Token of an Entity whose Credentials have Changed, whose Status
+     * has left ACTIVE, or which was Deleted or left its Email Address, by the Administrator or the
+     * Entity itself.  A Rehash of unchanged Credentials Revokes nothing.
+     *
+     * @param yourEntityChangedEvent Change Event.
+     */
+    void onYourEntityChanged(YourEntityChangedEvent yourEntityChangedEvent);
+
+    /**
+     * purgeExpired
+     * Remove all Revocations and Epochs whose Tokens have since Expired.
+     */
+    void purgeExpired();
+
+}
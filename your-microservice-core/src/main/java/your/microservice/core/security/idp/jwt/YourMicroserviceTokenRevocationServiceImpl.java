@@ -0,0 +1,311 @@
+package your.microservice.core.security.idp.jwt;
+
+import com.codahale.metrics.annotation.Gauge;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import your.microservice.core.security.idp.model.base.YourEntityTokenEpoch;
+import your.microservice.core.security.idp.model.base.YourEntityTokenHistory;
+import your.microservice.core.security.idp.model.types.YourEntityTokenStatus;
+import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+import your.microservice.core.security.idp.repository.YourEntityChangedEvent;
+import your.microservice.core.system.messaging.jms.MessagePublisherService;
+import your.microservice.core.system.messaging.model.YourMSTokenRevocationNotification;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * YourMicroserviceTokenRevocationServiceImpl
+ * <p>
+ * Exact Set of Revoked Token Identifiers, each mapped to its Token's Expiration Time.
+ * The Set only ever holds Revoked, non-Expired Tokens, so it remains small and a miss,
+ * which is the case for nearly every Request, is a single Hash Lookup.
+ * <p>
+ * Alongside, a Map of Subject to Not Before Epoch, so all outstanding Tokens for a Subject
+ * are Revoked with a single Entry, rather than one per Token Identifier.  As Token Issued At
+ * claims are in whole Seconds, the Epoch is Truncated to whole Seconds and Compared Inclusively,
+ * so a Token Issued within the same Second as, but after, the Epoch is also Denied, we favor
+ * Denying such a Token over Accepting one Issued before the Epoch.
+ * <p>
+ * Upon Startup both are warmed from the Token History and Token Epoch Stores, thereafter they are
+ * maintained by local Revocations and those Broadcast by other Instances.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@Service
+public class YourMicroserviceTokenRevocationServiceImpl implements YourMicroserviceTokenRevocationService {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(YourMicroserviceTokenRevocationServiceImpl.class);
+
+    /**
+     * Revoked Token Identifiers to Token Expiration Time.
+     */
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * Subject to Not Before Epoch Time.
+     */
+    private final Map<String, Long> subjectEpochs = new ConcurrentHashMap<>();
+
+    /**
+     * TOKEN_EXPIRATION_IN_SECONDS
+     *
+     * Expiration of Tokens in Seconds, a Subject Epoch need only be Retained for this Duration.
+     */
+    @Value("${your.microservice.security.token.expiration}")
+    private Long TOKEN_EXPIRATION_IN_SECONDS = 14400L;
+
+    /**
+     * Identity Provider Entity Manager.
+     */
+    @Autowired
+    private IdentityProviderEntityManager identityProviderEntityManager;
+
+    /**
+     * Message Publication Service.
+     */
+    @Autowired
+    private MessagePublisherService messagePublisherService;
+
+    /**
+     * Verified Token Cache
+     */
+    @Autowired
+    private YourMicroserviceTokenCache yourMicroserviceTokenCache;
+
+    /**
+     * initialization
+     * Entered when Bean is initialized, warm our Set from the Token History Store.
+     */
+    @PostConstruct
+    public void initialization() {
+        try {
+            List<YourEntityTokenHistory> revokedHistory =
+                    identityProviderEntityManager.readCurrentRevokedTokenHistory();
+            if (revokedHistory != null) {
+                for (YourEntityTokenHistory yourEntityTokenHistory : revokedHistory) {
+                    if (yourEntityTokenHistory.getExpiration() != null) {
+                        applyRevocation(yourEntityTokenHistory.getJti(),
+                                yourEntityTokenHistory.getExpiration().getTime());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.warn("{}Unable to Load Revoked Tokens from Token History: {}",
+                    YourMicroserviceToken.LOGGING_HEADER, e.getMessage());
+        }
+        try {
+            List<YourEntityTokenEpoch> epochs =
+                    identityProviderEntityManager.readCurrentTokenEpochs(new Date(oldestOutstandingIssuedAt()));
+            if (epochs != null) {
+                for (YourEntityTokenEpoch yourEntityTokenEpoch : epochs) {
+                    applyEpoch(yourEntityTokenEpoch.getSubject(), yourEntityTokenEpoch.getNotBefore().getTime());
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.warn("{}Unable to Load Subject Epochs from Token Epochs: {}",
+                    YourMicroserviceToken.LOGGING_HEADER, e.getMessage());
+        }
+        LOGGER.info("{}Token Revocation Service Initialized, Revoked Tokens:[{}], Subject Epochs:[{}].",
+                YourMicroserviceToken.LOGGING_HEADER, revokedTokens.size(), subjectEpochs.size());
+    }
+
+    /**
+     * destroyBean
+     * Entered when Bean is being destroyed or torn down from the runtime Environment.
+     */
+    @PreDestroy
+    public void destroyBean() {
+        revokedTokens.clear();
+        subjectEpochs.clear();
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        Long expirationTime = revokedTokens.get(jti);
+        if (expirationTime == null) {
+            return false;
+        }
+        if (expirationTime <= System.currentTimeMillis()) {
+            revokedTokens.remove(jti, expirationTime);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isRevoked(YourMicroserviceVerifiedToken verifiedToken) {
+        if (verifiedToken == null) {
+            return false;
+        }
+        if (!subjectEpochs.isEmpty() && verifiedToken.getSubject() != null) {
+            Long notBeforeTime = subjectEpochs.get(verifiedToken.getSubject());
+            if (notBeforeTime != null && verifiedToken.getIssuedAtTime() <= notBeforeTime) {
+                return true;
+            }
+        }
+        return isRevoked(verifiedToken.getJti());
+    }
+
+    @Override
+    public Integer revokeToken(YourMicroserviceVerifiedToken verifiedToken) {
+        if (verifiedToken == null || verifiedToken.getJti() == null) {
+            return 0;
+        }
+        /**
+         * Revoke Locally first, so this Instance Denies the Token immediately.
+         */
+        applyRevocation(verifiedToken.getJti(), verifiedToken.getExpirationTime());
+        yourMicroserviceTokenCache.invalidate(verifiedToken.getToken());
+        /**
+         * Retain the Revocation in our Token History, so Instances started later
+         * are aware of the Revocation.
+         */
+        Integer revoked =
+                identityProviderEntityManager.updateTokenHistoryStatus(verifiedToken.getJti(), YourEntityTokenStatus.REVOKED);
+        /**
+         * Broadcast to all Instances.
+         */
+        try {
+            messagePublisherService.publishTokenRevocation(
+                    new YourMSTokenRevocationNotification(verifiedToken.getJti(), verifiedToken.getExpirationTime()));
+        } catch (Exception e) {
+            LOGGER.warn("{}Unable to Publish Token Revocation:[{}]: {}",
+                    YourMicroserviceToken.LOGGING_HEADER, verifiedToken.getJti(), e.getMessage());
+        }
+        return revoked;
+    }
+
+    @Override
+    public void applyRevocation(String jti, long expirationTime) {
+        if (jti == null || expirationTime <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokens.put(jti, expirationTime);
+    }
+
+    @Override
+    public boolean revokeAllTokens(String subject) {
+        if (subject == null || subject.isEmpty()) {
+            return false;
+        }
+        /**
+         * Subjects are Issued in Lower Case, establish the Epoch Locally first,
+         * so this Instance Denies the Subject's Tokens immediately.
+         */
+        String normalizedSubject = subject.toLowerCase();
+        long notBeforeTime = (System.currentTimeMillis() / 1000) * 1000;
+        applyEpoch(normalizedSubject, notBeforeTime);
+        /**
+         * Single Write to Persist the Epoch, instead of a Delete per outstanding Token.
+         */
+        YourEntityTokenEpoch yourEntityTokenEpoch =
+                identityProviderEntityManager.updateTokenEpoch(normalizedSubject, new Date(notBeforeTime));
+        /**
+         * Refresh Tokens would otherwise Mint new Access Tokens past the Epoch.
+         */
+        identityProviderEntityManager.revokeRefreshTokensBySubject(normalizedSubject);
+        /**
+         * Broadcast to all Instances.
+         */
+        try {
+            messagePublisherService.publishTokenRevocation(
+                    YourMSTokenRevocationNotification.forSubject(normalizedSubject, notBeforeTime));
+        } catch (Exception e) {
+            LOGGER.warn("{}Unable to Publish Subject Epoch:[{}]: {}",
+                    YourMicroserviceToken.LOGGING_HEADER, normalizedSubject, e.getMessage());
+        }
+        LOGGER.info("{}All Tokens Issued before:[{}] Revoked for Subject:[{}].",
+                YourMicroserviceToken.LOGGING_HEADER, notBeforeTime, normalizedSubject);
+        return yourEntityTokenEpoch != null;
+    }
+
+    @Override
+    public void applyEpoch(String subject, long notBeforeTime) {
+        if (subject == null || notBeforeTime <= oldestOutstandingIssuedAt()) {
+            return;
+        }
+        subjectEpochs.merge(subject, notBeforeTime, Math::max);
+    }
+
+    /**
+     * onYourEntityChanged
+     * Performed before the Change is Committed, so the Epoch is Persisted along with the Change.
+     *
+     * @param yourEntityChangedEvent Change Event.
+     */
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onYourEntityChanged(YourEntityChangedEvent yourEntityChangedEvent) {
+        if (yourEntityChangedEvent.isStandingChanged() && !yourEntityChangedEvent.isAllEntities()) {
+            revokeAllTokens(yourEntityChangedEvent.getEntityEmailAddress());
+        }
+    }
+
+    /**
+     * oldestOutstandingIssuedAt
+     *
+     * @return long Time in Milliseconds before which any Issued Token has Expired.
+     */
+    private long oldestOutstandingIssuedAt() {
+        return System.currentTimeMillis() - TOKEN_EXPIRATION_IN_SECONDS * 1000;
+    }
+
+    /**
+     * Sweep Expired Revocations and Epochs every Minute.
+     */
+    @Override
+    @Scheduled(initialDelay = 60000, fixedDelay = 60000)
+    public void purgeExpired() {
+        int purged = 0;
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Long>> iterator = revokedTokens.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue() <= now) {
+                iterator.remove();
+                purged++;
+            }
+        }
+        long oldestOutstandingIssuedAt = oldestOutstandingIssuedAt();
+        Iterator<Map.Entry<String, Long>> epochIterator = subjectEpochs.entrySet().iterator();
+        while (epochIterator.hasNext()) {
+            if (epochIterator.next().getValue() <= oldestOutstandingIssuedAt) {
+                epochIterator.remove();
+                purged++;
+            }
+        }
+        if (purged > 0) {
+            LOGGER.debug("{}Token Revocation Service Purged '{}' Expired Revocations and Epochs.",
+                    YourMicroserviceToken.LOGGING_HEADER, purged);
+        }
+    }
+
+    /**
+     * Metric Gauges.
+     */
+    @Gauge(name = "gauge.your.microservice.security.token.revoked.size", absolute = true)
+    public int getSize() {
+        return revokedTokens.size();
+    }
+
+    @Gauge(name = "gauge.your.microservice.security.token.epochs.size", absolute = true)
+    public int getEpochsSize() {
+        return subjectEpochs.size();
+    }
+}
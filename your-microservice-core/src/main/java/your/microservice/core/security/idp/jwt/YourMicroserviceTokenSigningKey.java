@@ -0,0 +1,116 @@
+package your.microservice.core.security.idp.jwt;
+
+import com.nimbusds.jose.*;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.*;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+/**
+ * YourMicroserviceTokenSigningKey
+ * <p>
+ * Holds the Asymmetric Signer, Verifier and Header for a single Key Pair, identified by its
+ * Key Identifier, along with the Public JWK which is Published so other Services can Verify
+ * Tokens Signed by this Key without holding any Secret.
+ * <p>
+ * A Signing Key obtained from a Published JWK Set holds no Signer and is used for Verification only.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public final class YourMicroserviceTokenSigningKey {
+
+    private final String keyId;
+    private final JWSAlgorithm algorithm;
+    private final JWSSigner jwsSigner;
+    private final JWSVerifier jwsVerifier;
+    private final JWSHeader jwsHeader;
+    private final JWK publicJwk;
+
+    /**
+     * Default Constructor
+     *
+     * @param keyId Key Identifier, placed in the 'kid' Header of Issued Tokens.
+     * @param algorithm Signature Algorithm, either RS256 or ES256.
+     * @param publicKey Public Key of the Key Pair.
+     * @param privateKey Private Key of the Key Pair, or null for a Verification only Key.
+     * @throws JOSEException If the Algorithm or Keys are not acceptable.
+     */
+    public YourMicroserviceTokenSigningKey(String keyId, JWSAlgorithm algorithm,
+                                           PublicKey publicKey, PrivateKey privateKey) throws JOSEException {
+        this.keyId = keyId;
+        this.algorithm = algorithm;
+        if (JWSAlgorithm.RS256.equals(algorithm)) {
+            this.jwsSigner = (privateKey == null) ? null : new RSASSASigner((RSAPrivateKey) privateKey);
+            this.jwsVerifier = new RSASSAVerifier((RSAPublicKey) publicKey);
+            this.publicJwk = new RSAKey.Builder((RSAPublicKey) publicKey)
+                    .keyID(keyId)
+                    .algorithm(algorithm)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .build();
+        } else if (JWSAlgorithm.ES256.equals(algorithm)) {
+            this.jwsSigner = (privateKey == null) ? null : new ECDSASigner((ECPrivateKey) privateKey);
+            this.jwsVerifier = new ECDSAVerifier((ECPublicKey) publicKey);
+            this.publicJwk = new ECKey.Builder(ECKey.Curve.P_256, (ECPublicKey) publicKey)
+                    .keyID(keyId)
+                    .algorithm(algorithm)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .build();
+        } else {
+            throw new JOSEException("Unsupported Signature Algorithm:[" + algorithm + "]");
+        }
+        this.jwsHeader = new JWSHeader.Builder(algorithm)
+                .type(JOSEObjectType.JWT)
+                .keyID(keyId)
+                .build();
+    }
+
+    /**
+     * Verification only Constructor, from a Published Public JWK.
+     *
+     * @param publicJwk Public JWK, with Key Identifier and Algorithm.
+     * @throws JOSEException If the JWK is not acceptable.
+     */
+    public YourMicroserviceTokenSigningKey(JWK publicJwk) throws JOSEException {
+        this(publicJwk.getKeyID(),
+                (publicJwk.getAlgorithm() == null) ? null : JWSAlgorithm.parse(publicJwk.getAlgorithm().getName()),
+                publicJwk instanceof RSAKey ? ((RSAKey) publicJwk).toRSAPublicKey() :
+                        publicJwk instanceof ECKey ? ((ECKey) publicJwk).toECPublicKey() : null,
+                null);
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public JWSAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public JWSSigner getJwsSigner() {
+        return jwsSigner;
+    }
+
+    public JWSVerifier getJwsVerifier() {
+        return jwsVerifier;
+    }
+
+    public JWSHeader getJwsHeader() {
+        return jwsHeader;
+    }
+
+    public JWK getPublicJwk() {
+        return publicJwk;
+    }
+
+    public boolean canSign() {
+        return jwsSigner != null;
+    }
+}
@@ -0,0 +1,30 @@
+package your.microservice.core.security.idp.jwt;
+
+/**
+ * YourMicroserviceTokenUsageService
+ * <p>
+ * Provides the Interface for Counting Token Usage in Memory, Write-Behind, so an Authenticated
+ * Request never waits upon the Token History Store.  Counts and Last Used Times are Flushed to
+ * the Token History Store periodically, in Batches, and upon Shutdown.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public interface YourMicroserviceTokenUsageService {
+
+    /**
+     * recordUsage
+     * Count a Usage of the Token, as of now.
+     *
+     * @param jti Token Identifier.
+     */
+    void recordUsage(String jti);
+
+    /**
+     * flush
+     * Write all Usage Counted since the last Flush to the Token History Store.
+     *
+     * @return int Number of Token History Entities Updated.
+     */
+    int flush();
+
+}
@@ -0,0 +1,172 @@
+package your.microservice.core.security.idp.jwt;
+
+import com.codahale.metrics.annotation.Gauge;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * YourMicroserviceTokenUsageServiceImpl
+ * <p>
+ * Counts Token Usage in a striped {@link LongAdder} per Token Identifier, so concurrent Requests
+ * bearing the same Token do not contend, and Flushes the Counts, along with each Token's Last Used
+ * Time, as JDBC Batch Updates.
+ * <p>
+ * A Token with no Usage since the prior Flush is dropped from Memory, a Usage Counted in the instant
+ * it is dropped may be lost, which is acceptable for a Usage Statistic.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@Service
+public class YourMicroserviceTokenUsageServiceImpl implements YourMicroserviceTokenUsageService {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(YourMicroserviceTokenUsageServiceImpl.class);
+
+    /**
+     * Usage Batch Update Statement.
+     */
+    private static final String UPDATE_TOKEN_HISTORY_USAGE_SQL =
+            "UPDATE YourEntityTokenHistory SET usageCount = usageCount + ?, lastUsed = ? WHERE jti = ?";
+
+    /**
+     * TOKEN_USAGE_FLUSH_BATCH_SIZE
+     *
+     * Maximum Number of Token History Updates sent to the Database in a single Batch.
+     */
+    @Value("${your.microservice.security.token.usage.flush.batch.size:500}")
+    private Integer TOKEN_USAGE_FLUSH_BATCH_SIZE = 500;
+
+    /**
+     * Pending Usage by Token Identifier.
+     */
+    private final Map<String, TokenUsage> pendingUsage = new ConcurrentHashMap<>();
+
+    /**
+     * JDBC Template
+     */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * initialization
+     * Entered when Bean is initialized.
+     */
+    @PostConstruct
+    public void initialization() {
+        LOGGER.info("{}Token Usage Service Initialized, Flush Batch Size:[{}].",
+                YourMicroserviceToken.LOGGING_HEADER, TOKEN_USAGE_FLUSH_BATCH_SIZE);
+    }
+
+    /**
+     * destroyBean
+     * Entered when Bean is being destroyed or torn down from the runtime Environment,
+     * Flush any Pending Usage so it is not lost.
+     */
+    @PreDestroy
+    public void destroyBean() {
+        int updated = flush();
+        LOGGER.info("{}Token Usage Service Shutdown, Flushed '{}' Token History Entities.",
+                YourMicroserviceToken.LOGGING_HEADER, updated);
+    }
+
+    @Override
+    public void recordUsage(String jti) {
+        if (jti == null) {
+            return;
+        }
+        pendingUsage.computeIfAbsent(jti, key -> new TokenUsage()).record(System.currentTimeMillis());
+    }
+
+    /**
+     * Flush Pending Usage periodically.
+     */
+    @Scheduled(initialDelayString = "${your.microservice.security.token.usage.flush.interval:10000}",
+            fixedDelayString = "${your.microservice.security.token.usage.flush.interval:10000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @Override
+    public synchronized int flush() {
+        /**
+         * Drain the Counts, dropping those Tokens which were not Used since the prior Flush.
+         */
+        List<Object[]> updates = new ArrayList<>();
+        List<TokenUsage> drained = new ArrayList<>();
+        for (Map.Entry<String, TokenUsage> entry : pendingUsage.entrySet()) {
+            TokenUsage tokenUsage = entry.getValue();
+            long count = tokenUsage.count.sumThenReset();
+            if (count == 0) {
+                pendingUsage.remove(entry.getKey(), tokenUsage);
+                continue;
+            }
+            updates.add(new Object[]{count, new Timestamp(tokenUsage.lastUsed), entry.getKey()});
+            drained.add(tokenUsage);
+        }
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        /**
+         * Write the Counts in Batches, should the Database be unavailable, the Counts are
+         * returned to be Written upon the next Flush.
+         */
+        int updated = 0;
+        for (int from = 0; from < updates.size(); from += TOKEN_USAGE_FLUSH_BATCH_SIZE) {
+            int to = Math.min(from + TOKEN_USAGE_FLUSH_BATCH_SIZE, updates.size());
+            try {
+                for (int rows : jdbcTemplate.batchUpdate(UPDATE_TOKEN_HISTORY_USAGE_SQL, updates.subList(from, to))) {
+                    updated += Math.max(rows, 0);
+                }
+            } catch (Exception e) {
+                LOGGER.warn("{}Unable to Flush Token Usage, will Retry: {}",
+                        YourMicroserviceToken.LOGGING_HEADER, e.getMessage());
+                for (int i = from; i < updates.size(); i++) {
+                    drained.get(i).count.add((Long) updates.get(i)[0]);
+                }
+                break;
+            }
+        }
+        LOGGER.debug("{}Token Usage Flushed, Tokens:[{}], Token History Entities Updated:[{}].",
+                YourMicroserviceToken.LOGGING_HEADER, updates.size(), updated);
+        return updated;
+    }
+
+    /**
+     * Metric Gauges.
+     */
+    @Gauge(name = "gauge.your.microservice.security.token.usage.pending.size", absolute = true)
+    public int getPendingSize() {
+        return pendingUsage.size();
+    }
+
+    /**
+     * TokenUsage
+     * <p>
+     * Usage Count and Last Used Time of a single Token.
+     */
+    private static final class TokenUsage {
+        private final LongAdder count = new LongAdder();
+        private volatile long lastUsed;
+
+        private void record(long now) {
+            count.increment();
+            lastUsed = now;
+        }
+    }
+}
@@ -1,39 +1,45 @@
 package your.microservice.core.security.idp.jwt;
 
-import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jose.*;
-import com.nimbusds.jose.crypto.DirectDecrypter;
-import com.nimbusds.jose.crypto.DirectEncrypter;
-import com.nimbusds.jose.crypto.MACSigner;
-import com.nimbusds.jose.crypto.MACVerifier;
-import com.nimbusds.jwt.JWTClaimsSet;
-import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jwt.*;
 import com.nimbusds.jwt.proc.BadJWTException;
-import com.nimbusds.jwt.proc.DefaultJWTClaimsVerifier;
 import com.nimbusds.jwt.proc.JWTClaimsVerifier;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import net.minidev.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mobile.device.Device;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import your.microservice.core.security.idp.model.security.YourMicroserviceUserDetails;
 import your.microservice.core.system.ShutdownManager;
+import your.microservice.core.util.IdentifierUtility;
+import your.microservice.core.util.LogThrottle;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.security.KeyStore;
-import java.security.NoSuchAlgorithmException;
-import java.security.UnrecoverableKeyException;
+import java.net.URL;
+import java.security.*;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
 import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * YourMicroserviceToken Component
@@ -77,10 +83,45 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
     protected static final String V_MESSAGE_NO_TOKEN_SUPPLIED = "No Token Supplied to Verify.";
     protected static final String V_MESSAGE_UNABLE_TO_PARSE_TOKEN = "Unable to Parse Token.";
     protected static final String V_MESSAGE_UNABLE_TO_DECRYPT_TOKEN = "Unable to Decrypt Token.";
+    protected static final String V_MESSAGE_UNKNOWN_KEY = "Token Key Identifier not found in Keyring.";
     protected static final String V_MESSAGE_TOKEN_SIGNATURE_INVALID = "Token Signature Invalid.";
     protected static final String V_MESSAGE_INVALID_TOKEN = "Invalid Token, failed Verification.";
     protected static final String V_MESSAGE_INVALID_TOKEN_YOUR_MICROSERVICE_MANIFEST
             = "Invalid Token, Your Microservice Manifest failed Verification.";
+    protected static final String V_MESSAGE_TOKEN_PREVIOUSLY_REJECTED = "Token was previously Rejected.";
+    protected static final String V_MESSAGE_TOKEN_REVOKED = "Token has been Revoked.";
+    private static final String EXPIRED_JWT_MESSAGE = "Expired JWT";
+
+    /**
+     * Rejected Tokens are Logged at most once per Interval, all others are Summarized.
+     */
+    private static final long REJECTION_LOG_INTERVAL_IN_MILLISECONDS = 10000L;
+
+    /**
+     * KeyStore Alias Suffix of the Public Key of an Asymmetric Key Pair.
+     */
+    private static final String PUBLIC_KEY_ALIAS_SUFFIX = ".pub";
+
+    /**
+     * Connect and Read Timeout when Obtaining a Published JWK Set.
+     */
+    private static final int JWKS_TIMEOUT_IN_MILLISECONDS = 5000;
+
+    /**
+     * Issued Tokens are not to be Used before now less this Skew, allowing for Clock differences.
+     */
+    private static final long NOT_BEFORE_SKEW_IN_MILLISECONDS = 2 * 60 * 1000L;
+
+    /**
+     * Default Manifest Data, Immutable, so a single Instance is shared by every Issued Manifest.
+     */
+    private static final Map<String, Object> DEFAULT_MANIFEST_DATA;
+    static {
+        Map<String, Object> manifestData = new HashMap<>();
+        manifestData.put("COUNTRIES_ALLOWED", Collections.unmodifiableList(Arrays.asList("us", "ca")));
+        manifestData.put("REGIONS_ALLOWED", "All");
+        DEFAULT_MANIFEST_DATA = Collections.unmodifiableMap(manifestData);
+    }
 
     /**
      * Default Keystore File Name.
@@ -116,6 +157,25 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
     @Value("${your.microservice.security.keystore.entry.name}")
     private String KEYSTORE_ENTRY_NAME;
 
+    /**
+     * KEYSTORE_KEY_ACTIVATION_DELAY_IN_SECONDS
+     *
+     * Number of Seconds a newly Stored Key Version must exist before it is used to Issue Tokens,
+     * so every Instance sharing the KeyStore has Reloaded it, and can Verify with it, beforehand.
+     * Should be at least the KeyStore Reload Interval.
+     */
+    @Value("${your.microservice.security.keystore.key.activation.delay:300}")
+    private Long KEYSTORE_KEY_ACTIVATION_DELAY_IN_SECONDS = 300L;
+
+    /**
+     * KEYSTORE_KEY_ROTATION_INTERVAL_IN_SECONDS
+     *
+     * Number of Seconds after which this Instance Stores a new Key Version in the KeyStore.
+     * Zero disables Rotation by this Instance, only one Instance sharing a KeyStore should Rotate.
+     */
+    @Value("${your.microservice.security.keystore.key.rotation.interval:0}")
+    private Long KEYSTORE_KEY_ROTATION_INTERVAL_IN_SECONDS = 0L;
+
     /**
      * TOKEN_EXPIRATION_IN_SECONDS
      *
@@ -126,19 +186,60 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
     private Long TOKEN_EXPIRATION_IN_SECONDS = 14400L;
 
     /**
-     * Object Mapper for Marshaling the Your Microservice Manifest
+     * TOKEN_SIGNATURE_ALGORITHM
+     *
+     * Signature Algorithm of Issued Tokens.  HS256 Tokens are Signed and Encrypted with our SecretKey,
+     * RS256 or ES256 Tokens are only Signed, with a Key Pair whose Public Key is Published, so other
+     * Services may Verify Tokens locally without holding any Secret.
+     */
+    @Value("${your.microservice.security.token.signature.algorithm:HS256}")
+    private String TOKEN_SIGNATURE_ALGORITHM = "HS256";
+    private JWSAlgorithm tokenSignatureAlgorithm;
+
+    /**
+     * TOKEN_JWKS_URI
+     *
+     * URI of the Published JWK Set of the IdP, whose Asymmetrically Signed Tokens this Instance
+     * Verifies locally.  Reloaded along with our KeyStore.
+     */
+    @Value("${your.microservice.security.token.jwks.uri:}")
+    private String TOKEN_JWKS_URI;
+
+    /**
+     * TOKEN_SIGNED_ONLY_AUDIENCES
+     *
+     * Comma separated Audiences, such as our own Services on a trusted Network, whose Tokens are Issued
+     * as a compact Signed only JWS with our SecretKey, instead of a Signed and Encrypted JWE.  Only Tokens
+     * whose every Audience is listed are Issued, or Accepted, without Encryption.
+     */
+    @Value("${your.microservice.security.token.signed.only.audiences:}")
+    private String TOKEN_SIGNED_ONLY_AUDIENCES;
+    private Set<String> signedOnlyAudiences = Collections.emptySet();
+
+    /**
+     * TOKEN_STATELESS_AUTHORIZATION
+     *
+     * Indicates if the Principal's Authorities and Account Status are placed in Issued Tokens, so
+     * Requests are Authorized from the Verified Claims alone, without a User Lookup.  Changes to a
+     * Principal are seen upon the next Token, or sooner by Revoking the Principal's Tokens.
      */
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+    @Value("${your.microservice.security.token.stateless.authorization:false}")
+    private Boolean TOKEN_STATELESS_AUTHORIZATION = false;
 
     /**
-     * Our Internal Secret Key, obtain from KeyStore.
-     * If KeyStore, does not exist, the SecretKey will be generated.
+     * Stateless Authorization Claim Names, Placed only when Issued with the Principal's Claims.
+     * A Refresh without User Details omits them, so the Principal's current Authorities are Loaded.
      */
-    private SecretKey secretKey;
+    private static final String[] PRINCIPAL_CLAIM_NAMES = {
+            CLAIM_NAME_AUTHORITIES, CLAIM_NAME_ACCOUNT_STATUS, CLAIM_NAME_PRINCIPAL_ID};
+
     /**
-     * Our JWT Signer based upon our SecretKey.
+     * Our Keyring of Crypto Contexts, one per Versioned SecretKey obtained from our KeyStore,
+     * each containing a Signer, Verifier, Encrypter, Decrypter, Headers and Claims Verifier.
+     * If KeyStore, does not exist, the initial SecretKey will be generated.
+     * Replaced as a whole upon each KeyStore Reload.
      */
-    private JWSSigner jwsSigner;
+    private volatile YourMicroserviceTokenKeyring keyring;
 
     /**
      * Shutdown Manager
@@ -146,9 +247,43 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
     @Autowired
     private ShutdownManager shutdownManager;
 
+    /**
+     * Verified Token Cache
+     */
+    @Autowired
+    private YourMicroserviceTokenCache yourMicroserviceTokenCache;
+
+    /**
+     * Token Revocation Service
+     */
+    @Autowired
+    private YourMicroserviceTokenRevocationService yourMicroserviceTokenRevocationService;
+
+    /**
+     * Metric Registry
+     */
+    @Autowired
+    private MetricRegistry metricRegistry;
+
+    /**
+     * Rejected Token Counters by Reason, and our Rejection Log Throttle.
+     */
+    private final Map<YourMicroserviceInvalidTokenException.Reason, Counter> rejectionCounters =
+            new EnumMap<>(YourMicroserviceInvalidTokenException.Reason.class);
+    private Counter previouslyRejectedCounter;
+    /**
+     * Verification Timers, in total and per Stage.
+     */
+    private Timer verifyTimer;
+    private Timer verifyParseTimer;
+    private Timer verifyDecryptTimer;
+    private Timer verifySignatureTimer;
+    private Timer verifyClaimsTimer;
+    private final LogThrottle rejectionLogThrottle = new LogThrottle(REJECTION_LOG_INTERVAL_IN_MILLISECONDS);
+
     /**
      * Post Construction Initialization.
-     * Here we established our SecretKey and JWS Signer.
+     * Here we established our SecretKey and Crypto Context.
      */
     @PostConstruct
     public synchronized void initialization() {
@@ -157,6 +292,23 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
          */
         LOGGER.info("{}YourMicroserviceToken Component Initialization Commencing...",
                 LOGGING_HEADER);
+        /**
+         * Establish our Rejection Counters.
+         */
+        for (YourMicroserviceInvalidTokenException.Reason reason : YourMicroserviceInvalidTokenException.Reason.values()) {
+            rejectionCounters.put(reason, metricRegistry.counter(
+                    "counter.your.microservice.security.token.rejected." + reason.name().toLowerCase()));
+        }
+        previouslyRejectedCounter = metricRegistry.counter(
+                "counter.your.microservice.security.token.rejected.previously");
+        /**
+         * Establish our Verification Timers.
+         */
+        verifyTimer = metricRegistry.timer("timer.your.microservice.security.token.verify");
+        verifyParseTimer = metricRegistry.timer("timer.your.microservice.security.token.verify.parse");
+        verifyDecryptTimer = metricRegistry.timer("timer.your.microservice.security.token.verify.decrypt");
+        verifySignatureTimer = metricRegistry.timer("timer.your.microservice.security.token.verify.signature");
+        verifyClaimsTimer = metricRegistry.timer("timer.your.microservice.security.token.verify.claims");
         /**
          * Resolve the Keystore Location based upon our Provided Properties.
          */
@@ -187,14 +339,32 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
                     LOGGING_HEADER+message, 9);
             return;
         }
+        tokenSignatureAlgorithm = JWSAlgorithm.parse(TOKEN_SIGNATURE_ALGORITHM.trim().toUpperCase());
+        if (!JWSAlgorithm.HS256.equals(tokenSignatureAlgorithm) && !isAsymmetric()) {
+            String message = "Unable to Initialize the YourMicroserviceToken Implementation, " +
+                    "Signature Algorithm not Supported, specify property: 'your.microservice.security.token.signature.algorithm' as HS256, RS256 or ES256, unable to continue...";
+            LOGGER.error("{}{}", LOGGING_HEADER, message);
+            shutdownManager.initiateShutdown(
+                    LOGGING_HEADER+message, 9);
+            return;
+        }
+        if (TOKEN_SIGNED_ONLY_AUDIENCES != null && !TOKEN_SIGNED_ONLY_AUDIENCES.trim().isEmpty()) {
+            Set<String> audiences = new HashSet<>();
+            for (String audience : TOKEN_SIGNED_ONLY_AUDIENCES.split(",")) {
+                if (!audience.trim().isEmpty()) {
+                    audiences.add(audience.trim());
+                }
+            }
+            signedOnlyAudiences = Collections.unmodifiableSet(audiences);
+        }
         /**
-         * Obtain SecretKey and establish our JWT Signer.
+         * Obtain our SecretKeys and establish our Keyring.
          */
-        secretKey = obtainSecretKey();
-        jwsSigner = obtainJWSSigner(secretKey);
-        if (secretKey != null && jwsSigner != null) {
-            LOGGER.info("{}YourMicroserviceToken Component Initialization Successful.",
-                    LOGGING_HEADER);
+        keyring = obtainKeyring();
+        if (keyring != null) {
+            LOGGER.info("{}YourMicroserviceToken Component Initialization Successful, Keys:{}, Active Key:[{}], Signing Keys:{}, Signature Algorithm:[{}], Signed only Audiences:{}.",
+                    LOGGING_HEADER, keyring.getKeyIds(), keyring.getActiveKeyId(),
+                    keyring.getSigningKeyIds(), tokenSignatureAlgorithm, signedOnlyAudiences);
         } else {
             LOGGER.error("{}YourMicroserviceToken Component Initialization has Failed!",
                     LOGGING_HEADER);
@@ -210,7 +380,7 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
 
     /**
      * Pre-Destroy TearDown of Container.
-     * Here we Destroy our SecretKey and JWS Signer.
+     * Here we Destroy our Keyring.
      */
     @PreDestroy
     public void shutdown() {
@@ -219,18 +389,23 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
          */
         LOGGER.info("{}YourMicroserviceToken Component Shutdown commencing...",
                 LOGGING_HEADER);
-        secretKey = null;
-        jwsSigner = null;
+        keyring = null;
         LOGGER.info("{}YourMicroserviceToken Component Shutdown Completed, ready for Bean Removal.",
                 LOGGING_HEADER);
     }
 
     /**
-     * obtainSecretKey
+     * obtainKeyring
+     * Obtain all Versioned SecretKeys from our KeyStore and establish a Crypto Context for each.
+     * Entries are named '<entry.name>.<version>', an un-versioned '<entry.name>' Entry is accepted
+     * as Version Zero.  If no Entry exists, the first Version is Generated and Stored.
+     * <p>
+     * The Active Key is the highest Version which has existed for at least the Activation Delay,
+     * or failing that, the highest Version.
      *
-     * @return SecretKey Obtained or Generated from keyStore.
+     * @return YourMicroserviceTokenKeyring Obtained from keyStore or null, if unable to establish.
      */
-    private SecretKey obtainSecretKey() {
+    private YourMicroserviceTokenKeyring obtainKeyring() {
         /**
          * Generate our Entry Credentials based upon our KeyStore Credentials.
          */
@@ -255,79 +430,492 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
             KeyStore.PasswordProtection keyPassword =
                     new KeyStore.PasswordProtection(KEYSTORE_ENTRY_CREDENTIALS.toCharArray());
             /**
-             * Does our Key exist?
-             * Attempt to obtain our Key Entry from the specified KeyStore.
+             * Do our Keys exist?
+             * If not, Generate and Store our first Key Version.
              */
-            KeyStore.Entry entry = null;
-            try {
-                entry = keyStore.getEntry(KEYSTORE_ENTRY_NAME, keyPassword);
-            } catch (UnrecoverableKeyException uke) {
-                LOGGER.error("{}Unable to Obtain KeyStore Entry due to KeyStore Entry Password not correct!",
-                        LOGGING_HEADER);
-                throw new YourMicroserviceTokenInitializationException("Unable to Access KeyStore.");
+            if (highestKeyVersion(keyStore, KEYSTORE_ENTRY_NAME) < 0) {
+                storeNewKeyVersion(keyStore, keyPassword, 1);
             }
-            SecretKey keyFound = null;
-            if (entry != null) {
-                keyFound = ((KeyStore.SecretKeyEntry) entry).getSecretKey();
-                LOGGER.info("{}Found Established Key from specified KeyStore: '{}'",
-                        LOGGING_HEADER, resolvedKeystoreFile.getAbsolutePath());
-            } else {
-                /**
-                 * Generate a new Secret Key for AES Encryption
-                 */
-                SecretKey secretKey = generateSecretKey();
-                if (secretKey == null) {
-                    LOGGER.error("{}Unable to Obtain to generate a Secret Key, failing runtime support.",
-                            LOGGING_HEADER);
-                    throw new YourMicroserviceTokenInitializationException("Unable to Access KeyStore.");
+            /**
+             * Establish a Crypto Context for each of our Key Versions.
+             */
+            Map<String, YourMicroserviceTokenCryptoContext> cryptoContexts = new HashMap<>();
+            String activeKeyId = null;
+            String oldestKeyId = null;
+            String legacyKeyId = null;
+            int activeVersion = -1;
+            int oldestVersion = Integer.MAX_VALUE;
+            long activationCutoff = System.currentTimeMillis() - KEYSTORE_KEY_ACTIVATION_DELAY_IN_SECONDS * 1000;
+            for (String alias : Collections.list(keyStore.aliases())) {
+                int version = keyVersion(KEYSTORE_ENTRY_NAME, alias);
+                if (version < 0 || !keyStore.entryInstanceOf(alias, KeyStore.SecretKeyEntry.class)) {
+                    continue;
                 }
-                /**
-                 * Store the Secret Key for Subsequent Bootstraps, oh and yes, this Key needs to be shared
-                 * across all instances.  At least point to the same or at least a copy of the
-                 * initially created KeyStore.
-                 */
-                LOGGER.info("{}Storing Secret Key to specified KeyStore: '{}'.",
+                KeyStore.Entry entry;
+                try {
+                    entry = keyStore.getEntry(alias, keyPassword);
+                } catch (UnrecoverableKeyException uke) {
+                    LOGGER.error("{}Unable to Obtain KeyStore Entry:[{}] due to KeyStore Entry Password not correct!",
+                            LOGGING_HEADER, alias);
+                    continue;
+                }
+                SecretKey secretKey = ((KeyStore.SecretKeyEntry) entry).getSecretKey();
+                YourMicroserviceTokenCryptoContext cryptoContext = obtainCryptoContext(alias, secretKey);
+                if (cryptoContext == null) {
+                    continue;
+                }
+                cryptoContexts.put(alias, cryptoContext);
+                if (version == 0) {
+                    legacyKeyId = alias;
+                }
+                if (version < oldestVersion) {
+                    oldestVersion = version;
+                    oldestKeyId = alias;
+                }
+                Date created = keyStore.getCreationDate(alias);
+                if (version > activeVersion && (created == null || created.getTime() <= activationCutoff)) {
+                    activeVersion = version;
+                    activeKeyId = alias;
+                }
+            }
+            if (cryptoContexts.isEmpty()) {
+                LOGGER.error("{}No usable Keys found in specified KeyStore: '{}'",
                         LOGGING_HEADER, resolvedKeystoreFile.getAbsolutePath());
-                KeyStore.SecretKeyEntry keyStoreEntry = new KeyStore.SecretKeyEntry(secretKey);
-                keyStore.setEntry(KEYSTORE_ENTRY_NAME, keyStoreEntry, keyPassword);
-                keyStore.store(new FileOutputStream(resolvedKeystoreFile), KEYSTORE_CREDENTIALS.toCharArray());
-                /**
-                 * retrieve the stored key back
-                 */
-                entry = keyStore.getEntry(KEYSTORE_ENTRY_NAME, keyPassword);
-                keyFound = ((KeyStore.SecretKeyEntry) entry).getSecretKey();
+                return null;
+            }
+            /**
+             * Establish our Asymmetric Signing Keys, if Tokens are Signed Asymmetrically,
+             * along with those Published by our IdP.
+             */
+            Map<String, YourMicroserviceTokenSigningKey> signingKeys = new HashMap<>();
+            String activeSigningKeyId = null;
+            if (isAsymmetric()) {
+                activeSigningKeyId = obtainSigningKeys(keyStore, keyPassword, signingKeys);
+                if (activeSigningKeyId == null) {
+                    LOGGER.error("{}No usable Signing Keys found in specified KeyStore: '{}'",
+                            LOGGING_HEADER, resolvedKeystoreFile.getAbsolutePath());
+                    return null;
+                }
             }
+            obtainPublishedSigningKeys(signingKeys);
             /**
-             * Return Key, if null we need to abort.
+             * Return Keyring, if null we need to abort.  Should no Key have passed its Activation Delay,
+             * as with a newly Generated KeyStore, the oldest Key is Active, never one just Rotated.
              */
-            return keyFound;
+            return new YourMicroserviceTokenKeyring(cryptoContexts,
+                    (activeKeyId != null) ? activeKeyId : oldestKeyId, legacyKeyId,
+                    signingKeys, activeSigningKeyId);
         } catch (Exception e) {
-            LOGGER.error("{}Exception Obtaining SecretKey for Signing and Encryption Use.",
-                    LOGGING_HEADER);
+            LOGGER.error("{}Exception Obtaining SecretKeys for Signing and Encryption Use: {}",
+                    LOGGING_HEADER, e.getMessage());
             return null;
         }
     }
 
     /**
-     * obtainJWSSigner
-     * Obtain JWT Signer based upon our SecretKey
+     * reloadKeyring
+     * Reload our Keyring from the KeyStore, which may be shared by all Instances, picking up any new
+     * Key Versions and Activating them once their Activation Delay has passed, without a Restart.
+     * If Rotation is enabled for this Instance and the Active Key is due, a new Key Version is Stored first.
+     */
+    @Scheduled(initialDelayString = "${your.microservice.security.keystore.reload.interval:300000}",
+            fixedDelayString = "${your.microservice.security.keystore.reload.interval:300000}")
+    public synchronized void reloadKeyring() {
+        if (keyring == null) {
+            return;
+        }
+        if (KEYSTORE_KEY_ROTATION_INTERVAL_IN_SECONDS != null && KEYSTORE_KEY_ROTATION_INTERVAL_IN_SECONDS > 0 &&
+                isActiveKeyDueForRotation()) {
+            rotateKey();
+        }
+        YourMicroserviceTokenKeyring reloaded = obtainKeyring();
+        if (reloaded == null) {
+            LOGGER.warn("{}Unable to Reload Keyring, continuing with Keys:{}, Active Key:[{}].",
+                    LOGGING_HEADER, keyring.getKeyIds(), keyring.getActiveKeyId());
+            return;
+        }
+        if (!reloaded.getKeyIds().equals(keyring.getKeyIds()) ||
+                !reloaded.getActiveKeyId().equals(keyring.getActiveKeyId())) {
+            LOGGER.info("{}Keyring Reloaded, Keys:{}, Active Key:[{}].",
+                    LOGGING_HEADER, reloaded.getKeyIds(), reloaded.getActiveKeyId());
+        }
+        keyring = reloaded;
+    }
+
+    /**
+     * rotateKey
+     * Generate and Store the next Key Version in our KeyStore, and if Tokens are Signed Asymmetrically the next
+     * Signing Key Pair Version, removing Versions which are no longer needed to Verify any outstanding Token.
+     * The new Version is Verifiable immediately and used to Issue Tokens once its Activation Delay has passed.
+     *
+     * @return String Key Identifier of the new Key Version or null, if unable to Rotate.
+     */
+    public synchronized String rotateKey() {
+        final String KEYSTORE_ENTRY_CREDENTIALS =
+                generatedKeyStoreEntryCredentials(KEYSTORE_CREDENTIALS);
+        try {
+            KeyStore keyStore = accessKeyStore(resolvedKeystoreFile, KEYSTORE_CREDENTIALS);
+            KeyStore.PasswordProtection keyPassword =
+                    new KeyStore.PasswordProtection(KEYSTORE_ENTRY_CREDENTIALS.toCharArray());
+            /**
+             * Retire Key Versions Created before any outstanding Token could have been Issued,
+             * other than the Active Key.
+             */
+            long retirementCutoff = System.currentTimeMillis() - (KEYSTORE_KEY_ACTIVATION_DELAY_IN_SECONDS +
+                    Math.max(KEYSTORE_KEY_ROTATION_INTERVAL_IN_SECONDS, 0L) + TOKEN_EXPIRATION_IN_SECONDS) * 1000;
+            String activeKeyId = (keyring == null) ? null : keyring.getActiveKeyId();
+            String activeSigningKeyId = keyring == null || keyring.getActiveSigningKey() == null ? null :
+                    keyring.getActiveSigningKey().getKeyId();
+            for (String alias : Collections.list(keyStore.aliases())) {
+                String keyId = alias.endsWith(PUBLIC_KEY_ALIAS_SUFFIX) ?
+                        alias.substring(0, alias.length() - PUBLIC_KEY_ALIAS_SUFFIX.length()) : alias;
+                boolean ours = keyVersion(KEYSTORE_ENTRY_NAME, keyId) >= 0 ||
+                        isAsymmetric() && keyVersion(signingKeyPrefix(), keyId) > 0;
+                Date created = keyStore.getCreationDate(alias);
+                if (ours && !keyId.equals(activeKeyId) && !keyId.equals(activeSigningKeyId) &&
+                        created != null && created.getTime() < retirementCutoff) {
+                    keyStore.deleteEntry(alias);
+                    LOGGER.info("{}Retired Key:[{}] from KeyStore.", LOGGING_HEADER, alias);
+                }
+            }
+            if (isAsymmetric()) {
+                storeNewSigningKeyVersion(keyStore, keyPassword,
+                        highestKeyVersion(keyStore, signingKeyPrefix()) + 1);
+            }
+            String keyId = storeNewKeyVersion(keyStore, keyPassword, highestKeyVersion(keyStore, KEYSTORE_ENTRY_NAME) + 1);
+            LOGGER.info("{}Rotated Key, new Key:[{}] will be Active in '{}' Seconds.",
+                    LOGGING_HEADER, keyId, KEYSTORE_KEY_ACTIVATION_DELAY_IN_SECONDS);
+            return keyId;
+        } catch (Exception e) {
+            LOGGER.error("{}Exception Rotating SecretKey: {}", LOGGING_HEADER, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * getKeyring
+     *
+     * @return YourMicroserviceTokenKeyring currently in use.
+     */
+    public YourMicroserviceTokenKeyring getKeyring() {
+        return keyring;
+    }
+
+    /**
+     * getPublicVerificationKeys
+     *
+     * @return Map representing the JWK Set of our Public Signing Keys.
+     */
+    @Override
+    public Map<String, Object> getPublicVerificationKeys() {
+        YourMicroserviceTokenKeyring currentKeyring = keyring;
+        return (currentKeyring == null) ? Collections.emptyMap() : currentKeyring.getPublicJwkSet();
+    }
+
+    /**
+     * isActiveKeyDueForRotation
+     *
+     * @return boolean indicating the newest Key Version has existed for the Rotation Interval.
+     */
+    private boolean isActiveKeyDueForRotation() {
+        try {
+            KeyStore keyStore = accessKeyStore(resolvedKeystoreFile, KEYSTORE_CREDENTIALS);
+            int newestVersion = highestKeyVersion(keyStore, KEYSTORE_ENTRY_NAME);
+            if (newestVersion < 0) {
+                return true;
+            }
+            Date created = keyStore.getCreationDate(keyAlias(KEYSTORE_ENTRY_NAME, newestVersion));
+            return created != null &&
+                    created.getTime() <= System.currentTimeMillis() - (KEYSTORE_KEY_ROTATION_INTERVAL_IN_SECONDS * 1000);
+        } catch (Exception e) {
+            LOGGER.warn("{}Unable to determine if Key is due for Rotation: {}", LOGGING_HEADER, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * storeNewKeyVersion
+     * Generate a new Secret Key for AES Encryption and Store it in the KeyStore as the specified Version.
+     * This KeyStore needs to be shared across all instances.  At least point to the same or at least a copy of the
+     * same KeyStore.
+     *
+     * @param keyStore KeyStore.
+     * @param keyPassword KeyStore Entry Credentials.
+     * @param version Key Version to be Stored.
+     * @return String Key Identifier Stored.
+     * @throws Exception Thrown when unable to Generate or Store the Key.
+     */
+    private String storeNewKeyVersion(KeyStore keyStore, KeyStore.PasswordProtection keyPassword, int version)
+            throws Exception {
+        SecretKey secretKey = generateSecretKey();
+        if (secretKey == null) {
+            LOGGER.error("{}Unable to Obtain to generate a Secret Key, failing runtime support.",
+                    LOGGING_HEADER);
+            throw new YourMicroserviceTokenInitializationException("Unable to Access KeyStore.");
+        }
+        String keyId = keyAlias(KEYSTORE_ENTRY_NAME, version);
+        LOGGER.info("{}Storing Secret Key:[{}] to specified KeyStore: '{}'.",
+                LOGGING_HEADER, keyId, resolvedKeystoreFile.getAbsolutePath());
+        keyStore.setEntry(keyId, new KeyStore.SecretKeyEntry(secretKey), keyPassword);
+        storeKeyStore(keyStore);
+        return keyId;
+    }
+
+    /**
+     * storeNewSigningKeyVersion
+     * Generate a new Asymmetric Key Pair for our Signature Algorithm and Store it in the KeyStore as the
+     * specified Version.  The Private and Public Keys are Stored in their Encoded forms as Secret Entries,
+     * '<entry.name>-<algorithm>.<version>' and '<entry.name>-<algorithm>.<version>.pub', as a JCEKS KeyStore
+     * requires a Certificate Chain to Store a Private Key Entry.
+     *
+     * @param keyStore KeyStore.
+     * @param keyPassword KeyStore Entry Credentials.
+     * @param version Key Version to be Stored.
+     * @return String Key Identifier Stored.
+     * @throws Exception Thrown when unable to Generate or Store the Key Pair.
+     */
+    private String storeNewSigningKeyVersion(KeyStore keyStore, KeyStore.PasswordProtection keyPassword, int version)
+            throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(signingKeyAlgorithm());
+        if (JWSAlgorithm.ES256.equals(tokenSignatureAlgorithm)) {
+            keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        } else {
+            keyPairGenerator.initialize(2048);
+        }
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        String keyId = keyAlias(signingKeyPrefix(), version);
+        LOGGER.info("{}Storing Signing Key Pair:[{}] to specified KeyStore: '{}'.",
+                LOGGING_HEADER, keyId, resolvedKeystoreFile.getAbsolutePath());
+        keyStore.setEntry(keyId, new KeyStore.SecretKeyEntry(
+                new SecretKeySpec(keyPair.getPrivate().getEncoded(), signingKeyAlgorithm())), keyPassword);
+        keyStore.setEntry(keyId + PUBLIC_KEY_ALIAS_SUFFIX, new KeyStore.SecretKeyEntry(
+                new SecretKeySpec(keyPair.getPublic().getEncoded(), signingKeyAlgorithm())), keyPassword);
+        storeKeyStore(keyStore);
+        return keyId;
+    }
+
+    /**
+     * obtainSigningKeys
+     * Obtain all Versioned Signing Key Pairs from our KeyStore, if none exist, the first Version is
+     * Generated and Stored.  The Active Signing Key is chosen as for our SecretKeys.
+     *
+     * @param keyStore KeyStore.
+     * @param keyPassword KeyStore Entry Credentials.
+     * @param signingKeys Signing Keys by Key Identifier, to be Populated.
+     * @return String Key Identifier of the Active Signing Key, or null if none.
+     * @throws Exception Thrown when unable to Access, Generate or Store a Key Pair.
+     */
+    private String obtainSigningKeys(KeyStore keyStore, KeyStore.PasswordProtection keyPassword,
+                                     Map<String, YourMicroserviceTokenSigningKey> signingKeys) throws Exception {
+        String prefix = signingKeyPrefix();
+        if (highestKeyVersion(keyStore, prefix) < 1) {
+            storeNewSigningKeyVersion(keyStore, keyPassword, 1);
+        }
+        KeyFactory keyFactory = KeyFactory.getInstance(signingKeyAlgorithm());
+        String activeKeyId = null;
+        String oldestKeyId = null;
+        int activeVersion = -1;
+        int oldestVersion = Integer.MAX_VALUE;
+        long activationCutoff = System.currentTimeMillis() - KEYSTORE_KEY_ACTIVATION_DELAY_IN_SECONDS * 1000;
+        for (String alias : Collections.list(keyStore.aliases())) {
+            int version = keyVersion(prefix, alias);
+            if (version < 1) {
+                continue;
+            }
+            KeyStore.Entry privateEntry = keyStore.getEntry(alias, keyPassword);
+            KeyStore.Entry publicEntry = keyStore.getEntry(alias + PUBLIC_KEY_ALIAS_SUFFIX, keyPassword);
+            if (!(privateEntry instanceof KeyStore.SecretKeyEntry) || !(publicEntry instanceof KeyStore.SecretKeyEntry)) {
+                LOGGER.warn("{}Signing Key Pair:[{}] incomplete in KeyStore, Ignoring.", LOGGING_HEADER, alias);
+                continue;
+            }
+            try {
+                PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(
+                        ((KeyStore.SecretKeyEntry) privateEntry).getSecretKey().getEncoded()));
+                PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(
+                        ((KeyStore.SecretKeyEntry) publicEntry).getSecretKey().getEncoded()));
+                signingKeys.put(alias,
+                        new YourMicroserviceTokenSigningKey(alias, tokenSignatureAlgorithm, publicKey, privateKey));
+            } catch (GeneralSecurityException | JOSEException e) {
+                LOGGER.error("{}Unable to establish Signing Key Pair:[{}], {}", LOGGING_HEADER, alias, e.getMessage());
+                continue;
+            }
+            if (version < oldestVersion) {
+                oldestVersion = version;
+                oldestKeyId = alias;
+            }
+            Date created = keyStore.getCreationDate(alias);
+            if (version > activeVersion && (created == null || created.getTime() <= activationCutoff)) {
+                activeVersion = version;
+                activeKeyId = alias;
+            }
+        }
+        return (activeKeyId != null) ? activeKeyId : oldestKeyId;
+    }
+
+    /**
+     * obtainPublishedSigningKeys
+     * Obtain the Public Signing Keys Published by our IdP, if a JWK Set URI has been specified.
+     * Should the JWK Set be unavailable, the Published Keys already obtained are retained.
+     *
+     * @param signingKeys Signing Keys by Key Identifier, to be Populated with Verification only Keys.
+     */
+    private void obtainPublishedSigningKeys(Map<String, YourMicroserviceTokenSigningKey> signingKeys) {
+        if (TOKEN_JWKS_URI == null || TOKEN_JWKS_URI.trim().isEmpty()) {
+            return;
+        }
+        try {
+            JWKSet jwkSet = JWKSet.load(new URL(TOKEN_JWKS_URI.trim()),
+                    JWKS_TIMEOUT_IN_MILLISECONDS, JWKS_TIMEOUT_IN_MILLISECONDS, 0);
+            for (JWK jwk : jwkSet.getKeys()) {
+                if (jwk.getKeyID() == null || signingKeys.containsKey(jwk.getKeyID())) {
+                    continue;
+                }
+                try {
+                    signingKeys.put(jwk.getKeyID(), new YourMicroserviceTokenSigningKey(jwk));
+                } catch (JOSEException je) {
+                    LOGGER.warn("{}Unable to use Published Signing Key:[{}], {}",
+                            LOGGING_HEADER, jwk.getKeyID(), je.getMessage());
+                }
+            }
+        } catch (IOException | ParseException e) {
+            LOGGER.warn("{}Unable to Obtain Published Signing Keys from:[{}], {}",
+                    LOGGING_HEADER, TOKEN_JWKS_URI, e.getMessage());
+            YourMicroserviceTokenKeyring currentKeyring = keyring;
+            if (currentKeyring != null) {
+                for (String keyId : currentKeyring.getSigningKeyIds()) {
+                    YourMicroserviceTokenSigningKey signingKey = currentKeyring.getSigningKey(keyId);
+                    if (!signingKey.canSign() && !signingKeys.containsKey(keyId)) {
+                        signingKeys.put(keyId, signingKey);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * storeKeyStore
+     *
+     * @param keyStore KeyStore to be Stored to our KeyStore File.
+     * @throws Exception Thrown when unable to Store the KeyStore.
+     */
+    private void storeKeyStore(KeyStore keyStore) throws Exception {
+        try (FileOutputStream outputStream = new FileOutputStream(resolvedKeystoreFile)) {
+            keyStore.store(outputStream, KEYSTORE_CREDENTIALS.toCharArray());
+        }
+    }
+
+    /**
+     * isSignedOnly
+     *
+     * @param audience Token Audience.
+     * @return boolean indicating if every Audience is permitted a Signed only Token.
+     */
+    private boolean isSignedOnly(List<String> audience) {
+        return !signedOnlyAudiences.isEmpty() && audience != null && !audience.isEmpty() &&
+                signedOnlyAudiences.containsAll(audience);
+    }
+
+    /**
+     * isAsymmetric
+     *
+     * @return boolean indicating if Tokens are Signed with an Asymmetric Key Pair.
+     */
+    private boolean isAsymmetric() {
+        return JWSAlgorithm.RS256.equals(tokenSignatureAlgorithm) || JWSAlgorithm.ES256.equals(tokenSignatureAlgorithm);
+    }
+
+    /**
+     * signingKeyPrefix
+     *
+     * @return String KeyStore Alias Prefix of our Signing Key Pairs.
+     */
+    private String signingKeyPrefix() {
+        return KEYSTORE_ENTRY_NAME + "-" + tokenSignatureAlgorithm.getName();
+    }
+
+    /**
+     * signingKeyAlgorithm
+     *
+     * @return String Key Algorithm of our Signing Key Pairs.
+     */
+    private String signingKeyAlgorithm() {
+        return JWSAlgorithm.ES256.equals(tokenSignatureAlgorithm) ? "EC" : "RSA";
+    }
+
+    /**
+     * highestKeyVersion
+     *
+     * @param keyStore KeyStore.
+     * @param prefix KeyStore Alias Prefix of the Keys.
+     * @return int Highest Key Version in the KeyStore, or -1 if none.
+     * @throws KeyStoreException Thrown when KeyStore not loaded.
+     */
+    private int highestKeyVersion(KeyStore keyStore, String prefix) throws KeyStoreException {
+        int highest = -1;
+        for (String alias : Collections.list(keyStore.aliases())) {
+            highest = Math.max(highest, keyVersion(prefix, alias));
+        }
+        return highest;
+    }
+
+    /**
+     * keyAlias
+     *
+     * @param prefix KeyStore Alias Prefix of the Key.
+     * @param version Key Version.
+     * @return String KeyStore Alias, which is also the Key Identifier, for the Key Version.
+     */
+    private String keyAlias(String prefix, int version) {
+        return prefix.toLowerCase() + "." + version;
+    }
+
+    /**
+     * keyVersion
+     * KeyStore Aliases are not Case Sensitive, so we compare Lower Case.
+     *
+     * @param prefix KeyStore Alias Prefix of the Keys.
+     * @param alias KeyStore Alias.
+     * @return int Key Version of the Alias, Zero for the un-versioned Entry, or -1 if not one of our Entries.
+     */
+    private int keyVersion(String prefix, String alias) {
+        String entryName = prefix.toLowerCase();
+        String lowerCaseAlias = alias.toLowerCase();
+        if (lowerCaseAlias.equals(entryName)) {
+            return 0;
+        }
+        if (!lowerCaseAlias.startsWith(entryName + ".")) {
+            return -1;
+        }
+        try {
+            int version = Integer.parseInt(lowerCaseAlias.substring(entryName.length() + 1));
+            return version > 0 ? version : -1;
+        } catch (NumberFormatException nfe) {
+            return -1;
+        }
+    }
+
+    /**
+     * obtainCryptoContext
+     * Obtain our Crypto Context based upon a SecretKey, constructed once and shared by all Threads.
      *
+     * @param keyId Key Identifier
      * @param secretKey Reference
-     * @return JWSSigner Signer to be used for Signing and Validating Signatures.
+     * @return YourMicroserviceTokenCryptoContext to be used for Signing, Encrypting, Decrypting and Validating Signatures.
      */
-    private JWSSigner obtainJWSSigner(SecretKey secretKey) {
+    private YourMicroserviceTokenCryptoContext obtainCryptoContext(String keyId, SecretKey secretKey) {
         if (secretKey == null) {
-            LOGGER.error("{}Unable to use specified Secret Key, very Bad!", LOGGING_HEADER);
+            LOGGER.error("{}Unable to use specified Secret Key:[{}], very Bad!", LOGGING_HEADER, keyId);
             return null;
         }
         try {
-            /**
-             * Create HMMAC Signer.
-             */
-            return new MACSigner(secretKey.getEncoded());
+            return new YourMicroserviceTokenCryptoContext(keyId, secretKey);
         } catch (KeyLengthException kle) {
-            LOGGER.error("{}Signing Secret Key Failed with Key Length Exception, very Bad, {}",
-                    LOGGING_HEADER, kle.getMessage());
+            LOGGER.error("{}Signing Secret Key:[{}] Failed with Key Length Exception, very Bad, {}",
+                    LOGGING_HEADER, keyId, kle.getMessage());
+            return null;
+        } catch (JOSEException je) {
+            LOGGER.error("{}Establishing Crypto Context:[{}] Failed with JOSE Exception, very Bad, {}",
+                    LOGGING_HEADER, keyId, je.getMessage());
             return null;
         }
     }
@@ -441,7 +1029,9 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
             /**
              * KeyStore file already exists => load it
              */
-            keyStore.load(new FileInputStream(file), pw.toCharArray());
+            try (FileInputStream inputStream = new FileInputStream(file)) {
+                keyStore.load(inputStream, pw.toCharArray());
+            }
         } else {
             if (!file.getParentFile().exists()) {
                 String message = "Unable to Access KeyStore Path to Create KeyStore!";
@@ -452,7 +1042,9 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
              * KeyStore file not created yet => create it
              */
             keyStore.load(null, null);
-            keyStore.store(new FileOutputStream(file), pw.toCharArray());
+            try (FileOutputStream outputStream = new FileOutputStream(file)) {
+                keyStore.store(outputStream, pw.toCharArray());
+            }
         }
         /**
          * Return KeyStore.
@@ -507,14 +1099,8 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
      */
     @Override
     public String getUsernameFromToken(String token) {
-        String username;
-        try {
-            final Map<String, Object> claims = getClaimsFromToken(token);
-            username = (String) claims.get(CLAIM_NAME_SUBJECT);
-        } catch (Exception e) {
-            username = null;
-        }
-        return username;
+        YourMicroserviceVerifiedToken verifiedToken = verifyQuietly(token);
+        return (verifiedToken == null) ? null : verifiedToken.getSubject();
     }
 
     /**
@@ -525,14 +1111,8 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
      */
     @Override
     public String getIdentifierFromToken(String token) {
-        String jti;
-        try {
-            final Map<String, Object> claims = getClaimsFromToken(token);
-            jti = (String) claims.get(CLAIM_NAME_TOKEN_IDENTIFIER);
-        } catch (Exception e) {
-            jti = null;
-        }
-        return jti;
+        YourMicroserviceVerifiedToken verifiedToken = verifyQuietly(token);
+        return (verifiedToken == null) ? null : verifiedToken.getJti();
     }
 
     /**
@@ -543,14 +1123,8 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
      */
     @Override
     public Date getIssuedDateFromToken(String token) {
-        Date created;
-        try {
-            final Map<String, Object> claims = getClaimsFromToken(token);
-            created = new Date((Long) claims.get(CLAIM_NAME_ISSUED_AT));
-        } catch (Exception e) {
-            created = null;
-        }
-        return created;
+        YourMicroserviceVerifiedToken verifiedToken = verifyQuietly(token);
+        return (verifiedToken == null) ? null : verifiedToken.getIssuedAt();
     }
 
     /**
@@ -561,14 +1135,8 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
      */
     @Override
     public Date getExpirationDateFromToken(String token) {
-        Date expiration;
-        try {
-            final Map<String, Object> claims = getClaimsFromToken(token);
-            expiration = new Date((Long) claims.get(CLAIM_NAME_EXPIRATION));
-        } catch (Exception e) {
-            expiration = null;
-        }
-        return expiration;
+        YourMicroserviceVerifiedToken verifiedToken = verifyQuietly(token);
+        return (verifiedToken == null) ? null : verifiedToken.getExpiration();
     }
 
     /**
@@ -577,17 +1145,10 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
      * @param token JWT
      * @return String which represents the Audience claim or 'aud'.
      */
-    @SuppressWarnings("unchecked")
     @Override
     public List<String> getAudienceFromToken(String token) {
-        List<String> audience;
-        try {
-            final Map<String, Object> claims = getClaimsFromToken(token);
-            audience = (List) claims.get(CLAIM_NAME_AUDIENCE);
-        } catch (Exception e) {
-            audience = null;
-        }
-        return audience;
+        YourMicroserviceVerifiedToken verifiedToken = verifyQuietly(token);
+        return (verifiedToken == null) ? null : verifiedToken.getAudience();
     }
 
     /**
@@ -599,33 +1160,48 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
      * @return Claims parsed from JWT.
      */
     protected Map<String, Object> getClaimsFromToken(String token) {
+        YourMicroserviceVerifiedToken verifiedToken = verifyQuietly(token);
+        return (verifiedToken == null) ? null : verifiedToken.getClaimsSet().getClaims();
+    }
+
+    /**
+     * verifyQuietly
+     * <p>
+     * Private helper method to Verify the specified JWT, without surfacing the Exception.
+     *
+     * @param token JWT
+     * @return YourMicroserviceVerifiedToken or null if the Token did not Verify.
+     */
+    protected YourMicroserviceVerifiedToken verifyQuietly(String token) {
         try {
-            JWTClaimsSet jwtClaimsSet = verifyToken(token);
-            if (jwtClaimsSet != null) {
-                return jwtClaimsSet.getClaims();
-            }
-        } catch (Exception e) {
-            LOGGER.error("{}Exception Processing Token:'{}', '{}'.", LOGGING_HEADER, token, e.getMessage(), e);
+            return verify(token);
+        } catch (YourMicroserviceInvalidTokenException ite) {
+            /**
+             * Rejection has already been Counted and Logged, as Throttled, by Verification.
+             */
+            LOGGER.debug("{}Invalid Token, Reason:[{}] '{}'.", LOGGING_HEADER, ite.getReason(), ite.getMessage());
         }
         return null;
     }
 
     /**
      * Generate Current Date, protected Helper Method.
+     * Truncated to whole Seconds, as this is the Precision of a Serialized Token.
      *
      * @return Date representing now.
      */
     protected Date generateCurrentDate() {
-        return new Date(System.currentTimeMillis());
+        return new Date((System.currentTimeMillis() / 1000) * 1000);
     }
 
     /**
      * generateExpirationDate, protected Helper Method.
+     * Truncated to whole Seconds, as this is the Precision of a Serialized Token.
      *
      * @return Date representing now + Expiration.
      */
     protected Date generateExpirationDate() {
-        return new Date(System.currentTimeMillis() + TOKEN_EXPIRATION_IN_SECONDS * 1000);
+        return new Date((System.currentTimeMillis() / 1000 + TOKEN_EXPIRATION_IN_SECONDS) * 1000);
     }
 
     /**
@@ -648,18 +1224,96 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
      */
     @Override
     public String generateToken(String subject, String device) {
+        YourMicroserviceVerifiedToken issuedToken = issueToken(subject, device);
+        return (issuedToken == null) ? null : issuedToken.getToken();
+    }
+
+    /**
+     * issueToken
+     *
+     * @param subject Current User Details Object
+     * @param device  Current Device Type User is performing Request from.
+     * @return YourMicroserviceVerifiedToken Representing the constructed JWT and its Claims.
+     */
+    @Override
+    public YourMicroserviceVerifiedToken issueToken(String subject, String device) {
         /**
          * Create Your Microservice Token Standards Claims.
          */
-        Map<String, Object> claims = new HashMap<>();
-        claims.put(CLAIM_NAME_SUBJECT, subject.toLowerCase());
-        List<String> audience = new ArrayList<>();
-        audience.add(device);
-        claims.put(CLAIM_NAME_AUDIENCE, audience);
+        Map<String, Object> claims = new HashMap<>(4);
+        claims.put(CLAIM_NAME_SUBJECT, subject);
+        claims.put(CLAIM_NAME_AUDIENCE, Collections.singletonList(device));
         /**
          * Return the Generated Token.
          */
-        return generateToken(claims);
+        return issueToken(claims);
+    }
+
+    /**
+     * issueToken
+     *
+     * @param userDetails Authenticated User Details.
+     * @param device  Current Device Type User is performing Request from.
+     * @return YourMicroserviceVerifiedToken Representing the constructed JWT and its Claims.
+     */
+    @Override
+    public YourMicroserviceVerifiedToken issueToken(UserDetails userDetails, String device) {
+        return issueToken(userDetails, device, null);
+    }
+
+    /**
+     * issueToken
+     *
+     * @param userDetails Authenticated User Details.
+     * @param device  Current Device Type User is performing Request from.
+     * @param refreshFamilyId Refresh Token Family Issued alongside the Token.
+     * @return YourMicroserviceVerifiedToken Representing the constructed JWT and its Claims.
+     */
+    @Override
+    public YourMicroserviceVerifiedToken issueToken(UserDetails userDetails, String device, String refreshFamilyId) {
+        Map<String, Object> claims = new HashMap<>(8);
+        claims.put(CLAIM_NAME_SUBJECT, userDetails.getUsername());
+        claims.put(CLAIM_NAME_AUDIENCE, Collections.singletonList(device));
+        if (refreshFamilyId != null) {
+            claims.put(CLAIM_NAME_REFRESH_FAMILY, refreshFamilyId);
+        }
+        addPrincipalClaims(claims, userDetails);
+        return issueToken(claims);
+    }
+
+    /**
+     * isStatelessAuthorization
+     *
+     * @return boolean indicating if Requests are Authorized from the Token's Claims alone.
+     */
+    @Override
+    public boolean isStatelessAuthorization() {
+        return TOKEN_STATELESS_AUTHORIZATION;
+    }
+
+    /**
+     * addPrincipalClaims
+     * Add the Principal's Authorities and Account Status to the Claims, when Stateless Authorization is Enabled.
+     *
+     * @param claims Claims to be used to build Token.
+     * @param userDetails User Details of the Principal.
+     */
+    protected void addPrincipalClaims(Map<String, Object> claims, UserDetails userDetails) {
+        if (!TOKEN_STATELESS_AUTHORIZATION || userDetails == null) {
+            return;
+        }
+        claims.put(CLAIM_NAME_AUTHORITIES,
+                new ArrayList<>(AuthorityUtils.authorityListToSet(userDetails.getAuthorities())));
+        Map<String, Object> accountStatus = new HashMap<>(8);
+        accountStatus.put(ACCOUNT_STATUS_NON_EXPIRED, userDetails.isAccountNonExpired());
+        accountStatus.put(ACCOUNT_STATUS_NON_LOCKED, userDetails.isAccountNonLocked());
+        accountStatus.put(ACCOUNT_STATUS_CREDENTIALS_NON_EXPIRED, userDetails.isCredentialsNonExpired());
+        accountStatus.put(ACCOUNT_STATUS_ENABLED, userDetails.isEnabled());
+        claims.put(CLAIM_NAME_ACCOUNT_STATUS, accountStatus);
+        if (userDetails instanceof YourMicroserviceUserDetails &&
+                ((YourMicroserviceUserDetails) userDetails).getPrincipalID() != null) {
+            claims.put(CLAIM_NAME_PRINCIPAL_ID, ((YourMicroserviceUserDetails) userDetails).getPrincipalID());
+        }
     }
 
     /**
@@ -671,21 +1325,73 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
      */
     @Override
     public String refreshToken(String token) {
-        String refreshedToken;
-        try {
-            /**
-             * Obtain the Existing Claims and use to pass
-             * to generate Token per Claims.  All Claims will be overwritten
-             * with exception of the following:
-             * 'sub' : Subject
-             * 'aud' : Audience
-             */
-            final Map<String, Object> claims = getClaimsFromToken(token);
-            refreshedToken = generateToken(claims);
-        } catch (Exception e) {
-            refreshedToken = null;
+        YourMicroserviceVerifiedToken refreshedToken = refreshToken(verifyQuietly(token));
+        return (refreshedToken == null) ? null : refreshedToken.getToken();
+    }
+
+    /**
+     * refreshToken
+     * Construct a new JWT for the applicable User per an already Verified JWT.
+     *
+     * @param verifiedToken Verified JWT
+     * @return YourMicroserviceVerifiedToken representing new JWT for applicable Authenticated Subject.
+     */
+    @Override
+    public YourMicroserviceVerifiedToken refreshToken(YourMicroserviceVerifiedToken verifiedToken) {
+        if (verifiedToken == null) {
+            return null;
+        }
+        /**
+         * Use the Existing Claims to generate Token per Claims.  All Claims will be overwritten
+         * with exception of the following:
+         * 'sub' : Subject
+         * 'aud' : Audience
+         *
+         * 'rfi' : Refresh Token Family, the Refreshed Token remains of the same Session
+         *
+         * Without current User Details, Principal Claims are not Carried forward, as the Authorities
+         * they hold may since have been Revoked.  The Refreshed Token's Principal is Loaded instead.
+         */
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_NAME_SUBJECT, verifiedToken.getSubject());
+        claims.put(CLAIM_NAME_AUDIENCE, new ArrayList<>(verifiedToken.getAudience()));
+        addRefreshFamilyClaim(claims, verifiedToken);
+        return issueToken(claims);
+    }
+
+    /**
+     * refreshToken
+     * Construct a new JWT for the applicable User per an already Verified JWT, with the
+     * Principal Claims as of now.
+     *
+     * @param verifiedToken Verified JWT
+     * @param userDetails Current User Details of the Token's Subject.
+     * @return YourMicroserviceVerifiedToken representing new JWT for applicable Authenticated Subject.
+     */
+    @Override
+    public YourMicroserviceVerifiedToken refreshToken(YourMicroserviceVerifiedToken verifiedToken, UserDetails userDetails) {
+        if (verifiedToken == null) {
+            return null;
+        }
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_NAME_SUBJECT, verifiedToken.getSubject());
+        claims.put(CLAIM_NAME_AUDIENCE, new ArrayList<>(verifiedToken.getAudience()));
+        addRefreshFamilyClaim(claims, verifiedToken);
+        addPrincipalClaims(claims, userDetails);
+        return issueToken(claims);
+    }
+
+    /**
+     * addRefreshFamilyClaim
+     * Carry the Refresh Token Family of the Verified Token forward, so a Refreshed Token remains of the same Session.
+     *
+     * @param claims Claims to be used to build Token.
+     * @param verifiedToken Verified JWT being Refreshed.
+     */
+    private static void addRefreshFamilyClaim(Map<String, Object> claims, YourMicroserviceVerifiedToken verifiedToken) {
+        if (verifiedToken.getRefreshFamilyId() != null) {
+            claims.put(CLAIM_NAME_REFRESH_FAMILY, verifiedToken.getRefreshFamilyId());
         }
-        return refreshedToken;
     }
 
     /**
@@ -699,9 +1405,26 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
      * @param claims Current Claims
      * @return String Representing the constructed JWT for the specified Claims.
      */
-    @SuppressWarnings("unchecked")
     @Override
     public String generateToken(Map<String, Object> claims) {
+        YourMicroserviceVerifiedToken issuedToken = issueToken(claims);
+        return (issuedToken == null) ? null : issuedToken.getToken();
+    }
+
+    /**
+     * issueToken
+     * <p>
+     * Generate Token always, performs in this Order:
+     * + Generate Raw Token
+     * + Sign
+     * + Encrypt
+     *
+     * @param claims Current Claims
+     * @return YourMicroserviceVerifiedToken Representing the constructed JWT and its Claims.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public YourMicroserviceVerifiedToken issueToken(Map<String, Object> claims) {
         /**
          * initialize
          */
@@ -718,56 +1441,87 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
         YourMicroserviceManifest yourMicroserviceManifest = createDefaultManifest();
 
         /**
-         * Calculate a not Before Use Date, of now less 2 minutes.
+         * Issued At, Expiration and a not Before Use Date, of now less 2 minutes, all from a
+         * single reading of the Clock.
          */
-        Calendar calendar = Calendar.getInstance();
-        calendar.add(Calendar.MINUTE, -2);
-        Date notBeforeDate = calendar.getTime();
+        Date issuedAtDate = generateCurrentDate();
+        Date expirationDate = new Date(issuedAtDate.getTime() + TOKEN_EXPIRATION_IN_SECONDS * 1000);
+        Date notBeforeDate = new Date(issuedAtDate.getTime() - NOT_BEFORE_SKEW_IN_MILLISECONDS);
         /**
-         * Prepare JWT Claims Set.
+         * Prepare JWT Claims Set, the Subject is Lower Cased here, once.
          */
-        JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
+        JWTClaimsSet.Builder claimsSetBuilder = new JWTClaimsSet.Builder()
                 .subject(((String) claims.get(CLAIM_NAME_SUBJECT)).toLowerCase())
                 .audience(audience)
-                .jwtID(UUID.randomUUID().toString())
+                .jwtID(IdentifierUtility.randomUUID())
                 .issuer(YOUR_ORGANIZATION_ISSUER)
-                .issueTime(generateCurrentDate())
-                .expirationTime(generateExpirationDate())
+                .issueTime(issuedAtDate)
+                .expirationTime(expirationDate)
                 .notBeforeTime(notBeforeDate)
-                .claim(CLAIM_NAME_YOUR_MICROSERVICE, yourMicroserviceManifest)
-                // Add Additional Claims Here ...
-                .build();
-        /**
-         * Sign the JWT and apply a Wrapper to construct a JWE.
-         */
-        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claimsSet);
+                .claim(CLAIM_NAME_YOUR_MICROSERVICE, yourMicroserviceManifest);
+        // Add Additional Claims Here ...
+        for (String claimName : PRINCIPAL_CLAIM_NAMES) {
+            if (claims.containsKey(claimName)) {
+                claimsSetBuilder.claim(claimName, claims.get(claimName));
+            }
+        }
+        if (claims.containsKey(CLAIM_NAME_REFRESH_FAMILY)) {
+            claimsSetBuilder.claim(CLAIM_NAME_REFRESH_FAMILY, claims.get(CLAIM_NAME_REFRESH_FAMILY));
+        }
+        JWTClaimsSet claimsSet = claimsSetBuilder.build();
+        YourMicroserviceTokenKeyring currentKeyring = keyring;
+        YourMicroserviceTokenSigningKey signingKey = currentKeyring.getActiveSigningKey();
+        String token;
         try {
-            /**
-             * Apply the HMAC
-             */
-            signedJWT.sign(jwsSigner);
-            /**
-             * Create JWE object with signed JWT as payload
-             */
-            JWEObject jweObject = new JWEObject(
-                    new JWEHeader.Builder(JWEAlgorithm.DIR, EncryptionMethod.A256GCM)
-                            .contentType("JWT") // required to signal nested JWT
-                            .build(),
-                    new Payload(signedJWT));
-            /**
-             * Encrypt
-             */
-            jweObject.encrypt(new DirectEncrypter(secretKey.getEncoded()));
-            /**
-             * Return the Generated Token.
-             */
-            return jweObject.serialize();
+            if (signingKey != null) {
+                /**
+                 * Sign the JWT with our Active Signing Key, which any Service holding the
+                 * Published Public Key can Verify.
+                 */
+                SignedJWT signedJWT = new SignedJWT(signingKey.getJwsHeader(), claimsSet);
+                signedJWT.sign(signingKey.getJwsSigner());
+                token = signedJWT.serialize();
+            } else if (isSignedOnly(audience)) {
+                /**
+                 * Sign the JWT with our Active Key, without the Encryption Wrapper, for
+                 * Audiences on a trusted Network.
+                 */
+                YourMicroserviceTokenCryptoContext cryptoContext = currentKeyring.getActive();
+                SignedJWT signedJWT = new SignedJWT(cryptoContext.getJwsHeader(), claimsSet);
+                signedJWT.sign(cryptoContext.getJwsSigner());
+                token = signedJWT.serialize();
+            } else {
+                /**
+                 * Sign the JWT and apply a Wrapper to construct a JWE, using our Active Key.
+                 */
+                YourMicroserviceTokenCryptoContext cryptoContext = currentKeyring.getActive();
+                SignedJWT signedJWT = new SignedJWT(cryptoContext.getJwsHeader(), claimsSet);
+                /**
+                 * Apply the HMAC
+                 */
+                signedJWT.sign(cryptoContext.getJwsSigner());
+                /**
+                 * Create JWE object with signed JWT as payload
+                 */
+                JWEObject jweObject = new JWEObject(cryptoContext.getJweHeader(), new Payload(signedJWT));
+                /**
+                 * Encrypt
+                 */
+                jweObject.encrypt(cryptoContext.getJweEncrypter());
+                token = jweObject.serialize();
+            }
         } catch (JOSEException josee) {
-            LOGGER.error("{}Generating Encrypted Signed Token Failed with Exception, very Bad, {}",
+            LOGGER.error("{}Generating Signed Token Failed with Exception, very Bad, {}",
                     LOGGING_HEADER, josee.getMessage());
             return null;
         }
-
+        /**
+         * Return the Generated Token, which is already Verified by Construction.
+         */
+        YourMicroserviceVerifiedToken issuedToken =
+                new YourMicroserviceVerifiedToken(token, claimsSet, yourMicroserviceManifest);
+        yourMicroserviceTokenCache.putVerifiedToken(issuedToken);
+        return issuedToken;
     }
 
     /**
@@ -777,12 +1531,9 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
      */
     protected YourMicroserviceManifest createDefaultManifest() {
         /**
-         * Create our Manifest
+         * Create our Manifest, from our Immutable Default Manifest Data.
          */
-        Map<String, Object> manifestData = new HashMap<>();
-        manifestData.put("COUNTRIES_ALLOWED", new String[]{"us", "ca"});
-        manifestData.put("REGIONS_ALLOWED", "All");
-        return createManifest(manifestData);
+        return createManifest(DEFAULT_MANIFEST_DATA);
     }
 
     /**
@@ -792,7 +1543,7 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
      * @return YourMicroserviceManifest
      */
     protected YourMicroserviceManifest createManifest(Map<String, Object> manifestData) {
-        return new YourMicroserviceManifest(UUID.randomUUID().toString(), manifestData);
+        return new YourMicroserviceManifest(IdentifierUtility.randomUUID(), manifestData);
     }
 
     /**
@@ -805,62 +1556,225 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
      */
     @Override
     public JWTClaimsSet verifyToken(String token) throws YourMicroserviceInvalidTokenException {
+        return verify(token).getClaimsSet();
+    }
+
+    /**
+     * verify
+     * Performs the JWT validation for an incoming Token once, providing all Claims
+     * and the Your Microservice Manifest as a single Immutable Result.
+     *
+     * @param token JWT to be Validated
+     * @return YourMicroserviceVerifiedToken Verified Token.
+     * @throws YourMicroserviceInvalidTokenException If Token does not Validate per Your Microservice Standards.
+     */
+    @Override
+    public YourMicroserviceVerifiedToken verify(String token) throws YourMicroserviceInvalidTokenException {
+        long verifyStart = System.nanoTime();
+        try {
+            return verifyToken(token, verifyStart);
+        } finally {
+            verifyTimer.update(System.nanoTime() - verifyStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * verifyToken
+     *
+     * @param token JWT to be Validated
+     * @param verifyStart Nano Time the Verification began.
+     * @return YourMicroserviceVerifiedToken Verified Token.
+     * @throws YourMicroserviceInvalidTokenException If Token does not Validate per Your Microservice Standards.
+     */
+    private YourMicroserviceVerifiedToken verifyToken(String token, long verifyStart)
+            throws YourMicroserviceInvalidTokenException {
         if (token == null || token.isEmpty()) {
-            throw new YourMicroserviceInvalidTokenException(V_MESSAGE_NO_TOKEN_SUPPLIED);
+            throw new YourMicroserviceInvalidTokenException(V_MESSAGE_NO_TOKEN_SUPPLIED,
+                    YourMicroserviceInvalidTokenException.Reason.NO_TOKEN);
         }
         /**
-         * Phase One of Validation:
-         * Parse the JWE Token String into a JWEObject.
+         * Has this Token already been Verified?
+         * Cached Entries are evicted no later than the Token's Expiration.
          */
-        JWEObject jweObject;
-        try {
-            jweObject = JWEObject.parse(token);
-        } catch (ParseException pe) {
-            LOGGER.warn("{}Unable to Validate Token due to Parsing Exception: '{}', Denying Access.",
-                    LOGGING_HEADER, pe.getMessage());
-            throw new YourMicroserviceInvalidTokenException(V_MESSAGE_UNABLE_TO_PARSE_TOKEN, pe);
+        YourMicroserviceVerifiedToken verifiedToken = yourMicroserviceTokenCache.getVerifiedToken(token);
+        if (verifiedToken != null) {
+            return checkRevocation(verifiedToken);
+        }
+        /**
+         * Has this Token been Rejected recently?
+         * If so, answer cheaply before any Crypto is performed.
+         */
+        YourMicroserviceInvalidTokenException.Reason rejectedReason =
+                yourMicroserviceTokenCache.getRejectedToken(token);
+        if (rejectedReason != null) {
+            previouslyRejectedCounter.inc();
+            throw new YourMicroserviceInvalidTokenException(V_MESSAGE_TOKEN_PREVIOUSLY_REJECTED, rejectedReason, false);
         }
         /**
-         * Phase Two of Validation:
-         * Decrypt the JWE
+         * Perform full Verification and Cache the Verified Token, or remember the Rejection.
+         * An Unknown Key is not remembered, as the Key may yet be Loaded upon the next Keyring Reload,
+         * and its Rejection costs no Crypto.
          */
         try {
-            jweObject.decrypt(new DirectDecrypter(secretKey.getEncoded()));
-        } catch (KeyLengthException kle) {
-            LOGGER.warn("{}Unable to Validate Token due to Decryption Failure: '{}', Denying Access.",
-                    LOGGING_HEADER, kle.getMessage());
-            throw new YourMicroserviceInvalidTokenException(V_MESSAGE_UNABLE_TO_DECRYPT_TOKEN, kle);
-        } catch (JOSEException je) {
-            LOGGER.warn("{}Unable to Validate Token due to JOSE Failure: '{}', Denying Access.",
-                    LOGGING_HEADER, je.getMessage());
-            throw new YourMicroserviceInvalidTokenException(V_MESSAGE_UNABLE_TO_DECRYPT_TOKEN, je);
+            verifiedToken = performTokenVerification(token, verifyStart);
+        } catch (YourMicroserviceInvalidTokenException ite) {
+            if (ite.getReason() != YourMicroserviceInvalidTokenException.Reason.UNKNOWN_KEY) {
+                yourMicroserviceTokenCache.putRejectedToken(token, ite.getReason());
+            }
+            throw ite;
+        }
+        yourMicroserviceTokenCache.putVerifiedToken(verifiedToken);
+        return checkRevocation(verifiedToken);
+    }
+
+    /**
+     * lap
+     * Record the Duration of a Verification Stage.
+     *
+     * @param timer Stage Timer.
+     * @param stageStart Nano Time the Stage began.
+     * @return long Nano Time the Stage ended, which begins the next Stage.
+     */
+    private static long lap(Timer timer, long stageStart) {
+        long stageEnd = System.nanoTime();
+        timer.update(stageEnd - stageStart, TimeUnit.NANOSECONDS);
+        return stageEnd;
+    }
+
+    /**
+     * checkRevocation
+     * Revocations and Subject Epochs are held in Memory and Broadcast to all Instances,
+     * so this check requires no access to the Token History Store.
+     *
+     * @param verifiedToken Verified Token.
+     * @return YourMicroserviceVerifiedToken Verified Token, if not Revoked.
+     * @throws YourMicroserviceInvalidTokenException If Token has been Revoked.
+     */
+    private YourMicroserviceVerifiedToken checkRevocation(YourMicroserviceVerifiedToken verifiedToken)
+            throws YourMicroserviceInvalidTokenException {
+        if (yourMicroserviceTokenRevocationService.isRevoked(verifiedToken)) {
+            throw reject(YourMicroserviceInvalidTokenException.Reason.REVOKED,
+                    V_MESSAGE_TOKEN_REVOKED, verifiedToken.getJti(), null);
         }
+        return verifiedToken;
+    }
+
+    /**
+     * performTokenVerification
+     * Performs the full Decryption and Verification of the Token.
+     *
+     * @param token JWT to be Validated
+     * @return YourMicroserviceVerifiedToken Verified Token.
+     * @throws YourMicroserviceInvalidTokenException If Token does not Validate per Your Microservice Standards.
+     */
+    protected YourMicroserviceVerifiedToken performTokenVerification(String token, long stageStart)
+            throws YourMicroserviceInvalidTokenException {
         /**
-         * Phase Three of Validation:
-         * Extract the Signature from the JWE Decrypted Payload.
+         * Phase One of Validation:
+         * Parse the Token String, either a JWE with our Symmetric Key or a JWS with an Asymmetric Key.
          */
-        SignedJWT signedJWT = jweObject.getPayload().toSignedJWT();
-        if (signedJWT == null) {
-            LOGGER.warn("{}Unable to Validate Token, Payload was not Signed, Denying Access",
-                    LOGGING_HEADER);
-            throw new YourMicroserviceInvalidTokenException(V_MESSAGE_TOKEN_SIGNATURE_INVALID);
+        JWT jwt;
+        try {
+            jwt = JWTParser.parse(token);
+        } catch (ParseException pe) {
+            throw reject(YourMicroserviceInvalidTokenException.Reason.MALFORMED,
+                    V_MESSAGE_UNABLE_TO_PARSE_TOKEN, pe.getMessage(), pe);
+        }
+        stageStart = lap(verifyParseTimer, stageStart);
+        YourMicroserviceTokenKeyring currentKeyring = keyring;
+        SignedJWT signedJWT;
+        JWSVerifier jwsVerifier;
+        boolean signedOnly = false;
+        if (jwt instanceof EncryptedJWT) {
+            JWEObject jweObject = (EncryptedJWT) jwt;
+            /**
+             * Phase Two of Validation:
+             * Select the Key by the Token's Key Identifier and Decrypt the JWE
+             */
+            String keyId = jweObject.getHeader().getKeyID();
+            YourMicroserviceTokenCryptoContext cryptoContext = currentKeyring.get(keyId);
+            if (cryptoContext == null) {
+                throw reject(YourMicroserviceInvalidTokenException.Reason.UNKNOWN_KEY,
+                        V_MESSAGE_UNKNOWN_KEY, keyId, null);
+            }
+            try {
+                jweObject.decrypt(cryptoContext.getJweDecrypter());
+            } catch (JOSEException je) {
+                throw reject(YourMicroserviceInvalidTokenException.Reason.DECRYPTION_FAILED,
+                        V_MESSAGE_UNABLE_TO_DECRYPT_TOKEN, je.getMessage(), je);
+            }
+            stageStart = lap(verifyDecryptTimer, stageStart);
+            /**
+             * Phase Three of Validation:
+             * Extract the Signature from the JWE Decrypted Payload.
+             */
+            signedJWT = jweObject.getPayload().toSignedJWT();
+            if (signedJWT == null) {
+                throw reject(YourMicroserviceInvalidTokenException.Reason.BAD_SIGNATURE,
+                        V_MESSAGE_TOKEN_SIGNATURE_INVALID, "Payload was not Signed", null);
+            }
+            jwsVerifier = cryptoContext.getJwsVerifier();
+        } else if (jwt instanceof SignedJWT &&
+                JWSAlgorithm.HS256.equals(((SignedJWT) jwt).getHeader().getAlgorithm())) {
+            /**
+             * Phase Two and Three of Validation:
+             * A Signed only Token with our SecretKey, permitted only for our Signed only Audiences,
+             * which is checked once the Claims are read.
+             */
+            signedJWT = (SignedJWT) jwt;
+            if (signedOnlyAudiences.isEmpty()) {
+                throw reject(YourMicroserviceInvalidTokenException.Reason.BAD_SIGNATURE,
+                        V_MESSAGE_TOKEN_SIGNATURE_INVALID, "Signed only Token not permitted", null);
+            }
+            String keyId = signedJWT.getHeader().getKeyID();
+            YourMicroserviceTokenCryptoContext cryptoContext = currentKeyring.get(keyId);
+            if (cryptoContext == null) {
+                throw reject(YourMicroserviceInvalidTokenException.Reason.UNKNOWN_KEY,
+                        V_MESSAGE_UNKNOWN_KEY, keyId, null);
+            }
+            jwsVerifier = cryptoContext.getJwsVerifier();
+            signedOnly = true;
+        } else if (jwt instanceof SignedJWT) {
+            /**
+             * Phase Two and Three of Validation:
+             * Select the Signing Key by the Token's Key Identifier, the Token's Algorithm must be
+             * that of the Key, so a Token can not select a weaker Algorithm.
+             */
+            signedJWT = (SignedJWT) jwt;
+            String keyId = signedJWT.getHeader().getKeyID();
+            YourMicroserviceTokenSigningKey signingKey = currentKeyring.getSigningKey(keyId);
+            if (signingKey == null) {
+                throw reject(YourMicroserviceInvalidTokenException.Reason.UNKNOWN_KEY,
+                        V_MESSAGE_UNKNOWN_KEY, keyId, null);
+            }
+            if (!signingKey.getAlgorithm().equals(signedJWT.getHeader().getAlgorithm())) {
+                throw reject(YourMicroserviceInvalidTokenException.Reason.BAD_SIGNATURE,
+                        V_MESSAGE_TOKEN_SIGNATURE_INVALID, "Algorithm not permitted for Key", null);
+            }
+            jwsVerifier = signingKey.getJwsVerifier();
+        } else {
+            throw reject(YourMicroserviceInvalidTokenException.Reason.BAD_SIGNATURE,
+                    V_MESSAGE_TOKEN_SIGNATURE_INVALID, "Unsecured Token not permitted", null);
         }
         /**
          * Phase Four of Validation:
-         * Validate the HMAC Signature from JWE Decrypted Payload.
+         * Validate the Signature.
          */
+        boolean signatureValid;
         try {
-            if (!signedJWT.verify(new MACVerifier(secretKey.getEncoded()))) {
-                LOGGER.warn("{}Token did not Validate, Denying Access.", LOGGING_HEADER);
-                throw new YourMicroserviceInvalidTokenException(V_MESSAGE_TOKEN_SIGNATURE_INVALID);
-            }
+            signatureValid = signedJWT.verify(jwsVerifier);
         } catch (JOSEException je) {
-            LOGGER.warn("{}Unable to Validate Token due to JOSE Failure: '{}', Denying Access.", LOGGING_HEADER, je.getMessage());
-            throw new YourMicroserviceInvalidTokenException(V_MESSAGE_TOKEN_SIGNATURE_INVALID, je);
+            throw reject(YourMicroserviceInvalidTokenException.Reason.BAD_SIGNATURE,
+                    V_MESSAGE_TOKEN_SIGNATURE_INVALID, je.getMessage(), je);
         }
+        if (!signatureValid) {
+            throw reject(YourMicroserviceInvalidTokenException.Reason.BAD_SIGNATURE,
+                    V_MESSAGE_TOKEN_SIGNATURE_INVALID, "Signature did not Validate", null);
+        }
+        stageStart = lap(verifySignatureTimer, stageStart);
         /**
          * Phase Five of Validation:
-         * Verify Payload from JWE Decrypted Payload.
+         * Verify Payload from Signed Payload.
          */
         JWTClaimsSet claimsSet;
         try {
@@ -868,28 +1782,32 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
             claimsSet = signedJWT.getJWTClaimsSet();
             verifier.verify(claimsSet);
         } catch (ParseException pe) {
-            LOGGER.warn("{}Token did not Verify:'{}', Denying Access.",
-                    LOGGING_HEADER, pe.getMessage());
-            throw new YourMicroserviceInvalidTokenException(V_MESSAGE_INVALID_TOKEN, pe);
+            throw reject(YourMicroserviceInvalidTokenException.Reason.INVALID_CLAIMS,
+                    V_MESSAGE_INVALID_TOKEN, pe.getMessage(), pe);
         } catch (BadJWTException je) {
-            LOGGER.warn("{}Bad JWT:'{}', Denying Access.",
-                    LOGGING_HEADER, je.getMessage());
-            throw new YourMicroserviceInvalidTokenException(V_MESSAGE_INVALID_TOKEN, je);
+            throw reject(EXPIRED_JWT_MESSAGE.equals(je.getMessage()) ?
+                            YourMicroserviceInvalidTokenException.Reason.EXPIRED :
+                            YourMicroserviceInvalidTokenException.Reason.INVALID_CLAIMS,
+                    V_MESSAGE_INVALID_TOKEN, je.getMessage(), je);
+        }
+        if (signedOnly && !isSignedOnly(claimsSet.getAudience())) {
+            throw reject(YourMicroserviceInvalidTokenException.Reason.INVALID_CLAIMS,
+                    V_MESSAGE_INVALID_TOKEN, "Audience not permitted a Signed only Token", null);
         }
         /**
          * Read back our Manifest to perform any additional Validation....
-         * Instead of walking the JSONObject, which maybe faster, we rehydrate the manifest into
-         * it's POJO form.
+         * The Claims Verifier has already ensured the Manifest is present as a JSONObject, so
+         * we walk it directly instead of re-serializing and re-hydrating it with Jackson.
          */
-        try {
-            String yms = ((JSONObject) claimsSet.getClaim("yms")).toJSONString();
-            YourMicroserviceManifest yourMicroserviceManifest = MAPPER.readValue(yms, YourMicroserviceManifest.class);
-            /**
-             * Iterate over All Keys.
-             */
-            boolean MANIFEST_ID_FOUND = false;
-            boolean REGIONS_ALLOWED_FOUND = false;
-            boolean COUNTRIES_ALLOWED_FOUND = false;
+        YourMicroserviceManifest yourMicroserviceManifest =
+                toManifest((JSONObject) claimsSet.getClaim(CLAIM_NAME_YOUR_MICROSERVICE));
+        /**
+         * Iterate over All Keys.
+         */
+        boolean MANIFEST_ID_FOUND = false;
+        boolean REGIONS_ALLOWED_FOUND = false;
+        boolean COUNTRIES_ALLOWED_FOUND = false;
+        if (yourMicroserviceManifest != null) {
             if (isUUIDValid(yourMicroserviceManifest.getId())) {
                 MANIFEST_ID_FOUND = true;
             }
@@ -900,32 +1818,84 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
                     COUNTRIES_ALLOWED_FOUND = true;
                 }
             }
+        }
+        /**
+         * Ensure what Keys we need are available, if not, not a valid Token.
+         */
+        if (MANIFEST_ID_FOUND && REGIONS_ALLOWED_FOUND && COUNTRIES_ALLOWED_FOUND) {
             /**
-             * Ensure what Keys we need are available, if not, not a valid Token.
+             * Token has been Verified and Deduced to be Valid, Allow Access.
              */
-            if (MANIFEST_ID_FOUND && REGIONS_ALLOWED_FOUND && COUNTRIES_ALLOWED_FOUND) {
-                /**
-                 * Token has been Verified and Deduced to be Valid, Allow Access.
-                 */
-                return claimsSet;
-            } else {
-                LOGGER.warn("{}Token did not Verify Your Microservice Manifest:'{}', Denying Access.",
-                        LOGGING_HEADER);
-                throw new YourMicroserviceInvalidTokenException(V_MESSAGE_INVALID_TOKEN_YOUR_MICROSERVICE_MANIFEST);
+            YourMicroserviceVerifiedToken verifiedToken =
+                    new YourMicroserviceVerifiedToken(token, claimsSet, yourMicroserviceManifest);
+            lap(verifyClaimsTimer, stageStart);
+            return verifiedToken;
+        } else {
+            throw reject(YourMicroserviceInvalidTokenException.Reason.INVALID_MANIFEST,
+                    V_MESSAGE_INVALID_TOKEN_YOUR_MICROSERVICE_MANIFEST, "Required Manifest Entries not Found", null);
+        }
+    }
+
+    /**
+     * reject
+     * Count the Rejection by Reason and Log it, at most once per Interval, all other
+     * Rejections are Summarized periodically.
+     *
+     * @param reason  Reason for Rejection.
+     * @param message Message of Exception.
+     * @param detail  Detail of the Rejection for Logging.
+     * @param cause   Cause, may be null.
+     * @return YourMicroserviceInvalidTokenException to be Thrown.
+     */
+    protected YourMicroserviceInvalidTokenException reject(YourMicroserviceInvalidTokenException.Reason reason,
+                                                           String message, String detail, Throwable cause) {
+        rejectionCounters.get(reason).inc();
+        if (rejectionLogThrottle.tryAcquire()) {
+            LOGGER.warn("{}Token Rejected, Reason:[{}] {} '{}', Denying Access.",
+                    LOGGING_HEADER, reason, message, detail);
+        }
+        return new YourMicroserviceInvalidTokenException(message, reason, cause);
+    }
+
+    /**
+     * summarizeRejections
+     * Log a Summary of any Rejected Tokens which were not Logged during the last Interval.
+     */
+    @Scheduled(initialDelay = 60000, fixedDelay = 60000)
+    public void summarizeRejections() {
+        long suppressed = rejectionLogThrottle.drainSuppressed();
+        if (suppressed <= 0) {
+            return;
+        }
+        StringBuilder totals = new StringBuilder();
+        for (Map.Entry<YourMicroserviceInvalidTokenException.Reason, Counter> entry : rejectionCounters.entrySet()) {
+            if (entry.getValue().getCount() > 0) {
+                totals.append(' ').append(entry.getKey()).append('=').append(entry.getValue().getCount());
             }
-        } catch (JsonMappingException jme) {
-            LOGGER.warn("{}Token did not Verify Your Microservice Manifest:'{}', Denying Access.",
-                    LOGGING_HEADER, jme.getMessage());
-            throw new YourMicroserviceInvalidTokenException(V_MESSAGE_INVALID_TOKEN_YOUR_MICROSERVICE_MANIFEST, jme);
-        } catch (JsonParseException jpe) {
-            LOGGER.warn("{}Token did not Verify Your Microservice Manifest:'{}', Denying Access.",
-                    LOGGING_HEADER, jpe.getMessage());
-            throw new YourMicroserviceInvalidTokenException(V_MESSAGE_INVALID_TOKEN_YOUR_MICROSERVICE_MANIFEST, jpe);
-        } catch (IOException ioe) {
-            LOGGER.warn("{}Token did not Verify Your Microservice Manifest:'{}', Denying Access.",
-                    LOGGING_HEADER, ioe.getMessage());
-            throw new YourMicroserviceInvalidTokenException(V_MESSAGE_INVALID_TOKEN_YOUR_MICROSERVICE_MANIFEST, ioe);
         }
+        LOGGER.warn("{}Token Rejections, '{}' additional Rejections not Logged during last Interval, " +
+                        "Previously Rejected Replays:[{}], Totals:[{} ].",
+                LOGGING_HEADER, suppressed, previouslyRejectedCounter.getCount(), totals);
+    }
+
+    /**
+     * toManifest
+     * Walk the Your Microservice Claim into its POJO Form.
+     *
+     * @param yms Your Microservice Claim.
+     * @return YourMicroserviceManifest or null if Claim is not well formed.
+     */
+    @SuppressWarnings("unchecked")
+    protected YourMicroserviceManifest toManifest(JSONObject yms) {
+        if (yms == null) {
+            return null;
+        }
+        Object id = yms.get("id");
+        Object data = yms.get("data");
+        if (!(id instanceof String) || !(data instanceof Map)) {
+            return null;
+        }
+        return new YourMicroserviceManifest((String) id, (Map<String, Object>) data);
     }
 
     /**
@@ -953,67 +1923,12 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
 
     /**
      * getYourMicroserviceClaimsVerifier
-     * Obtains our Standard Claims Verifier.
+     * Obtains our Standard Claims Verifier, which is Thread-Safe and shared.
      *
      * @return JWTClaimsVerifier Claims Verifier to be performed against a Claims Set.
      */
     protected JWTClaimsVerifier getYourMicroserviceClaimsVerifier() {
-        /**
-         * Default JWT claims verifier. This class is thread-safe.
-         *
-         * Performs the following checks:
-         *
-         * + If an expiration time (exp) claim is present, makes sure it is ahead of the current time, else the JWT claims set is rejected.
-         * + If a not-before-time (nbf) claim is present, makes sure it is before the current time, else the JWT claims set is rejected.
-         *  This class may be extended to perform additional checks.
-         */
-        return new DefaultJWTClaimsVerifier() {
-            @Override
-            public void verify(JWTClaimsSet claimsSet)
-                    throws BadJWTException {
-                /**
-                 * Verify the Expiration of the Token and Not Before Use.
-                 */
-                super.verify(claimsSet);
-                /**
-                 * Ensure Correct Issuer is from our own Eco-System.
-                 */
-                String issuer = claimsSet.getIssuer();
-                if (issuer == null || !issuer.equals(YourMicroserviceToken.YOUR_ORGANIZATION_ISSUER)) {
-                    throw new BadJWTException("Invalid Token issuer");
-                }
-                /**
-                 * Ensure Subject Specified.
-                 */
-                String subject = claimsSet.getSubject();
-                if (subject == null || subject.isEmpty()) {
-                    throw new BadJWTException("Invalid Token Subject");
-                }
-                /**
-                 * Ensure Subject Specified.
-                 */
-                String jti = claimsSet.getJWTID();
-                if (!isUUIDValid(jti)) {
-                    throw new BadJWTException("Invalid Token Identifier");
-                }
-                /**
-                 * Validate Audience, we need at least Once Specified.
-                 */
-                if (claimsSet.getAudience() == null || claimsSet.getAudience().isEmpty()) {
-                    throw new BadJWTException("Invalid Audience");
-                }
-                /**
-                 * Ensure Your Microservice was Specified.
-                 */
-                JSONObject yms = (JSONObject) claimsSet.getClaim(CLAIM_NAME_YOUR_MICROSERVICE);
-                if (yms == null || yms.isEmpty()) {
-                    throw new BadJWTException("Invalid Your Microservice Claim");
-                }
-                /**
-                 * Add Additional Claims Verification Here if and when Applicable...
-                 */
-            }
-        };
+        return keyring.getActive().getClaimsVerifier();
     }
 
     /**
@@ -1022,16 +1937,7 @@ public class YourMicroserviceToken_nimbus_Impl implements YourMicroserviceToken
      * @return boolean inidcator if UUID if valid or not.
      */
     protected boolean isUUIDValid(final String uuid) {
-        if (uuid == null || uuid.trim().isEmpty() || uuid.trim().length() != 36) {
-            return false;
-        }
-        try{
-            UUID.fromString(uuid.trim());
-            return true;
-        } catch (IllegalArgumentException exception) {
-            LOGGER.error("Error in Validating UUID:'{}', {}", uuid, exception.getMessage());
-            return false;
-        }
+        return YourMicroserviceTokenCryptoContext.isUUIDValid(uuid);
     }
 
     /**
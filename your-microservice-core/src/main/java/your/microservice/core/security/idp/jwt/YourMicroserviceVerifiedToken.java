@@ -0,0 +1,207 @@
+package your.microservice.core.security.idp.jwt;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * YourMicroserviceVerifiedToken
+ * <p>
+ * Immutable result of a single Verification, or Issuance, of a Your Microservice Token.
+ * All Standard Claims and the parsed Your Microservice Manifest are available without
+ * having to Decrypt and Verify the Token again.
+ * <p>
+ * Once Verified by the AuthenticationTokenFilter, an instance is placed on the Request
+ * as Attribute {@link #REQUEST_ATTRIBUTE_NAME}, for reuse by Controllers.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public final class YourMicroserviceVerifiedToken {
+
+    /**
+     * Request Attribute Name for the Verified Token of the Current Request.
+     */
+    public static final String REQUEST_ATTRIBUTE_NAME =
+            YourMicroserviceVerifiedToken.class.getName();
+
+    private final String token;
+    private final String subject;
+    private final String jti;
+    private final List<String> audience;
+    private final long issuedAt;
+    private final long expiration;
+    private final long notUsedBefore;
+    private final YourMicroserviceManifest manifest;
+    private final JWTClaimsSet claimsSet;
+    private final List<String> authorities;
+    private final Map<String, Boolean> accountStatus;
+    private final Long principalId;
+    private final String refreshFamilyId;
+
+    /**
+     * Default Constructor
+     *
+     * @param token     JWT in its Serialized Form.
+     * @param claimsSet Verified Claims Set of Token.
+     * @param manifest  Your Microservice Manifest of Token.
+     */
+    public YourMicroserviceVerifiedToken(String token, JWTClaimsSet claimsSet, YourMicroserviceManifest manifest) {
+        this.token = token;
+        this.claimsSet = claimsSet;
+        this.manifest = manifest;
+        this.subject = claimsSet.getSubject();
+        this.jti = claimsSet.getJWTID();
+        this.audience = (claimsSet.getAudience() == null) ? Collections.<String>emptyList() :
+                Collections.unmodifiableList(claimsSet.getAudience());
+        this.issuedAt = toTime(claimsSet.getIssueTime());
+        this.expiration = toTime(claimsSet.getExpirationTime());
+        this.notUsedBefore = toTime(claimsSet.getNotBeforeTime());
+        this.authorities = toAuthorities(claimsSet.getClaim(YourMicroserviceToken.CLAIM_NAME_AUTHORITIES));
+        this.accountStatus = toAccountStatus(claimsSet.getClaim(YourMicroserviceToken.CLAIM_NAME_ACCOUNT_STATUS));
+        Object pid = claimsSet.getClaim(YourMicroserviceToken.CLAIM_NAME_PRINCIPAL_ID);
+        this.principalId = pid instanceof Number ? ((Number) pid).longValue() : null;
+        Object rfi = claimsSet.getClaim(YourMicroserviceToken.CLAIM_NAME_REFRESH_FAMILY);
+        this.refreshFamilyId = rfi instanceof String ? (String) rfi : null;
+    }
+
+    private static List<String> toAuthorities(Object claim) {
+        if (!(claim instanceof Collection)) {
+            return null;
+        }
+        List<String> authorities = new ArrayList<>();
+        for (Object authority : (Collection<?>) claim) {
+            if (authority instanceof String) {
+                authorities.add((String) authority);
+            }
+        }
+        return Collections.unmodifiableList(authorities);
+    }
+
+    private static Map<String, Boolean> toAccountStatus(Object claim) {
+        if (!(claim instanceof Map)) {
+            return Collections.emptyMap();
+        }
+        Map<String, Boolean> accountStatus = new HashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) claim).entrySet()) {
+            if (entry.getKey() instanceof String && entry.getValue() instanceof Boolean) {
+                accountStatus.put((String) entry.getKey(), (Boolean) entry.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(accountStatus);
+    }
+
+    private static long toTime(Date date) {
+        return (date == null) ? 0L : date.getTime();
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public List<String> getAudience() {
+        return audience;
+    }
+
+    public Date getIssuedAt() {
+        return new Date(issuedAt);
+    }
+
+    public Date getExpiration() {
+        return new Date(expiration);
+    }
+
+    public Date getNotUsedBefore() {
+        return new Date(notUsedBefore);
+    }
+
+    public long getIssuedAtTime() {
+        return issuedAt;
+    }
+
+    public long getExpirationTime() {
+        return expiration;
+    }
+
+    public YourMicroserviceManifest getManifest() {
+        return manifest;
+    }
+
+    public JWTClaimsSet getClaimsSet() {
+        return claimsSet;
+    }
+
+    /**
+     * getAuthorities
+     *
+     * @return List of the Principal's Authority Names, or null if the Token does not carry them.
+     */
+    public List<String> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * getAccountStatus
+     *
+     * @param flag Account Status Flag Name.
+     * @return boolean Value of the Account Status Flag, false if the Token does not carry it.
+     */
+    public boolean getAccountStatus(String flag) {
+        return Boolean.TRUE.equals(accountStatus.get(flag));
+    }
+
+    public Long getPrincipalId() {
+        return principalId;
+    }
+
+    /**
+     * getRefreshFamilyId
+     *
+     * @return String Refresh Token Family Issued alongside the Token, or null if the Token does not carry it.
+     */
+    public String getRefreshFamilyId() {
+        return refreshFamilyId;
+    }
+
+    /**
+     * hasPrincipalClaims
+     *
+     * @return boolean indicating if the Token carries the Principal's Authorities, for Stateless Authorization.
+     */
+    public boolean hasPrincipalClaims() {
+        return authorities != null;
+    }
+
+    /**
+     * isExpired
+     *
+     * @return boolean indicator if this Token has Expired.
+     */
+    public boolean isExpired() {
+        return expiration <= System.currentTimeMillis();
+    }
+
+    @Override
+    public String toString() {
+        return "YourMicroserviceVerifiedToken{" +
+                "subject='" + subject + '\'' +
+                ", jti='" + jti + '\'' +
+                ", audience=" + audience +
+                ", issuedAt=" + issuedAt +
+                ", expiration=" + expiration +
+                '}';
+    }
+}
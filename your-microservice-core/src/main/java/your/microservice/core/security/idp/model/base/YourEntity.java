@@ -12,7 +12,44 @@ import java.util.*;
 
 
 @Entity
+@NamedEntityGraph(name = YourEntity.GRAPH_WITH_COLLECTIONS,
+        attributeNodes = {@NamedAttributeNode("entityProperties"),
+                @NamedAttributeNode("yourEntityOrganizations"),
+                @NamedAttributeNode("yourEntityRoles")})
+@NamedQueries({
+        @NamedQuery(name = YourEntity.FIND_BY_ID,
+                query = "SELECT e FROM YourEntity e WHERE e.entityId = :entityId"),
+        @NamedQuery(name = YourEntity.FIND_BY_EMAIL,
+                query = "SELECT e FROM YourEntity e WHERE e.entityEmailAddress = :email"),
+        @NamedQuery(name = YourEntity.FIND_EMAIL_BY_ID,
+                query = "SELECT e.entityEmailAddress FROM YourEntity e WHERE e.entityId = :entityId"),
+        @NamedQuery(name = YourEntity.FIND_STANDING_BY_ID,
+                query = "SELECT e.credentials, e.status FROM YourEntity e WHERE e.entityId = :entityId"),
+        @NamedQuery(name = YourEntity.FIND_ALL,
+                query = "SELECT DISTINCT e FROM YourEntity e"),
+        @NamedQuery(name = YourEntity.FIND_AUTHENTICATION_BY_EMAIL,
+                query = "SELECT e.entityId, e.entityEmailAddress, e.credentials, e.status, r.name " +
+                        "FROM YourEntity e LEFT JOIN e.yourEntityRoles r WHERE e.entityEmailAddress = :email"),
+        @NamedQuery(name = YourEntity.UPDATE_CREDENTIALS,
+                query = "UPDATE YourEntity e SET e.credentials = :credentials, e.updatedByDate = :updatedByDate, " +
+                        "e.updatedByIdentifier = :updatedByIdentifier " +
+                        "WHERE e.entityId = :entityId AND e.credentials = :previousCredentials")})
 public class YourEntity implements Serializable {
+    /**
+     * Named Queries, Compiled once when the Persistence Unit is Built.
+     */
+    public static final String FIND_BY_ID = "YourEntity.findById";
+    public static final String FIND_BY_EMAIL = "YourEntity.findByEmail";
+    public static final String FIND_EMAIL_BY_ID = "YourEntity.findEmailById";
+    public static final String FIND_STANDING_BY_ID = "YourEntity.findStandingById";
+    public static final String FIND_ALL = "YourEntity.findAll";
+    public static final String UPDATE_CREDENTIALS = "YourEntity.updateCredentials";
+    public static final String FIND_AUTHENTICATION_BY_EMAIL = "YourEntity.findAuthenticationByEmail";
+
+    /**
+     * Entity Graph, Fetching the Lazy Collections along with the Entity.
+     */
+    public static final String GRAPH_WITH_COLLECTIONS = "YourEntity.withCollections";
 
     /**
      * Standard Serialization Version Id.
@@ -60,9 +97,9 @@ public class YourEntity implements Serializable {
     private String updatedByIdentifier;
 
     /**
-     * Entity Properties.
+     * Entity Properties, Lazy as are the other Collections, Authentication reads only the Role Names.
      */
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     @MapKeyColumn(name="name")
     @Column(name="value")
     @CollectionTable(name="YourEntityProperties",
@@ -72,7 +109,7 @@ public class YourEntity implements Serializable {
     /**
      * Entity Organizations
      */
-    @ManyToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @ManyToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinTable(name = "yourentity_organizations",
             joinColumns = @JoinColumn(name = "yourentity_entityId",referencedColumnName = "entityId"),
             inverseJoinColumns = @JoinColumn(name = "yourentityorg_entityId", referencedColumnName = "entityOrgId"))
@@ -81,7 +118,7 @@ public class YourEntity implements Serializable {
     /**
      * Entity Roles
      */
-    @ManyToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @ManyToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinTable(name = "yourentity_roles",
             joinColumns = @JoinColumn(name = "yourentity_entityId",referencedColumnName = "entityId"),
             inverseJoinColumns = @JoinColumn(name = "yourentityrole_entityId", referencedColumnName = "entityRoleId"))
@@ -207,7 +244,8 @@ public class YourEntity implements Serializable {
 
     @Override
     public String toString() {
-        return ReflectionToStringBuilder.toString(this);
+        return ReflectionToStringBuilder.toStringExclude(this,
+                "entityProperties", "yourEntityOrganizations", "yourEntityRoles");
     }
 
 
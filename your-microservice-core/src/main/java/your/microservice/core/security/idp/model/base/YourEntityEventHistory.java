@@ -19,7 +19,64 @@ import java.util.Map;
  * @author jeff.a.schenk@gmail.com on 11/9/15.
  */
 @Entity
+@Table(indexes = {@Index(name = "idx_eventhistory_entityid_createdbydate", columnList = "entityId,createdbydate,id"),
+        @Index(name = "idx_eventhistory_entityid_tag_createdbydate", columnList = "entityId,eventtagname,createdbydate"),
+        @Index(name = "idx_eventhistory_createdbydate", columnList = "createdbydate")})
+@NamedQueries({
+        @NamedQuery(name = YourEntityEventHistory.FIND_BY_ENTITY_ID,
+                query = "SELECT h FROM YourEntityEventHistory h WHERE h.yourEntity.entityId = :entityId"),
+        @NamedQuery(name = YourEntityEventHistory.FIND_ALL,
+                query = "SELECT h FROM YourEntityEventHistory h"),
+        @NamedQuery(name = YourEntityEventHistory.FIND_ID_ALL,
+                query = "SELECT h.id FROM YourEntityEventHistory h"),
+        @NamedQuery(name = YourEntityEventHistory.FIND_ID_CREATED_BEFORE,
+                query = "SELECT h.id FROM YourEntityEventHistory h WHERE h.createdByDate < :before"),
+        @NamedQuery(name = YourEntityEventHistory.FIND_TAGS_EXCEEDING,
+                query = "SELECT h.yourEntity.entityId, h.eventTagName FROM YourEntityEventHistory h " +
+                        "GROUP BY h.yourEntity.entityId, h.eventTagName HAVING COUNT(h) > :maximum"),
+        @NamedQuery(name = YourEntityEventHistory.FIND_ID_BY_ENTITY_ID_AND_TAG_NEWEST_FIRST,
+                query = "SELECT h.id FROM YourEntityEventHistory h " +
+                        "WHERE h.yourEntity.entityId = :entityId AND h.eventTagName = :eventTagName " +
+                        "ORDER BY h.createdByDate DESC, h.id DESC"),
+        @NamedQuery(name = YourEntityEventHistory.DELETE_BY_IDS,
+                query = "DELETE FROM YourEntityEventHistory h WHERE h.id IN :ids"),
+        @NamedQuery(name = YourEntityEventHistory.FIND_PAGE_BY_ENTITY_ID,
+                query = "SELECT NEW your.microservice.core.dm.dto.history.EntityEventHistoryDTO(" +
+                        "h.id, h.createdByDate, h.eventMessage, h.eventTagName) FROM YourEntityEventHistory h " +
+                        "WHERE h.yourEntity.entityId = :entityId " +
+                        "ORDER BY h.createdByDate DESC, h.id DESC"),
+        @NamedQuery(name = YourEntityEventHistory.FIND_PAGE_BY_ENTITY_ID_BEFORE,
+                query = "SELECT NEW your.microservice.core.dm.dto.history.EntityEventHistoryDTO(" +
+                        "h.id, h.createdByDate, h.eventMessage, h.eventTagName) FROM YourEntityEventHistory h " +
+                        "WHERE h.yourEntity.entityId = :entityId AND (h.createdByDate < :createdByDate " +
+                        "OR (h.createdByDate = :createdByDate AND h.id < :id)) " +
+                        "ORDER BY h.createdByDate DESC, h.id DESC"),
+        @NamedQuery(name = YourEntityEventHistory.FIND_TAG_PROPERTIES_BY_IDS,
+                query = "SELECT h.id, KEY(p), VALUE(p) FROM YourEntityEventHistory h JOIN h.eventTagProperties p WHERE h.id IN :ids"),
+        @NamedQuery(name = YourEntityEventHistory.STREAM_BY_ENTITY_ID,
+                query = "SELECT h.id, h.createdByDate, h.eventMessage, h.eventTagName, KEY(p), VALUE(p) " +
+                        "FROM YourEntityEventHistory h LEFT JOIN h.eventTagProperties p " +
+                        "WHERE h.yourEntity.entityId = :entityId " +
+                        "ORDER BY h.createdByDate DESC, h.id DESC")})
+@NamedNativeQueries({
+        @NamedNativeQuery(name = YourEntityEventHistory.DELETE_TAG_PROPERTIES_BY_IDS,
+                query = "DELETE FROM EventTagProperties WHERE eventTagProperties_id IN (:ids)")})
 public class YourEntityEventHistory implements Serializable {
+    /**
+     * Named Queries, Compiled once when the Persistence Unit is Built.
+     */
+    public static final String FIND_BY_ENTITY_ID = "YourEntityEventHistory.findByEntityId";
+    public static final String FIND_ALL = "YourEntityEventHistory.findAll";
+    public static final String FIND_ID_ALL = "YourEntityEventHistory.findIdAll";
+    public static final String FIND_ID_CREATED_BEFORE = "YourEntityEventHistory.findIdCreatedBefore";
+    public static final String FIND_TAGS_EXCEEDING = "YourEntityEventHistory.findTagsExceeding";
+    public static final String FIND_ID_BY_ENTITY_ID_AND_TAG_NEWEST_FIRST = "YourEntityEventHistory.findIdByEntityIdAndTagNewestFirst";
+    public static final String DELETE_BY_IDS = "YourEntityEventHistory.deleteByIds";
+    public static final String DELETE_TAG_PROPERTIES_BY_IDS = "YourEntityEventHistory.deleteTagPropertiesByIds";
+    public static final String FIND_PAGE_BY_ENTITY_ID = "YourEntityEventHistory.findPageByEntityId";
+    public static final String FIND_PAGE_BY_ENTITY_ID_BEFORE = "YourEntityEventHistory.findPageByEntityIdBefore";
+    public static final String FIND_TAG_PROPERTIES_BY_IDS = "YourEntityEventHistory.findTagPropertiesByIds";
+    public static final String STREAM_BY_ENTITY_ID = "YourEntityEventHistory.streamByEntityId";
 
     /**
      * Constants for Headers to obtain true Requester,
@@ -87,6 +144,12 @@ public class YourEntityEventHistory implements Serializable {
     @JoinColumn(name = "entityId", nullable = false, updatable = false)
     private YourEntity yourEntity;
 
+    /**
+     * Identifier of the Entity, when Published without the Entity itself.
+     */
+    @Transient
+    private Long yourEntityId;
+
     /**
      * Event Tag Name.
      */
@@ -160,6 +223,14 @@ public class YourEntityEventHistory implements Serializable {
         this.yourEntity = yourEntity;
     }
 
+    public Long getYourEntityId() {
+        return yourEntityId;
+    }
+
+    public void setYourEntityId(Long yourEntityId) {
+        this.yourEntityId = yourEntityId;
+    }
+
     public String getEventTagName() {
         return eventTagName;
     }
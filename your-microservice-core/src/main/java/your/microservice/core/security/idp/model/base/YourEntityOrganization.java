@@ -14,7 +14,20 @@ import java.util.Set;
 
 
 @Entity
+@NamedQueries({
+        @NamedQuery(name = YourEntityOrganization.FIND_BY_ID,
+                query = "SELECT o FROM YourEntityOrganization o WHERE o.entityOrgId = :entityOrgId"),
+        @NamedQuery(name = YourEntityOrganization.FIND_BY_NAME,
+                query = "SELECT o FROM YourEntityOrganization o WHERE o.name = :name"),
+        @NamedQuery(name = YourEntityOrganization.FIND_ALL,
+                query = "SELECT o FROM YourEntityOrganization o")})
 public class YourEntityOrganization implements Serializable {
+    /**
+     * Named Queries, Compiled once when the Persistence Unit is Built.
+     */
+    public static final String FIND_BY_ID = "YourEntityOrganization.findById";
+    public static final String FIND_BY_NAME = "YourEntityOrganization.findByName";
+    public static final String FIND_ALL = "YourEntityOrganization.findAll";
 
     /**
      * Standard Serialization Version Id.
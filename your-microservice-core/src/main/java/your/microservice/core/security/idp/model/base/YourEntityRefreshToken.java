@@ -0,0 +1,159 @@
+package your.microservice.core.security.idp.model.base;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import your.microservice.core.dm.serialization.JsonDateSerializer;
+import your.microservice.core.security.idp.model.types.YourEntityTokenStatus;
+import your.microservice.core.security.idp.model.types.YourEntityTokenStatusConverter;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * YourEntityRefreshToken
+ * <p>
+ * Opaque Refresh Token, held only as a Digest of the Token, so the Store never holds a usable Token.
+ * Each Exchange Rotates the Token, the Rotated Token remains, Inactive, within its Family, so the
+ * Reuse of a Rotated Token is Detected and Revokes the entire Family.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@Entity
+@Table(indexes = {@Index(name = "idx_refreshtoken_familyid", columnList = "familyid"),
+        @Index(name = "idx_refreshtoken_subject", columnList = "subject"),
+        @Index(name = "idx_refreshtoken_expiration", columnList = "expiration")})
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NamedQueries({
+        @NamedQuery(name = YourEntityRefreshToken.UPDATE_STATUS_BY_TOKEN_HASH,
+                query = "UPDATE YourEntityRefreshToken r SET r.status = :status WHERE r.tokenHash = :tokenHash AND r.status = :currentStatus"),
+        @NamedQuery(name = YourEntityRefreshToken.UPDATE_STATUS_BY_FAMILY_ID,
+                query = "UPDATE YourEntityRefreshToken r SET r.status = :status WHERE r.familyId = :familyId"),
+        @NamedQuery(name = YourEntityRefreshToken.UPDATE_STATUS_BY_SUBJECT,
+                query = "UPDATE YourEntityRefreshToken r SET r.status = :status WHERE r.subject = :subject AND r.status = :currentStatus"),
+        @NamedQuery(name = YourEntityRefreshToken.FIND_TOKEN_HASH_EXPIRED,
+                query = "SELECT r.tokenHash FROM YourEntityRefreshToken r WHERE r.expiration <= CURRENT_TIMESTAMP"),
+        @NamedQuery(name = YourEntityRefreshToken.DELETE_BY_TOKEN_HASHES,
+                query = "DELETE FROM YourEntityRefreshToken r WHERE r.tokenHash IN :tokenHashes")})
+public class YourEntityRefreshToken implements Serializable {
+    /**
+     * Named Queries, Compiled once when the Persistence Unit is Built.
+     */
+    public static final String UPDATE_STATUS_BY_TOKEN_HASH = "YourEntityRefreshToken.updateStatusByTokenHash";
+    public static final String UPDATE_STATUS_BY_FAMILY_ID = "YourEntityRefreshToken.updateStatusByFamilyId";
+    public static final String UPDATE_STATUS_BY_SUBJECT = "YourEntityRefreshToken.updateStatusBySubject";
+    public static final String FIND_TOKEN_HASH_EXPIRED = "YourEntityRefreshToken.findTokenHashExpired";
+    public static final String DELETE_BY_TOKEN_HASHES = "YourEntityRefreshToken.deleteByTokenHashes";
+
+    /**
+     * Digest of the Opaque Refresh Token, our Lookup Key.
+     */
+    @Id
+    @Column(name = "tokenhash", unique = true, nullable = false, length = 64)
+    private String tokenHash;
+    /**
+     * Family of Rotated Refresh Tokens, established upon Authentication.
+     */
+    @NotNull
+    @Column(name = "familyid", nullable = false, length = 64)
+    private String familyId;
+    /**
+     * Your Microservice Token Subject
+     */
+    @NotNull
+    @Column(name = "subject", nullable = false, length = 256)
+    private String subject;
+    /**
+     * Audience of the Access Tokens Issued upon Exchange.
+     */
+    @Column(name = "audience", length = 64)
+    private String audience;
+    /**
+     * Refresh Token Status, Active until Rotated or Revoked.
+     */
+    @NotNull
+    @Column(name = "status", nullable = false, length = 32)
+    @Convert(converter = YourEntityTokenStatusConverter.class)
+    private YourEntityTokenStatus status;
+    /**
+     * Refresh Token Issued At Date Time.
+     */
+    @Column(name = "issuedat", nullable = false)
+    @JsonSerialize(using=JsonDateSerializer.class)
+    private Date issuedAt;
+    /**
+     * Refresh Token Expiration Date Time.
+     */
+    @Column(name = "expiration", nullable = false)
+    @JsonSerialize(using=JsonDateSerializer.class)
+    private Date expiration;
+
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
+    }
+
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    public void setFamilyId(String familyId) {
+        this.familyId = familyId;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getAudience() {
+        return audience;
+    }
+
+    public void setAudience(String audience) {
+        this.audience = audience;
+    }
+
+    public YourEntityTokenStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(YourEntityTokenStatus status) {
+        this.status = status;
+    }
+
+    public Date getIssuedAt() {
+        return issuedAt;
+    }
+
+    public void setIssuedAt(Date issuedAt) {
+        this.issuedAt = issuedAt;
+    }
+
+    public Date getExpiration() {
+        return expiration;
+    }
+
+    public void setExpiration(Date expiration) {
+        this.expiration = expiration;
+    }
+
+    @Override
+    public String toString() {
+        return "YourEntityRefreshToken{" +
+                "familyId='" + familyId + '\'' +
+                ", subject='" + subject + '\'' +
+                ", audience='" + audience + '\'' +
+                ", status=" + status +
+                ", issuedAt=" + issuedAt +
+                ", expiration=" + expiration +
+                '}';
+    }
+}
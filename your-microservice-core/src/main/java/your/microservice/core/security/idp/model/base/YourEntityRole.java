@@ -14,7 +14,20 @@ import java.util.Set;
 
 
 @Entity
+@NamedQueries({
+        @NamedQuery(name = YourEntityRole.FIND_BY_ID,
+                query = "SELECT r FROM YourEntityRole r WHERE r.entityRoleId = :entityRoleId"),
+        @NamedQuery(name = YourEntityRole.FIND_BY_NAME,
+                query = "SELECT r FROM YourEntityRole r WHERE r.name = :name"),
+        @NamedQuery(name = YourEntityRole.FIND_ALL,
+                query = "SELECT r FROM YourEntityRole r")})
 public class YourEntityRole implements Serializable {
+    /**
+     * Named Queries, Compiled once when the Persistence Unit is Built.
+     */
+    public static final String FIND_BY_ID = "YourEntityRole.findById";
+    public static final String FIND_BY_NAME = "YourEntityRole.findByName";
+    public static final String FIND_ALL = "YourEntityRole.findAll";
 
     /**
      * Standard Serialization Version Id.
@@ -0,0 +1,66 @@
+package your.microservice.core.security.idp.model.base;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import your.microservice.core.dm.serialization.JsonDateSerializer;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * YourEntityTokenEpoch
+ * <p>
+ * Per Subject Not Before Epoch, any Token for the Subject Issued before
+ * this Epoch is no longer Valid.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@Entity
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NamedQueries({
+        @NamedQuery(name = YourEntityTokenEpoch.FIND_SINCE,
+                query = "SELECT e FROM YourEntityTokenEpoch e WHERE e.notBefore > :since")})
+public class YourEntityTokenEpoch implements Serializable {
+    /**
+     * Named Queries, Compiled once when the Persistence Unit is Built.
+     */
+    public static final String FIND_SINCE = "YourEntityTokenEpoch.findSince";
+
+    /**
+     * Your Microservice Token Subject
+     */
+    @Id
+    @Column(name = "subject", unique = true, nullable = false, length = 256)
+    private String subject;
+    /**
+     * Your Microservice Token Not Before Epoch Date Time.
+     */
+    @Column(name = "notbefore", nullable = false)
+    @JsonSerialize(using=JsonDateSerializer.class)
+    private Date notBefore;
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public Date getNotBefore() {
+        return notBefore;
+    }
+
+    public void setNotBefore(Date notBefore) {
+        this.notBefore = notBefore;
+    }
+
+    @Override
+    public String toString() {
+        return "YourEntityTokenEpoch{" +
+                "subject='" + subject + '\'' +
+                ", notBefore=" + notBefore +
+                '}';
+    }
+}
@@ -17,8 +17,59 @@ import java.util.Date;
  * @author jeff.a.schenk@gmail.com on 7/25/16.
  */
 @Entity
+@Table(indexes = {@Index(name = "idx_tokenhistory_subject", columnList = "subject"),
+        @Index(name = "idx_tokenhistory_expiration", columnList = "expiration"),
+        @Index(name = "idx_tokenhistory_status_expiration", columnList = "status,expiration")})
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@NamedQueries({
+        @NamedQuery(name = YourEntityTokenHistory.FIND_BY_JTI,
+                query = "SELECT t FROM YourEntityTokenHistory t WHERE t.jti = :jti"),
+        @NamedQuery(name = YourEntityTokenHistory.FIND_BY_SUBJECT,
+                query = "SELECT t FROM YourEntityTokenHistory t WHERE t.subject = :subject"),
+        @NamedQuery(name = YourEntityTokenHistory.FIND_EXPIRED,
+                query = "SELECT t FROM YourEntityTokenHistory t WHERE t.expiration <= CURRENT_TIMESTAMP"),
+        @NamedQuery(name = YourEntityTokenHistory.FIND_NON_EXPIRED,
+                query = "SELECT t FROM YourEntityTokenHistory t WHERE t.expiration > CURRENT_TIMESTAMP"),
+        @NamedQuery(name = YourEntityTokenHistory.FIND_NON_EXPIRED_BY_STATUS,
+                query = "SELECT t FROM YourEntityTokenHistory t WHERE t.expiration > CURRENT_TIMESTAMP AND t.status = :status"),
+        @NamedQuery(name = YourEntityTokenHistory.FIND_ALL,
+                query = "SELECT t FROM YourEntityTokenHistory t"),
+        @NamedQuery(name = YourEntityTokenHistory.UPDATE_STATUS,
+                query = "UPDATE YourEntityTokenHistory t SET t.status = :status WHERE t.jti = :jti"),
+        @NamedQuery(name = YourEntityTokenHistory.INCREMENT_USAGE,
+                query = "UPDATE YourEntityTokenHistory t SET t.usageCount = t.usageCount + 1 " +
+                        "WHERE t.jti = :jti AND t.expiration > :now AND t.status = :status"),
+        @NamedQuery(name = YourEntityTokenHistory.DELETE_EXPIRED,
+                query = "DELETE FROM YourEntityTokenHistory t WHERE t.expiration <= CURRENT_TIMESTAMP"),
+        @NamedQuery(name = YourEntityTokenHistory.DELETE_BY_JTI,
+                query = "DELETE FROM YourEntityTokenHistory t WHERE t.jti = :jti"),
+        @NamedQuery(name = YourEntityTokenHistory.DELETE_BY_SUBJECT,
+                query = "DELETE FROM YourEntityTokenHistory t WHERE t.subject = :subject"),
+        @NamedQuery(name = YourEntityTokenHistory.FIND_JTI_ALL,
+                query = "SELECT t.jti FROM YourEntityTokenHistory t"),
+        @NamedQuery(name = YourEntityTokenHistory.FIND_JTI_EXPIRED,
+                query = "SELECT t.jti FROM YourEntityTokenHistory t WHERE t.expiration <= CURRENT_TIMESTAMP"),
+        @NamedQuery(name = YourEntityTokenHistory.DELETE_BY_JTIS,
+                query = "DELETE FROM YourEntityTokenHistory t WHERE t.jti IN :jtis")})
 public class YourEntityTokenHistory implements Serializable {
+    /**
+     * Named Queries, Compiled once when the Persistence Unit is Built.
+     */
+    public static final String FIND_BY_JTI = "YourEntityTokenHistory.findByJti";
+    public static final String FIND_BY_SUBJECT = "YourEntityTokenHistory.findBySubject";
+    public static final String FIND_EXPIRED = "YourEntityTokenHistory.findExpired";
+    public static final String FIND_NON_EXPIRED = "YourEntityTokenHistory.findNonExpired";
+    public static final String FIND_NON_EXPIRED_BY_STATUS = "YourEntityTokenHistory.findNonExpiredByStatus";
+    public static final String FIND_ALL = "YourEntityTokenHistory.findAll";
+    public static final String UPDATE_STATUS = "YourEntityTokenHistory.updateStatus";
+    public static final String INCREMENT_USAGE = "YourEntityTokenHistory.incrementUsage";
+    public static final String DELETE_EXPIRED = "YourEntityTokenHistory.deleteExpired";
+    public static final String DELETE_BY_JTI = "YourEntityTokenHistory.deleteByJti";
+    public static final String DELETE_BY_SUBJECT = "YourEntityTokenHistory.deleteBySubject";
+    public static final String FIND_JTI_ALL = "YourEntityTokenHistory.findJtiAll";
+    public static final String FIND_JTI_EXPIRED = "YourEntityTokenHistory.findJtiExpired";
+    public static final String DELETE_BY_JTIS = "YourEntityTokenHistory.deleteByJtis";
+
     /**
      * Your Microservice Token Identifier
      */
@@ -0,0 +1,40 @@
+package your.microservice.core.security.idp.model.json.request;
+
+import java.io.Serializable;
+
+/**
+ * RefreshTokenRequest
+ * DTO for incoming Refresh Token Exchange Request.
+ */
+public class RefreshTokenRequest implements Serializable {
+    private static final long serialVersionUID = 1L;
+    /**
+     * Opaque Refresh Token, as Issued upon Authentication or a prior Exchange.
+     */
+    private String refresh_token;
+
+    /**
+     * Default Constructor
+     */
+    public RefreshTokenRequest() {
+        super();
+    }
+
+    /**
+     * Default Constructor
+     *
+     * @param refresh_token -- Opaque Refresh Token
+     */
+    public RefreshTokenRequest(String refresh_token) {
+        this.setRefresh_token(refresh_token);
+    }
+
+    public String getRefresh_token() {
+        return this.refresh_token;
+    }
+
+    public void setRefresh_token(String refresh_token) {
+        this.refresh_token = refresh_token;
+    }
+
+}
@@ -1,5 +1,6 @@
 package your.microservice.core.security.idp.model.json.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import your.microservice.core.dm.serialization.JsonDateSerializer;
 import your.microservice.core.security.idp.security.YourMicroserviceSecurityConstants;
@@ -36,6 +37,13 @@ public class AuthenticationResponse implements Serializable {
      * expiration time via other means or document the default value.
      */
     private Integer expires_in;
+    /**
+     * refresh_token
+     * OPTIONAL.  Opaque Refresh Token, which may be Exchanged, once, for another Access Token
+     * and its Successor Refresh Token, without presenting Credentials again.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String refresh_token;
 
     /**
      * Current Time the
@@ -65,6 +73,17 @@ public class AuthenticationResponse implements Serializable {
         this.issuedAt = Date.from(Instant.now());
     }
 
+    /**
+     * Default Response with Supplied Parameters and Refresh Token.
+     * @param token JWE
+     * @param expires_in Expiration
+     * @param refresh_token Opaque Refresh Token
+     */
+    public AuthenticationResponse(String token, Integer expires_in, String refresh_token) {
+        this(token, expires_in);
+        this.setRefresh_token(refresh_token);
+    }
+
     /**
      * @return Integer expires_in
      */
@@ -107,6 +126,20 @@ public class AuthenticationResponse implements Serializable {
         this.token_type = token_type;
     }
 
+    /**
+     * @return the refresh_token
+     */
+    public String getRefresh_token() {
+        return refresh_token;
+    }
+
+    /**
+     * @param refresh_token the refresh_token to set
+     */
+    public void setRefresh_token(String refresh_token) {
+        this.refresh_token = refresh_token;
+    }
+
     public Date getIssuedAt() {
         return issuedAt;
     }
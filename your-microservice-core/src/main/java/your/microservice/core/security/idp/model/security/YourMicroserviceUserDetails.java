@@ -12,6 +12,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 
 /**
  * YourMicroserviceUserDetails
@@ -60,7 +61,7 @@ public class YourMicroserviceUserDetails implements UserDetails {
          * Check for a Null Entity.
          */
         if (yourEntity == null) {
-            this.authorities = new ArrayList<>();
+            this.authorities = Collections.emptyList();
             this.username = null;
             this.password = null;
             this.principalID = null;
@@ -78,52 +79,147 @@ public class YourMicroserviceUserDetails implements UserDetails {
             this.password = yourEntity.getCredentials();
             this.principalID = yourEntity.getEntityId();
 
-            if (yourEntity.getStatus().equals(YourEntityStatus.ACTIVE)) {
-                this.accountNonLocked = true;
-                this.accountNonPending = true;
-                this.credentialsNonExpired = true;
-                this.accountNonExpired = true;
-            } else {
-                this.accountNonLocked = false;
-                this.accountNonPending = false;
-                this.credentialsNonExpired = false;
-                this.accountNonExpired = true;
+            this.accountNonPending = YourEntityStatus.ACTIVE.equals(yourEntity.getStatus());
+            this.accountNonLocked = this.accountNonPending;
+            this.credentialsNonExpired = this.accountNonPending;
+            this.accountNonExpired = true;
+            this.enabled = this.accountNonExpired && this.accountNonLocked;
+
+            ArrayList<String> roleNames = new ArrayList<>();
+            if (yourEntity.getYourEntityRoles() != null) {
+                for (YourEntityRole role : yourEntity.getYourEntityRoles()) {
+                    roleNames.add(role.getName());
+                }
             }
+            this.authorities = grantedAuthorities(roleNames, this.accountNonPending);
+        }
+    }
 
-            this.enabled = this.accountNonExpired && this.accountNonLocked;
+    /**
+     * Constructor, from the Authentication Projection of a YourEntity.
+     *
+     * @param principalID Principal's Identifier.
+     * @param emailAddress Principal's Primary Email Address.
+     * @param credentials Encoded Credentials from the Store.
+     * @param status Entity Status.
+     * @param roleNames Names of the Entity's Roles.
+     */
+    public YourMicroserviceUserDetails(Long principalID, String emailAddress, String credentials,
+                                       YourEntityStatus status, Collection<String> roleNames) {
+        this.username = emailAddress.toLowerCase();
+        this.password = credentials;
+        this.principalID = principalID;
+        this.accountNonPending = YourEntityStatus.ACTIVE.equals(status);
+        this.accountNonLocked = this.accountNonPending;
+        this.credentialsNonExpired = this.accountNonPending;
+        this.accountNonExpired = true;
+        this.enabled = this.accountNonExpired && this.accountNonLocked;
+        this.authorities = grantedAuthorities(roleNames, this.accountNonPending);
+    }
 
-            /**
-             * Establish the Granted Authorities...
-             */
-            ArrayList<GrantedAuthority> grantedAuthorities = new ArrayList<>();
-            if (yourEntity.getYourEntityRoles() != null &&
-                    !yourEntity.getYourEntityRoles().isEmpty() && accountNonPending) {
-                /**
-                 * Establish Roles.
-                 */
-                for(YourEntityRole role : yourEntity.getYourEntityRoles()) {
-                       switch(role.getName().toUpperCase()) {
-                           case "ADMIN":
-                               grantedAuthorities.add(new YourMicroserviceAdminAuthority());
-                               break;
-                           case "PROCESS":
-                               grantedAuthorities.add(new YourMicroserviceProcessAuthority());
-                               break;
-                           case "USER":
-                               grantedAuthorities.add(new YourMicroserviceUserAuthority());
-                               break;
-                           default:
-                               break;
-                       }
+    /**
+     * Constructor, from the Claims of a Verified Token, for Stateless Authorization.
+     *
+     * @param username Principal's UserName, the Token's Subject.
+     * @param principalID Principal's Identifier, may be null.
+     * @param authorityNames Names of the Principal's Granted Authorities.
+     * @param accountNonExpired Account Status.
+     * @param accountNonLocked Account Status.
+     * @param credentialsNonExpired Account Status.
+     * @param enabled Account Status.
+     */
+    public YourMicroserviceUserDetails(String username, Long principalID, Collection<String> authorityNames,
+                                       boolean accountNonExpired, boolean accountNonLocked,
+                                       boolean credentialsNonExpired, boolean enabled) {
+        this.username = username;
+        this.password = null;
+        this.principalID = principalID;
+        this.accountNonExpired = accountNonExpired;
+        this.accountNonLocked = accountNonLocked;
+        this.accountNonPending = accountNonLocked;
+        this.credentialsNonExpired = credentialsNonExpired;
+        this.enabled = enabled;
+        ArrayList<GrantedAuthority> grantedAuthorities = new ArrayList<>();
+        for (String authorityName : authorityNames) {
+            switch (authorityName) {
+                case "ROLE_ADMIN":
+                    grantedAuthorities.add(new YourMicroserviceAdminAuthority());
+                    break;
+                case "ROLE_PROCESS":
+                    grantedAuthorities.add(new YourMicroserviceProcessAuthority());
+                    break;
+                case "ROLE_USER":
+                    grantedAuthorities.add(new YourMicroserviceUserAuthority());
+                    break;
+                case "ROLE_PENDING_USER":
+                    grantedAuthorities.add(new YourMicroservicePendingUserAuthority());
+                    break;
+                default:
+                    break;
+            }
+        }
+        this.authorities = Collections.unmodifiableList(grantedAuthorities);
+    }
+
+    /**
+     * Copy Constructor, without Credentials.
+     *
+     * @param userDetails User Details to be Copied.
+     */
+    private YourMicroserviceUserDetails(YourMicroserviceUserDetails userDetails) {
+        this.authorities = userDetails.authorities;
+        this.username = userDetails.username;
+        this.password = null;
+        this.principalID = userDetails.principalID;
+        this.accountNonExpired = userDetails.accountNonExpired;
+        this.accountNonLocked = userDetails.accountNonLocked;
+        this.credentialsNonExpired = userDetails.credentialsNonExpired;
+        this.enabled = userDetails.enabled;
+        this.accountNonPending = userDetails.accountNonPending;
+    }
+
+    /**
+     * withoutCredentials
+     *
+     * @return YourMicroserviceUserDetails Copy of these User Details holding no Credentials, which
+     * is Immutable and may be Shared, such as from a Cache.
+     */
+    public YourMicroserviceUserDetails withoutCredentials() {
+        return new YourMicroserviceUserDetails(this);
+    }
+
+    /**
+     * grantedAuthorities
+     * Establish the Granted Authorities from the Entity's Role Names, an Entity without Roles,
+     * or Pending, is a Pending User.
+     *
+     * @param roleNames Names of the Entity's Roles.
+     * @param accountNonPending Account Status.
+     * @return Collection of Granted Authorities.
+     */
+    private static Collection<GrantedAuthority> grantedAuthorities(Collection<String> roleNames,
+                                                                   boolean accountNonPending) {
+        ArrayList<GrantedAuthority> grantedAuthorities = new ArrayList<>();
+        if (roleNames != null && !roleNames.isEmpty() && accountNonPending) {
+            for (String roleName : roleNames) {
+                switch (roleName.toUpperCase()) {
+                    case "ADMIN":
+                        grantedAuthorities.add(new YourMicroserviceAdminAuthority());
+                        break;
+                    case "PROCESS":
+                        grantedAuthorities.add(new YourMicroserviceProcessAuthority());
+                        break;
+                    case "USER":
+                        grantedAuthorities.add(new YourMicroserviceUserAuthority());
+                        break;
+                    default:
+                        break;
                 }
-            } else {
-                grantedAuthorities.add(new YourMicroservicePendingUserAuthority());
             }
-            /**
-             * Return the Granted Authorities
-             */
-            this.authorities = grantedAuthorities;
+        } else {
+            grantedAuthorities.add(new YourMicroservicePendingUserAuthority());
         }
+        return Collections.unmodifiableList(grantedAuthorities);
     }
 
     @Override
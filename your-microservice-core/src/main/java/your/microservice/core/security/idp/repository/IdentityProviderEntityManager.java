@@ -1,9 +1,13 @@
 package your.microservice.core.security.idp.repository;
 
+import your.microservice.core.dm.dto.history.EntityEventHistoryDTO;
 import your.microservice.core.security.idp.model.base.*;
+import your.microservice.core.security.idp.model.security.YourMicroserviceUserDetails;
 import your.microservice.core.security.idp.model.types.YourEntityTokenStatus;
 
+import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * IdentityProviderEntityManager
@@ -50,6 +54,13 @@ public interface IdentityProviderEntityManager {
      */
     List<YourEntityTokenHistory> readCurrentNonExpiredTokenHistory();
 
+    /**
+     * readCurrentRevokedTokenHistory
+     *
+     * @return List of Token History Entities which have been Revoked, but have not yet Expired.
+     */
+    List<YourEntityTokenHistory> readCurrentRevokedTokenHistory();
+
     /**
      * updateTokenHistoryStatus
      *
@@ -61,16 +72,18 @@ public interface IdentityProviderEntityManager {
 
     /**
      * incrementTokenHistoryUsage
-     * If the resultant Integer is not 1, then the Token is either been revoked, has been
-     * removed from the Store or in another state other than Actove.
+     * Usage Statistics only, Active Tokens are Incremented, a Count other than 1 indicates the Token's
+     * History has been Revoked, Removed or has not yet been Written.  Token Validity is decided by the
+     * Token Revocation Service, never by this Count.
      *
      * @param jti Distinct Token Identifier Token to Increment Usage.
-     * @return Integer Count of Objects Updated, should be only 1, if not, kill the token.
+     * @return Integer Count of Objects Updated or Zero.
      */
     Integer incrementTokenHistoryUsage(String jti);
 
     /**
      * purgeTokenHistory
+     * Deletes all Token History, in Chunks, each within its own Transaction.
      *
      * @return Integer Number of Elements deleted or Zero.
      */
@@ -78,6 +91,7 @@ public interface IdentityProviderEntityManager {
 
     /**
      * deleteTokenHistory
+     * Deletes Expired Token History, in Chunks, each within its own Transaction.
      *
      * @return Integer Count of Objects Deleted or Zero.
      */
@@ -85,20 +99,99 @@ public interface IdentityProviderEntityManager {
 
     /**
      * deleteToken
+     * Deletes the Token's History only, the Token itself remains Valid until Expiry.
      *
      * @param jti Token Identifier to use to Physically Delete Token Entity.
      * @return Integer number of Tokens Deleted, normally this is one for this method call.
+     * @deprecated no longer Revokes the Token, use YourMicroserviceTokenRevocationService#revokeToken.
      */
+    @Deprecated
     Integer deleteTokenHistory(String jti);
 
     /**
      * deleteTokenHistoryBySubject
+     * Deletes the Subject's Token History only, the Tokens themselves remain Valid until Expiry.
      *
      * @param subject Token Subject to use to Physically Delete Token Entities.
      * @return Integer number of Tokens Deleted.
+     * @deprecated no longer Revokes the Subject's Tokens, use
+     * YourMicroserviceTokenRevocationService#revokeAllTokens.
      */
+    @Deprecated
     Integer deleteTokenHistoryBySubject(String subject);
 
+    /**
+     * updateTokenEpoch
+     * Establish the Not Before Epoch for a Subject, all Tokens for the Subject Issued before
+     * this Epoch are no longer Valid.
+     *
+     * @param subject Token Subject.
+     * @param notBefore Not Before Epoch.
+     * @return YourEntityTokenEpoch Entity Object Persisted or null.
+     */
+    YourEntityTokenEpoch updateTokenEpoch(String subject, Date notBefore);
+
+    /**
+     * readCurrentTokenEpochs
+     *
+     * @param since Only Epochs after this Date Time are Returned.
+     * @return List of Token Epoch Entities established after the specified Date Time.
+     */
+    List<YourEntityTokenEpoch> readCurrentTokenEpochs(Date since);
+
+    /**
+     * createRefreshToken
+     *
+     * @param yourEntityRefreshToken Refresh Token Entity to be Persisted.
+     * @return YourEntityRefreshToken Entity Object Persisted or null.
+     */
+    YourEntityRefreshToken createRefreshToken(YourEntityRefreshToken yourEntityRefreshToken);
+
+    /**
+     * readRefreshToken
+     *
+     * @param tokenHash Digest of the Opaque Refresh Token.
+     * @return YourEntityRefreshToken Entity Object or null if not Found.
+     */
+    YourEntityRefreshToken readRefreshToken(String tokenHash);
+
+    /**
+     * rotateRefreshToken
+     * Mark the Refresh Token Inactive, only if it remains Active, and Persist its Successor, within a
+     * single Transaction, so the Refresh Token is never Consumed without its Successor.
+     *
+     * @param tokenHash Digest of the Opaque Refresh Token.
+     * @param successor Successor Refresh Token Entity to be Persisted.
+     * @return Integer Count of Objects Updated or Zero, should the Token no longer be Active, when
+     * no Successor is Persisted.
+     * @throws javax.persistence.PersistenceException Should the Update or Persist Fail, neither is Committed.
+     */
+    Integer rotateRefreshToken(String tokenHash, YourEntityRefreshToken successor);
+
+    /**
+     * revokeRefreshTokenFamily
+     *
+     * @param familyId Refresh Token Family.
+     * @return Integer Count of Objects Updated or Zero.
+     */
+    Integer revokeRefreshTokenFamily(String familyId);
+
+    /**
+     * revokeRefreshTokensBySubject
+     *
+     * @param subject Subject whose Active Refresh Tokens are to be Revoked.
+     * @return Integer Count of Objects Updated or Zero.
+     */
+    Integer revokeRefreshTokensBySubject(String subject);
+
+    /**
+     * deleteExpiredRefreshTokens
+     * Deletes Expired Refresh Tokens, in Chunks, each within its own Transaction.
+     *
+     * @return Integer Count of Objects Deleted or Zero.
+     */
+    Integer deleteExpiredRefreshTokens();
+
     /**
      * createEventHistory
      *
@@ -109,14 +202,70 @@ public interface IdentityProviderEntityManager {
     /**
      * deleteEventHistory
      * Will delete all of Event History, used by Admin Only.
+     * Deleted in Chunks, each within its own Transaction.
      *
      * @return Integer Count of Objects Deleted or Zero.
      */
     Integer deleteEventHistory();
 
+    /**
+     * deleteEventHistoryCreatedBefore
+     * Deletes Event History Created before the Date, in Chunks, each within its own Transaction.
+     *
+     * @param before Event History Created before this Date is Deleted.
+     * @return Integer Count of Objects Deleted or Zero.
+     */
+    Integer deleteEventHistoryCreatedBefore(Date before);
+
+    /**
+     * deleteEventHistoryExceeding
+     * Deletes all but the Newest Event History of each Entity and Event Tag, in Chunks, each within
+     * its own Transaction.
+     *
+     * @param maximum Maximum Number of Event History Entities Retained per Entity and Event Tag.
+     * @return Integer Count of Objects Deleted or Zero.
+     */
+    Integer deleteEventHistoryExceeding(int maximum);
+
 
+    /**
+     * findAllYourEntityEventHistory
+     * Loads all of the Entity's Event History, Unbounded, prefer findYourEntityEventHistoryPage
+     * or streamYourEntityEventHistory for Reads of Event History.
+     */
     List<YourEntityEventHistory> findAllYourEntityEventHistory(Long yourEntityId);
 
+    /**
+     * findYourEntityEventHistoryPage
+     * Keyset Paginated, Newest First, Projections of the Entity's Event History, neither the Entity nor
+     * its Events are Loaded.  The Cursor of the next Page is the Created Date and Identifier of the last
+     * Event of this Page.
+     *
+     * @param yourEntityId        Identifier of the Entity.
+     * @param beforeCreatedByDate Cursor Created Date, or null for the first Page.
+     * @param beforeId            Cursor Event Identifier, or null for the first Page.
+     * @param limit               Maximum Number of Events in the Page.
+     * @return List of Event History Projections, with their Tag Properties.
+     */
+    List<EntityEventHistoryDTO> findYourEntityEventHistoryPage(Long yourEntityId, Date beforeCreatedByDate,
+                                                               Long beforeId, int limit);
+
+    /**
+     * streamYourEntityEventHistory
+     * Reads the Entity's Event History, Newest First, upon a Forward only Cursor, handing each Projection
+     * to the Consumer as it is Read, so no more than a single Event is held at once.
+     *
+     * @param yourEntityId Identifier of the Entity.
+     * @param consumer     Consumer of each Event History Projection.
+     * @return int Number of Events Streamed.
+     */
+    int streamYourEntityEventHistory(Long yourEntityId, Consumer<EntityEventHistoryDTO> consumer);
+
+    /**
+     * findAllYourEntityEventHistory
+     * Loads all of the Event History, Unbounded, prefer findYourEntityEventHistoryPage
+     * or streamYourEntityEventHistory for Reads of Event History.
+     */
     List<YourEntityEventHistory> findAllYourEntityEventHistory();
 
 
@@ -125,8 +274,56 @@ public interface IdentityProviderEntityManager {
 
     YourEntity findYourEntityByEmail(String email);
 
+    /**
+     * findYourMicroserviceUserDetailsByEmail
+     * Authentication Projection of the Entity, reading only its Identifier, Email, Credentials, Status
+     * and Role Names in a single Query, rather than Loading the Entity and its Collections.
+     *
+     * @param email Email Address of the Entity.
+     * @return YourMicroserviceUserDetails User Details, or null if the Entity could not be found.
+     */
+    YourMicroserviceUserDetails findYourMicroserviceUserDetailsByEmail(String email);
+
+    /**
+     * findYourEntityEmailAddressById
+     * Email Address of the Entity as Stored, without regard to any Pending Change to the Entity.
+     *
+     * @param entityId Identifier of the Entity.
+     * @return String Stored Email Address, or null if the Entity could not be found.
+     */
+    String findYourEntityEmailAddressById(Long entityId);
+
+    /**
+     * isYourEntityStandingChanged
+     * Determine if Saving the Entity would Change its Credentials as Stored, or have its Status leave ACTIVE.
+     *
+     * @param yourEntity Entity about to be Saved.
+     * @return boolean indicates if the Entity's outstanding Tokens must be Revoked upon the Save.
+     */
+    boolean isYourEntityStandingChanged(YourEntity yourEntity);
+
+    /**
+     * saveYourEntity
+     * Save the Entity, Invalidating the Cached Principal of its Email Address and, if the Email Address
+     * has Changed, of its Previous Email Address as well.
+     *
+     * @param yourEntity Entity to be Saved.
+     */
     void saveYourEntity(YourEntity yourEntity);
 
+    /**
+     * updateYourEntityCredentials
+     * Replace the Entity's Credentials, only if they remain as Previously Read.  The Entity is Selected
+     * by its Identifier, so the Update does not depend upon the Case of the Email Address as Presented.
+     *
+     * @param entityId Identifier of the Entity.
+     * @param email Email Address of the Entity, whose Cached Principal is Invalidated.
+     * @param previousCredentials Credentials as Previously Read.
+     * @param credentials Replacement Credentials.
+     * @return Integer Count of Objects Updated or Zero.
+     */
+    Integer updateYourEntityCredentials(Long entityId, String email, String previousCredentials, String credentials);
+
     List<YourEntity> findAllYourEntities();
 
     Integer deleteYourEntityById(Long entityId);
@@ -1,19 +1,41 @@
 package your.microservice.core.security.idp.repository;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import your.microservice.core.dm.dto.history.EntityEventHistoryDTO;
 import your.microservice.core.security.idp.model.base.*;
+import your.microservice.core.security.idp.model.security.YourMicroserviceUserDetails;
+import your.microservice.core.security.idp.model.types.YourEntityStatus;
 import your.microservice.core.security.idp.model.types.YourEntityTokenStatus;
 
+import javax.annotation.PostConstruct;
 import javax.persistence.EntityManager;
+import javax.persistence.FlushModeType;
 import javax.persistence.NoResultException;
 import javax.persistence.PersistenceContext;
-import javax.persistence.criteria.*;
+import javax.persistence.Query;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Created with IntelliJ IDEA.
@@ -31,6 +53,10 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
     protected final static org.slf4j.Logger LOGGER =
             LoggerFactory.getLogger(IdentityProviderEntityManagerImpl.class);
 
+    /**
+     * Hint to Fetch the Attributes of an Entity Graph, in addition to those Eagerly Mapped.
+     */
+    private static final String LOAD_GRAPH_HINT = "javax.persistence.loadgraph";
 
     /**
      * Entity Manager
@@ -38,6 +64,57 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
     @PersistenceContext
     private EntityManager entityManager;
 
+    /**
+     * Application Event Publisher, to signal Changes to YourEntities.
+     */
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * HISTORY_PURGE_CHUNK_SIZE
+     *
+     * Maximum Number of Rows Deleted within a single Transaction, when Purging History.
+     */
+    @Value("${your.microservice.security.history.purge.chunk.size:1000}")
+    private Integer HISTORY_PURGE_CHUNK_SIZE = 1000;
+
+    /**
+     * EVENT_HISTORY_STREAM_FETCH_SIZE
+     *
+     * Number of Rows Fetched at once from the Forward only Cursor, when Streaming Event History.
+     */
+    @Value("${your.microservice.security.event.history.stream.fetch.size:500}")
+    private Integer EVENT_HISTORY_STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Transaction Manager, each Purge Chunk is Committed in its own Transaction.
+     */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Metric Registry
+     */
+    @Autowired
+    private MetricRegistry metricRegistry;
+
+    /**
+     * Purge Chunk Transaction Template and Timer.
+     */
+    private TransactionTemplate purgeChunkTransactionTemplate;
+    private Timer purgeChunkTimer;
+
+    /**
+     * initialization
+     * Entered when Bean is initialized.
+     */
+    @PostConstruct
+    public void initialization() {
+        purgeChunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        purgeChunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        purgeChunkTimer = metricRegistry.timer("timer.your.microservice.security.history.purge.chunk");
+    }
+
 
     @Override
     @Transactional
@@ -49,66 +126,46 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
             LOGGER.error("Exception Saving YourEntity: {} {}", e.getMessage(), yourEntityTokenHistory, e);
             return null;
         }
-        return readTokenHistory(yourEntityTokenHistory.getJti());
+        return yourEntityTokenHistory;
     }
 
 
     @Override
     @Transactional(readOnly = true)
     public YourEntityTokenHistory readTokenHistory(String jti) {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntityTokenHistory> criteriaQuery = criteriaBuilder.createQuery(YourEntityTokenHistory.class);
-        final Root<YourEntityTokenHistory> yourEntityRoot = criteriaQuery.from(YourEntityTokenHistory.class);
-
-        criteriaQuery.select(yourEntityRoot);
-        criteriaQuery.where(criteriaBuilder.equal(yourEntityRoot.get("jti"), jti));
-
-        return entityManager.createQuery(criteriaQuery).getSingleResult();
+        return entityManager.createNamedQuery(YourEntityTokenHistory.FIND_BY_JTI, YourEntityTokenHistory.class)
+                .setParameter("jti", jti)
+                .getSingleResult();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<YourEntityTokenHistory> readTokenHistoryBySubject(String subject) {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntityTokenHistory> criteriaQuery = criteriaBuilder.createQuery(YourEntityTokenHistory.class);
-        final Root<YourEntityTokenHistory> yourEntityRoot = criteriaQuery.from(YourEntityTokenHistory.class);
-
-        criteriaQuery.select(yourEntityRoot);
-        criteriaQuery.where(criteriaBuilder.equal(yourEntityRoot.get("subject"), subject));
-
-        return entityManager.createQuery(criteriaQuery).getResultList();
+        return entityManager.createNamedQuery(YourEntityTokenHistory.FIND_BY_SUBJECT, YourEntityTokenHistory.class)
+                .setParameter("subject", subject)
+                .getResultList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<YourEntityTokenHistory> readCurrentExpiredTokenHistory() {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntityTokenHistory> criteriaQuery = criteriaBuilder.createQuery(YourEntityTokenHistory.class);
-        final Root<YourEntityTokenHistory> yourEntityRoot = criteriaQuery.from(YourEntityTokenHistory.class);
-
-        // Create Date path and parameter expressions:
-        Expression<Date> expiration = yourEntityRoot.get("expiration");
-
-        criteriaQuery.select(yourEntityRoot);
-        criteriaQuery.where(criteriaBuilder.lessThanOrEqualTo(expiration, criteriaBuilder.currentTimestamp()));
-
-        return entityManager.createQuery(criteriaQuery).getResultList();
+        return entityManager.createNamedQuery(YourEntityTokenHistory.FIND_EXPIRED, YourEntityTokenHistory.class)
+                .getResultList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<YourEntityTokenHistory> readCurrentNonExpiredTokenHistory() {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntityTokenHistory> criteriaQuery = criteriaBuilder.createQuery(YourEntityTokenHistory.class);
-        final Root<YourEntityTokenHistory> yourEntityRoot = criteriaQuery.from(YourEntityTokenHistory.class);
-
-        // Create Date path and parameter expressions:
-        Expression<Date> expiration = yourEntityRoot.get("expiration");
-
-        criteriaQuery.select(yourEntityRoot);
-        criteriaQuery.where(criteriaBuilder.greaterThan(expiration, criteriaBuilder.currentTimestamp()));
+        return entityManager.createNamedQuery(YourEntityTokenHistory.FIND_NON_EXPIRED, YourEntityTokenHistory.class)
+                .getResultList();
+    }
 
-        return entityManager.createQuery(criteriaQuery).getResultList();
+    @Override
+    @Transactional(readOnly = true)
+    public List<YourEntityTokenHistory> readCurrentRevokedTokenHistory() {
+        return entityManager.createNamedQuery(YourEntityTokenHistory.FIND_NON_EXPIRED_BY_STATUS, YourEntityTokenHistory.class)
+                .setParameter("status", YourEntityTokenStatus.REVOKED)
+                .getResultList();
     }
 
 
@@ -116,10 +173,9 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
     @Transactional
     public Integer updateTokenHistoryStatus(String jti, YourEntityTokenStatus status) {
         try {
-            Integer count =
-                    entityManager.createNativeQuery("UPDATE YourEntityTokenHistory SET status = ? WHERE jti = ?", YourEntityTokenHistory.class)
-                    .setParameter(1, status.name())
-                    .setParameter(2, jti)
+            Integer count = entityManager.createNamedQuery(YourEntityTokenHistory.UPDATE_STATUS)
+                    .setParameter("status", status)
+                    .setParameter("jti", jti)
                     .executeUpdate();
 
             return count;
@@ -133,9 +189,10 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
     public Integer incrementTokenHistoryUsage(String jti) {
 
         try {
-            Integer count = entityManager.createNativeQuery("UPDATE YourEntityTokenHistory SET usageCount = usageCount + 1 WHERE jti = ? AND expiration > ?", YourEntityTokenHistory.class)
-                    .setParameter(1, jti)
-                    .setParameter(2, Date.from(Instant.now()))
+            Integer count = entityManager.createNamedQuery(YourEntityTokenHistory.INCREMENT_USAGE)
+                    .setParameter("jti", jti)
+                    .setParameter("now", Date.from(Instant.now()))
+                    .setParameter("status", YourEntityTokenStatus.ACTIVE)
                     .executeUpdate();
             entityManager.flush();
 
@@ -151,24 +208,10 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
      * @return Integer Number of Elements deleted or Zero.
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Integer deleteTokenHistory() {
-        try {
-            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-            final CriteriaDelete<YourEntityTokenHistory> delete = criteriaBuilder.createCriteriaDelete(YourEntityTokenHistory.class);
-            final Root<YourEntityTokenHistory> yourEntityRoot = delete.from(YourEntityTokenHistory.class);
-
-            // Create Date path and parameter expressions:
-            Expression<Date> expiration = yourEntityRoot.get("expiration");
-            delete.where(criteriaBuilder.lessThanOrEqualTo(expiration, criteriaBuilder.currentTimestamp()));
-
-            Integer count = entityManager.createQuery(delete).executeUpdate();
-            entityManager.flush();
-            return count;
-        } catch (Exception e) {
-            LOGGER.error("Exception encountered attempting to deleteTokenHistory: {}", e.getMessage(), e);
-            return 0;
-        }
+        return deleteInChunks("token.history", chunkSize ->
+                deleteTokenHistoryChunk(YourEntityTokenHistory.FIND_JTI_EXPIRED, chunkSize));
     }
 
     /**
@@ -177,43 +220,39 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
      * @return Integer Number of Elements deleted or Zero.
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Integer purgeTokenHistory() {
-        Integer count = 0;
-        try {
-            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-            final CriteriaQuery<YourEntityTokenHistory> criteriaQuery = criteriaBuilder.createQuery(YourEntityTokenHistory.class);
-            final Root<YourEntityTokenHistory> yourEntityRoot = criteriaQuery.from(YourEntityTokenHistory.class);
-            /**
-             * Select All Entities...
-             */
-            criteriaQuery.select(yourEntityRoot);
-            List<YourEntityTokenHistory> results = entityManager.createQuery(criteriaQuery).getResultList();
-            if (results != null && results.size() > 0) {
-                for(YourEntityTokenHistory entity : results) {
-                    count += deleteTokenHistory(entity.getJti());
-              }
-            }
-              return count;
-        } catch (Exception e) {
-            LOGGER.error("Exception encountered attempting to deleteTokenHistory: {}", e.getMessage(), e);
-            return count;
+        return deleteInChunks("token.history", chunkSize ->
+                deleteTokenHistoryChunk(YourEntityTokenHistory.FIND_JTI_ALL, chunkSize));
+    }
+
+    /**
+     * deleteTokenHistoryChunk
+     *
+     * @param queryName Named Query Selecting the Token Identifiers to be Deleted.
+     * @param chunkSize Maximum Number of Token History Entities to Delete.
+     * @return int Count of Objects Deleted.
+     */
+    private int deleteTokenHistoryChunk(String queryName, int chunkSize) {
+        List<String> jtis = entityManager.createNamedQuery(queryName, String.class)
+                .setMaxResults(chunkSize)
+                .getResultList();
+        if (jtis.isEmpty()) {
+            return 0;
         }
+        return entityManager.createNamedQuery(YourEntityTokenHistory.DELETE_BY_JTIS)
+                .setParameter("jtis", jtis)
+                .executeUpdate();
     }
 
     @Override
+    @Deprecated
     @Transactional
     public Integer deleteTokenHistory(String jti) {
         try {
-            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-            final CriteriaDelete<YourEntityTokenHistory> delete = criteriaBuilder.createCriteriaDelete(YourEntityTokenHistory.class);
-            final Root<YourEntityTokenHistory> yourEntityRoot = delete.from(YourEntityTokenHistory.class);
-
-            // Create Date path and parameter expressions:
-            Expression<String> jtiExpression = yourEntityRoot.get("jti");
-            delete.where(criteriaBuilder.equal(jtiExpression, jti));
-
-            Integer count = entityManager.createQuery(delete).executeUpdate();
+            Integer count = entityManager.createNamedQuery(YourEntityTokenHistory.DELETE_BY_JTI)
+                    .setParameter("jti", jti)
+                    .executeUpdate();
             entityManager.flush();
             return count;
         } catch (Exception e) {
@@ -223,18 +262,13 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
     }
 
     @Override
+    @Deprecated
     @Transactional
     public Integer deleteTokenHistoryBySubject(String subject) {
         try {
-            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-            final CriteriaDelete<YourEntityTokenHistory> delete = criteriaBuilder.createCriteriaDelete(YourEntityTokenHistory.class);
-            final Root<YourEntityTokenHistory> yourEntityRoot = delete.from(YourEntityTokenHistory.class);
-
-            // Create Date path and parameter expressions:
-            Expression<Date> subjectExpression = yourEntityRoot.get("subject");
-            delete.where(criteriaBuilder.equal(subjectExpression, subject));
-
-            Integer count = entityManager.createQuery(delete).executeUpdate();
+            Integer count = entityManager.createNamedQuery(YourEntityTokenHistory.DELETE_BY_SUBJECT)
+                    .setParameter("subject", subject)
+                    .executeUpdate();
             entityManager.flush();
             return count;
         } catch (Exception e) {
@@ -243,6 +277,127 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
         }
     }
 
+    @Override
+    @Transactional
+    public YourEntityTokenEpoch updateTokenEpoch(String subject, Date notBefore) {
+        try {
+            YourEntityTokenEpoch yourEntityTokenEpoch = new YourEntityTokenEpoch();
+            yourEntityTokenEpoch.setSubject(subject);
+            yourEntityTokenEpoch.setNotBefore(notBefore);
+            yourEntityTokenEpoch = entityManager.merge(yourEntityTokenEpoch);
+            entityManager.flush();
+            return yourEntityTokenEpoch;
+        } catch (Exception e) {
+            LOGGER.error("Exception encountered attempting to updateTokenEpoch using SUBJECT:[{}] {}", subject, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    @Override
+    @Transactional
+    public YourEntityRefreshToken createRefreshToken(YourEntityRefreshToken yourEntityRefreshToken) {
+        try {
+            entityManager.persist(yourEntityRefreshToken);
+            entityManager.flush();
+            return yourEntityRefreshToken;
+        } catch (Exception e) {
+            LOGGER.error("Exception Saving YourEntityRefreshToken: {} {}", e.getMessage(), yourEntityRefreshToken, e);
+            return null;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public YourEntityRefreshToken readRefreshToken(String tokenHash) {
+        return entityManager.find(YourEntityRefreshToken.class, tokenHash);
+    }
+
+    @Override
+    @Transactional
+    public Integer rotateRefreshToken(String tokenHash, YourEntityRefreshToken successor) {
+        Integer rotated = updateRefreshTokenStatus(YourEntityRefreshToken.UPDATE_STATUS_BY_TOKEN_HASH,
+                YourEntityTokenStatus.INACTIVE, "tokenHash", tokenHash, true);
+        if (rotated == 0) {
+            return rotated;
+        }
+        try {
+            entityManager.persist(successor);
+            entityManager.flush();
+            return rotated;
+        } catch (RuntimeException e) {
+            LOGGER.error("Exception Saving Successor YourEntityRefreshToken: {} {}", e.getMessage(), successor, e);
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional
+    public Integer revokeRefreshTokenFamily(String familyId) {
+        return updateRefreshTokenStatus(YourEntityRefreshToken.UPDATE_STATUS_BY_FAMILY_ID,
+                YourEntityTokenStatus.REVOKED, "familyId", familyId, false);
+    }
+
+    @Override
+    @Transactional
+    public Integer revokeRefreshTokensBySubject(String subject) {
+        return updateRefreshTokenStatus(YourEntityRefreshToken.UPDATE_STATUS_BY_SUBJECT,
+                YourEntityTokenStatus.REVOKED, "subject", subject, true);
+    }
+
+    /**
+     * updateRefreshTokenStatus
+     *
+     * @param queryName Named Update Query.
+     * @param status Status to be Set.
+     * @param attributeName Attribute by which Refresh Tokens are Selected.
+     * @param value Value of the Attribute.
+     * @param activeOnly Only Active Refresh Tokens are Updated.
+     * @return Integer Count of Objects Updated or Zero.
+     * @throws javax.persistence.PersistenceException Propagated, so a Failure is never mistaken for a
+     *                                                Refresh Token no longer Active.
+     */
+    private Integer updateRefreshTokenStatus(String queryName, YourEntityTokenStatus status,
+                                             String attributeName, String value, boolean activeOnly) {
+        try {
+            Query update = entityManager.createNamedQuery(queryName)
+                    .setParameter("status", status)
+                    .setParameter(attributeName, value);
+            if (activeOnly) {
+                update.setParameter("currentStatus", YourEntityTokenStatus.ACTIVE);
+            }
+            return update.executeUpdate();
+        } catch (RuntimeException e) {
+            LOGGER.error("Exception encountered attempting to update Refresh Token Status by {}: {}",
+                    attributeName, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Integer deleteExpiredRefreshTokens() {
+        return deleteInChunks("refresh.token", chunkSize -> {
+            List<String> tokenHashes =
+                    entityManager.createNamedQuery(YourEntityRefreshToken.FIND_TOKEN_HASH_EXPIRED, String.class)
+                            .setMaxResults(chunkSize)
+                            .getResultList();
+            if (tokenHashes.isEmpty()) {
+                return 0;
+            }
+            return entityManager.createNamedQuery(YourEntityRefreshToken.DELETE_BY_TOKEN_HASHES)
+                    .setParameter("tokenHashes", tokenHashes)
+                    .executeUpdate();
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<YourEntityTokenEpoch> readCurrentTokenEpochs(Date since) {
+        return entityManager.createNamedQuery(YourEntityTokenEpoch.FIND_SINCE, YourEntityTokenEpoch.class)
+                .setParameter("since", since)
+                .getResultList();
+    }
+
     @Override
     @Transactional
     public void createEventHistory(YourEntityEventHistory yourEntityEventHistory) {
@@ -250,6 +405,13 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
             return;
         }
         try {
+            /**
+             * An Event Published by Entity Identifier, references the Entity without Loading it.
+             */
+            if (yourEntityEventHistory.getYourEntity() == null && yourEntityEventHistory.getYourEntityId() != null) {
+                yourEntityEventHistory.setYourEntity(
+                        entityManager.getReference(YourEntity.class, yourEntityEventHistory.getYourEntityId()));
+            }
             yourEntityEventHistory.setCreatedByDate(Date.from(Instant.now()));
             entityManager.persist(yourEntityEventHistory);
             entityManager.flush();
@@ -261,22 +423,93 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
     @Override
     @Transactional(readOnly = true)
     public List<YourEntityEventHistory> findAllYourEntityEventHistory(Long entityId) {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntityEventHistory> criteriaQuery = criteriaBuilder.createQuery(YourEntityEventHistory.class);
-        final Root<YourEntityEventHistory> yourEntityRoot = criteriaQuery.from(YourEntityEventHistory.class);
-        criteriaQuery.select(yourEntityRoot);
-        criteriaQuery.where(criteriaBuilder.equal(yourEntityRoot.get("yourEntity"), entityId));
-        return entityManager.createQuery(criteriaQuery).getResultList();
+        return entityManager.createNamedQuery(YourEntityEventHistory.FIND_BY_ENTITY_ID, YourEntityEventHistory.class)
+                .setParameter("entityId", entityId)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EntityEventHistoryDTO> findYourEntityEventHistoryPage(Long yourEntityId, Date beforeCreatedByDate,
+                                                                      Long beforeId, int limit) {
+        List<EntityEventHistoryDTO> page;
+        if (beforeCreatedByDate == null || beforeId == null) {
+            page = entityManager.createNamedQuery(YourEntityEventHistory.FIND_PAGE_BY_ENTITY_ID, EntityEventHistoryDTO.class)
+                    .setParameter("entityId", yourEntityId)
+                    .setMaxResults(limit)
+                    .getResultList();
+        } else {
+            page = entityManager.createNamedQuery(YourEntityEventHistory.FIND_PAGE_BY_ENTITY_ID_BEFORE, EntityEventHistoryDTO.class)
+                    .setParameter("entityId", yourEntityId)
+                    .setParameter("createdByDate", beforeCreatedByDate)
+                    .setParameter("id", beforeId)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+        if (page.isEmpty()) {
+            return page;
+        }
+        /**
+         * Obtain the Tag Properties of the whole Page at once.
+         */
+        Map<Long, EntityEventHistoryDTO> eventsById = new HashMap<>(page.size() * 2);
+        for (EntityEventHistoryDTO event : page) {
+            event.setEventTagProperties(new HashMap<>());
+            eventsById.put(event.getId(), event);
+        }
+        List<Object[]> tagProperties =
+                entityManager.createNamedQuery(YourEntityEventHistory.FIND_TAG_PROPERTIES_BY_IDS, Object[].class)
+                        .setParameter("ids", new ArrayList<>(eventsById.keySet()))
+                        .getResultList();
+        for (Object[] tagProperty : tagProperties) {
+            eventsById.get((Long) tagProperty[0]).getEventTagProperties().put((String) tagProperty[1], (String) tagProperty[2]);
+        }
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int streamYourEntityEventHistory(Long yourEntityId, Consumer<EntityEventHistoryDTO> consumer) {
+        int streamed = 0;
+        ScrollableResults results = entityManager.createNamedQuery(YourEntityEventHistory.STREAM_BY_ENTITY_ID)
+                .setParameter("entityId", yourEntityId)
+                .unwrap(org.hibernate.query.Query.class)
+                .setFetchSize(EVENT_HISTORY_STREAM_FETCH_SIZE)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY);
+        try {
+            /**
+             * Rows arrive Ordered by Event, one per Tag Property, an Event is Complete once the next begins.
+             */
+            EntityEventHistoryDTO event = null;
+            while (results.next()) {
+                Object[] row = results.get();
+                if (event == null || !event.getId().equals(row[0])) {
+                    if (event != null) {
+                        consumer.accept(event);
+                        streamed++;
+                    }
+                    event = new EntityEventHistoryDTO((Long) row[0], (Date) row[1], (String) row[2], (String) row[3]);
+                }
+                if (row[4] != null) {
+                    event.getEventTagProperties().put((String) row[4], (String) row[5]);
+                }
+            }
+            if (event != null) {
+                consumer.accept(event);
+                streamed++;
+            }
+        } finally {
+            results.close();
+        }
+        return streamed;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<YourEntityEventHistory> findAllYourEntityEventHistory() {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntityEventHistory> criteriaQuery = criteriaBuilder.createQuery(YourEntityEventHistory.class);
-        final Root<YourEntityEventHistory> yourEntityRoot = criteriaQuery.from(YourEntityEventHistory.class);
-        criteriaQuery.select(yourEntityRoot);
-        return entityManager.createQuery(criteriaQuery).getResultList();
+        return entityManager.createNamedQuery(YourEntityEventHistory.FIND_ALL, YourEntityEventHistory.class)
+                .getResultList();
     }
 
     /**
@@ -286,45 +519,128 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
      * @return Integer Count of Objects Deleted or Zero.
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Integer deleteEventHistory() {
-        Integer count = 0;
-        try {
-            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-            final CriteriaQuery<YourEntityEventHistory> criteriaQuery = criteriaBuilder.createQuery(YourEntityEventHistory.class);
-            final Root<YourEntityEventHistory> yourEntityRoot = criteriaQuery.from(YourEntityEventHistory.class);
+        return deleteInChunks("event.history", chunkSize ->
+                deleteEventHistoryByIds(entityManager.createNamedQuery(YourEntityEventHistory.FIND_ID_ALL, Long.class)
+                        .setMaxResults(chunkSize)
+                        .getResultList()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Integer deleteEventHistoryCreatedBefore(Date before) {
+        return deleteInChunks("event.history", chunkSize ->
+                deleteEventHistoryByIds(entityManager.createNamedQuery(YourEntityEventHistory.FIND_ID_CREATED_BEFORE, Long.class)
+                        .setParameter("before", before)
+                        .setMaxResults(chunkSize)
+                        .getResultList()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Integer deleteEventHistoryExceeding(int maximum) {
+        int deleted = 0;
+        List<Object[]> exceeding;
+        do {
             /**
-             * Select All Entities...
+             * Take a Page of the Entities and Event Tags over the Maximum, then Trim each, a Chunk at a time,
+             * once Trimmed they are no longer over the Maximum, and drop out of the next Page.
              */
-            criteriaQuery.select(yourEntityRoot);
-            List<YourEntityEventHistory> results = entityManager.createQuery(criteriaQuery).getResultList();
-            if (results != null && results.size() > 0) {
-                for(YourEntityEventHistory entity : results) {
+            exceeding = entityManager.createNamedQuery(YourEntityEventHistory.FIND_TAGS_EXCEEDING, Object[].class)
+                    .setParameter("maximum", (long) maximum)
+                    .setMaxResults(HISTORY_PURGE_CHUNK_SIZE)
+                    .getResultList();
+            int trimmed = 0;
+            for (Object[] entityTag : exceeding) {
+                trimmed += deleteInChunks("event.history", chunkSize -> deleteEventHistoryByIds(
+                        entityManager.createNamedQuery(YourEntityEventHistory.FIND_ID_BY_ENTITY_ID_AND_TAG_NEWEST_FIRST, Long.class)
+                                .setParameter("entityId", entityTag[0])
+                                .setParameter("eventTagName", entityTag[1])
+                                .setFirstResult(maximum)
+                                .setMaxResults(chunkSize)
+                                .getResultList()));
+            }
+            if (trimmed == 0) {
+                break;
+            }
+            deleted += trimmed;
+        } while (exceeding.size() == HISTORY_PURGE_CHUNK_SIZE);
+        return deleted;
+    }
 
-                    entityManager.remove(entity);
-                    count++;
+    /**
+     * deleteEventHistoryByIds
+     * Event Tag Properties are held in their own Table, which a Bulk Delete does not Cascade to.
+     *
+     * @param ids Identifiers of the Event History Entities to Delete.
+     * @return int Count of Objects Deleted.
+     */
+    private int deleteEventHistoryByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        entityManager.createNamedQuery(YourEntityEventHistory.DELETE_TAG_PROPERTIES_BY_IDS)
+                .setParameter("ids", ids)
+                .executeUpdate();
+        return entityManager.createNamedQuery(YourEntityEventHistory.DELETE_BY_IDS)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    /**
+     * deleteInChunks
+     * Repeats the Chunk Deletion, each within its own Transaction, until a Chunk Deletes nothing,
+     * so neither Memory nor any one Transaction grows with the Size of the Table.
+     *
+     * @param kind          Kind of History Deleted, for Metrics and Logging.
+     * @param chunkDeletion Deletion of a single Chunk.
+     * @return Integer Count of Objects Deleted.
+     */
+    private Integer deleteInChunks(String kind, ChunkDeletion chunkDeletion) {
+        Counter deletedCounter =
+                metricRegistry.counter("counter.your.microservice.security.history.purge." + kind + ".deleted");
+        int deleted = 0;
+        try {
+            while (true) {
+                Timer.Context context = purgeChunkTimer.time();
+                Integer count;
+                try {
+                    count = purgeChunkTransactionTemplate.execute(status -> chunkDeletion.delete(HISTORY_PURGE_CHUNK_SIZE));
+                } finally {
+                    context.stop();
                 }
-                entityManager.flush();
+                if (count == null || count <= 0) {
+                    break;
+                }
+                deleted += count;
+                deletedCounter.inc(count);
+                LOGGER.debug("Purge of {} in Progress, Deleted:[{}].", kind, deleted);
             }
-            return count;
         } catch (Exception e) {
-            LOGGER.error("Exception encountered attempting to deleteTokenHistory: {}", e.getMessage(), e);
-            return count;
+            LOGGER.error("Exception encountered attempting to Purge {}, after Deleting:[{}]: {}",
+                    kind, deleted, e.getMessage(), e);
         }
+        return deleted;
+    }
+
+    /**
+     * ChunkDeletion
+     * Deletes at most a Chunk, returning the Count Deleted.
+     */
+    @FunctionalInterface
+    private interface ChunkDeletion {
+        int delete(int chunkSize);
     }
 
     @Override
     @Transactional(readOnly = true)
     public YourEntity findYourEntityById(Long entityId) {
-
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntity> criteriaQuery = criteriaBuilder.createQuery(YourEntity.class);
-        final Root<YourEntity> yourEntityRoot = criteriaQuery.from(YourEntity.class);
-
-        criteriaQuery.select(yourEntityRoot);
-        criteriaQuery.where(criteriaBuilder.equal(yourEntityRoot.get("entityId"), entityId));
         try {
-            return entityManager.createQuery(criteriaQuery).getSingleResult();
+            return entityManager.createNamedQuery(YourEntity.FIND_BY_ID, YourEntity.class)
+                    .setHint(LOAD_GRAPH_HINT, entityManager.getEntityGraph(YourEntity.GRAPH_WITH_COLLECTIONS))
+                    .setParameter("entityId", entityId)
+                    .getSingleResult();
         } catch(NoResultException nre) {
             return null;
         }
@@ -333,15 +649,11 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
     @Override
     @Transactional(readOnly = true)
     public YourEntity findYourEntityByEmail(String email) {
-
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntity> criteriaQuery = criteriaBuilder.createQuery(YourEntity.class);
-        final Root<YourEntity> yourEntityRoot = criteriaQuery.from(YourEntity.class);
-
-        criteriaQuery.select(yourEntityRoot);
-        criteriaQuery.where(criteriaBuilder.equal(yourEntityRoot.get("entityEmailAddress"), email));
         try {
-            return entityManager.createQuery(criteriaQuery).getSingleResult();
+            return entityManager.createNamedQuery(YourEntity.FIND_BY_EMAIL, YourEntity.class)
+                    .setHint(LOAD_GRAPH_HINT, entityManager.getEntityGraph(YourEntity.GRAPH_WITH_COLLECTIONS))
+                    .setParameter("email", email)
+                    .getSingleResult();
         } catch(NoResultException nre) {
             return null;
         }
@@ -349,15 +661,72 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
 
     @Override
     @Transactional(readOnly = true)
-    public List<YourEntity> findAllYourEntities() {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntity> criteriaQuery = criteriaBuilder.createQuery(YourEntity.class);
-        final Root<YourEntity> yourEntityRoot = criteriaQuery.from(YourEntity.class);
+    public YourMicroserviceUserDetails findYourMicroserviceUserDetailsByEmail(String email) {
+        List<Object[]> rows = entityManager.createNamedQuery(YourEntity.FIND_AUTHENTICATION_BY_EMAIL, Object[].class)
+                .setParameter("email", email)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return null;
+        }
+        /**
+         * One Row per Role, or a single Row without a Role.
+         */
+        List<String> roleNames = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (row[4] != null) {
+                roleNames.add((String) row[4]);
+            }
+        }
+        Object[] row = rows.get(0);
+        return new YourMicroserviceUserDetails((Long) row[0], (String) row[1], (String) row[2],
+                (YourEntityStatus) row[3], roleNames);
+    }
 
-        criteriaQuery.select(yourEntityRoot);
+    @Override
+    @Transactional(readOnly = true)
+    public List<YourEntity> findAllYourEntities() {
+        return entityManager.createNamedQuery(YourEntity.FIND_ALL, YourEntity.class)
+                .setHint(LOAD_GRAPH_HINT, entityManager.getEntityGraph(YourEntity.GRAPH_WITH_COLLECTIONS))
+                .getResultList();
+    }
 
-        return entityManager.createQuery(criteriaQuery).getResultList();
+    @Override
+    @Transactional(readOnly = true)
+    public String findYourEntityEmailAddressById(Long entityId) {
+        if (entityId == null) {
+            return null;
+        }
+        /**
+         * Do not Flush the Persistence Context, the Stored Email Address is wanted,
+         * not one Pending in a Managed Entity.
+         */
+        List<String> results = entityManager.createNamedQuery(YourEntity.FIND_EMAIL_BY_ID, String.class)
+                .setParameter("entityId", entityId)
+                .setFlushMode(FlushModeType.COMMIT)
+                .getResultList();
+        return results.isEmpty() ? null : results.get(0);
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isYourEntityStandingChanged(YourEntity yourEntity) {
+        if (yourEntity == null || yourEntity.getEntityId() == null) {
+            return false;
+        }
+        /**
+         * Do not Flush the Persistence Context, the Stored Credentials and Status are wanted,
+         * not those Pending in a Managed Entity.
+         */
+        List<Object[]> results = entityManager.createNamedQuery(YourEntity.FIND_STANDING_BY_ID, Object[].class)
+                .setParameter("entityId", yourEntity.getEntityId())
+                .setFlushMode(FlushModeType.COMMIT)
+                .getResultList();
+        if (results.isEmpty()) {
+            return false;
+        }
+        Object[] stored = results.get(0);
+        return !Objects.equals(stored[0], yourEntity.getCredentials()) ||
+                YourEntityStatus.ACTIVE.equals(stored[1]) && !YourEntityStatus.ACTIVE.equals(yourEntity.getStatus());
     }
 
     @Override
@@ -367,20 +736,64 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
             return;
         }
         try {
+            String previousEmailAddress = findYourEntityEmailAddressById(yourEntity.getEntityId());
+            boolean standingChanged = isYourEntityStandingChanged(yourEntity);
             if (yourEntity.getEntityId() == null) {
                 yourEntity.setCreatedByDate(Date.from(Instant.now()));
                 yourEntity.setCreatedByIdentifier("SYSTEM");
             }
             yourEntity.setUpdatedByDate(Date.from(Instant.now()));
             yourEntity.setUpdatedByIdentifier("SYSTEM");
-            entityManager.persist(yourEntity);
+            if (yourEntity.getEntityId() == null) {
+                entityManager.persist(yourEntity);
+            } else {
+                /**
+                 * An Existing Entity, most likely Detached since it was Read, is Merged.
+                 */
+                entityManager.merge(yourEntity);
+            }
             entityManager.flush();
+            /**
+             * A Principal Cached under the Previous Email Address must not Survive the Change, nor the Tokens
+             * Issued to it, which bear the Previous Email Address as their Subject, and so are Revoked
+             * regardless of the Entity's Standing.
+             */
+            boolean emailAddressChanged = previousEmailAddress != null &&
+                    !previousEmailAddress.equalsIgnoreCase(yourEntity.getEntityEmailAddress());
+            applicationEventPublisher.publishEvent(new YourEntityChangedEvent(this,
+                    yourEntity.getEntityEmailAddress(), standingChanged && !emailAddressChanged));
+            if (emailAddressChanged) {
+                applicationEventPublisher.publishEvent(
+                        new YourEntityChangedEvent(this, previousEmailAddress, true));
+            }
         } catch (Exception e) {
             LOGGER.error("Exception Saving YourEntity: {} {}", e.getMessage(), yourEntity, e);
         }
 
     }
 
+    @Override
+    @Transactional
+    public Integer updateYourEntityCredentials(Long entityId, String email, String previousCredentials, String credentials) {
+        Integer count = 0;
+        try {
+            count = entityManager.createNamedQuery(YourEntity.UPDATE_CREDENTIALS)
+                    .setParameter("credentials", credentials)
+                    .setParameter("updatedByDate", Date.from(Instant.now()))
+                    .setParameter("updatedByIdentifier", "SYSTEM")
+                    .setParameter("entityId", entityId)
+                    .setParameter("previousCredentials", previousCredentials)
+                    .executeUpdate();
+            if (count > 0) {
+                applicationEventPublisher.publishEvent(new YourEntityChangedEvent(this, email));
+            }
+            return count;
+        } catch (Exception e) {
+            LOGGER.error("Exception encountered attempting to updateYourEntityCredentials: {}", e.getMessage(), e);
+            return count;
+        }
+    }
+
     /**
      * deleteYourEntityById
      * Will delete Graph of the YourEntity Object
@@ -393,17 +806,19 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
     public Integer deleteYourEntityById(Long entityId) {
         Integer count = 0;
         try {
-            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-            final CriteriaQuery<YourEntity> criteriaQuery = criteriaBuilder.createQuery(YourEntity.class);
-            final Root<YourEntity> yourEntityRoot = criteriaQuery.from(YourEntity.class);
-
-            criteriaQuery.select(yourEntityRoot);
-            criteriaQuery.where(criteriaBuilder.equal(yourEntityRoot.get("entityId"), entityId));
-            YourEntity yourEntity = entityManager.createQuery(criteriaQuery).getSingleResult();
+            YourEntity yourEntity = entityManager.createNamedQuery(YourEntity.FIND_BY_ID, YourEntity.class)
+                    .setParameter("entityId", entityId)
+                    .getSingleResult();
             if (yourEntity != null) {
                     entityManager.remove(yourEntity);
                     entityManager.flush();
                     count++;
+                    /**
+                     * The Tokens of a Deleted Entity are Revoked, as a Stateless Token would otherwise
+                     * Authorize it until Expiry.
+                     */
+                    applicationEventPublisher.publishEvent(
+                            new YourEntityChangedEvent(this, yourEntity.getEntityEmailAddress(), true));
             }
             return count;
         } catch (Exception e) {
@@ -415,40 +830,25 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
     @Override
     @Transactional(readOnly = true)
     public YourEntityOrganization findYourEntityOrganizationById(Long entityOrgId) {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntityOrganization> criteriaQuery = criteriaBuilder.createQuery(YourEntityOrganization.class);
-        final Root<YourEntityOrganization> yourEntityRoot = criteriaQuery.from(YourEntityOrganization.class);
-
-        criteriaQuery.select(yourEntityRoot);
-        criteriaQuery.where(criteriaBuilder.equal(yourEntityRoot.get("entityOrgId"), entityOrgId));
-
-        return entityManager.createQuery(criteriaQuery).getSingleResult();
+        return entityManager.createNamedQuery(YourEntityOrganization.FIND_BY_ID, YourEntityOrganization.class)
+                .setParameter("entityOrgId", entityOrgId)
+                .getSingleResult();
     }
 
 
     @Override
     @Transactional(readOnly = true)
     public YourEntityOrganization findYourEntityOrganizationByName(String name) {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntityOrganization> criteriaQuery = criteriaBuilder.createQuery(YourEntityOrganization.class);
-        final Root<YourEntityOrganization> yourEntityRoot = criteriaQuery.from(YourEntityOrganization.class);
-
-        criteriaQuery.select(yourEntityRoot);
-        criteriaQuery.where(criteriaBuilder.equal(yourEntityRoot.get("name"), name));
-
-        return entityManager.createQuery(criteriaQuery).getSingleResult();
+        return entityManager.createNamedQuery(YourEntityOrganization.FIND_BY_NAME, YourEntityOrganization.class)
+                .setParameter("name", name)
+                .getSingleResult();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<YourEntityOrganization> findAllYourEntityOrganizations() {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntityOrganization> criteriaQuery = criteriaBuilder.createQuery(YourEntityOrganization.class);
-        final Root<YourEntityOrganization> yourEntityRoot = criteriaQuery.from(YourEntityOrganization.class);
-
-        criteriaQuery.select(yourEntityRoot);
-
-        return entityManager.createQuery(criteriaQuery).getResultList();
+        return entityManager.createNamedQuery(YourEntityOrganization.FIND_ALL, YourEntityOrganization.class)
+                .getResultList();
     }
 
     /**
@@ -463,13 +863,9 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
     public Integer deleteYourEntityOrganizationById(Long entityOrgId) {
         Integer count = 0;
         try {
-            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-            final CriteriaQuery<YourEntityOrganization> criteriaQuery = criteriaBuilder.createQuery(YourEntityOrganization.class);
-            final Root<YourEntityOrganization> yourEntityRoot = criteriaQuery.from(YourEntityOrganization.class);
-
-            criteriaQuery.select(yourEntityRoot);
-            criteriaQuery.where(criteriaBuilder.equal(yourEntityRoot.get("entityOrgId"), entityOrgId));
-            YourEntityOrganization yourEntity = entityManager.createQuery(criteriaQuery).getSingleResult();
+            YourEntityOrganization yourEntity = entityManager.createNamedQuery(YourEntityOrganization.FIND_BY_ID, YourEntityOrganization.class)
+                    .setParameter("entityOrgId", entityOrgId)
+                    .getSingleResult();
             if (yourEntity != null) {
                 entityManager.remove(yourEntity);
                 entityManager.flush();
@@ -506,40 +902,25 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
     @Override
     @Transactional(readOnly = true)
     public YourEntityRole findYourEntityRoleById(Long entityRoleId) {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntityRole> criteriaQuery = criteriaBuilder.createQuery(YourEntityRole.class);
-        final Root<YourEntityRole> yourEntityRoot = criteriaQuery.from(YourEntityRole.class);
-
-        criteriaQuery.select(yourEntityRoot);
-        criteriaQuery.where(criteriaBuilder.equal(yourEntityRoot.get("entityRoleId"), entityRoleId));
-
-        return entityManager.createQuery(criteriaQuery).getSingleResult();
+        return entityManager.createNamedQuery(YourEntityRole.FIND_BY_ID, YourEntityRole.class)
+                .setParameter("entityRoleId", entityRoleId)
+                .getSingleResult();
     }
 
 
     @Override
     @Transactional(readOnly = true)
     public YourEntityRole findYourEntityRoleByName(String name) {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntityRole> criteriaQuery = criteriaBuilder.createQuery(YourEntityRole.class);
-        final Root<YourEntityRole> yourEntityRoot = criteriaQuery.from(YourEntityRole.class);
-
-        criteriaQuery.select(yourEntityRoot);
-        criteriaQuery.where(criteriaBuilder.equal(yourEntityRoot.get("name"), name));
-
-        return entityManager.createQuery(criteriaQuery).getSingleResult();
+        return entityManager.createNamedQuery(YourEntityRole.FIND_BY_NAME, YourEntityRole.class)
+                .setParameter("name", name)
+                .getSingleResult();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<YourEntityRole> findAllYourEntityRoles() {
-        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-        final CriteriaQuery<YourEntityRole> criteriaQuery = criteriaBuilder.createQuery(YourEntityRole.class);
-        final Root<YourEntityRole> yourEntityRoot = criteriaQuery.from(YourEntityRole.class);
-
-        criteriaQuery.select(yourEntityRoot);
-
-        return entityManager.createQuery(criteriaQuery).getResultList();
+        return entityManager.createNamedQuery(YourEntityRole.FIND_ALL, YourEntityRole.class)
+                .getResultList();
     }
 
     @Override
@@ -557,6 +938,10 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
             yourEntityRole.setUpdatedByIdentifier("SYSTEM");
             entityManager.persist(yourEntityRole);
             entityManager.flush();
+            /**
+             * A Role may be held by any number of Entities.
+             */
+            applicationEventPublisher.publishEvent(new YourEntityChangedEvent(this, null));
         } catch (Exception e) {
             LOGGER.error("Exception Saving YourEntityRole: {} {}", e.getMessage(), yourEntityRole, e);
         }
@@ -574,17 +959,14 @@ public class IdentityProviderEntityManagerImpl implements IdentityProviderEntity
     public Integer deleteYourEntityRoleById(Long entityRoleId) {
         Integer count = 0;
         try {
-            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-            final CriteriaQuery<YourEntityRole> criteriaQuery = criteriaBuilder.createQuery(YourEntityRole.class);
-            final Root<YourEntityRole> yourEntityRoot = criteriaQuery.from(YourEntityRole.class);
-
-            criteriaQuery.select(yourEntityRoot);
-            criteriaQuery.where(criteriaBuilder.equal(yourEntityRoot.get("entityRoleId"), entityRoleId));
-            YourEntityRole yourEntity = entityManager.createQuery(criteriaQuery).getSingleResult();
+            YourEntityRole yourEntity = entityManager.createNamedQuery(YourEntityRole.FIND_BY_ID, YourEntityRole.class)
+                    .setParameter("entityRoleId", entityRoleId)
+                    .getSingleResult();
             if (yourEntity != null) {
                 entityManager.remove(yourEntity);
                 entityManager.flush();
                 count++;
+                applicationEventPublisher.publishEvent(new YourEntityChangedEvent(this, null));
             }
             return count;
         } catch (Exception e) {
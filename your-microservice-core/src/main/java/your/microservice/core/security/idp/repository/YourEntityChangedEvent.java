@@ -0,0 +1,62 @@
+package your.microservice.core.security.idp.repository;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * YourEntityChangedEvent
+ * <p>
+ * Published by the Identity Provider Entity Manager when a YourEntity, or a YourEntityRole which
+ * any number of YourEntities may hold, has been Saved or Deleted, so anything derived from the
+ * Entity, such as a Cached Principal, can be Invalidated.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public class YourEntityChangedEvent extends ApplicationEvent {
+
+    /**
+     * Email Address of the Changed Entity, or null if all Entities may be Affected.
+     */
+    private final String entityEmailAddress;
+
+    /**
+     * Indicates the Entity's Credentials have Changed, its Status has left ACTIVE, or the Entity
+     * no longer exists under this Email Address, so its outstanding Tokens must be Revoked.
+     */
+    private final boolean standingChanged;
+
+    /**
+     * Default Constructor
+     *
+     * @param source Publisher of the Event.
+     * @param entityEmailAddress Email Address of the Changed Entity, or null if all Entities may be Affected.
+     */
+    public YourEntityChangedEvent(Object source, String entityEmailAddress) {
+        this(source, entityEmailAddress, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param source Publisher of the Event.
+     * @param entityEmailAddress Email Address of the Changed Entity, or null if all Entities may be Affected.
+     * @param standingChanged Indicates the Entity's Credentials have Changed, its Status has left ACTIVE,
+     *                        or the Entity was Deleted or left this Email Address.
+     */
+    public YourEntityChangedEvent(Object source, String entityEmailAddress, boolean standingChanged) {
+        super(source);
+        this.entityEmailAddress = entityEmailAddress;
+        this.standingChanged = standingChanged;
+    }
+
+    public String getEntityEmailAddress() {
+        return entityEmailAddress;
+    }
+
+    public boolean isStandingChanged() {
+        return standingChanged;
+    }
+
+    public boolean isAllEntities() {
+        return entityEmailAddress == null;
+    }
+}
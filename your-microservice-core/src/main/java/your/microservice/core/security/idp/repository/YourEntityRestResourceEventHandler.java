@@ -0,0 +1,138 @@
+package your.microservice.core.security.idp.repository;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterLinkDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterLinkSave;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.HandleBeforeSave;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+import your.microservice.core.security.idp.model.base.YourEntity;
+
+/**
+ * YourEntityRestResourceEventHandler
+ * <p>
+ * Saves and Deletes made through the YourEntityRestResouceRepository bypass the Identity Provider
+ * Entity Manager, so the YourEntityChangedEvent is Published here instead, Invalidating the Cached
+ * Principal of the Entity, and of its Previous Email Address when that has Changed, and Revoking the
+ * Entity's outstanding Tokens when its Credentials have Changed or its Status has left ACTIVE.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@Component
+@RepositoryEventHandler(YourEntity.class)
+public class YourEntityRestResourceEventHandler {
+    /**
+     * Logging
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(YourEntityRestResourceEventHandler.class);
+
+    /**
+     * Email Address as Stored, prior to the Save being Handled on this Thread.
+     */
+    private static final ThreadLocal<String> previousEmailAddress = new ThreadLocal<>();
+
+    /**
+     * Indicates the Save being Handled on this Thread Changes the Entity's Credentials or Status.
+     */
+    private static final ThreadLocal<Boolean> standingChanged = new ThreadLocal<>();
+
+    /**
+     * Identity Provider Entity Manager
+     */
+    @Autowired
+    private IdentityProviderEntityManager identityProviderEntityManager;
+
+    /**
+     * Application Event Publisher
+     */
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * handleBeforeSave
+     * Record the Email Address and Standing as Stored, before the Save overwrites them.
+     *
+     * @param yourEntity Entity about to be Saved.
+     */
+    @HandleBeforeSave
+    public void handleBeforeSave(YourEntity yourEntity) {
+        previousEmailAddress.set(
+                identityProviderEntityManager.findYourEntityEmailAddressById(yourEntity.getEntityId()));
+        standingChanged.set(identityProviderEntityManager.isYourEntityStandingChanged(yourEntity));
+    }
+
+    /**
+     * handleAfterSave
+     *
+     * @param yourEntity Entity Saved.
+     */
+    @HandleAfterSave
+    public void handleAfterSave(YourEntity yourEntity) {
+        try {
+            String previous = previousEmailAddress.get();
+            boolean emailAddressChanged = previous != null &&
+                    !previous.equalsIgnoreCase(yourEntity.getEntityEmailAddress());
+            boolean revokeTokens = Boolean.TRUE.equals(standingChanged.get());
+            publishChanged(yourEntity.getEntityEmailAddress(), revokeTokens && !emailAddressChanged);
+            if (emailAddressChanged) {
+                publishChanged(previous, true);
+            }
+        } finally {
+            previousEmailAddress.remove();
+            standingChanged.remove();
+        }
+    }
+
+    /**
+     * handleAfterDelete
+     *
+     * @param yourEntity Entity Deleted.
+     */
+    @HandleAfterDelete
+    public void handleAfterDelete(YourEntity yourEntity) {
+        publishChanged(yourEntity.getEntityEmailAddress(), true);
+    }
+
+    /**
+     * handleAfterLinkSave
+     * Roles or Organizations Linked to the Entity.
+     *
+     * @param yourEntity Entity Linked.
+     * @param linked Linked Resource.
+     */
+    @HandleAfterLinkSave
+    public void handleAfterLinkSave(YourEntity yourEntity, Object linked) {
+        publishChanged(yourEntity.getEntityEmailAddress(), false);
+    }
+
+    /**
+     * handleAfterLinkDelete
+     * Roles or Organizations Unlinked from the Entity.
+     *
+     * @param yourEntity Entity Unlinked.
+     * @param linked Unlinked Resource.
+     */
+    @HandleAfterLinkDelete
+    public void handleAfterLinkDelete(YourEntity yourEntity, Object linked) {
+        publishChanged(yourEntity.getEntityEmailAddress(), false);
+    }
+
+    /**
+     * publishChanged
+     *
+     * @param email Email Address of the Changed Entity.
+     * @param standingChanged Indicates the Entity's Credentials have Changed, or its Status has left ACTIVE.
+     */
+    private void publishChanged(String email, boolean standingChanged) {
+        if (email == null) {
+            return;
+        }
+        LOGGER.debug("Invalidating Cached Principal for REST Change of: {}", email);
+        applicationEventPublisher.publishEvent(new YourEntityChangedEvent(this, email, standingChanged));
+    }
+}
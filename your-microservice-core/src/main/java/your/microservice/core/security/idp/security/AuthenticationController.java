@@ -1,44 +1,59 @@
 package your.microservice.core.security.idp.security;
 
-import com.nimbusds.jwt.JWTClaimsSet;
-
 import your.microservice.core.system.messaging.jms.MessagePublisherService;
 import your.microservice.core.security.idp.jwt.YourMicroserviceInvalidTokenException;
+import your.microservice.core.security.idp.jwt.YourMicroserviceRefreshTokenService;
 import your.microservice.core.security.idp.jwt.YourMicroserviceToken;
+import your.microservice.core.security.idp.jwt.YourMicroserviceTokenHistoryWriter;
+import your.microservice.core.security.idp.jwt.YourMicroserviceTokenRevocationService;
+import your.microservice.core.security.idp.jwt.YourMicroserviceVerifiedToken;
 import your.microservice.core.security.idp.model.base.YourEntityEventHistory;
+import your.microservice.core.security.idp.model.base.YourEntityRefreshToken;
 import your.microservice.core.security.idp.model.base.YourEntityTokenHistory;
 import your.microservice.core.security.idp.model.json.request.AuthenticationRequest;
+import your.microservice.core.security.idp.model.json.request.RefreshTokenRequest;
 import your.microservice.core.security.idp.model.json.response.AuthenticationResponse;
 import your.microservice.core.security.idp.model.security.YourMicroserviceUserDetails;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mobile.device.Device;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.preauth.PreAuthenticatedCredentialsNotFoundException;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.bind.annotation.*;
 import your.microservice.core.security.idp.model.types.YourEntityTokenStatus;
-import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+import your.microservice.core.security.idp.security.authority.YourMicroserviceProcessAuthority;
+import your.microservice.core.security.idp.security.service.LoginThrottleService;
+import your.microservice.core.util.IdentifierUtility;
 
+import javax.annotation.PostConstruct;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * AuthenticationController
@@ -69,6 +84,27 @@ public class AuthenticationController {
     @Value("${your.microservice.security.token.expiration}")
     private Long TOKEN_EXPIRATION_IN_SECONDS = 14400L;
 
+    /**
+     * LOGIN_THROTTLE_TRUSTED_PROXIES
+     *
+     * Comma Separated Addresses or CIDR Ranges of the Proxies trusted to Supply the Forwarded For Header.
+     * When none are Trusted, the Forwarded For Header is Ignored by the Login Throttle.
+     */
+    @Value("${your.microservice.security.login.throttle.trusted.proxies:}")
+    private String LOGIN_THROTTLE_TRUSTED_PROXIES = "";
+
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9a-fA-F:.]+");
+
+    /**
+     * Authority held by Process Principals, our own Services.
+     */
+    private static final String PROCESS_AUTHORITY = new YourMicroserviceProcessAuthority().getAuthority();
+
+    /**
+     * Trusted Proxies
+     */
+    private List<IpAddressMatcher> trustedProxies = Collections.emptyList();
+
     /**
      * Authentication Manager
      */
@@ -81,11 +117,17 @@ public class AuthenticationController {
     @Autowired
     private YourMicroserviceToken yourMicroserviceToken;
 
+    /**
+     * Your Microservice Token Revocation Service
+     */
+    @Autowired
+    private YourMicroserviceTokenRevocationService yourMicroserviceTokenRevocationService;
+
     /**
      * Your Microservice User Details
      */
     @Autowired
-    private UserDetailsService userDetailsService;
+    private YourMicroserviceUserDetailsService userDetailsService;
 
     /**
      * Message Publication Service.
@@ -94,10 +136,47 @@ public class AuthenticationController {
     private MessagePublisherService messagePublisherService;
 
     /**
-     * Identity Provider Entity Manager.
+     * Login Throttle Service.
+     */
+    @Autowired
+    private LoginThrottleService loginThrottleService;
+
+    /**
+     * Token History Writer.
      */
     @Autowired
-    private IdentityProviderEntityManager identityProviderEntityManager;
+    private YourMicroserviceTokenHistoryWriter yourMicroserviceTokenHistoryWriter;
+
+    /**
+     * Refresh Token Service.
+     */
+    @Autowired
+    private YourMicroserviceRefreshTokenService yourMicroserviceRefreshTokenService;
+
+    /**
+     * Executor upon which Authentication Events are Published, off the Response Path.
+     */
+    @Autowired
+    @Qualifier("authenticationEventTaskExecutor")
+    private TaskExecutor authenticationEventTaskExecutor;
+
+    /**
+     * initialization
+     * Entered when Bean is initialized.
+     */
+    @PostConstruct
+    public void initialization() {
+        List<IpAddressMatcher> matchers = new ArrayList<>();
+        if (LOGIN_THROTTLE_TRUSTED_PROXIES != null) {
+            for (String trustedProxy : LOGIN_THROTTLE_TRUSTED_PROXIES.split(",")) {
+                if (!trustedProxy.trim().isEmpty()) {
+                    matchers.add(new IpAddressMatcher(trustedProxy.trim()));
+                }
+            }
+        }
+        trustedProxies = Collections.unmodifiableList(matchers);
+        LOGGER.info("Login Throttle Trusted Proxies:[{}].", LOGIN_THROTTLE_TRUSTED_PROXIES);
+    }
 
     /**
      * authenticationRequest
@@ -120,17 +199,19 @@ public class AuthenticationController {
          * Perform Authentication Request for Consumer to Obtain Access Token.
          */
         LOGGER.info("Performing Authentication of '{}' from '{}'", authenticationRequest.getUsername(), device);
-        Authentication authentication = this.authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        authenticationRequest.getUsername(),
-                        authenticationRequest.getPassword()
-                )
-        );
+        Authentication authentication = authenticate(authenticationRequest, request);
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        // Reload password post-authentication so we can generate token
-        UserDetails userDetails = this.userDetailsService.loadUserByUsername(authenticationRequest.getUsername());
-        String token = this.yourMicroserviceToken.generateToken(userDetails.getUsername(),
-                yourMicroserviceToken.transformAudienceType(device));
+        UserDetails userDetails = obtainAuthenticatedUserDetails(authentication);
+        String audience = obtainAudience(userDetails, device);
+        /**
+         * The Access Token Claims the Family of the Refresh Token Issued alongside it, which, unlike
+         * the Token History, is Persisted on the Response Path, as it must be Durable before it is handed out.
+         */
+        String refreshFamilyId = IdentifierUtility.randomUUID();
+        YourMicroserviceVerifiedToken issuedToken = obtainIssuedToken(
+                this.yourMicroserviceToken.issueToken(userDetails, audience, refreshFamilyId));
+        String refreshToken = obtainIssuedRefreshToken(
+                yourMicroserviceRefreshTokenService.issueRefreshToken(issuedToken.getSubject(), audience, refreshFamilyId));
         /**
          * Publish Authentication Notification...
          */
@@ -144,11 +225,12 @@ public class AuthenticationController {
         /**
          * Persist our new Token Entity to our History.
          */
-        saveTokenHistory(token);
+        saveTokenHistory(issuedToken);
         /**
-         * Return the Successful response with our Generated Access Token.
+         * Return the Successful response with our Generated Access Token and a Refresh Token.
          */
-        return ResponseEntity.ok(new AuthenticationResponse(token, TOKEN_EXPIRATION_IN_SECONDS.intValue()));
+        return ResponseEntity.ok(new AuthenticationResponse(issuedToken.getToken(), TOKEN_EXPIRATION_IN_SECONDS.intValue(),
+                refreshToken));
     }
 
     /**
@@ -171,16 +253,14 @@ public class AuthenticationController {
          * Perform Authentication Request for Consumer to Obtain Access Token.
          */
         LOGGER.info("Performing Authentication of '{}' from '{}'", authenticationRequest.getUsername(), "swagger");
-        Authentication authentication = this.authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        authenticationRequest.getUsername(),
-                        authenticationRequest.getPassword()
-                )
-        );
+        Authentication authentication = authenticate(authenticationRequest, request);
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        // Reload password post-authentication so we can generate token
-        UserDetails userDetails = this.userDetailsService.loadUserByUsername(authenticationRequest.getUsername());
-        String token = this.yourMicroserviceToken.generateToken(userDetails.getUsername(), "unknown");
+        UserDetails userDetails = obtainAuthenticatedUserDetails(authentication);
+        String refreshFamilyId = IdentifierUtility.randomUUID();
+        YourMicroserviceVerifiedToken issuedToken = obtainIssuedToken(this.yourMicroserviceToken.issueToken(userDetails,
+                YourMicroserviceToken.AUDIENCE_UNKNOWN, refreshFamilyId));
+        String refreshToken = obtainIssuedRefreshToken(yourMicroserviceRefreshTokenService.issueRefreshToken(
+                issuedToken.getSubject(), YourMicroserviceToken.AUDIENCE_UNKNOWN, refreshFamilyId));
         /**
          * Publish Authentication Notification...
          */
@@ -194,11 +274,12 @@ public class AuthenticationController {
         /**
          * Persist our new Token Entity to our History.
          */
-        saveTokenHistory(token);
+        saveTokenHistory(issuedToken);
         /**
-         * Return the Successful response with our Generated Access Token.
+         * Return the Successful response with our Generated Access Token and a Refresh Token.
          */
-        return ResponseEntity.ok(new AuthenticationResponse(token, TOKEN_EXPIRATION_IN_SECONDS.intValue()));
+        return ResponseEntity.ok(new AuthenticationResponse(issuedToken.getToken(), TOKEN_EXPIRATION_IN_SECONDS.intValue(),
+                refreshToken));
     }
 
 
@@ -215,14 +296,17 @@ public class AuthenticationController {
     @RequestMapping(value = "${your.microservice.security.route.authentication.refresh}", method = RequestMethod.GET)
     public ResponseEntity<?> refreshRequest(HttpServletRequest request) {
 
-        String token = YourMicroserviceSecurityConstants.obtainAuthorizationBearerToken(request);
-        String username = this.yourMicroserviceToken.getUsernameFromToken(token);
+        YourMicroserviceVerifiedToken verifiedToken = obtainVerifiedToken(request);
+        if (verifiedToken == null) {
+            return ResponseEntity.badRequest().body(null);
+        }
         try {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = this.userDetailsService.loadPrincipal(verifiedToken.getSubject());
             /**
              * For now we Assume we can perform a Refresh, regardless ot Expiration...
              */
-            String refreshedToken = this.yourMicroserviceToken.refreshToken(token);
+            YourMicroserviceVerifiedToken refreshedToken =
+                    obtainIssuedToken(this.yourMicroserviceToken.refreshToken(verifiedToken, userDetails));
             /**
              * Publish Refresh Token Notification...
              */
@@ -240,13 +324,84 @@ public class AuthenticationController {
             /**
              * Return the Successful response with our newly Generated Access Token.
              */
-            return ResponseEntity.ok(new AuthenticationResponse(refreshedToken, TOKEN_EXPIRATION_IN_SECONDS.intValue()));
+            return ResponseEntity.ok(new AuthenticationResponse(refreshedToken.getToken(), TOKEN_EXPIRATION_IN_SECONDS.intValue()));
 
         } catch (UsernameNotFoundException une) {
             return ResponseEntity.badRequest().body(null);
         }
     }
 
+    /**
+     * refreshTokenExchange
+     * Exchange an Opaque Refresh Token for a new Access Token and the Refresh Token's Successor, without
+     * presenting Credentials again.  The Exchange is a single Indexed Lookup, no Password is Hashed.
+     *
+     * @param refreshTokenRequest Incoming Refresh Token Request DTO
+     * @param request             Incoming Request
+     * @return ResponseEntity If the Refresh Token is Active and the Principal remains in Good Standing,
+     * Response Entity will Contain the JWT and the Successor Refresh Token.
+     * @throws AuthenticationException Thrown when the Refresh Token is not Accepted.
+     */
+    @ApiOperation(value="Auth Exchange Refresh Token for Access Token", httpMethod = "POST")
+    @RequestMapping(value = "${your.microservice.security.route.authentication.token}", method = RequestMethod.POST,
+            consumes = {"application/json", "application/json;charset=UTF8"})
+    public ResponseEntity<?> refreshTokenExchange(@RequestBody RefreshTokenRequest refreshTokenRequest,
+                                                  HttpServletRequest request) throws AuthenticationException {
+        YourEntityRefreshToken presented;
+        try {
+            presented = yourMicroserviceRefreshTokenService.exchangeRefreshToken(refreshTokenRequest.getRefresh_token());
+        } catch (YourMicroserviceInvalidTokenException ite) {
+            LOGGER.info("Refresh Token Rejected, Reason:'{}'.", ite.getReason());
+            throw new BadCredentialsException(ite.getMessage());
+        }
+        UserDetails userDetails;
+        try {
+            userDetails = this.userDetailsService.loadPrincipal(presented.getSubject());
+        } catch (UsernameNotFoundException une) {
+            userDetails = null;
+        }
+        if (userDetails == null || !userDetails.isEnabled() || !userDetails.isAccountNonLocked() ||
+                !userDetails.isAccountNonExpired() || !userDetails.isCredentialsNonExpired()) {
+            /**
+             * The Principal is no longer in Good Standing, its Refresh Tokens are of no further use.
+             */
+            yourMicroserviceRefreshTokenService.revokeRefreshTokenFamily(presented.getFamilyId());
+            throw new BadCredentialsException("Principal no longer in Good Standing");
+        }
+        YourMicroserviceVerifiedToken issuedToken = obtainIssuedToken(this.yourMicroserviceToken.issueToken(userDetails,
+                presented.getAudience(), presented.getFamilyId()));
+        /**
+         * Only once the Access Token is Issued is the Presented Refresh Token Consumed, along with the
+         * Persisting of its Successor, so any Failure leaves the Presented Refresh Token of Use.
+         */
+        String successorRefreshToken;
+        try {
+            successorRefreshToken = yourMicroserviceRefreshTokenService.rotateRefreshToken(presented);
+        } catch (YourMicroserviceInvalidTokenException ite) {
+            LOGGER.info("Refresh Token Rejected, Reason:'{}'.", ite.getReason());
+            throw new BadCredentialsException(ite.getMessage());
+        }
+        /**
+         * Publish Refresh Token Notification...
+         */
+        try {
+            publishAuthenticationEvents(request, (YourMicroserviceUserDetails)userDetails,
+                    YourEntityEventHistory.EntityEventTagNames.LAST_TOKEN_REFRESH);
+        } catch (Exception e) {
+            LOGGER.warn("Unable to perform Publishing of Entity Event History for Last Token Refresh: {}",
+                    e.getMessage());
+        }
+        /**
+         * Persist our new Token Entity to our History.
+         */
+        saveTokenHistory(issuedToken);
+        /**
+         * Return the Successful response with our Generated Access Token and the Successor Refresh Token.
+         */
+        return ResponseEntity.ok(new AuthenticationResponse(issuedToken.getToken(), TOKEN_EXPIRATION_IN_SECONDS.intValue(),
+                successorRefreshToken));
+    }
+
     /**
      * authenticationRequest
      * Requesting a Revocation of an Existing Access Token.
@@ -258,47 +413,108 @@ public class AuthenticationController {
     @RequestMapping(value = "${your.microservice.security.route.authentication.logout}", method = RequestMethod.GET)
     public ResponseEntity<?> logoutAndRevokeAccess(HttpServletRequest request) {
 
-        String token = YourMicroserviceSecurityConstants.obtainAuthorizationBearerToken(request);
-        String username = this.yourMicroserviceToken.getUsernameFromToken(token);
+        YourMicroserviceVerifiedToken verifiedToken = obtainVerifiedToken(request);
+        if (verifiedToken == null) {
+            return ResponseEntity.badRequest().body(null);
+        }
+        String username = verifiedToken.getSubject();
+        try {
+            UserDetails userDetails = this.userDetailsService.loadPrincipal(username);
+            /**
+             * Perform a Token Revocation to ensure Token is no longer available for Use,
+             * on this or any other Instance.
+             */
+            String jti = verifiedToken.getJti();
+            /**
+             * The Revocation is Applied on this Instance before any Store access, so the Token is Revoked
+             * regardless of its Token History, which, should it yet be Pending its Write, is Recorded as Revoked
+             * as it is Written.
+             */
+            yourMicroserviceTokenRevocationService.revokeToken(verifiedToken);
+            LOGGER.info("Logout Successful Token:'{}' Used By:'{}'.", jti, username);
+            /**
+             * The Refresh Token Family of this Session must not outlive the Logout, else an Exchange
+             * would simply Issue another Access Token.  Other Sessions of the Subject remain, a
+             * Logout of every Session is the Logout All.
+             */
+            if (verifiedToken.getRefreshFamilyId() != null) {
+                yourMicroserviceRefreshTokenService.revokeRefreshTokenFamily(verifiedToken.getRefreshFamilyId());
+            }
+            /**
+             * Publish Personal Event History Refresh Token Notification...
+             */
+            try {
+                publishAuthenticationEvents(request, (YourMicroserviceUserDetails) userDetails,
+                        YourEntityEventHistory.EntityEventTagNames.LAST_LOGOUT);
+            } catch (Exception e) {
+                LOGGER.warn("Unable to perform Publishing of Personal Event History for Last Logout: {}",
+                        e.getMessage());
+            }
+            /**
+             * Return the Successful response of the revocation of an existing Token.
+             */
+            return ResponseEntity.ok().body(null);
+        } catch (UsernameNotFoundException une) {
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
+    /**
+     * logoutAllAndRevokeAccess
+     * Requesting a Revocation of every outstanding Access and Refresh Token of the Entity,
+     * on every Device.
+     *
+     * @param request Incoming HTTP Request to perform a Logout of all the Entities Existing Tokens.
+     * @return ResponseEntity If successful will be null.
+     */
+    @ApiOperation(value="Auth Logout and Revoke all Access Tokens", httpMethod = "GET")
+    @RequestMapping(value = "${your.microservice.security.route.authentication.logout.all}", method = RequestMethod.GET)
+    public ResponseEntity<?> logoutAllAndRevokeAccess(HttpServletRequest request) {
+
+        YourMicroserviceVerifiedToken verifiedToken = obtainVerifiedToken(request);
+        if (verifiedToken == null) {
+            return ResponseEntity.badRequest().body(null);
+        }
+        String username = verifiedToken.getSubject();
         try {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = this.userDetailsService.loadPrincipal(username);
             /**
-             * Perform a Token Delete to ensure Token is no longer available for Use.
+             * A single Subject Epoch Revokes every outstanding Token, along with the Refresh Tokens,
+             * on this or any other Instance.
              */
-            String jti = this.yourMicroserviceToken.getIdentifierFromToken(token);
-            Integer deleted =
-                    identityProviderEntityManager.deleteTokenHistory(jti);
-            if (deleted == null || deleted <=0) {
-                /**
-                 * The Deletion Failed!
-                 */
-                LOGGER.warn("Issue Deleting Token:'{}' Used By:'{}', Ignoring Logout.", jti, username);
+            if (!yourMicroserviceTokenRevocationService.revokeAllTokens(username)) {
+                LOGGER.warn("Issue Persisting Token Epoch for:'{}', Ignoring Logout.", username);
                 return ResponseEntity.badRequest().body(null);
-            } else {
-                /**
-                 * The Deletion Successful!
-                 */
-                LOGGER.info("Logout Successful Token:'{}' Used By:'{}'.", jti, username);
-                /**
-                 * Publish Personal Event History Refresh Token Notification...
-                 */
-                try {
-                    publishAuthenticationEvents(request, (YourMicroserviceUserDetails) userDetails,
-                            YourEntityEventHistory.EntityEventTagNames.LAST_LOGOUT);
-                } catch (Exception e) {
-                    LOGGER.warn("Unable to perform Publishing of Personal Event History for Last Logout: {}",
-                            e.getMessage());
-                }
-                /**
-                 * Return the Successful response of the revocation of an existing Token.
-                 */
-                return ResponseEntity.ok().body(null);
             }
+            LOGGER.info("Logout of all Tokens Successful for:'{}'.", username);
+            /**
+             * Publish Personal Event History Logout Notification...
+             */
+            try {
+                publishAuthenticationEvents(request, (YourMicroserviceUserDetails) userDetails,
+                        YourEntityEventHistory.EntityEventTagNames.LAST_LOGOUT);
+            } catch (Exception e) {
+                LOGGER.warn("Unable to perform Publishing of Personal Event History for Last Logout: {}",
+                        e.getMessage());
+            }
+            return ResponseEntity.ok().body(null);
         } catch (UsernameNotFoundException une) {
             return ResponseEntity.badRequest().body(null);
         }
     }
 
+    /**
+     * publicVerificationKeys
+     * Publishes the Public Keys with which our Signed Tokens can be Verified, as a JWK Set.
+     *
+     * @return ResponseEntity containing the JWK Set.
+     */
+    @ApiOperation(value="Auth Public Token Verification Keys", httpMethod = "GET")
+    @RequestMapping(value = "${your.microservice.security.route.authentication.jwks}", method = RequestMethod.GET)
+    public ResponseEntity<Map<String, Object>> publicVerificationKeys() {
+        return ResponseEntity.ok(yourMicroserviceToken.getPublicVerificationKeys());
+    }
+
     @ExceptionHandler({org.springframework.http.converter.HttpMessageNotReadableException.class,
             PreAuthenticatedCredentialsNotFoundException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)  // 400
@@ -314,6 +530,32 @@ public class AuthenticationController {
         return "unauthorized";
     }
 
+    @ExceptionHandler({YourMSAuthenticationThrottledException.class})
+    @ResponseBody
+    public ResponseEntity<String> resolveAuthenticationThrottledExceptions(
+            YourMSAuthenticationThrottledException throttledException) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)  // 429
+                .header(HttpHeaders.RETRY_AFTER, Integer.toString(throttledException.getRetryAfterSeconds()))
+                .body("throttled");
+    }
+
+    @ExceptionHandler({YourMSAuthenticationOverloadedException.class})
+    @ResponseBody
+    public ResponseEntity<String> resolveAuthenticationOverloadedExceptions(
+            YourMSAuthenticationOverloadedException overloadedException) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)  // 503
+                .header(HttpHeaders.RETRY_AFTER, Integer.toString(overloadedException.getRetryAfterSeconds()))
+                .body("unavailable");
+    }
+
+    @ExceptionHandler({AuthenticationServiceException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)  // 503
+    @ResponseBody
+    public String resolveAuthenticationServiceExceptions(AuthenticationServiceException authenticationServiceException) {
+        LOGGER.warn("Authentication could not be Completed: {}", authenticationServiceException.getMessage());
+        return "unavailable";
+    }
+
     @ExceptionHandler({AccessDeniedException.class})
     @ResponseStatus(HttpStatus.FORBIDDEN) // 403
     @ResponseBody
@@ -321,6 +563,141 @@ public class AuthenticationController {
         return "forbidden";
     }
 
+    /**
+     * authenticate
+     * Refuse the Authentication up front if its Remote Address or Username is Throttled, otherwise
+     * Authenticate, Recording the Outcome against the Throttle.
+     *
+     * @param authenticationRequest Incoming Authentication Request DTO
+     * @param request               Incoming Request
+     * @return Authentication Authenticated Principal.
+     * @throws AuthenticationException Thrown when Failure Occurs, Handlers will Response Accordingly.
+     */
+    // PMD 5.1 False Positive: UnusedPrivateMethod cannot resolve the @RequestBody Arguments of its Callers.
+    @SuppressWarnings("PMD.UnusedPrivateMethod")
+    private Authentication authenticate(AuthenticationRequest authenticationRequest, HttpServletRequest request)
+            throws AuthenticationException {
+        String remoteAddress = obtainRemoteAddress(request);
+        String username = authenticationRequest.getUsername();
+        loginThrottleService.checkAllowed(remoteAddress, username);
+        try {
+            Authentication authentication = this.authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(username, authenticationRequest.getPassword()));
+            loginThrottleService.recordSuccess(username);
+            return authentication;
+        } catch (BadCredentialsException bce) {
+            loginThrottleService.recordFailure(remoteAddress, username);
+            throw bce;
+        }
+    }
+
+    /**
+     * obtainIssuedToken
+     *
+     * @param issuedToken Issued Token, or null should its Issuance have Failed.
+     * @return YourMicroserviceVerifiedToken Issued Token.
+     * @throws AuthenticationServiceException Should the Token not have been Issued.
+     */
+    private YourMicroserviceVerifiedToken obtainIssuedToken(YourMicroserviceVerifiedToken issuedToken) {
+        if (issuedToken == null) {
+            throw new AuthenticationServiceException("Access Token could not be Issued");
+        }
+        return issuedToken;
+    }
+
+    /**
+     * obtainIssuedRefreshToken
+     *
+     * @param refreshToken Issued Opaque Refresh Token, or null should it not have been Persisted.
+     * @return String Issued Opaque Refresh Token.
+     * @throws AuthenticationServiceException Should the Refresh Token not have been Issued.
+     */
+    private String obtainIssuedRefreshToken(String refreshToken) {
+        if (refreshToken == null) {
+            throw new AuthenticationServiceException("Refresh Token could not be Issued");
+        }
+        return refreshToken;
+    }
+
+    /**
+     * obtainAudience
+     * Process Principals, our own Services, are Issued Tokens for the Service Audience, which may be
+     * Issued as Signed only Tokens, all other Principals by the Device from which they Authenticated.
+     *
+     * @param userDetails Authenticated Principal.
+     * @param device      Device from which the Request Originated.
+     * @return String Audience of the Tokens to be Issued.
+     */
+    private String obtainAudience(UserDetails userDetails, Device device) {
+        for (GrantedAuthority authority : userDetails.getAuthorities()) {
+            if (PROCESS_AUTHORITY.equals(authority.getAuthority())) {
+                return YourMicroserviceToken.AUDIENCE_SERVICE;
+            }
+        }
+        return yourMicroserviceToken.transformAudienceType(device);
+    }
+
+    /**
+     * obtainAuthenticatedUserDetails
+     * The Authentication Manager has already Loaded the Principal, use it rather than Loading it again.
+     *
+     * @param authentication Authenticated Principal.
+     * @return UserDetails of the Authenticated Principal.
+     */
+    private UserDetails obtainAuthenticatedUserDetails(Authentication authentication) {
+        if (authentication.getDetails() instanceof YourMicroserviceUserDetails) {
+            return (YourMicroserviceUserDetails) authentication.getDetails();
+        }
+        return this.userDetailsService.loadUserByUsername(authentication.getName());
+    }
+
+    /**
+     * obtainRemoteAddress
+     * The Forwarded For Header is only Honored when the Request arrives from a Trusted Proxy, as any
+     * Client may Supply it.  Its Hops are then Walked from the Right, each appended by the Proxy which
+     * Received it, and the first Hop which is not itself a Trusted Proxy is the Originating Address.
+     *
+     * @param request Incoming Request
+     * @return String Originating Address.
+     */
+    private String obtainRemoteAddress(HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(YourEntityEventHistory.PROPERTY_TAG_NAME_XFORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isEmpty() || !isTrustedProxy(remoteAddress)) {
+            return remoteAddress;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            if (!isTrustedProxy(hop)) {
+                return hop;
+            }
+            remoteAddress = hop;
+        }
+        return remoteAddress;
+    }
+
+    /**
+     * isTrustedProxy
+     *
+     * @param address Address, only IP Literals are Matched, so no Name is ever Resolved.
+     * @return boolean Indicates if the Address is a Trusted Proxy.
+     */
+    private boolean isTrustedProxy(String address) {
+        if (trustedProxies.isEmpty() || address == null || !IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+        for (IpAddressMatcher trustedProxy : trustedProxies) {
+            if (trustedProxy.matches(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * publishAuthenticationEvents
      *
@@ -388,49 +765,69 @@ public class AuthenticationController {
         YourEntityEventHistory yourEntityEventHistory = new YourEntityEventHistory(
                 eventTag.name(),
                 eventMessage.toString(), eventTagProperties);
-        messagePublisherService.publishEntityEventHistory(userDetails.getPrincipalID(),
-               yourEntityEventHistory);
+        /**
+         * The Event is fully Constructed from the Request, Publish it off the Response Path.
+         */
+        Long principalID = userDetails.getPrincipalID();
+        authenticationEventTaskExecutor.execute(() -> {
+            try {
+                messagePublisherService.publishEntityEventHistory(principalID, yourEntityEventHistory);
+            } catch (Exception e) {
+                LOGGER.warn("Unable to perform Publishing of Entity Event History for {}: {}",
+                        eventTag, e.getMessage());
+            }
+        });
     }
 
     /**
-     * saveTokenHistory
+     * obtainVerifiedToken
+     * Obtain the Verified Token for the Current Request, as established by the AuthenticationTokenFilter,
+     * only if not present, will the Bearer Token be Verified here.
      *
-     * @param token Token to re-verify to obtain Claims Set to Persist as a Token History Element.
+     * @param request Request reference
+     * @return YourMicroserviceVerifiedToken or null if no Valid Token was Supplied.
      */
-    @Async
-    protected void saveTokenHistory(String token) {
+    protected YourMicroserviceVerifiedToken obtainVerifiedToken(HttpServletRequest request) {
+        Object verifiedToken = request.getAttribute(YourMicroserviceVerifiedToken.REQUEST_ATTRIBUTE_NAME);
+        if (verifiedToken instanceof YourMicroserviceVerifiedToken) {
+            return (YourMicroserviceVerifiedToken) verifiedToken;
+        }
+        String token = YourMicroserviceSecurityConstants.obtainAuthorizationBearerToken(request);
         try {
-            /**
-             * Generate a Token History Entry based upon our Current Supplied Token.
-             */
-            JWTClaimsSet claimsSet = yourMicroserviceToken.verifyToken(token);
-            if (claimsSet == null) {
-                LOGGER.warn("Unable to Verify Token to retrieve ClaimsSet to Persist Token History, Ignoring.");
-                return;
-            }
-            /**
-             * Instantiate the Token History Entity.
-             */
-            YourEntityTokenHistory yourEntityTokenHistory = new YourEntityTokenHistory();
-            yourEntityTokenHistory.setJti(claimsSet.getJWTID());
-            yourEntityTokenHistory.setSubject(claimsSet.getSubject());
-            yourEntityTokenHistory.setStatus(YourEntityTokenStatus.ACTIVE);
-            yourEntityTokenHistory.setIssuedAt(claimsSet.getIssueTime());
-            yourEntityTokenHistory.setExpiration(claimsSet.getExpirationTime());
-            yourEntityTokenHistory.setNotUsedBefore(claimsSet.getNotBeforeTime());
-            yourEntityTokenHistory.setLastUsed(claimsSet.getIssueTime());
-            yourEntityTokenHistory.setUsageCount(1L);
-            /**
-             * Persist the Entity.
-             */
-            yourEntityTokenHistory = identityProviderEntityManager.createTokenHistory(yourEntityTokenHistory);
-            if (yourEntityTokenHistory == null) {
-                LOGGER.warn("Unable to Persist Token History Entity, Ignoring.");
-            }
+            return yourMicroserviceToken.verify(token);
         } catch (YourMicroserviceInvalidTokenException ite) {
             LOGGER.warn("Invalid Your Microservice Token Exception:'{}', Encountered while attempting " +
-                    "to persist Token History Entity.", ite.getMessage(), ite);
+                    "to obtain Verified Token.", ite.getMessage());
+            return null;
         }
     }
 
+    /**
+     * saveTokenHistory
+     *
+     * @param issuedToken Issued Token whose Claims are to be Persisted as a Token History Element.
+     */
+    protected void saveTokenHistory(YourMicroserviceVerifiedToken issuedToken) {
+        if (issuedToken == null) {
+            LOGGER.warn("No Issued Token to Persist Token History, Ignoring.");
+            return;
+        }
+        /**
+         * Instantiate the Token History Entity.
+         */
+        YourEntityTokenHistory yourEntityTokenHistory = new YourEntityTokenHistory();
+        yourEntityTokenHistory.setJti(issuedToken.getJti());
+        yourEntityTokenHistory.setSubject(issuedToken.getSubject());
+        yourEntityTokenHistory.setStatus(YourEntityTokenStatus.ACTIVE);
+        yourEntityTokenHistory.setIssuedAt(issuedToken.getIssuedAt());
+        yourEntityTokenHistory.setExpiration(issuedToken.getExpiration());
+        yourEntityTokenHistory.setNotUsedBefore(issuedToken.getNotUsedBefore());
+        yourEntityTokenHistory.setLastUsed(issuedToken.getIssuedAt());
+        yourEntityTokenHistory.setUsageCount(1L);
+        /**
+         * Persist the Entity, Written Behind in Batches.
+         */
+        yourMicroserviceTokenHistoryWriter.write(yourEntityTokenHistory);
+    }
+
 }
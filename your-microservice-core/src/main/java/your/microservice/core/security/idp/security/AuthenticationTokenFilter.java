@@ -1,23 +1,31 @@
 package your.microservice.core.security.idp.security;
 
-import com.nimbusds.jwt.JWTClaimsSet;
-
 import your.microservice.core.security.idp.jwt.YourMicroserviceInvalidTokenException;
 import your.microservice.core.security.idp.jwt.YourMicroserviceToken;
-import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+import your.microservice.core.security.idp.jwt.YourMicroserviceTokenUsageService;
+import your.microservice.core.security.idp.jwt.YourMicroserviceVerifiedToken;
+import your.microservice.core.security.idp.model.security.YourMicroserviceUserDetails;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 
+import javax.annotation.PostConstruct;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * AuthenticationTokenFilter
@@ -32,6 +40,9 @@ import java.io.IOException;
  * If JWT is not validated, we will perform an Audit Logging of the Event.
  * <p>
  * In either case, the filter chain continues....
+ * <p>
+ * Each Stage, Verification, Principal and Usage, is Timed, as is the Filter in total, and each
+ * Outcome is Counted, so a Latency Regression can be attributed to its Stage.
  *
  * @author jeff.a.schenk@gmail.com
  */
@@ -47,10 +58,45 @@ public class AuthenticationTokenFilter extends UsernamePasswordAuthenticationFil
     @Autowired
     private YourMicroserviceUserDetailsService userDetailsService;
     /**
-     * Identity Provider Entity Manager.
+     * Token Usage Service.
+     */
+    @Autowired
+    private YourMicroserviceTokenUsageService yourMicroserviceTokenUsageService;
+    /**
+     * Metric Registry
      */
     @Autowired
-    private IdentityProviderEntityManager identityProviderEntityManager;
+    private MetricRegistry metricRegistry;
+
+    /**
+     * Stage Timers and Outcome Counters.
+     */
+    private Timer totalTimer;
+    private Timer verifyTimer;
+    private Timer principalTimer;
+    private Timer usageTimer;
+    private Counter okCounter;
+    private Counter unknownUserCounter;
+    private final Map<YourMicroserviceInvalidTokenException.Reason, Counter> rejectedCounters =
+            new EnumMap<>(YourMicroserviceInvalidTokenException.Reason.class);
+
+    /**
+     * initialization
+     * Entered when Bean is initialized, establish our Stage Timers and Outcome Counters.
+     */
+    @PostConstruct
+    public void initialization() {
+        totalTimer = metricRegistry.timer("timer.your.microservice.security.authentication.total");
+        verifyTimer = metricRegistry.timer("timer.your.microservice.security.authentication.verify");
+        principalTimer = metricRegistry.timer("timer.your.microservice.security.authentication.principal");
+        usageTimer = metricRegistry.timer("timer.your.microservice.security.authentication.usage");
+        okCounter = metricRegistry.counter("counter.your.microservice.security.authentication.ok");
+        unknownUserCounter = metricRegistry.counter("counter.your.microservice.security.authentication.unknown.user");
+        for (YourMicroserviceInvalidTokenException.Reason reason : YourMicroserviceInvalidTokenException.Reason.values()) {
+            rejectedCounters.put(reason, metricRegistry.counter(
+                    "counter.your.microservice.security.authentication.rejected." + reason.name().toLowerCase()));
+        }
+    }
 
     /**
      * doFilter
@@ -76,33 +122,49 @@ public class AuthenticationTokenFilter extends UsernamePasswordAuthenticationFil
          * then determine if the Token can be fully validated and has not Expired.
          */
         if (authToken != null) {
+            long filterStart = System.nanoTime();
             try {
-                JWTClaimsSet jwtClaimsSet = yourMicroserviceToken.verifyToken(authToken);
-                if (jwtClaimsSet != null) {
+                YourMicroserviceVerifiedToken verifiedToken = yourMicroserviceToken.verify(authToken);
+                long stageStart = lap(verifyTimer, filterStart);
+                if (verifiedToken != null) {
+                    /**
+                     * Retain the Verified Token on the Request, so it need not be Verified again
+                     * further down the Chain.
+                     */
+                    httpRequest.setAttribute(YourMicroserviceVerifiedToken.REQUEST_ATTRIBUTE_NAME, verifiedToken);
                     /**
-                     * Obtain our Subject from the Claims Set, which is our UserName, aka Your Microservice Person's
+                     * Obtain our Subject from the Verified Token, which is our UserName, aka Your Microservice Person's
                      * Primary Email.
                      */
-                    String username = jwtClaimsSet.getSubject();
+                    String username = verifiedToken.getSubject();
                     if (username != null && !username.isEmpty() &&
                             SecurityContextHolder.getContext().getAuthentication() == null) {
-                        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                        /**
+                         * Obtain the Principal, either from the Token's own Claims, when Authorization is Stateless,
+                         * or Cached, so the steady state requires no Store access.
+                         */
+                        UserDetails userDetails;
+                        if (yourMicroserviceToken.isStatelessAuthorization() && verifiedToken.hasPrincipalClaims()) {
+                            userDetails = new YourMicroserviceUserDetails(username, verifiedToken.getPrincipalId(),
+                                    verifiedToken.getAuthorities(),
+                                    verifiedToken.getAccountStatus(YourMicroserviceToken.ACCOUNT_STATUS_NON_EXPIRED),
+                                    verifiedToken.getAccountStatus(YourMicroserviceToken.ACCOUNT_STATUS_NON_LOCKED),
+                                    verifiedToken.getAccountStatus(YourMicroserviceToken.ACCOUNT_STATUS_CREDENTIALS_NON_EXPIRED),
+                                    verifiedToken.getAccountStatus(YourMicroserviceToken.ACCOUNT_STATUS_ENABLED));
+                        } else {
+                            userDetails = userDetailsService.loadPrincipal(username);
+                        }
+                        stageStart = lap(principalTimer, stageStart);
                         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(httpRequest));
                         SecurityContextHolder.getContext().setAuthentication(authentication);
                         /**
-                         * Perform Statistical Metric of a Token being Used.
+                         * Perform Statistical Metric of a Token being Used, Counted in Memory and Written Behind.
+                         * Expiration and Revocation have already been determined in Memory, during Verification.
                          */
-                         Integer countUpdated =
-                                 identityProviderEntityManager.incrementTokenHistoryUsage(jwtClaimsSet.getJWTID());
-                         if (countUpdated == null || countUpdated != 1) {
-                             /**
-                              * We did not update the Usage Counter, this indicates that either the
-                              * Token has Expired, Revoked or in some other state other than Active,
-                              * so, immediately fail this token.
-                              */
-                             SecurityContextHolder.getContext().setAuthentication(null);
-                         }
+                        yourMicroserviceTokenUsageService.recordUsage(verifiedToken.getJti());
+                        lap(usageTimer, stageStart);
+                        okCounter.inc();
                     }
                 }
             } catch (YourMicroserviceInvalidTokenException iste) {
@@ -110,7 +172,18 @@ public class AuthenticationTokenFilter extends UsernamePasswordAuthenticationFil
                  * Do Nothing, as the attempt of the failed Token will be Denied...
                  */
                 SecurityContextHolder.getContext().setAuthentication(null);
-                YourMicroserviceToken.LOGGER.warn("{}Invalid Token Denying Access.", YourMicroserviceToken.LOGGING_HEADER);
+                rejectedCounters.get(iste.getReason() != null ? iste.getReason() :
+                        YourMicroserviceInvalidTokenException.Reason.UNKNOWN).inc();
+                YourMicroserviceToken.LOGGER.debug("{}Invalid Token, Reason:[{}], Denying Access.",
+                        YourMicroserviceToken.LOGGING_HEADER, iste.getReason());
+            } catch (UsernameNotFoundException unfe) {
+                /**
+                 * Token Verified, but its Subject no longer exists, Count and continue to Propagate.
+                 */
+                unknownUserCounter.inc();
+                throw unfe;
+            } finally {
+                totalTimer.update(System.nanoTime() - filterStart, TimeUnit.NANOSECONDS);
             }
         }
         /**
@@ -119,6 +192,20 @@ public class AuthenticationTokenFilter extends UsernamePasswordAuthenticationFil
         chain.doFilter(request, response);
     }
 
+    /**
+     * lap
+     * Record the Duration of a Stage.
+     *
+     * @param timer Stage Timer.
+     * @param stageStart Nano Time the Stage began.
+     * @return long Nano Time the Stage ended, which begins the next Stage.
+     */
+    private static long lap(Timer timer, long stageStart) {
+        long stageEnd = System.nanoTime();
+        timer.update(stageEnd - stageStart, TimeUnit.NANOSECONDS);
+        return stageEnd;
+    }
+
 
 
 }
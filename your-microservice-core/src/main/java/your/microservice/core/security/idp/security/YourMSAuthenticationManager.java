@@ -3,6 +3,7 @@ package your.microservice.core.security.idp.security;
 import your.microservice.core.system.messaging.jms.MessagePublisherService;
 import your.microservice.core.util.TimeDuration;
 import your.microservice.core.security.idp.model.security.YourMicroserviceUserDetails;
+import your.microservice.core.security.idp.security.service.PasswordVerificationService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,7 +11,6 @@ import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.authentication.WebAuthenticationDetails;
 
 /**
@@ -27,6 +27,11 @@ public class YourMSAuthenticationManager implements AuthenticationManager {
 
     private final YourMicroserviceUserDetailsService detailsService;
 
+    /**
+     * Password Verification Service, Verifies upon its own bounded Pool.
+     */
+    private final PasswordVerificationService passwordVerificationService;
+
     /**
      * Message Publication Service.
      */
@@ -36,11 +41,14 @@ public class YourMSAuthenticationManager implements AuthenticationManager {
      * Default Constructor for Authentication Manager.
      *
      * @param detailsService          YourMSUserDetailsService
+     * @param passwordVerificationService Reference
      * @param messagePublisherService Reference
      */
     public YourMSAuthenticationManager(YourMicroserviceUserDetailsService detailsService,
+                                       PasswordVerificationService passwordVerificationService,
                                        MessagePublisherService messagePublisherService) {
         this.detailsService = detailsService;
+        this.passwordVerificationService = passwordVerificationService;
         this.messagePublisherService = messagePublisherService;
     }
 
@@ -71,9 +79,8 @@ public class YourMSAuthenticationManager implements AuthenticationManager {
             pw_duration.start();
             rawPass = a.getCredentials().toString();
             String storedHashedPass = userDetails.getPassword();
-            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(YourMicroserviceSecurityConstants.BCRYPT_STRENGTH_SETTING);
 
-            if (!encoder.matches(rawPass, storedHashedPass)) {
+            if (!passwordVerificationService.matches(rawPass, storedHashedPass)) {
                 pw_duration.stop();
                 logger.info("{} IP:[{}]", USERNAME_OR_PASSWORD_IS_INVALID_MESSAGE, remoteIp);
                 throw new BadCredentialsException(USERNAME_OR_PASSWORD_IS_INVALID_MESSAGE);
@@ -93,6 +100,12 @@ public class YourMSAuthenticationManager implements AuthenticationManager {
                 };
             }
 
+            /**
+             * Upgrade a Stored Hash of a lesser Strength to the Calibrated Strength, in the Background.
+             */
+            passwordVerificationService.rehashIfNeeded(userDetails.getPrincipalID(), userDetails.getUsername(),
+                    rawPass, storedHashedPass);
+
             /**
              * Clear all Memory Constructs
              */
@@ -0,0 +1,34 @@
+package your.microservice.core.security.idp.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * YourMSAuthenticationOverloadedException
+ * <p>
+ * Thrown when an Authentication could not be Admitted, as the Password Verification Pool is
+ * Saturated, so the Consumer may be told when to Retry rather than wait upon a Worker.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public class YourMSAuthenticationOverloadedException extends AuthenticationServiceException {
+
+    /**
+     * Number of Seconds after which the Consumer may Retry.
+     */
+    private final int retryAfterSeconds;
+
+    /**
+     * Constructs a new exception with the specified detail message.
+     *
+     * @param message           the detail message.
+     * @param retryAfterSeconds Number of Seconds after which the Consumer may Retry.
+     */
+    public YourMSAuthenticationOverloadedException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
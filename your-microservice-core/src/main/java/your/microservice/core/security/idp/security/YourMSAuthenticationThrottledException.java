@@ -0,0 +1,22 @@
+package your.microservice.core.security.idp.security;
+
+/**
+ * YourMSAuthenticationThrottledException
+ * <p>
+ * Thrown when an Authentication is Refused before any Credentials are Verified, as too many
+ * Authentications have recently Failed from the same Remote Address or for the same Username.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public class YourMSAuthenticationThrottledException extends YourMSAuthenticationOverloadedException {
+
+    /**
+     * Constructs a new exception with the specified detail message.
+     *
+     * @param message           the detail message.
+     * @param retryAfterSeconds Number of Seconds after which the Consumer may Retry.
+     */
+    public YourMSAuthenticationThrottledException(String message, int retryAfterSeconds) {
+        super(message, retryAfterSeconds);
+    }
+}
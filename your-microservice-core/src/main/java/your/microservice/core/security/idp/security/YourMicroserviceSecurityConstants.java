@@ -11,6 +11,7 @@ public final class YourMicroserviceSecurityConstants {
 
     /**
      * Should provide a Maximum of 690ms+/- to perform Matches and Encoding Operations.
+     * Used only when Password Strength Calibration is Disabled.
      */
     public static final int BCRYPT_STRENGTH_SETTING = 13;
 
@@ -1,8 +1,11 @@
 package your.microservice.core.security.idp.security;
 
+import com.codahale.metrics.annotation.Gauge;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import your.microservice.core.security.idp.model.base.YourEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
 import your.microservice.core.security.idp.model.security.YourMicroserviceUserDetails;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -10,9 +13,22 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.preauth.PreAuthenticatedCredentialsNotFoundException;
 import org.springframework.stereotype.Service;
 import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+import your.microservice.core.security.idp.repository.YourEntityChangedEvent;
+import your.microservice.core.util.BoundedExpiringCache;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * YourMicroserviceUserDetailsService
+ * <p>
+ * Loads User Details from the Identity Provider Store, and for Token Authenticated Requests, provides
+ * Principals from a bounded, TTL based Cache, so a steady stream of Requests does not query the Store.
+ * Concurrent Misses for the same Subject collapse into a single Load, and Cached Principals are
+ * Invalidated when their YourEntity, or any YourEntityRole, is Changed.
  *
  * @author jeff.a.schenk@gmail.com
  */
@@ -23,26 +39,154 @@ public class YourMicroserviceUserDetailsService implements UserDetailsService {
      */
     protected final static org.slf4j.Logger LOGGER =
             LoggerFactory.getLogger(YourMicroserviceUserDetailsService.class);
+
+    /**
+     * PRINCIPAL_CACHE_TTL_IN_SECONDS
+     *
+     * Number of Seconds a Principal is Cached, bounding how long a Change made outside of
+     * this Instance may go unseen.
+     */
+    @Value("${your.microservice.security.principal.cache.ttl:60}")
+    private Long PRINCIPAL_CACHE_TTL_IN_SECONDS = 60L;
+
+    /**
+     * PRINCIPAL_CACHE_MAXIMUM_ENTRIES
+     *
+     * Maximum Number of Principals to be Cached.
+     */
+    @Value("${your.microservice.security.principal.cache.maximum.entries:10000}")
+    private Integer PRINCIPAL_CACHE_MAXIMUM_ENTRIES = 10000;
+
     /**
      * Entity Manager
      */
     @Autowired
     private IdentityProviderEntityManager identityProviderEntityManager;
 
+    /**
+     * Cached Principals by Subject, Principal Loads in Flight by Subject, and the
+     * Generation of Invalidations, so a Load which raced an Invalidation is not Cached.
+     */
+    private BoundedExpiringCache<String, YourMicroserviceUserDetails> principals;
+    private final ConcurrentHashMap<String, CompletableFuture<YourMicroserviceUserDetails>> principalLoads =
+            new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * initialization
+     * Entered when Bean is initialized.
+     */
+    @PostConstruct
+    public void initialization() {
+        principals = new BoundedExpiringCache<>(PRINCIPAL_CACHE_MAXIMUM_ENTRIES);
+        LOGGER.info("Principal Cache Maximum Entries:[{}], TTL:[{}s].",
+                PRINCIPAL_CACHE_MAXIMUM_ENTRIES, PRINCIPAL_CACHE_TTL_IN_SECONDS);
+    }
+
     @Override
     public UserDetails loadUserByUsername(String uName) throws UsernameNotFoundException {
-        YourEntity yourEntity =  null;
+        YourMicroserviceUserDetails userDetails =  null;
         if (uName == null || uName.isEmpty()) {
             throw new PreAuthenticatedCredentialsNotFoundException("No User Email Address Supplied for Obtaining User, Ignoring!");
         }
             LOGGER.info("Authenticating:[{}]", uName);
-            yourEntity = identityProviderEntityManager.findYourEntityByEmail(uName);
-            if (yourEntity == null) {
+            /**
+             * Read only the Authentication Projection, not the YourEntity Graph.
+             */
+            userDetails = identityProviderEntityManager.findYourMicroserviceUserDetailsByEmail(uName);
+            if (userDetails == null) {
                 LOGGER.warn("YourEntity Object Not Found based Upon Email:[{}]",uName);
                 throw new UsernameNotFoundException("No User with email address '" + uName + "' could be found.");
             }
         LOGGER.info("YourEntity Object Found based Upon Email:[{}]",uName);
-        return new YourMicroserviceUserDetails(yourEntity);
+        return userDetails;
+    }
+
+    /**
+     * loadPrincipal
+     * Obtain the Principal for an already Authenticated Subject, such as that of a Verified Token.
+     * The Principal holds no Credentials and is Shared, it must not be Modified.
+     *
+     * @param subject Subject, our UserName, aka Primary Email.
+     * @return YourMicroserviceUserDetails Principal.
+     * @throws UsernameNotFoundException If the Subject could not be found.
+     */
+    public YourMicroserviceUserDetails loadPrincipal(String subject) throws UsernameNotFoundException {
+        if (subject == null || subject.isEmpty()) {
+            throw new PreAuthenticatedCredentialsNotFoundException("No User Email Address Supplied for Obtaining User, Ignoring!");
+        }
+        String key = subject.toLowerCase();
+        YourMicroserviceUserDetails principal = principals.get(key);
+        if (principal != null) {
+            return principal;
+        }
+        /**
+         * Cache Miss, either we perform the Load, or we await the Load already in Flight.
+         */
+        CompletableFuture<YourMicroserviceUserDetails> principalLoad = new CompletableFuture<>();
+        CompletableFuture<YourMicroserviceUserDetails> inFlight = principalLoads.putIfAbsent(key, principalLoad);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException ce) {
+                if (ce.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ce.getCause();
+                }
+                throw ce;
+            }
+        }
+        try {
+            long generation = invalidations.get();
+            principal = ((YourMicroserviceUserDetails) loadUserByUsername(subject)).withoutCredentials();
+            if (generation == invalidations.get()) {
+                principals.put(key, principal,
+                        System.currentTimeMillis() + PRINCIPAL_CACHE_TTL_IN_SECONDS * 1000);
+            }
+            principalLoad.complete(principal);
+            return principal;
+        } catch (RuntimeException e) {
+            principalLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            principalLoads.remove(key, principalLoad);
+        }
     }
-    
+
+    /**
+     * onYourEntityChanged
+     * Invalidate Cached Principals once the Change has been Committed.
+     *
+     * @param yourEntityChangedEvent Change Event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onYourEntityChanged(YourEntityChangedEvent yourEntityChangedEvent) {
+        invalidations.incrementAndGet();
+        if (yourEntityChangedEvent.isAllEntities()) {
+            principals.clear();
+        } else {
+            principals.remove(yourEntityChangedEvent.getEntityEmailAddress().toLowerCase());
+        }
+    }
+
+    /**
+     * Sweep Expired Principals every Minute.
+     */
+    @Scheduled(initialDelay = 60000, fixedDelay = 60000)
+    public void purgeExpired() {
+        principals.purgeExpired();
+    }
+
+    /**
+     * Metric Gauges.
+     */
+    @Gauge(name = "gauge.your.microservice.security.principal.cache.size", absolute = true)
+    public int getPrincipalCacheSize() {
+        return principals.size();
+    }
+
+    @Gauge(name = "gauge.your.microservice.security.principal.cache.hits", absolute = true)
+    public long getPrincipalCacheHits() {
+        return principals.getHits();
+    }
+
 }
@@ -0,0 +1,42 @@
+package your.microservice.core.security.idp.security.service;
+
+import your.microservice.core.security.idp.security.YourMSAuthenticationThrottledException;
+
+/**
+ * LoginThrottleService
+ * <p>
+ * Provides the Interface for Refusing Authentications, before any Credentials are Verified, once
+ * too many have Failed from a Remote Address or for a Username, so Credential Stuffing costs the
+ * Consumer a Token from a Bucket, rather than costing us a BCrypt Hash.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public interface LoginThrottleService {
+
+    /**
+     * checkAllowed
+     *
+     * @param remoteAddress Remote Address of the Consumer.
+     * @param username      Username being Authenticated.
+     * @throws YourMSAuthenticationThrottledException If either the Remote Address or Username has no Tokens remaining.
+     */
+    void checkAllowed(String remoteAddress, String username) throws YourMSAuthenticationThrottledException;
+
+    /**
+     * recordFailure
+     * Take a Token from the Buckets of both the Remote Address and Username.
+     *
+     * @param remoteAddress Remote Address of the Consumer.
+     * @param username      Username which Failed Authentication.
+     */
+    void recordFailure(String remoteAddress, String username);
+
+    /**
+     * recordSuccess
+     * Refill the Username's Bucket, the Remote Address Bucket is left as is.
+     *
+     * @param username Username which was Authenticated.
+     */
+    void recordSuccess(String username);
+
+}
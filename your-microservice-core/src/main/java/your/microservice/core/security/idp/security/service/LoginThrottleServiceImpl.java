@@ -0,0 +1,268 @@
+package your.microservice.core.security.idp.security.service;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.annotation.Gauge;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import your.microservice.core.security.idp.security.YourMSAuthenticationThrottledException;
+import your.microservice.core.util.BoundedExpiringCache;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * LoginThrottleServiceImpl
+ * <p>
+ * Holds a Token Bucket per Remote Address and per Username, in a bounded Cache.  Each Failed
+ * Authentication takes a Token, and Tokens Refill at a steady Rate, an Authentication is Refused
+ * while either Bucket is Empty.  A Bucket expires once it would have Refilled, so only Keys with
+ * recent Failures occupy Memory.
+ * <p>
+ * When a Cache is full, only expired, that is fully Refilled, Buckets are evicted.  If none have, the
+ * Failures of new Keys go unrecorded, rather than a Throttled Key's Bucket being dropped, so a flood of
+ * Failures for new Keys can never reset a Throttled Username or Address.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@Service
+public class LoginThrottleServiceImpl implements LoginThrottleService {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(LoginThrottleServiceImpl.class);
+
+    /**
+     * LOGIN_THROTTLE_ADDRESS_CAPACITY and LOGIN_THROTTLE_ADDRESS_REFILL_PER_MINUTE
+     *
+     * Failures a Remote Address may Burst, and the Rate at which its Bucket Refills.
+     */
+    @Value("${your.microservice.security.login.throttle.address.capacity:20}")
+    private Integer LOGIN_THROTTLE_ADDRESS_CAPACITY = 20;
+
+    @Value("${your.microservice.security.login.throttle.address.refill.per.minute:20}")
+    private Integer LOGIN_THROTTLE_ADDRESS_REFILL_PER_MINUTE = 20;
+
+    /**
+     * LOGIN_THROTTLE_USERNAME_CAPACITY and LOGIN_THROTTLE_USERNAME_REFILL_PER_MINUTE
+     *
+     * Failures a Username may Burst, and the Rate at which its Bucket Refills.
+     */
+    @Value("${your.microservice.security.login.throttle.username.capacity:5}")
+    private Integer LOGIN_THROTTLE_USERNAME_CAPACITY = 5;
+
+    @Value("${your.microservice.security.login.throttle.username.refill.per.minute:5}")
+    private Integer LOGIN_THROTTLE_USERNAME_REFILL_PER_MINUTE = 5;
+
+    /**
+     * LOGIN_THROTTLE_MAXIMUM_ENTRIES
+     *
+     * Maximum Number of Buckets held, of each kind.
+     */
+    @Value("${your.microservice.security.login.throttle.maximum.entries:100000}")
+    private Integer LOGIN_THROTTLE_MAXIMUM_ENTRIES = 100000;
+
+    private static final String LOGIN_THROTTLED_MESSAGE = "Too many Failed Authentications, please Retry later";
+
+    /**
+     * Metric Registry
+     */
+    @Autowired
+    private MetricRegistry metricRegistry;
+
+    /**
+     * Buckets by Remote Address and by Username, with their Limits.
+     */
+    private BucketLimit addressLimit;
+    private BucketLimit usernameLimit;
+    private BoundedExpiringCache<String, TokenBucket> addressBuckets;
+    private BoundedExpiringCache<String, TokenBucket> usernameBuckets;
+    private Counter addressRejectedCounter;
+    private Counter usernameRejectedCounter;
+
+    /**
+     * initialization
+     * Entered when Bean is initialized.
+     */
+    @PostConstruct
+    public void initialization() {
+        addressLimit = new BucketLimit(LOGIN_THROTTLE_ADDRESS_CAPACITY, LOGIN_THROTTLE_ADDRESS_REFILL_PER_MINUTE);
+        usernameLimit = new BucketLimit(LOGIN_THROTTLE_USERNAME_CAPACITY, LOGIN_THROTTLE_USERNAME_REFILL_PER_MINUTE);
+        addressBuckets = new BoundedExpiringCache<>(LOGIN_THROTTLE_MAXIMUM_ENTRIES, true);
+        usernameBuckets = new BoundedExpiringCache<>(LOGIN_THROTTLE_MAXIMUM_ENTRIES, true);
+        addressRejectedCounter = metricRegistry.counter("counter.your.microservice.security.login.throttled.address");
+        usernameRejectedCounter = metricRegistry.counter("counter.your.microservice.security.login.throttled.username");
+        LOGGER.info("Login Throttle Address:[{} per {}/min], Username:[{} per {}/min].",
+                LOGIN_THROTTLE_ADDRESS_CAPACITY, LOGIN_THROTTLE_ADDRESS_REFILL_PER_MINUTE,
+                LOGIN_THROTTLE_USERNAME_CAPACITY, LOGIN_THROTTLE_USERNAME_REFILL_PER_MINUTE);
+    }
+
+    @Override
+    public void checkAllowed(String remoteAddress, String username) throws YourMSAuthenticationThrottledException {
+        long now = System.currentTimeMillis();
+        long retryAfter = retryAfter(addressBuckets, addressLimit, remoteAddress, now);
+        if (retryAfter > 0) {
+            addressRejectedCounter.inc();
+            throw throttled(retryAfter);
+        }
+        retryAfter = retryAfter(usernameBuckets, usernameLimit, usernameKey(username), now);
+        if (retryAfter > 0) {
+            usernameRejectedCounter.inc();
+            throw throttled(retryAfter);
+        }
+    }
+
+    @Override
+    public void recordFailure(String remoteAddress, String username) {
+        long now = System.currentTimeMillis();
+        take(addressBuckets, addressLimit, remoteAddress, now);
+        take(usernameBuckets, usernameLimit, usernameKey(username), now);
+    }
+
+    @Override
+    public void recordSuccess(String username) {
+        String key = usernameKey(username);
+        if (key != null) {
+            usernameBuckets.remove(key);
+        }
+    }
+
+    /**
+     * retryAfter
+     *
+     * @param buckets Buckets of the Key's kind.
+     * @param limit   Limit of the Key's kind.
+     * @param key     Key, null Keys are never Throttled.
+     * @param now     Current Time in Milliseconds.
+     * @return long Milliseconds until the Bucket holds a Token, or Zero if it holds one now.
+     */
+    private static long retryAfter(BoundedExpiringCache<String, TokenBucket> buckets, BucketLimit limit,
+                                   String key, long now) {
+        if (key == null) {
+            return 0;
+        }
+        TokenBucket bucket = buckets.get(key);
+        return (bucket == null) ? 0 : bucket.millisecondsUntilToken(limit, now);
+    }
+
+    /**
+     * take
+     * Take a Token from the Key's Bucket, extending the Bucket's Expiration to when it would have Refilled,
+     * atomically, so concurrent Failures for a Key share one Bucket.  A new Key is Denied a Bucket while
+     * the Buckets are full.
+     *
+     * @param buckets Buckets of the Key's kind.
+     * @param limit   Limit of the Key's kind.
+     * @param key     Key, null Keys are never Throttled.
+     * @param now     Current Time in Milliseconds.
+     */
+    private static void take(BoundedExpiringCache<String, TokenBucket> buckets, BucketLimit limit,
+                             String key, long now) {
+        if (key == null) {
+            return;
+        }
+        buckets.compute(key, bucket -> {
+            TokenBucket taken = (bucket == null) ? new TokenBucket(limit, now) : bucket;
+            taken.take(limit, now);
+            return taken;
+        }, bucket -> bucket.fullAt);
+    }
+
+    private static String usernameKey(String username) {
+        return username == null || username.isEmpty() ? null : username.toLowerCase();
+    }
+
+    private static YourMSAuthenticationThrottledException throttled(long retryAfterMilliseconds) {
+        return new YourMSAuthenticationThrottledException(LOGIN_THROTTLED_MESSAGE,
+                (int) Math.max(1, (retryAfterMilliseconds + 999) / 1000));
+    }
+
+    /**
+     * Sweep Expired Buckets every Minute.
+     */
+    @Scheduled(initialDelay = 60000, fixedDelay = 60000)
+    public void purgeExpired() {
+        addressBuckets.purgeExpired();
+        usernameBuckets.purgeExpired();
+    }
+
+    /**
+     * Metric Gauges.
+     */
+    @Gauge(name = "gauge.your.microservice.security.login.throttle.address.size", absolute = true)
+    public int getAddressBucketsSize() {
+        return addressBuckets.size();
+    }
+
+    @Gauge(name = "gauge.your.microservice.security.login.throttle.username.size", absolute = true)
+    public int getUsernameBucketsSize() {
+        return usernameBuckets.size();
+    }
+
+    @Gauge(name = "gauge.your.microservice.security.login.throttle.address.denied", absolute = true)
+    public long getAddressBucketsDenied() {
+        return addressBuckets.getDenials();
+    }
+
+    @Gauge(name = "gauge.your.microservice.security.login.throttle.username.denied", absolute = true)
+    public long getUsernameBucketsDenied() {
+        return usernameBuckets.getDenials();
+    }
+
+    /**
+     * BucketLimit
+     * <p>
+     * Capacity and Refill Rate shared by all Buckets of a kind.
+     */
+    private static final class BucketLimit {
+        private final double capacity;
+        private final double tokensPerMillisecond;
+
+        private BucketLimit(int capacity, int refillPerMinute) {
+            this.capacity = Math.max(1, capacity);
+            this.tokensPerMillisecond = Math.max(1, refillPerMinute) / 60000d;
+        }
+    }
+
+    /**
+     * TokenBucket
+     * <p>
+     * Tokens remaining as of the last Refill, Refilled lazily upon access.
+     */
+    private static final class TokenBucket {
+        private double tokens;
+        private long refilledAt;
+        private volatile long fullAt;
+
+        private TokenBucket(BucketLimit limit, long now) {
+            this.tokens = limit.capacity;
+            this.refilledAt = now;
+        }
+
+        private void refill(BucketLimit limit, long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(limit.capacity, tokens + (now - refilledAt) * limit.tokensPerMillisecond);
+                refilledAt = now;
+            }
+        }
+
+        private synchronized long millisecondsUntilToken(BucketLimit limit, long now) {
+            refill(limit, now);
+            return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / limit.tokensPerMillisecond);
+        }
+
+        /**
+         * Take a Token, recording when the Bucket would be Full again.
+         */
+        private synchronized void take(BucketLimit limit, long now) {
+            refill(limit, now);
+            tokens = Math.max(0, tokens - 1);
+            fullAt = now + (long) Math.ceil((limit.capacity - tokens) / limit.tokensPerMillisecond);
+        }
+    }
+
+}
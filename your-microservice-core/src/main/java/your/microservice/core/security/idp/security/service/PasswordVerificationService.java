@@ -0,0 +1,69 @@
+package your.microservice.core.security.idp.security.service;
+
+import your.microservice.core.security.idp.security.YourMSAuthenticationOverloadedException;
+
+/**
+ * PasswordVerificationService
+ * <p>
+ * Provides the Interface for Verifying Passwords upon a dedicated, bounded Pool, so the Cost of
+ * BCrypt is never paid upon a Servlet Worker, and a Burst of Logins is Shed rather than Queued
+ * without limit.
+ * <p>
+ * The BCrypt Cost is Calibrated at Startup to the Hardware at hand, and Stored Hashes of another
+ * Cost are Rehashed, upon a Successful Login, so Login Latency stays Predictable.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public interface PasswordVerificationService {
+
+    /**
+     * matches
+     * Verify the Raw Password against the Stored Hash, waiting upon the Verification Pool.
+     *
+     * @param rawPassword    Raw Password as Supplied.
+     * @param hashedPassword Stored BCrypt Hash.
+     * @return boolean indicates if the Password Matches.
+     * @throws YourMSAuthenticationOverloadedException If the Verification could not be Admitted, or
+     *                                                 was not Performed in time.
+     */
+    boolean matches(CharSequence rawPassword, String hashedPassword) throws YourMSAuthenticationOverloadedException;
+
+    /**
+     * encode
+     * Hash the Raw Password at the Calibrated Cost, upon the Verification Pool.
+     *
+     * @param rawPassword Raw Password.
+     * @return String BCrypt Hash.
+     * @throws YourMSAuthenticationOverloadedException If the Hash could not be Admitted, or
+     *                                                 was not Performed in time.
+     */
+    String encode(CharSequence rawPassword) throws YourMSAuthenticationOverloadedException;
+
+    /**
+     * needsRehash
+     *
+     * @param hashedPassword Stored BCrypt Hash.
+     * @return boolean indicates if the Hash is of a Cost less than the Calibrated Cost.
+     */
+    boolean needsRehash(String hashedPassword);
+
+    /**
+     * rehashIfNeeded
+     * Upon a Successful Login, Replace a Stored Hash of a lesser Cost with one of the Calibrated Cost,
+     * in the Background apart from Logins, if the Rehash Worker has room, so the Login is not Delayed.
+     *
+     * @param principalID    Identifier of the Entity, by which its Credentials are Replaced.
+     * @param username       Username, aka Primary Email, of the Entity.
+     * @param rawPassword    Raw Password as Verified.
+     * @param hashedPassword Stored BCrypt Hash as Verified.
+     */
+    void rehashIfNeeded(Long principalID, String username, CharSequence rawPassword, String hashedPassword);
+
+    /**
+     * getStrength
+     *
+     * @return int Calibrated BCrypt Cost.
+     */
+    int getStrength();
+
+}
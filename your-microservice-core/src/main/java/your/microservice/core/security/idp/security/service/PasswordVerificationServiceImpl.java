@@ -0,0 +1,379 @@
+package your.microservice.core.security.idp.security.service;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.annotation.Gauge;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+import your.microservice.core.security.idp.security.YourMSAuthenticationOverloadedException;
+import your.microservice.core.security.idp.security.YourMicroserviceSecurityConstants;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PasswordVerificationServiceImpl
+ * <p>
+ * Verifies Passwords upon a fixed Pool, sized to the Processors by default, as BCrypt is purely
+ * CPU bound, fed by a bounded Queue.  When the Queue is Full, or a Verification is not Performed
+ * within its Timeout, the Authentication is Shed with a Retry After, leaving the Servlet Workers
+ * free to serve inexpensive Requests.
+ * <p>
+ * Rehashes are Performed apart from Logins, upon a single Low Priority Worker fed by a small
+ * bounded Queue, so a Rehash never occupies a Verification Worker.  When that Queue is Full, the
+ * Rehash is Deferred to a later Login.
+ * <p>
+ * Unless a fixed Cost is Configured, the Cost is Calibrated at Startup, by Timing a Hash at a low
+ * Cost and choosing the highest Cost, within Bounds, whose Hash is predicted to meet the Target
+ * Latency, as each increment of Cost doubles the Work.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@Service
+public class PasswordVerificationServiceImpl implements PasswordVerificationService {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(PasswordVerificationServiceImpl.class);
+
+    /**
+     * PASSWORD_VERIFICATION_POOL_SIZE
+     *
+     * Number of Verification Workers, zero indicates the Number of Available Processors.
+     */
+    @Value("${your.microservice.security.password.verification.pool.size:0}")
+    private Integer PASSWORD_VERIFICATION_POOL_SIZE = 0;
+
+    /**
+     * PASSWORD_VERIFICATION_QUEUE_CAPACITY
+     *
+     * Number of Verifications which may await a Worker, before Authentications are Shed.
+     */
+    @Value("${your.microservice.security.password.verification.queue.capacity:64}")
+    private Integer PASSWORD_VERIFICATION_QUEUE_CAPACITY = 64;
+
+    /**
+     * PASSWORD_VERIFICATION_TIMEOUT_IN_MILLISECONDS
+     *
+     * Maximum Time to await a Verification, including its Time Queued.
+     */
+    @Value("${your.microservice.security.password.verification.timeout:5000}")
+    private Long PASSWORD_VERIFICATION_TIMEOUT_IN_MILLISECONDS = 5000L;
+
+    /**
+     * PASSWORD_VERIFICATION_RETRY_AFTER_IN_SECONDS
+     *
+     * Number of Seconds a Shed Consumer is told to wait before Retrying.
+     */
+    @Value("${your.microservice.security.password.verification.retry.after:2}")
+    private Integer PASSWORD_VERIFICATION_RETRY_AFTER_IN_SECONDS = 2;
+
+    /**
+     * PASSWORD_STRENGTH
+     *
+     * Fixed BCrypt Cost, zero indicates the Cost is to be Calibrated.
+     */
+    @Value("${your.microservice.security.password.strength:0}")
+    private Integer PASSWORD_STRENGTH = 0;
+
+    /**
+     * PASSWORD_STRENGTH_TARGET_LATENCY_IN_MILLISECONDS
+     *
+     * Target Time for a single Hash, at the Calibrated Cost.  Best Effort above the Minimum Cost,
+     * as the Minimum is never Weakened to meet it, upon Hardware too slow for the Minimum.
+     */
+    @Value("${your.microservice.security.password.strength.target.latency:250}")
+    private Long PASSWORD_STRENGTH_TARGET_LATENCY_IN_MILLISECONDS = 250L;
+
+    /**
+     * PASSWORD_STRENGTH_MINIMUM and PASSWORD_STRENGTH_MAXIMUM
+     *
+     * Bounds of the Calibrated Cost, regardless of how fast or slow the Hardware.  The Minimum
+     * defaults to the Strength of our Stored Hashes, so Calibration never Weakens them.
+     */
+    @Value("${your.microservice.security.password.strength.minimum:" +
+            YourMicroserviceSecurityConstants.BCRYPT_STRENGTH_SETTING + "}")
+    private Integer PASSWORD_STRENGTH_MINIMUM = YourMicroserviceSecurityConstants.BCRYPT_STRENGTH_SETTING;
+
+    @Value("${your.microservice.security.password.strength.maximum:16}")
+    private Integer PASSWORD_STRENGTH_MAXIMUM = 16;
+
+    /**
+     * Cost at which the Calibration Hash is Timed, and the Number of Timings taken.
+     */
+    private static final int CALIBRATION_STRENGTH = 8;
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    /**
+     * Number of Rehashes which may await the Rehash Worker, before further Rehashes are Deferred.
+     */
+    private static final int REHASH_QUEUE_CAPACITY = 16;
+
+    private static final String PASSWORD_VERIFICATION_OVERLOADED_MESSAGE =
+            "Authentication Service is Busy, please Retry";
+
+    /**
+     * Metric Registry
+     */
+    @Autowired
+    private MetricRegistry metricRegistry;
+
+    /**
+     * Identity Provider Entity Manager
+     */
+    @Autowired
+    private IdentityProviderEntityManager identityProviderEntityManager;
+
+    /**
+     * Calibrated Cost and the Shared Encoder of that Cost, BCrypt Encoders are Stateless and Thread Safe.
+     * Verification reads the Cost from each Stored Hash, so any Cost Verifies.
+     */
+    private int strength;
+    private BCryptPasswordEncoder encoder;
+
+    /**
+     * Verification Pool, Rehash Worker, Timers and Counters.
+     */
+    private ThreadPoolExecutor verificationPool;
+    private ThreadPoolExecutor rehashWorker;
+    private Timer waitTimer;
+    private Timer hashTimer;
+    private Counter rejectedCounter;
+    private Counter rehashedCounter;
+
+    /**
+     * initialization
+     * Entered when Bean is initialized.
+     */
+    @PostConstruct
+    public void initialization() {
+        strength = calibrate();
+        encoder = new BCryptPasswordEncoder(strength);
+        int poolSize = PASSWORD_VERIFICATION_POOL_SIZE == null || PASSWORD_VERIFICATION_POOL_SIZE <= 0 ?
+                Runtime.getRuntime().availableProcessors() : PASSWORD_VERIFICATION_POOL_SIZE;
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "password-verification-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        verificationPool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(PASSWORD_VERIFICATION_QUEUE_CAPACITY), threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        rehashWorker = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(REHASH_QUEUE_CAPACITY), runnable -> {
+            Thread thread = new Thread(runnable, "password-rehash");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        waitTimer = metricRegistry.timer("timer.your.microservice.security.password.verification.wait");
+        hashTimer = metricRegistry.timer("timer.your.microservice.security.password.verification.hash");
+        rejectedCounter = metricRegistry.counter("counter.your.microservice.security.password.verification.rejected");
+        rehashedCounter = metricRegistry.counter("counter.your.microservice.security.password.rehashed");
+        LOGGER.info("Password Verification Pool Size:[{}], Queue Capacity:[{}], Timeout:[{}ms], Strength:[{}].",
+                poolSize, PASSWORD_VERIFICATION_QUEUE_CAPACITY, PASSWORD_VERIFICATION_TIMEOUT_IN_MILLISECONDS, strength);
+    }
+
+    /**
+     * calibrate
+     * Determine the BCrypt Cost to be used upon this Hardware.
+     *
+     * @return int BCrypt Cost.
+     */
+    private int calibrate() {
+        if (PASSWORD_STRENGTH != null && PASSWORD_STRENGTH > 0) {
+            return PASSWORD_STRENGTH;
+        }
+        if (PASSWORD_STRENGTH_TARGET_LATENCY_IN_MILLISECONDS == null || PASSWORD_STRENGTH_TARGET_LATENCY_IN_MILLISECONDS <= 0) {
+            return YourMicroserviceSecurityConstants.BCRYPT_STRENGTH_SETTING;
+        }
+        /**
+         * Time the Calibration Hash, taking the Fastest, as the Slower Timings include Warm Up.
+         */
+        BCryptPasswordEncoder calibrationEncoder = new BCryptPasswordEncoder(CALIBRATION_STRENGTH);
+        String calibrationHash = calibrationEncoder.encode(PasswordVerificationServiceImpl.class.getName());
+        long fastest = Long.MAX_VALUE;
+        for (int round = 0; round < CALIBRATION_ROUNDS; round++) {
+            long started = System.nanoTime();
+            calibrationEncoder.matches(PasswordVerificationServiceImpl.class.getName(), calibrationHash);
+            fastest = Math.min(fastest, System.nanoTime() - started);
+        }
+        /**
+         * Each increment of Cost doubles the Work, choose the highest Cost within the Target.
+         */
+        long target = TimeUnit.MILLISECONDS.toNanos(PASSWORD_STRENGTH_TARGET_LATENCY_IN_MILLISECONDS);
+        int calibrated = PASSWORD_STRENGTH_MINIMUM;
+        while (calibrated < PASSWORD_STRENGTH_MAXIMUM &&
+                fastest * Math.pow(2, calibrated + 1 - CALIBRATION_STRENGTH) <= target) {
+            calibrated++;
+        }
+        LOGGER.info("Password Strength Calibrated to:[{}], Cost {} Hash:[{}us], Target:[{}ms].",
+                calibrated, CALIBRATION_STRENGTH, TimeUnit.NANOSECONDS.toMicros(fastest),
+                PASSWORD_STRENGTH_TARGET_LATENCY_IN_MILLISECONDS);
+        /**
+         * The Minimum is never Weakened, even upon Hardware where it exceeds the Target.
+         */
+        long predicted = (long) (fastest * Math.pow(2, PASSWORD_STRENGTH_MINIMUM - CALIBRATION_STRENGTH));
+        if (predicted > target) {
+            LOGGER.warn("Password Strength Minimum:[{}] is predicted to take:[{}ms], exceeding the Target:[{}ms].",
+                    PASSWORD_STRENGTH_MINIMUM, TimeUnit.NANOSECONDS.toMillis(predicted),
+                    PASSWORD_STRENGTH_TARGET_LATENCY_IN_MILLISECONDS);
+        }
+        return calibrated;
+    }
+
+    /**
+     * destroyBean
+     * Entered when Bean is being destroyed or torn down from the runtime Environment.
+     */
+    @PreDestroy
+    public void destroyBean() {
+        verificationPool.shutdownNow();
+        rehashWorker.shutdownNow();
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String hashedPassword)
+            throws YourMSAuthenticationOverloadedException {
+        return perform(() -> encoder.matches(rawPassword, hashedPassword));
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) throws YourMSAuthenticationOverloadedException {
+        return perform(() -> encoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        /**
+         * BCrypt Hashes are of the Form '$2a$NN$...', where NN is the Cost.  Only a Hash of a lesser Cost
+         * is Rehashed, as Instances Calibrated upon differing Hardware would otherwise Rehash each other's.
+         */
+        if (hashedPassword == null || hashedPassword.length() < 7 || hashedPassword.charAt(0) != '$' ||
+                hashedPassword.charAt(3) != '$' || hashedPassword.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(hashedPassword.substring(4, 6)) < strength;
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+    }
+
+    @Override
+    public void rehashIfNeeded(Long principalID, String username, CharSequence rawPassword, String hashedPassword) {
+        if (principalID == null || rawPassword == null || !needsRehash(hashedPassword)) {
+            return;
+        }
+        try {
+            rehashWorker.execute(() -> {
+                Integer updated = identityProviderEntityManager.updateYourEntityCredentials(principalID,
+                        username, hashedPassword, encoder.encode(rawPassword));
+                if (updated != null && updated > 0) {
+                    rehashedCounter.inc();
+                    LOGGER.info("Credentials of:[{}] Rehashed to Strength:[{}].", username, strength);
+                }
+            });
+        } catch (RejectedExecutionException ree) {
+            /**
+             * The Rehash Worker is Busy, the Rehash will be attempted upon a later Login.
+             */
+            LOGGER.debug("Rehash Worker Busy, Deferring Rehash of:[{}].", username);
+        }
+    }
+
+    @Override
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * perform
+     * Perform a Hash Operation upon the Verification Pool, awaiting its Result.
+     *
+     * @param operation Hash Operation.
+     * @param <T> Result Type.
+     * @return Result of the Operation.
+     * @throws YourMSAuthenticationOverloadedException If the Operation could not be Admitted, or
+     *                                                 was not Performed in time.
+     */
+    private <T> T perform(Callable<T> operation) throws YourMSAuthenticationOverloadedException {
+        final long queued = System.nanoTime();
+        Future<T> verification;
+        try {
+            verification = verificationPool.submit(() -> {
+                long started = System.nanoTime();
+                waitTimer.update(started - queued, TimeUnit.NANOSECONDS);
+                try {
+                    return operation.call();
+                } finally {
+                    hashTimer.update(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException ree) {
+            throw shed("Queue Full");
+        }
+        try {
+            return verification.get(PASSWORD_VERIFICATION_TIMEOUT_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException te) {
+            verification.cancel(true);
+            throw shed("Timed Out");
+        } catch (InterruptedException ie) {
+            verification.cancel(true);
+            Thread.currentThread().interrupt();
+            throw shed("Interrupted");
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ee.getCause();
+            }
+            throw new IllegalStateException(ee.getCause());
+        }
+    }
+
+    /**
+     * shed
+     * Count and Log a Shed Authentication.
+     *
+     * @param cause Why the Verification was not Performed.
+     * @return YourMSAuthenticationOverloadedException to be Thrown.
+     */
+    private YourMSAuthenticationOverloadedException shed(String cause) {
+        rejectedCounter.inc();
+        LOGGER.warn("Password Verification {}, Queue Depth:[{}], Shedding Authentication.",
+                cause, verificationPool.getQueue().size());
+        return new YourMSAuthenticationOverloadedException(PASSWORD_VERIFICATION_OVERLOADED_MESSAGE,
+                PASSWORD_VERIFICATION_RETRY_AFTER_IN_SECONDS);
+    }
+
+    /**
+     * Metric Gauges.
+     */
+    @Gauge(name = "gauge.your.microservice.security.password.verification.queue.depth", absolute = true)
+    public int getQueueDepth() {
+        return verificationPool.getQueue().size();
+    }
+
+    @Gauge(name = "gauge.your.microservice.security.password.verification.active", absolute = true)
+    public int getActiveCount() {
+        return verificationPool.getActiveCount();
+    }
+
+}
@@ -0,0 +1,19 @@
+package your.microservice.core.security.idp.tasks;
+
+/**
+ * YourMicroserviceEventHistoryRetentionTask
+ *
+ * Provides the Interface for the Your Microservice Event History Retention Task,
+ * which will delete Event History beyond its Retention, by Age and by Number of
+ * Events per Entity and Event Tag.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public interface YourMicroserviceEventHistoryRetentionTask {
+
+    /**
+     * Perform the Physical Purge of all Event History beyond its Retention.
+     */
+    void purgeEventHistory();
+
+}
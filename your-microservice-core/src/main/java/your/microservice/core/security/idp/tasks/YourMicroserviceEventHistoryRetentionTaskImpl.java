@@ -0,0 +1,99 @@
+package your.microservice.core.security.idp.tasks;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+import your.microservice.core.util.TimeDuration;
+
+import javax.annotation.PostConstruct;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * YourMicroserviceEventHistoryRetentionTaskImpl
+ * <p>
+ * Deletes Event History older than its Retention Days, then all but the Newest Events of each
+ * Entity and Event Tag.  Deletes are Chunked, each Chunk within its own Transaction, so the
+ * Purge runs in constant Memory whatever the Size of the Event History.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@Component
+public class YourMicroserviceEventHistoryRetentionTaskImpl implements YourMicroserviceEventHistoryRetentionTask {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(YourMicroserviceEventHistoryRetentionTask.class);
+
+    /**
+     * EVENT_HISTORY_RETENTION_DAYS
+     *
+     * Event History older than this is Deleted, Zero Retains Event History of any Age.
+     */
+    @Value("${your.microservice.security.event.history.retention.days:365}")
+    private Integer EVENT_HISTORY_RETENTION_DAYS = 365;
+
+    /**
+     * EVENT_HISTORY_RETENTION_MAXIMUM_PER_TAG
+     *
+     * Maximum Number of Events Retained per Entity and Event Tag, Zero Retains any Number.
+     */
+    @Value("${your.microservice.security.event.history.retention.maximum.per.tag:1000}")
+    private Integer EVENT_HISTORY_RETENTION_MAXIMUM_PER_TAG = 1000;
+
+    /**
+     * Identity Provider Entity Manager.
+     */
+    @Autowired
+    private IdentityProviderEntityManager identityProviderEntityManager;
+
+    /**
+     * initialization
+     * Entered when Bean is initialized.
+     */
+    @PostConstruct
+    public void initialization() {
+        LOGGER.info("Event History Retention Days:[{}], Maximum per Entity and Event Tag:[{}].",
+                EVENT_HISTORY_RETENTION_DAYS, EVENT_HISTORY_RETENTION_MAXIMUM_PER_TAG);
+    }
+
+    /**
+     * Perform the Purge of Event History beyond its Retention.
+     * <p>
+     * Run this scheduled Task Five Minutes After start-Up and
+     * every 4 hours afterwards...
+     */
+    @Override
+    @Scheduled(initialDelay = 300000, fixedDelay = 14400000)
+    public void purgeEventHistory() {
+        int purgedByAge = 0;
+        int purgedByCount = 0;
+        TimeDuration td = new TimeDuration();
+        try {
+            td.start();
+            if (EVENT_HISTORY_RETENTION_DAYS > 0) {
+                Integer deleted = identityProviderEntityManager.deleteEventHistoryCreatedBefore(
+                        new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(EVENT_HISTORY_RETENTION_DAYS)));
+                purgedByAge = (deleted == null) ? 0 : deleted;
+            }
+            if (EVENT_HISTORY_RETENTION_MAXIMUM_PER_TAG > 0) {
+                Integer deleted = identityProviderEntityManager.deleteEventHistoryExceeding(
+                        EVENT_HISTORY_RETENTION_MAXIMUM_PER_TAG);
+                purgedByCount = (deleted == null) ? 0 : deleted;
+            }
+        } finally {
+            /**
+             * Show Final Statistics
+             */
+            td.stop();
+            LOGGER.info("Event History Retention Purge Completed in '{}', Purged by Age: '{}', by Count: '{}'.",
+                    td.getElapsedtoString(), purgedByAge, purgedByCount);
+        }
+    }
+
+}
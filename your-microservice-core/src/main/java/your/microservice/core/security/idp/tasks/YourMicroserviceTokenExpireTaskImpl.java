@@ -4,14 +4,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import your.microservice.core.security.idp.model.base.YourEntityTokenHistory;
 import your.microservice.core.util.TimeDuration;
 import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
-import java.text.SimpleDateFormat;
-import java.util.List;
 
 /**
  * YourMicroserviceTokenExpireTask
@@ -30,11 +27,6 @@ public class YourMicroserviceTokenExpireTaskImpl implements YourMicroserviceToke
     protected final static org.slf4j.Logger LOGGER =
             LoggerFactory.getLogger(YourMicroserviceTokenExpireTask.class);
 
-    /**
-     * Constants
-     */
-    private static final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss");
-
     /**
      * Identity Provider Entity Manager.
      */
@@ -61,7 +53,11 @@ public class YourMicroserviceTokenExpireTaskImpl implements YourMicroserviceToke
     }
 
     /**
-     * Perform the Purge of any Expired Tokens from the Your Microservice Token History.
+     * Perform the Purge of any Expired Tokens from the Your Microservice Token History,
+     * along with any Expired Refresh Tokens.
+     * <p>
+     * Expired Tokens are Deleted in Chunks, each within its own Transaction, none are Loaded,
+     * so the Purge runs in constant Memory whatever the Size of the Token History.
      * <p>
      * Run this scheduled Migration Task Two Minutes After start-Up and
      * every 4 hours afterwards...
@@ -73,55 +69,22 @@ public class YourMicroserviceTokenExpireTaskImpl implements YourMicroserviceToke
          * Simple Purge All Expired Tokens.
          */
         int purged = 0;
+        int purgedRefreshTokens = 0;
         TimeDuration td = new TimeDuration();
         try {
             td.start();
-            /**
-             * Obtain a List of All Expired Tokens
-             */
-            List<YourEntityTokenHistory> expiredTokens =
-                    identityProviderEntityManager.readCurrentExpiredTokenHistory();
-            if (expiredTokens != null && !expiredTokens.isEmpty()) {
-                /**
-                 * Report on those Expired Token Usage.
-                 */
-                LOGGER.info("Token Expiration Report: (Token to be Purged)");
-                for (YourEntityTokenHistory yourEntityTokenHistory : expiredTokens) {
-                     generateTokenUsage(yourEntityTokenHistory);
-                }
-                /**
-                 * Purge all Expired Tokens.
-                 */
-                for (YourEntityTokenHistory yourEntityTokenHistory : expiredTokens) {
-                    Integer deleted = identityProviderEntityManager.deleteTokenHistory(yourEntityTokenHistory.getJti());
-                    if (deleted == null || deleted <= 0) {
-                        LOGGER.warn("Unable to Delete Your Microservice Token History:'{}', Ignoring.", yourEntityTokenHistory.getJti());
-                    } else {
-                        purged++;
-                    }
-                }
-            }
+            Integer deleted = identityProviderEntityManager.deleteTokenHistory();
+            purged = (deleted == null) ? 0 : deleted;
+            deleted = identityProviderEntityManager.deleteExpiredRefreshTokens();
+            purgedRefreshTokens = (deleted == null) ? 0 : deleted;
         } finally {
             /**
              * Show Final Statistics
              */
             td.stop();
-            LOGGER.info("Token History Purge Expired Tokens Completed in '{}', Purged Tokens: '{}'.",
-                    td.getElapsedtoString(), purged);
+            LOGGER.info("Token History Purge Expired Tokens Completed in '{}', Purged Tokens: '{}', Refresh Tokens: '{}'.",
+                    td.getElapsedtoString(), purged, purgedRefreshTokens);
         }
     }
 
-    /**
-     * generateTokenUsage
-     * @param yourEntityTokenHistory Token History Element to Log.
-     */
-    protected void generateTokenUsage(YourEntityTokenHistory yourEntityTokenHistory) {
-         LOGGER.info("  sub:'{}', usage:'{}', Issued:'{}', Last Used:'{}', Expired:'{}'.",
-                 yourEntityTokenHistory.getSubject(),
-                 yourEntityTokenHistory.getUsageCount(),
-                 dateFormat.format(yourEntityTokenHistory.getIssuedAt()),
-                 dateFormat.format(yourEntityTokenHistory.getLastUsed()),
-                 dateFormat.format(yourEntityTokenHistory.getExpiration()));
-    }
-
 }
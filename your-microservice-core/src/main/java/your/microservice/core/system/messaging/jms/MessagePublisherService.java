@@ -2,6 +2,7 @@ package your.microservice.core.system.messaging.jms;
 
 import org.springframework.jms.core.JmsTemplate;
 import your.microservice.core.security.idp.model.base.YourEntityEventHistory;
+import your.microservice.core.system.messaging.model.YourMSTokenRevocationNotification;
 
 /**
  * JmsTemplateService
@@ -13,4 +14,6 @@ public interface MessagePublisherService {
     JmsTemplate getJmsTemplate();
 
     void publishEntityEventHistory(Long entityId, YourEntityEventHistory yourEntityEventHistory);
+
+    void publishTokenRevocation(YourMSTokenRevocationNotification yourMSTokenRevocationNotification);
 }
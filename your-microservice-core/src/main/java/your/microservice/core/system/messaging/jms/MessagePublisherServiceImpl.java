@@ -4,9 +4,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jms.core.JmsTemplate;
 import org.springframework.stereotype.Service;
-import your.microservice.core.security.idp.model.base.YourEntity;
 import your.microservice.core.security.idp.model.base.YourEntityEventHistory;
-import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+import your.microservice.core.system.messaging.model.YourMSTokenRevocationNotification;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -33,16 +32,19 @@ public class MessagePublisherServiceImpl implements MessagePublisherService {
     private JmsTemplate jmsTemplate;
 
     /**
-     * Identity Provider Entity Manager
+     * JMS Template used for Publishing to Topics, shares the Connection Factory and Message Converter
+     * of our JMS Template, but is bound to the Publish/Subscribe Domain.
      */
-    @Autowired
-    private IdentityProviderEntityManager identityProviderEntityManager;
+    private JmsTemplate topicJmsTemplate;
 
     /**
      * Initialization of Service
      */
     @PostConstruct
     public void initialization() {
+        topicJmsTemplate = new JmsTemplate(jmsTemplate.getConnectionFactory());
+        topicJmsTemplate.setMessageConverter(jmsTemplate.getMessageConverter());
+        topicJmsTemplate.setPubSubDomain(true);
         LOGGER.info("Initialization of Messaging Publisher Service Implementation, successful.");
     }
 
@@ -74,17 +76,29 @@ public class MessagePublisherServiceImpl implements MessagePublisherService {
             return;
         }
         /**
-         * Lookup the Entity to Associate.
+         * Associate the Entity by its Identifier, the Entity is Referenced, not Loaded, upon Persisting.
+         */
+        yourEntityEventHistory.setYourEntityId(principalID);
+        /**
+         * Publish the Entity History Event.
          */
-        YourEntity yourEntity = identityProviderEntityManager.findYourEntityById(principalID);
-        if (yourEntity != null) {
-            yourEntityEventHistory.setYourEntity(yourEntity);
-            /**
-             * Publish the Entity History Event.
-             */
-            getJmsTemplate().convertAndSend(SystemJMSLocalInstanceDestinations.YOUR_MS_ENTITY_EVENT_HISTORY_QUEUE,
-                    yourEntityEventHistory);
-            LOGGER.info("Entity Event History Tag:[{}] Published.", yourEntityEventHistory.getEventTagName());
+        getJmsTemplate().convertAndSend(SystemJMSLocalInstanceDestinations.YOUR_MS_ENTITY_EVENT_HISTORY_QUEUE,
+                yourEntityEventHistory);
+        LOGGER.info("Entity Event History Tag:[{}] Published.", yourEntityEventHistory.getEventTagName());
+    }
+
+    /**
+     * publishTokenRevocation
+     * @param yourMSTokenRevocationNotification to be Published to all Instances.
+     */
+    @Override
+    public void publishTokenRevocation(YourMSTokenRevocationNotification yourMSTokenRevocationNotification) {
+        if (yourMSTokenRevocationNotification == null ||
+                yourMSTokenRevocationNotification.getJti() == null && yourMSTokenRevocationNotification.getSubject() == null) {
+            return;
         }
+        topicJmsTemplate.convertAndSend(SystemJMSLocalInstanceDestinations.YOUR_MS_TOKEN_REVOCATION_TOPIC,
+                yourMSTokenRevocationNotification);
+        LOGGER.debug("Token Revocation:[{}] Published.", yourMSTokenRevocationNotification);
     }
 }
@@ -26,4 +26,21 @@ public class SystemJMSConfiguration {
         return factory;
     }
 
+    /**
+     * Topic Listener Container Factory, each Instance Subscribes with a single Consumer,
+     * so every Instance receives every Message Published to the Topic.
+     *
+     * @param connectionFactory Connection Factory.
+     * @return JmsListenerContainerFactory for Topic Subscriptions.
+     */
+    @Bean
+    public JmsListenerContainerFactory<?> jmsTopicListenerContainerFactory(ConnectionFactory connectionFactory) {
+        DefaultJmsListenerContainerFactory factory =
+                new DefaultJmsListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setPubSubDomain(true);
+        factory.setConcurrency("1");
+        return factory;
+    }
+
 }
@@ -16,4 +16,9 @@ public class SystemJMSLocalInstanceDestinations {
      */
     public static final String YOUR_MS_ENTITY_EVENT_HISTORY_QUEUE = "your.microservice.entity.event.history";
 
+    /**
+     * JMS Topics, Published to every Instance.
+     */
+    public static final String YOUR_MS_TOKEN_REVOCATION_TOPIC = "your.microservice.token.revocation";
+
 }
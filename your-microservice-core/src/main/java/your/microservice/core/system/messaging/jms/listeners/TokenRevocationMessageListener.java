@@ -0,0 +1,66 @@
+package your.microservice.core.system.messaging.jms.listeners;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jms.annotation.JmsListener;
+import org.springframework.stereotype.Component;
+import your.microservice.core.security.idp.jwt.YourMicroserviceTokenRevocationService;
+import your.microservice.core.system.messaging.jms.SystemJMSLocalInstanceDestinations;
+import your.microservice.core.system.messaging.model.YourMSTokenRevocationNotification;
+
+/**
+ * TokenRevocationMessageListener
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@Component
+public class TokenRevocationMessageListener {
+
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(TokenRevocationMessageListener.class);
+
+    /**
+     * Token Revocation Service
+     */
+    @Autowired
+    private YourMicroserviceTokenRevocationService yourMicroserviceTokenRevocationService;
+
+    /**
+     * JMS Topic Listener for Your Microservice Token Revocation Messages, Published by any Instance.
+     * @param yourMSTokenRevocationNotification Payload of the Message to be Handled.
+     */
+    @JmsListener(destination = SystemJMSLocalInstanceDestinations.YOUR_MS_TOKEN_REVOCATION_TOPIC,
+            containerFactory = "jmsTopicListenerContainerFactory")
+    public void receiveTokenRevocationMessage(YourMSTokenRevocationNotification yourMSTokenRevocationNotification) {
+        /**
+         * Perform some basic Validation.
+         */
+        if (yourMSTokenRevocationNotification == null) {
+            LOGGER.warn("Received Token Revocation Message, however payload was null, Ignoring.");
+            return;
+        }
+        /**
+         * Show Debug Message
+         */
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Received Message:[" + yourMSTokenRevocationNotification.toString() + "]");
+        }
+        /**
+         * Retain the Revocation on this Instance...
+         */
+        if (yourMSTokenRevocationNotification.getJti() != null &&
+                yourMSTokenRevocationNotification.getExpirationTime() != null) {
+            yourMicroserviceTokenRevocationService.applyRevocation(yourMSTokenRevocationNotification.getJti(),
+                    yourMSTokenRevocationNotification.getExpirationTime());
+        } else if (yourMSTokenRevocationNotification.getSubject() != null &&
+                yourMSTokenRevocationNotification.getNotBeforeTime() != null) {
+            yourMicroserviceTokenRevocationService.applyEpoch(yourMSTokenRevocationNotification.getSubject(),
+                    yourMSTokenRevocationNotification.getNotBeforeTime());
+        } else {
+            LOGGER.warn("Received Token Revocation Message, however payload was incomplete, Ignoring.");
+        }
+    }
+}
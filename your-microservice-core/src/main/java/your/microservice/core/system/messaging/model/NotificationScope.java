@@ -8,5 +8,6 @@ package your.microservice.core.system.messaging.model;
 public enum NotificationScope {
     BULLETIN_BROADCAST,
     ORGANIZATION_BROADCAST,
-    PERSON_BROADCAST
+    PERSON_BROADCAST,
+    TOKEN_REVOCATION
 }
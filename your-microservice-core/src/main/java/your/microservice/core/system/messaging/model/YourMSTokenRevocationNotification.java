@@ -0,0 +1,109 @@
+package your.microservice.core.system.messaging.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * YourMSTokenRevocationNotification
+ * <p>
+ * Broadcast to every Instance when a Token is Revoked, or when all Tokens for a Subject
+ * Issued before an Epoch are Revoked, so each Instance can deny the Token from its own memory,
+ * without consulting the Token History Store.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@JsonSerialize(include = JsonSerialize.Inclusion.NON_NULL)
+public class YourMSTokenRevocationNotification extends YourMSNotification {
+    /**
+     * Revoked Token Identifier
+     */
+    private String jti;
+    /**
+     * Expiration Time of Revoked Token in Milliseconds, after which
+     * the Revocation need no longer be Retained.
+     */
+    private Long expirationTime;
+    /**
+     * Subject whose Tokens Issued before the Not Before Time are Revoked.
+     */
+    private String subject;
+    /**
+     * Not Before Epoch Time in Milliseconds.
+     */
+    private Long notBeforeTime;
+
+    /**
+     * Default Constructor for our Notification.
+     */
+    public YourMSTokenRevocationNotification() {
+        super(NotificationScope.TOKEN_REVOCATION);
+    }
+
+    /**
+     * Default Constructor for our Notification, with
+     * all Applicable parameters.
+     *
+     * @param jti Revoked Token Identifier.
+     * @param expirationTime Expiration Time of Revoked Token in Milliseconds.
+     */
+    public YourMSTokenRevocationNotification(String jti, Long expirationTime) {
+        super(NotificationScope.TOKEN_REVOCATION);
+        this.jti = jti;
+        this.expirationTime = expirationTime;
+    }
+
+    /**
+     * Factory for a Subject Epoch Notification.
+     *
+     * @param subject Subject whose Tokens are Revoked.
+     * @param notBeforeTime Not Before Epoch Time in Milliseconds.
+     * @return YourMSTokenRevocationNotification
+     */
+    public static YourMSTokenRevocationNotification forSubject(String subject, Long notBeforeTime) {
+        YourMSTokenRevocationNotification notification = new YourMSTokenRevocationNotification();
+        notification.setSubject(subject);
+        notification.setNotBeforeTime(notBeforeTime);
+        return notification;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+
+    public Long getExpirationTime() {
+        return expirationTime;
+    }
+
+    public void setExpirationTime(Long expirationTime) {
+        this.expirationTime = expirationTime;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public Long getNotBeforeTime() {
+        return notBeforeTime;
+    }
+
+    public void setNotBeforeTime(Long notBeforeTime) {
+        this.notBeforeTime = notBeforeTime;
+    }
+
+    @Override
+    public String toString() {
+        return "YourMSTokenRevocationNotification{" +
+                "jti='" + jti + '\'' +
+                ", expirationTime=" + expirationTime +
+                ", subject='" + subject + '\'' +
+                ", notBeforeTime=" + notBeforeTime +
+                "} " + super.toString();
+    }
+}
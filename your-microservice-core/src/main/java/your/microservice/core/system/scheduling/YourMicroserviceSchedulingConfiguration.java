@@ -8,6 +8,8 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * Your Microservice Scheduling and Thread Pool Configuration
  *
@@ -40,4 +42,22 @@ public class YourMicroserviceSchedulingConfiguration implements SchedulingConfig
         threadPoolTaskExecutor.setQueueCapacity(32);
         return threadPoolTaskExecutor;
     }
+
+    /**
+     * Define the ThreadPoolTaskExecutor upon which Authentication Events are Published, off the
+     * Response Path.  Should the Queue fill, the Caller Publishes the Event itself, so no Event is Lost.
+     *
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean(name = "authenticationEventTaskExecutor")
+    public ThreadPoolTaskExecutor authenticationEventTaskExecutor() {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(2);
+        threadPoolTaskExecutor.setMaxPoolSize(4);
+        threadPoolTaskExecutor.setQueueCapacity(1024);
+        threadPoolTaskExecutor.setThreadNamePrefix("authentication-event-");
+        threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolTaskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        return threadPoolTaskExecutor;
+    }
 }
@@ -0,0 +1,260 @@
+package your.microservice.core.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * BoundedExpiringCache
+ * <p>
+ * Thread-safe Cache with an upper bound on the number of Entries, where each Entry carries its
+ * own absolute Expiration Time in Milliseconds.  An expired Entry is never returned, it is removed
+ * upon access or during a sweep.
+ * <p>
+ * When the Cache reaches its Maximum Size, expired Entries are swept first, if the Cache is still full,
+ * arbitrary Entries are evicted until the Cache is back below its low water mark.  Unless constructed to
+ * evict only expired Entries, in which case new Keys are denied until an Entry expires, so a flood of new
+ * Keys can never displace an Entry which has yet to expire.
+ *
+ * @param <K> Key Type
+ * @param <V> Value Type
+ * @author jeff.a.schenk@gmail.com
+ */
+public class BoundedExpiringCache<K, V> {
+
+    /**
+     * Cache Entries.
+     */
+    private final ConcurrentHashMap<K, Entry<V>> entries;
+    /**
+     * Maximum Number of Entries and the Low Water Mark we evict down to once full.
+     */
+    private final int maximumSize;
+    private final int lowWaterMark;
+    /**
+     * Indicates if only expired Entries may be evicted to make room.
+     */
+    private final boolean evictExpiredOnly;
+    /**
+     * Only one Thread at a time needs to make room.
+     */
+    private final AtomicBoolean evicting = new AtomicBoolean(false);
+    /**
+     * Statistics
+     */
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong denials = new AtomicLong();
+
+    /**
+     * Default Constructor
+     *
+     * @param maximumSize Maximum Number of Entries to be held.
+     */
+    public BoundedExpiringCache(int maximumSize) {
+        this(maximumSize, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maximumSize      Maximum Number of Entries to be held.
+     * @param evictExpiredOnly Indicates if only expired Entries may be evicted, new Keys are denied when full.
+     */
+    public BoundedExpiringCache(int maximumSize, boolean evictExpiredOnly) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum Size must be greater than Zero.");
+        }
+        this.maximumSize = maximumSize;
+        this.lowWaterMark = maximumSize - Math.max(1, maximumSize / 10);
+        this.evictExpiredOnly = evictExpiredOnly;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1024));
+    }
+
+    /**
+     * get
+     *
+     * @param key Key of Entry
+     * @return V Value or null if not present or Expired.
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            if (entries.remove(key, entry)) {
+                evictions.incrementAndGet();
+            }
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.value;
+    }
+
+    /**
+     * put
+     *
+     * @param key       Key of Entry
+     * @param value     Value of Entry
+     * @param expiresAt Absolute Time in Milliseconds when this Entry Expires.
+     */
+    public void put(K key, V value, long expiresAt) {
+        if (key == null || value == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        if (!admit(key)) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * compute
+     * Atomically Compute the Entry's Value, and its Expiration, from its current Value, or from null
+     * if not present or Expired.  The Remapping runs while the Entry is Locked, it must be brief.
+     *
+     * @param key       Key of Entry
+     * @param remapping Computes the new Value from the current Value, which may be null.
+     * @param expiresAt Absolute Time in Milliseconds when the new Value Expires.
+     * @return V new Value, or null if a new Key was Denied.
+     */
+    public V compute(K key, Function<? super V, ? extends V> remapping, ToLongFunction<? super V> expiresAt) {
+        if (!admit(key)) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        Entry<V> entry = entries.compute(key, (k, current) -> {
+            V value = remapping.apply(current == null || current.expiresAt <= now ? null : current.value);
+            return (value == null) ? null : new Entry<>(value, expiresAt.applyAsLong(value));
+        });
+        return (entry == null) ? null : entry.value;
+    }
+
+    /**
+     * remove
+     *
+     * @param key Key of Entry
+     * @return V Value removed or null.
+     */
+    public V remove(K key) {
+        Entry<V> entry = entries.remove(key);
+        return (entry == null) ? null : entry.value;
+    }
+
+    /**
+     * Clear all Entries.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * purgeExpired
+     * Sweep all Expired Entries.
+     *
+     * @return int Number of Entries Purged.
+     */
+    public int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int purged = 0;
+        for (Map.Entry<K, Entry<V>> mapEntry : entries.entrySet()) {
+            if (mapEntry.getValue().expiresAt <= now &&
+                    entries.remove(mapEntry.getKey(), mapEntry.getValue())) {
+                purged++;
+            }
+        }
+        evictions.addAndGet(purged);
+        return purged;
+    }
+
+    /**
+     * admit
+     * Make room for a new Key when full, an existing Key is always Admitted.
+     *
+     * @param key Key of Entry
+     * @return boolean indicates if the Key may be Stored.
+     */
+    private boolean admit(K key) {
+        if (entries.size() < maximumSize || entries.containsKey(key)) {
+            return true;
+        }
+        makeRoom();
+        if (evictExpiredOnly && entries.size() >= maximumSize) {
+            denials.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * makeRoom
+     * Purge Expired Entries, if still above our Low Water Mark, evict arbitrary Entries, unless only
+     * expired Entries may be evicted.
+     */
+    private void makeRoom() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            purgeExpired();
+            if (evictExpiredOnly) {
+                return;
+            }
+            Iterator<K> iterator = entries.keySet().iterator();
+            while (entries.size() > lowWaterMark && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.incrementAndGet();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getDenials() {
+        return denials.get();
+    }
+
+    /**
+     * Cache Entry
+     *
+     * @param <V> Value Type
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package your.microservice.core.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * DigestUtility
+ * <p>
+ * Provides a SHA-256 Digest of String Values, such as Tokens, so they may be used as
+ * lookup keys without retaining the original Value.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public final class DigestUtility {
+
+    /**
+     * MessageDigest is not Thread-Safe, so we keep one per Thread.
+     */
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new IllegalStateException("SHA-256 Message Digest is not Available.", nsae);
+        }
+    });
+
+    /**
+     * Private Constructor, Static Methods only.
+     */
+    private DigestUtility() {
+    }
+
+    /**
+     * sha256
+     *
+     * @param value String Value to be Digested.
+     * @return String containing the URL Safe Base64 Encoded SHA-256 Digest of Value, or null if Value is null.
+     */
+    public static String sha256(String value) {
+        if (value == null) {
+            return null;
+        }
+        MessageDigest messageDigest = SHA_256.get();
+        messageDigest.reset();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(messageDigest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,83 @@
+package your.microservice.core.util;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * IdentifierUtility
+ * <p>
+ * Generates Random, Version 4, UUID Strings from a Generator held per Thread, and Opaque Tokens.
+ * {@link java.util.UUID#randomUUID()} draws upon a single shared SecureRandom, which becomes a point of
+ * Contention when many Threads Issue Tokens at once, here each Thread has its own Generator, Seeded
+ * from the shared Generator only once.  Opaque Tokens are Secrets, such as Refresh Tokens, Issued far
+ * less often, so they are drawn from the Platform's default Generator rather than SHA1PRNG.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public final class IdentifierUtility {
+
+    /**
+     * Shared Platform default Generator, used to Seed each Thread's Generator and to Generate Secrets.
+     */
+    private static final SecureRandom SHARED_GENERATOR = new SecureRandom();
+
+    /**
+     * SecureRandom Instances Synchronize upon themselves, so we keep one per Thread.
+     */
+    private static final ThreadLocal<SecureRandom> GENERATOR = ThreadLocal.withInitial(() -> {
+        SecureRandom secureRandom;
+        try {
+            secureRandom = SecureRandom.getInstance("SHA1PRNG");
+        } catch (NoSuchAlgorithmException nsae) {
+            secureRandom = new SecureRandom();
+        }
+        byte[] seed = new byte[32];
+        SHARED_GENERATOR.nextBytes(seed);
+        secureRandom.setSeed(seed);
+        return secureRandom;
+    });
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Private Constructor, Static Methods only.
+     */
+    private IdentifierUtility() {
+    }
+
+    /**
+     * randomUUID
+     *
+     * @return String containing a Random, Version 4, UUID in its Canonical Form.
+     */
+    public static String randomUUID() {
+        byte[] bytes = new byte[16];
+        GENERATOR.get().nextBytes(bytes);
+        bytes[6] = (byte) ((bytes[6] & 0x0f) | 0x40);  // Version 4
+        bytes[8] = (byte) ((bytes[8] & 0x3f) | 0x80);  // IETF Variant
+        char[] uuid = new char[36];
+        int position = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (i == 4 || i == 6 || i == 8 || i == 10) {
+                uuid[position++] = '-';
+            }
+            uuid[position++] = HEX_DIGITS[(bytes[i] >> 4) & 0x0f];
+            uuid[position++] = HEX_DIGITS[bytes[i] & 0x0f];
+        }
+        return new String(uuid);
+    }
+
+    /**
+     * randomToken
+     * Secrets are drawn from the Platform's default Generator.
+     *
+     * @param numberOfBytes Number of Random Bytes.
+     * @return String containing the URL Safe Base64 Encoding, without Padding, of the Random Bytes.
+     */
+    public static String randomToken(int numberOfBytes) {
+        byte[] bytes = new byte[numberOfBytes];
+        SHARED_GENERATOR.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
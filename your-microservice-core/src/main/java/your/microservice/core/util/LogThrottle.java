@@ -0,0 +1,51 @@
+package your.microservice.core.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LogThrottle
+ * <p>
+ * Permits at most one Log Statement per Interval, counting those suppressed, so that a
+ * flood of identical Events does not turn into a flood of Logging I/O.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+public class LogThrottle {
+
+    private final long intervalMillis;
+    private final AtomicLong nextPermitted = new AtomicLong(0L);
+    private final AtomicLong suppressed = new AtomicLong(0L);
+
+    /**
+     * Default Constructor
+     *
+     * @param intervalMillis Minimum Interval in Milliseconds between permitted Log Statements.
+     */
+    public LogThrottle(long intervalMillis) {
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * tryAcquire
+     *
+     * @return boolean indicating if the Caller may Log now, if not, the Event is counted as Suppressed.
+     */
+    public boolean tryAcquire() {
+        long now = System.currentTimeMillis();
+        long next = nextPermitted.get();
+        if (now >= next && nextPermitted.compareAndSet(next, now + intervalMillis)) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * drainSuppressed
+     *
+     * @return long Number of Suppressed Events since last Drained.
+     */
+    public long drainSuppressed() {
+        return suppressed.getAndSet(0L);
+    }
+}
@@ -0,0 +1,240 @@
+package your.microservice.core.integration.repository;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.SpringApplicationConfiguration;
+import org.springframework.boot.test.WebIntegrationTest;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import your.microservice.MicroserviceTestApplication;
+import your.microservice.core.security.idp.model.base.YourEntity;
+import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+import static your.microservice.testutil.IntegrationTestSetupBean.USER_EMAIL;
+
+/**
+ * IdPEMQueryBenchmarkIT
+ * <p>
+ * Measures the per Call Cost of the Finder upon the Authentication Path, looking up an Entity by Email,
+ * with a Criteria Query Built on each Call, as the Entity Manager once did, against the Named Query
+ * Compiled once when the Persistence Unit is Built.  The Finders are also Compared in alternating Rounds,
+ * alongside Inline JPQL, and the Named Query Asserted to Allocate less than the Criteria Built per Call.
+ * <p>
+ * Iterations can be specified with System Property: 'query.benchmark.iterations'.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringApplicationConfiguration(classes = {MicroserviceTestApplication.class})
+@WebIntegrationTest({"server.port:0", "test.environment.property:true"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IdPEMQueryBenchmarkIT {
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(IdPEMQueryBenchmarkIT.class);
+
+    /**
+     * Benchmark Iterations
+     */
+    private static final int WARMUP_ITERATIONS = 1000;
+    private static final int ITERATIONS = Integer.getInteger("query.benchmark.iterations", 5000);
+    private static final int COMPARISON_ROUNDS = 5;
+
+    /**
+     * Entity Manager
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Identity Provider Entity Manager
+     */
+    @Autowired
+    private IdentityProviderEntityManager identityProviderEntityManager;
+
+    @Test
+    public void test01_CriteriaQueryPerCallBenchmark() {
+        LOGGER.info("Running: test01_CriteriaQueryPerCallBenchmark");
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertEquals(USER_EMAIL, findByEmailWithCriteria(USER_EMAIL).getEntityEmailAddress());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            findByEmailWithCriteria(USER_EMAIL);
+        }
+        report("Criteria Built per Call", System.nanoTime() - start);
+    }
+
+    @Test
+    public void test02_NamedQueryBenchmark() {
+        LOGGER.info("Running: test02_NamedQueryBenchmark");
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertEquals(USER_EMAIL, findByEmailWithNamedQuery(USER_EMAIL).getEntityEmailAddress());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            findByEmailWithNamedQuery(USER_EMAIL);
+        }
+        report("Named Query", System.nanoTime() - start);
+    }
+
+    @Test
+    public void test03_EntityManagerFinderBenchmark() {
+        LOGGER.info("Running: test03_EntityManagerFinderBenchmark");
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertNotNull(identityProviderEntityManager.findYourEntityByEmail(USER_EMAIL));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            identityProviderEntityManager.findYourEntityByEmail(USER_EMAIL);
+        }
+        report("Entity Manager Finder", System.nanoTime() - start);
+    }
+
+    @Test
+    public void test04_NamedQueryComparison() {
+        LOGGER.info("Running: test04_NamedQueryComparison");
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertEquals(USER_EMAIL, findByEmailWithJpql(USER_EMAIL).getEntityEmailAddress());
+        }
+        /**
+         * Alternate the Finders over several Rounds, taking the fastest and least Allocating Round of each,
+         * so none is favored by Warm Up or by a Pause.
+         */
+        long[] criteria = {Long.MAX_VALUE, Long.MAX_VALUE};
+        long[] jpql = {Long.MAX_VALUE, Long.MAX_VALUE};
+        long[] named = {Long.MAX_VALUE, Long.MAX_VALUE};
+        for (int round = 0; round < COMPARISON_ROUNDS; round++) {
+            measure(criteria, this::findByEmailWithCriteria);
+            measure(jpql, this::findByEmailWithJpql);
+            measure(named, this::findByEmailWithNamedQuery);
+        }
+        LOGGER.info("Query Benchmark: Comparison, Criteria Built per Call:[{}], Inline JPQL:[{}], Named Query:[{}]",
+                describe(criteria), describe(jpql), describe(named));
+        /**
+         * Elapsed Time is Reported as the Baseline, Allocation is what is Asserted, being Deterministic.
+         */
+        if (allocatedBytes() >= 0) {
+            assertTrue("Named Query should Allocate less than Building the Criteria per Call",
+                    named[1] < criteria[1]);
+        }
+    }
+
+    /**
+     * findByEmailWithCriteria
+     * The Finder as once Implemented, Building the Criteria Tree upon each Call.
+     *
+     * @param email Email Address of the Entity.
+     * @return YourEntity Entity Found.
+     */
+    private YourEntity findByEmailWithCriteria(String email) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<YourEntity> criteriaQuery = criteriaBuilder.createQuery(YourEntity.class);
+        final Root<YourEntity> yourEntityRoot = criteriaQuery.from(YourEntity.class);
+
+        criteriaQuery.select(yourEntityRoot);
+        criteriaQuery.where(criteriaBuilder.equal(yourEntityRoot.get("entityEmailAddress"), email));
+        return entityManager.createQuery(criteriaQuery).getSingleResult();
+    }
+
+    /**
+     * findByEmailWithJpql
+     * The Finder with Inline JPQL, Parsed upon each Call unless found in the Query Plan Cache.
+     *
+     * @param email Email Address of the Entity.
+     * @return YourEntity Entity Found.
+     */
+    private YourEntity findByEmailWithJpql(String email) {
+        return entityManager.createQuery("SELECT e FROM YourEntity e WHERE e.entityEmailAddress = :email", YourEntity.class)
+                .setParameter("email", email)
+                .getSingleResult();
+    }
+
+    /**
+     * findByEmailWithNamedQuery
+     *
+     * @param email Email Address of the Entity.
+     * @return YourEntity Entity Found.
+     */
+    private YourEntity findByEmailWithNamedQuery(String email) {
+        return entityManager.createNamedQuery(YourEntity.FIND_BY_EMAIL, YourEntity.class)
+                .setParameter("email", email)
+                .getSingleResult();
+    }
+
+    /**
+     * measure
+     * Run a Finder for our Iterations, retaining the least Elapsed Nanoseconds and Bytes Allocated.
+     *
+     * @param measured Least Elapsed Nanoseconds and Bytes Allocated so far.
+     * @param finder Finder to be Measured.
+     */
+    private void measure(long[] measured, Function<String, YourEntity> finder) {
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            finder.apply(USER_EMAIL);
+        }
+        measured[0] = Math.min(measured[0], System.nanoTime() - start);
+        measured[1] = Math.min(measured[1], allocatedBytes() - allocated);
+    }
+
+    /**
+     * describe
+     *
+     * @param measured Least Elapsed Nanoseconds and Bytes Allocated.
+     * @return String Average per Operation.
+     */
+    private String describe(long[] measured) {
+        return String.format("%.2f us/op, %d bytes/op", (measured[0] / 1000d) / ITERATIONS, measured[1] / ITERATIONS);
+    }
+
+    /**
+     * report
+     *
+     * @param operation Name of Operation Measured.
+     * @param elapsedNanos Elapsed Time.
+     */
+    private void report(String operation, long elapsedNanos) {
+        double opsPerSecond = ITERATIONS / (elapsedNanos / 1_000_000_000d);
+        LOGGER.info("Query Benchmark: {} Iterations:[{}], ops/sec:[{}], avg:[{} us/op]",
+                operation, ITERATIONS, String.format("%.1f", opsPerSecond),
+                String.format("%.2f", (elapsedNanos / 1000d) / ITERATIONS));
+        assertTrue(opsPerSecond > 0);
+    }
+
+    /**
+     * allocatedBytes
+     *
+     * @return long Bytes Allocated by the Current Thread, or -1 if not Supported by this JVM.
+     */
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (sunThreadMXBean.isThreadAllocatedMemorySupported() && sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                return sunThreadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1L;
+    }
+
+}
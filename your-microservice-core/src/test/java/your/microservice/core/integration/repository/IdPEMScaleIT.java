@@ -0,0 +1,311 @@
+package your.microservice.core.integration.repository;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.SpringApplicationConfiguration;
+import org.springframework.boot.test.WebIntegrationTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import your.microservice.MicroserviceTestApplication;
+import your.microservice.core.security.idp.model.base.YourEntity;
+import your.microservice.core.security.idp.model.base.YourEntityEventHistory;
+import your.microservice.core.security.idp.model.types.YourEntityStatus;
+import your.microservice.core.security.idp.model.types.YourEntityTokenStatus;
+import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * IdPEMScaleIT
+ * <p>
+ * Seeds Token History and Event History, then Exercises each Identity Provider Entity Manager Access
+ * Path.  Seeded Rows are spread over many Subjects and Entities, while the Probed Subject and Entity
+ * hold only a few, so a Scan of the Table cannot hide behind a small Result.
+ * <p>
+ * By default a small Number of Rows is Seeded and only the Results are Checked.  At Scale, enabled with
+ * System Property: 'scale.test', a Million Rows are Seeded per Table and each Access Path's Median
+ * Latency must remain within Bounds, as it only does when the Access Path is served by an Index.
+ * Rows Seeded per Table can be specified with System Property: 'scale.test.rows', and the Latency
+ * Bound with 'scale.test.maximum.millis'.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringApplicationConfiguration(classes = {MicroserviceTestApplication.class})
+@WebIntegrationTest({"server.port:0", "test.environment.property:true"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IdPEMScaleIT {
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(IdPEMScaleIT.class);
+
+    /**
+     * Scale and Latency Bounds
+     */
+    private static final boolean SCALE_TEST = Boolean.getBoolean("scale.test");
+    private static final int ROWS = Integer.getInteger("scale.test.rows", SCALE_TEST ? 1000000 : 20000);
+    private static final long MAXIMUM_MILLIS = Long.getLong("scale.test.maximum.millis", 50L);
+    private static final int SEED_BATCH_SIZE = 10000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int ITERATIONS = 25;
+
+    /**
+     * Seeded Subjects and Entities
+     */
+    private static final int SUBJECTS = 10000;
+    private static final int BULK_ENTITIES = 10;
+    private static final String SUBJECT_PREFIX = "scale.";
+    private static final String SUBJECT_SUFFIX = "@example.com";
+    private static final String PROBE_SUBJECT = SUBJECT_PREFIX + 42 + SUBJECT_SUFFIX;
+    private static final String PROBE_JTI = "scale-jti-42";
+    private static final String EXPIRED_SUBJECT = SUBJECT_PREFIX + "expired" + SUBJECT_SUFFIX;
+    private static final int EXPIRED_ROWS = 100;
+    private static final String SPARSE_ENTITY_EMAIL = "scale.sparse@example.com";
+    private static final int SPARSE_ENTITY_EVENTS = 20;
+
+    private static final String INSERT_TOKEN_HISTORY_SQL =
+            "INSERT INTO YourEntityTokenHistory (jti, subject, status, issuedat, expiration, notusedbefore, lastused, usagecount) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_EVENT_HISTORY_SQL =
+            "INSERT INTO YourEntityEventHistory (entityId, eventtagname, eventmessage, createdbydate) VALUES (?, ?, ?, ?)";
+
+    /**
+     * JDBC Template
+     */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Identity Provider Entity Manager
+     */
+    @Autowired
+    private IdentityProviderEntityManager identityProviderEntityManager;
+
+    @Test
+    public void test00_first() {
+        LOGGER.info("Running: test00_first --> Should be First Test Run in Integration Test Suite");
+        assertNotNull(jdbcTemplate);
+        assertNotNull(identityProviderEntityManager);
+    }
+
+    @Test
+    public void test01_SeedTokenHistory() {
+        LOGGER.info("Running: test01_SeedTokenHistory");
+
+        long now = System.currentTimeMillis();
+        Timestamp issuedAt = new Timestamp(now);
+        Timestamp expiration = new Timestamp(now + 3600000L);
+        long start = System.nanoTime();
+        List<Object[]> rows = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{"scale-jti-" + i, SUBJECT_PREFIX + (i % SUBJECTS) + SUBJECT_SUFFIX,
+                    YourEntityTokenStatus.ACTIVE.name(), issuedAt, expiration, issuedAt, issuedAt, 0L});
+            if (rows.size() == SEED_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_TOKEN_HISTORY_SQL, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TOKEN_HISTORY_SQL, rows);
+            rows.clear();
+        }
+        /**
+         * A few Expired Rows, for the Expired Sweep.
+         */
+        Timestamp expired = new Timestamp(now - 3600000L);
+        for (int i = 0; i < EXPIRED_ROWS; i++) {
+            rows.add(new Object[]{"scale-expired-jti-" + i, EXPIRED_SUBJECT,
+                    YourEntityTokenStatus.ACTIVE.name(), expired, expired, expired, expired, 0L});
+        }
+        jdbcTemplate.batchUpdate(INSERT_TOKEN_HISTORY_SQL, rows);
+        LOGGER.info("Seeded '{}' Token History Rows in {} ms.", ROWS + EXPIRED_ROWS, (System.nanoTime() - start) / 1000000);
+        assertNotNull(identityProviderEntityManager.readTokenHistory(PROBE_JTI));
+    }
+
+    @Test
+    public void test02_SeedEventHistory() {
+        LOGGER.info("Running: test02_SeedEventHistory");
+
+        List<Long> entityIds = new ArrayList<>(BULK_ENTITIES);
+        for (int i = 0; i < BULK_ENTITIES; i++) {
+            entityIds.add(createScaleEntity(SUBJECT_PREFIX + "bulk." + i + SUBJECT_SUFFIX).getEntityId());
+        }
+        long start = System.nanoTime();
+        long createdByDate = System.currentTimeMillis() - ROWS;
+        List<Object[]> rows = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{entityIds.get(i % BULK_ENTITIES), "SCALE_" + (i % 8),
+                    "Scale Event " + i, new Timestamp(createdByDate + i)});
+            if (rows.size() == SEED_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_EVENT_HISTORY_SQL, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_EVENT_HISTORY_SQL, rows);
+        }
+        LOGGER.info("Seeded '{}' Event History Rows in {} ms.", ROWS, (System.nanoTime() - start) / 1000000);
+
+        /**
+         * The Probed Entity holds only a few Events.
+         */
+        YourEntity sparseEntity = createScaleEntity(SPARSE_ENTITY_EMAIL);
+        for (int i = 0; i < SPARSE_ENTITY_EVENTS; i++) {
+            identityProviderEntityManager.createEventHistory(
+                    new YourEntityEventHistory(sparseEntity, "SCALE_SPARSE", "Sparse Event " + i, new HashMap<>()));
+        }
+    }
+
+    @Test
+    public void test03_TokenHistoryAccessPaths() {
+        LOGGER.info("Running: test03_TokenHistoryAccessPaths");
+
+        measure("readTokenHistory", () ->
+                assertNotNull(identityProviderEntityManager.readTokenHistory(PROBE_JTI)));
+        int probeSubjectRows = (ROWS / SUBJECTS) + ((ROWS % SUBJECTS > 42) ? 1 : 0);
+        measure("readTokenHistoryBySubject", () ->
+                assertEquals(probeSubjectRows, identityProviderEntityManager.readTokenHistoryBySubject(PROBE_SUBJECT).size()));
+        measure("incrementTokenHistoryUsage", () ->
+                assertEquals(Integer.valueOf(1), identityProviderEntityManager.incrementTokenHistoryUsage(PROBE_JTI)));
+        measure("readCurrentExpiredTokenHistory", () ->
+                assertNotNull(identityProviderEntityManager.readCurrentExpiredTokenHistory()));
+
+        /**
+         * The Expired Sweep removes the Seeded Expired Rows, unless the Expire Task already has, and
+         * only those, then Sweeps an Index Range holding nothing Expired.
+         */
+        identityProviderEntityManager.deleteTokenHistory();
+        assertTrue(identityProviderEntityManager.readTokenHistoryBySubject(EXPIRED_SUBJECT).isEmpty());
+        assertNotNull(identityProviderEntityManager.readTokenHistory(PROBE_JTI));
+        measure("deleteTokenHistory", () ->
+                assertEquals(Integer.valueOf(0), identityProviderEntityManager.deleteTokenHistory()));
+        measure("updateTokenHistoryStatus", () ->
+                assertEquals(Integer.valueOf(1),
+                        identityProviderEntityManager.updateTokenHistoryStatus(PROBE_JTI, YourEntityTokenStatus.REVOKED)));
+        measure("readCurrentRevokedTokenHistory", () ->
+                assertFalse(identityProviderEntityManager.readCurrentRevokedTokenHistory().isEmpty()));
+        measure("deleteTokenHistoryBySubject", () ->
+                identityProviderEntityManager.deleteTokenHistoryBySubject(PROBE_SUBJECT));
+        assertTrue(identityProviderEntityManager.readTokenHistoryBySubject(PROBE_SUBJECT).isEmpty());
+    }
+
+    @Test
+    public void test04_EventHistoryAccessPaths() {
+        LOGGER.info("Running: test04_EventHistoryAccessPaths");
+
+        Long sparseEntityId = identityProviderEntityManager.findYourEntityByEmail(SPARSE_ENTITY_EMAIL).getEntityId();
+        Long bulkEntityId = identityProviderEntityManager.findYourEntityByEmail(
+                SUBJECT_PREFIX + "bulk.0" + SUBJECT_SUFFIX).getEntityId();
+
+        measure("findYourMicroserviceUserDetailsByEmail", () ->
+                assertNotNull(identityProviderEntityManager.findYourMicroserviceUserDetailsByEmail(SPARSE_ENTITY_EMAIL)));
+        measure("findAllYourEntityEventHistory(entityId)", () ->
+                assertEquals(SPARSE_ENTITY_EVENTS,
+                        identityProviderEntityManager.findAllYourEntityEventHistory(sparseEntityId).size()));
+        measure("streamYourEntityEventHistory", () ->
+                assertEquals(SPARSE_ENTITY_EVENTS,
+                        identityProviderEntityManager.streamYourEntityEventHistory(sparseEntityId, event -> { })));
+        measure("findYourEntityEventHistoryPage", () ->
+                assertEquals(50, identityProviderEntityManager.findYourEntityEventHistoryPage(
+                        bulkEntityId, null, null, 50).size()));
+
+        /**
+         * A Page from deep within the Bulk Entity's Event History costs no more than the first.
+         */
+        Map<String, Object> cursor = jdbcTemplate.queryForMap(
+                "SELECT createdbydate, id FROM YourEntityEventHistory WHERE entityId = ? " +
+                        "ORDER BY createdbydate DESC, id DESC LIMIT 1 OFFSET ?", bulkEntityId, ROWS / BULK_ENTITIES / 2);
+        Date cursorCreatedByDate = new Date(((Timestamp) cursor.get("createdbydate")).getTime());
+        Long cursorId = ((Number) cursor.get("id")).longValue();
+        measure("findYourEntityEventHistoryPage(deep)", () ->
+                assertEquals(50, identityProviderEntityManager.findYourEntityEventHistoryPage(
+                        bulkEntityId, cursorCreatedByDate, cursorId, 50).size()));
+        measure("deleteEventHistoryCreatedBefore", () ->
+                assertEquals(Integer.valueOf(0), identityProviderEntityManager.deleteEventHistoryCreatedBefore(
+                        new Date(System.currentTimeMillis() - (2L * ROWS) - 86400000L))));
+    }
+
+    @Test
+    public void test99_last() {
+        LOGGER.info("Running: test99_last --> Should be Last Test Run in Integration Test Suite");
+
+        /**
+         * Remove all Seeded Rows, the Persistence Unit is Shared with the other Integration Tests.
+         */
+        jdbcTemplate.update("DELETE FROM YourEntityTokenHistory WHERE subject LIKE ?", SUBJECT_PREFIX + "%");
+        for (YourEntity yourEntity : identityProviderEntityManager.findAllYourEntities()) {
+            if (yourEntity.getEntityEmailAddress().startsWith(SUBJECT_PREFIX)) {
+                jdbcTemplate.update("DELETE FROM EventTagProperties WHERE eventTagProperties_id IN " +
+                        "(SELECT id FROM YourEntityEventHistory WHERE entityId = ?)", yourEntity.getEntityId());
+                jdbcTemplate.update("DELETE FROM YourEntityEventHistory WHERE entityId = ?", yourEntity.getEntityId());
+                identityProviderEntityManager.deleteYourEntityById(yourEntity.getEntityId());
+            }
+        }
+        assertEquals(Integer.valueOf(0), jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM YourEntityTokenHistory WHERE subject LIKE ?", Integer.class, SUBJECT_PREFIX + "%"));
+    }
+
+    /**
+     * createScaleEntity
+     *
+     * @param email Email Address of the Entity.
+     * @return YourEntity Entity Created.
+     */
+    private YourEntity createScaleEntity(String email) {
+        YourEntity yourEntity = new YourEntity();
+        yourEntity.setEntityEmailAddress(email);
+        yourEntity.setCredentials("password");
+        yourEntity.setEntityGivenName("Scale");
+        yourEntity.setEntitySurname("Test");
+        yourEntity.setStatus(YourEntityStatus.ACTIVE);
+        yourEntity.setYourEntityRoles(new HashSet<>());
+        yourEntity.setEntityProperties(new HashMap<>());
+        yourEntity.setYourEntityOrganizations(new HashSet<>());
+        identityProviderEntityManager.saveYourEntity(yourEntity);
+        return identityProviderEntityManager.findYourEntityByEmail(email);
+    }
+
+    /**
+     * measure
+     * Run the Access Path repeatedly and Report its Latencies, at Scale assert its Median is within Bounds.
+     *
+     * @param accessPath Name of the Access Path Measured.
+     * @param operation  Access Path Operation.
+     */
+    private void measure(String accessPath, Runnable operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long[] latencies = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        double medianMillis = latencies[ITERATIONS / 2] / 1000000d;
+        double maximumMillis = latencies[ITERATIONS - 1] / 1000000d;
+        LOGGER.info("Scale Access Path: {} Rows:[{}], median:[{} ms], max:[{} ms]",
+                accessPath, ROWS, String.format("%.2f", medianMillis), String.format("%.2f", maximumMillis));
+        if (SCALE_TEST) {
+            assertTrue(accessPath + " median of " + medianMillis + " ms exceeds " + MAXIMUM_MILLIS + " ms",
+                    medianMillis <= MAXIMUM_MILLIS);
+        }
+    }
+
+}
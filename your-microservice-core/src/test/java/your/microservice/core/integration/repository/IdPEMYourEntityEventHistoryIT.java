@@ -1,30 +1,43 @@
 package your.microservice.core.integration.repository;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.MethodSorters;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.SpringApplicationConfiguration;
 import org.springframework.boot.test.WebIntegrationTest;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 import your.microservice.MicroserviceTestApplication;
+import your.microservice.core.dm.dto.history.EntityEventHistoryDTO;
 import your.microservice.core.security.idp.model.base.YourEntity;
 import your.microservice.core.security.idp.model.base.YourEntityEventHistory;
 import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
 import your.microservice.testutil.IntegrationTestSetupBean;
 
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * IdPEMYourEntityEventHistoryIT
@@ -42,6 +55,11 @@ public class IdPEMYourEntityEventHistoryIT {
     protected final static org.slf4j.Logger LOGGER =
             LoggerFactory.getLogger(IdPEMYourEntityEventHistoryIT.class);
 
+    /**
+     * Purge Chunk Size, less than the Rows each Purge Deletes.
+     */
+    private static final int PURGE_CHUNK_SIZE = 10;
+
     /**
      * Environment
      */
@@ -54,6 +72,18 @@ public class IdPEMYourEntityEventHistoryIT {
     @Autowired
     private IdentityProviderEntityManager identityProviderEntityManager;
 
+    /**
+     * JDBC Template
+     */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Metric Registry
+     */
+    @Autowired
+    private MetricRegistry metricRegistry;
+
     @Test
     public void test01_CreateSomeEventHistoryActivities() {
         LOGGER.info("Running: test01_CreateSomeEventHistoryActivities");
@@ -187,6 +217,103 @@ public class IdPEMYourEntityEventHistoryIT {
 
     }
 
+    @Test
+    public void test05_EventHistoryKeysetPagesAndStream() {
+        LOGGER.info("Running: test05_EventHistoryKeysetPagesAndStream");
+
+        YourEntity yourEntity = identityProviderEntityManager.findYourEntityByEmail(IntegrationTestSetupBean.USER_EMAIL);
+        assertNotNull(yourEntity);
+
+        /**
+         * Page through the Event History, each Page continuing from the last Event of the prior Page.
+         */
+        Set<Long> ids = new HashSet<>();
+        EntityEventHistoryDTO last = null;
+        int pages = 0;
+        while (true) {
+            List<EntityEventHistoryDTO> page = identityProviderEntityManager.findYourEntityEventHistoryPage(
+                    yourEntity.getEntityId(), (last == null) ? null : last.getCreatedByDate(),
+                    (last == null) ? null : last.getId(), 40);
+            if (page.isEmpty()) {
+                break;
+            }
+            pages++;
+            for (EntityEventHistoryDTO event : page) {
+                if (last != null) {
+                    assertTrue(event.getCreatedByDate().compareTo(last.getCreatedByDate()) <= 0);
+                }
+                assertNotNull(event.getEventTagProperties());
+                assertTrue(ids.add(event.getId()));
+                last = event;
+            }
+        }
+        assertEquals(3, pages);
+        assertEquals(101, ids.size());
+
+        /**
+         * Stream the same Event History, with each Event's Tag Properties.
+         */
+        List<EntityEventHistoryDTO> streamed = new ArrayList<>();
+        int count = identityProviderEntityManager.streamYourEntityEventHistory(yourEntity.getEntityId(), streamed::add);
+        assertEquals(101, count);
+        assertEquals(101, streamed.size());
+        assertEquals(ids, streamed.stream().map(EntityEventHistoryDTO::getId).collect(Collectors.toSet()));
+        assertEquals("TWO_VALUE", streamed.get(0).getEventTagProperties().get("TWO_KEY"));
+    }
+
+    @Test
+    public void test06_EventHistoryRetention() throws Exception {
+        LOGGER.info("Running: test06_EventHistoryRetention");
+
+        YourEntity yourEntity = identityProviderEntityManager.findYourEntityByEmail(IntegrationTestSetupBean.USER_EMAIL);
+        assertNotNull(yourEntity);
+        assertTrue(countEventTagProperties() > 0);
+
+        /**
+         * Purge in Chunks smaller than the Rows to be Deleted, so each Purge crosses Chunk Boundaries.
+         */
+        Object entityManagerImpl = AopUtils.isAopProxy(identityProviderEntityManager) ?
+                ((Advised) identityProviderEntityManager).getTargetSource().getTarget() : identityProviderEntityManager;
+        Object chunkSize = ReflectionTestUtils.getField(entityManagerImpl, "HISTORY_PURGE_CHUNK_SIZE");
+        ReflectionTestUtils.setField(entityManagerImpl, "HISTORY_PURGE_CHUNK_SIZE", PURGE_CHUNK_SIZE);
+        Timer purgeChunkTimer = metricRegistry.timer("timer.your.microservice.security.history.purge.chunk");
+        try {
+            /**
+             * Only the Newest Events of the Entity and Event Tag are Retained.
+             */
+            long chunks = purgeChunkTimer.getCount();
+            Integer count = identityProviderEntityManager.deleteEventHistoryExceeding(25);
+            assertEquals(Integer.valueOf(76), count);
+            assertTrue(purgeChunkTimer.getCount() - chunks > 76 / PURGE_CHUNK_SIZE);
+            List<YourEntityEventHistory> results =
+                    identityProviderEntityManager.findAllYourEntityEventHistory(yourEntity.getEntityId());
+            assertEquals(25, results.size());
+            assertEquals(Integer.valueOf(0), identityProviderEntityManager.deleteEventHistoryExceeding(25));
+
+            /**
+             * Events Created before the Retention Date are Deleted along with their Tag Properties.
+             */
+            chunks = purgeChunkTimer.getCount();
+            count = identityProviderEntityManager.deleteEventHistoryCreatedBefore(new Date(System.currentTimeMillis() + 1000));
+            assertEquals(Integer.valueOf(25), count);
+            assertTrue(purgeChunkTimer.getCount() - chunks > 25 / PURGE_CHUNK_SIZE);
+            results = identityProviderEntityManager.findAllYourEntityEventHistory();
+            assertEquals(0, results.size());
+            assertEquals(0, countEventTagProperties());
+        } finally {
+            ReflectionTestUtils.setField(entityManagerImpl, "HISTORY_PURGE_CHUNK_SIZE", chunkSize);
+        }
+    }
+
+    /**
+     * countEventTagProperties
+     *
+     * @return int Count of Event Tag Properties, held in their own Table.
+     */
+    private int countEventTagProperties() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM EventTagProperties", Integer.class);
+    }
+
 
     @Test
     public void test00_first() {
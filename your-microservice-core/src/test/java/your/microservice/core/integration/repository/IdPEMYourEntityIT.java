@@ -10,9 +10,11 @@ import org.springframework.boot.test.SpringApplicationConfiguration;
 import org.springframework.boot.test.WebIntegrationTest;
 import org.springframework.core.env.Environment;
 import org.springframework.orm.jpa.JpaSystemException;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import your.microservice.MicroserviceTestApplication;
 import your.microservice.core.security.idp.model.base.YourEntity;
+import your.microservice.core.security.idp.model.security.YourMicroserviceUserDetails;
 import your.microservice.core.security.idp.model.types.YourEntityStatus;
 import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
 
@@ -22,6 +24,7 @@ import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static your.microservice.testutil.IntegrationTestSetupBean.USER_EMAIL;
 import static your.microservice.testutil.IntegrationTestSetupBean.USER_EMAIL_101;
 
@@ -115,6 +118,37 @@ public class IdPEMYourEntityIT {
 
     }
 
+    @Test
+    public void test04_AuthenticationProjection() {
+        LOGGER.info("Running: test04_AuthenticationProjection");
+
+        /**
+         * The Authentication Projection Grants the same Authorities as the Entity Graph.
+         */
+        YourEntity yourEntity = identityProviderEntityManager.findYourEntityByEmail(USER_EMAIL);
+        assertNotNull(yourEntity);
+        YourMicroserviceUserDetails fromEntity = new YourMicroserviceUserDetails(yourEntity);
+        YourMicroserviceUserDetails fromProjection =
+                identityProviderEntityManager.findYourMicroserviceUserDetailsByEmail(USER_EMAIL);
+        assertNotNull(fromProjection);
+        assertEquals(fromEntity.getUsername(), fromProjection.getUsername());
+        assertEquals(fromEntity.getPassword(), fromProjection.getPassword());
+        assertEquals(fromEntity.getPrincipalID(), fromProjection.getPrincipalID());
+        assertEquals(fromEntity.isEnabled(), fromProjection.isEnabled());
+        assertEquals(AuthorityUtils.authorityListToSet(fromEntity.getAuthorities()),
+                AuthorityUtils.authorityListToSet(fromProjection.getAuthorities()));
+
+        /**
+         * An Entity without Roles is a Pending User.
+         */
+        fromProjection = identityProviderEntityManager.findYourMicroserviceUserDetailsByEmail(USER_EMAIL_101);
+        assertNotNull(fromProjection);
+        assertEquals(1, fromProjection.getAuthorities().size());
+        assertEquals("ROLE_PENDING_USER", fromProjection.getAuthorities().iterator().next().getAuthority());
+
+        assertNull(identityProviderEntityManager.findYourMicroserviceUserDetailsByEmail("nobody@example.com"));
+    }
+
     @Test
     public void test00_first() {
         LOGGER.info("Running: test00_first --> Should be First Test Run in Integration Test Suite");
@@ -2,6 +2,7 @@ package your.microservice.core.integration.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.restassured.module.mockmvc.RestAssuredMockMvc;
+import org.apache.http.HttpStatus;
 import org.junit.Before;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
@@ -9,28 +10,48 @@ import org.junit.runner.RunWith;
 import org.junit.runners.MethodSorters;
 import org.mockito.MockitoAnnotations;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.SpringApplicationConfiguration;
 import org.springframework.boot.test.WebIntegrationTest;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import your.microservice.MicroserviceTestApplication;
+import your.microservice.core.controllers.history.YourEntityEventHistoryController;
 import your.microservice.core.dm.dto.system.YourPulse;
 import your.microservice.core.rest.RestIdPClientAccessObject;
 import your.microservice.core.rest.RestIdPClientAccessor;
 import your.microservice.core.rest.exceptions.NotAuthenticatedException;
 import your.microservice.core.rest.exceptions.RestClientAccessorException;
+import your.microservice.core.security.idp.model.base.YourEntity;
+import your.microservice.core.security.idp.model.base.YourEntityEventHistory;
+import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+import your.microservice.core.security.idp.security.service.PasswordVerificationService;
 import your.microservice.core.system.messaging.model.YourMSBulletinBroadcastNotification;
 import your.microservice.testutil.IntegrationTestSetupBean;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.jayway.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.*;
 import static your.microservice.testutil.IntegrationTestSetupBean.ADMIN_EMAIL;
 import static your.microservice.testutil.IntegrationTestSetupBean.CLEAR_TEXT_CREDENTIALS;
@@ -79,6 +100,18 @@ public class IdPAccessIT {
     @Autowired
     private RestIdPClientAccessor restIdPClientAccessor;
 
+    /**
+     * Password Verification Service.
+     */
+    @Autowired
+    private PasswordVerificationService passwordVerificationService;
+
+    /**
+     * Identity Provider Entity Manager
+     */
+    @Autowired
+    private IdentityProviderEntityManager identityProviderEntityManager;
+
     /**
      * Test Constants
      */
@@ -87,6 +120,8 @@ public class IdPAccessIT {
     private static final String BULLETIN_ENPOINT = "/api/" + SERVICE_NAME + "/v1/system/bulletin";
     private static final String PULSE_ENDPOINT = "/api/" + SERVICE_NAME + "/v1/system/pulse";
     private static final String TEST_ENDPOINT = "/api/" + SERVICE_NAME + "/v1/test";
+    private static final String EVENT_HISTORY_ENDPOINT = "/api/" + SERVICE_NAME + "/v1/history/events";
+    private static final String EVENT_HISTORY_TAG_NAME = "HISTORY_ENDPOINT_TEST";
 
     /**
      * Injected Values
@@ -473,6 +508,348 @@ public class IdPAccessIT {
         assertEquals(200, rc);
     }
 
+    @Test
+    public void test18_RefreshTokenExchangeAndLogout() {
+        LOGGER.info("Running: test18_RefreshTokenExchangeAndLogout...");
+        /**
+         * Authenticate to Obtain an Access Token and a Refresh Token.
+         */
+        Map<String, Object> authenticated = postJson(RestIdPClientAccessor.YOUR_MICROSERVICE_IDP_TOKEN_REQUEST_RESOURCE_PATH,
+                credentials(), HttpStatus.SC_OK);
+        String refreshToken = (String) authenticated.get("refresh_token");
+        assertNotNull(refreshToken);
+        /**
+         * Exchange the Refresh Token for a new Access Token and its Successor.
+         */
+        Map<String, Object> exchanged = exchangeRefreshToken(refreshToken, HttpStatus.SC_OK);
+        assertNotNull(exchanged.get("access_token"));
+        String successorRefreshToken = (String) exchanged.get("refresh_token");
+        assertNotNull(successorRefreshToken);
+        assertNotEquals(refreshToken, successorRefreshToken);
+        /**
+         * Authenticate again, as from another Device.
+         */
+        Map<String, Object> otherDevice = postJson(RestIdPClientAccessor.YOUR_MICROSERVICE_IDP_TOKEN_REQUEST_RESOURCE_PATH,
+                credentials(), HttpStatus.SC_OK);
+        /**
+         * Logout with the Exchanged Access Token.
+         */
+        getWithAccessToken(RestIdPClientAccessor.YOUR_MICROSERVICE_IDP_TOKEN_LOGOUT_RESOURCE_PATH,
+                exchanged, HttpStatus.SC_OK);
+        /**
+         * The Successor Refresh Token must no longer be Exchanged after Logout.
+         */
+        exchangeRefreshToken(successorRefreshToken, HttpStatus.SC_UNAUTHORIZED);
+        /**
+         * The Logout was of that Session alone, the other Device's Refresh Token remains of Use.
+         */
+        assertNotNull(exchangeRefreshToken((String) otherDevice.get("refresh_token"), HttpStatus.SC_OK)
+                .get("refresh_token"));
+    }
+
+    @Test
+    public void test19_LogoutAllRevokesOutstandingTokens() throws Exception {
+        LOGGER.info("Running: test19_LogoutAllRevokesOutstandingTokens...");
+        /**
+         * Authenticate twice, as from two Devices.
+         */
+        Map<String, Object> firstDevice = postJson(RestIdPClientAccessor.YOUR_MICROSERVICE_IDP_TOKEN_REQUEST_RESOURCE_PATH,
+                credentials(), HttpStatus.SC_OK);
+        Map<String, Object> secondDevice = postJson(RestIdPClientAccessor.YOUR_MICROSERVICE_IDP_TOKEN_REQUEST_RESOURCE_PATH,
+                credentials(), HttpStatus.SC_OK);
+        getWithAccessToken(TEST_ENDPOINT, secondDevice, HttpStatus.SC_OK);
+        /**
+         * Logout of all Devices from the First.
+         */
+        getWithAccessToken(RestIdPClientAccessor.YOUR_MICROSERVICE_IDP_TOKEN_LOGOUT_RESOURCE_PATH + "/all",
+                firstDevice, HttpStatus.SC_OK);
+        /**
+         * Neither the Second Device's Access Token, nor its Refresh Token, remain of Use.
+         */
+        getWithAccessToken(TEST_ENDPOINT, secondDevice, HttpStatus.SC_UNAUTHORIZED);
+        exchangeRefreshToken((String) secondDevice.get("refresh_token"), HttpStatus.SC_UNAUTHORIZED);
+        /**
+         * Tokens Issued within the Epoch's Second are Denied, allow it to pass before subsequent Tests.
+         */
+        Thread.sleep(1100);
+    }
+
+    @Test
+    public void test20_LoginShedWhenVerificationSaturated() throws Exception {
+        LOGGER.info("Running: test20_LoginShedWhenVerificationSaturated...");
+        /**
+         * Substitute a Verification Pool of a single Worker and a single Queued Verification.
+         */
+        Object passwordVerification = AopUtils.isAopProxy(passwordVerificationService) ?
+                ((Advised) passwordVerificationService).getTargetSource().getTarget() : passwordVerificationService;
+        ThreadPoolExecutor verificationPool =
+                (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordVerification, "verificationPool");
+        ThreadPoolExecutor saturatedPool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        ReflectionTestUtils.setField(passwordVerification, "verificationPool", saturatedPool);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            /**
+             * Occupy the Worker and the Queue, as concurrent Logins would.
+             */
+            saturatedPool.execute(() -> awaitRelease(release));
+            saturatedPool.execute(() -> awaitRelease(release));
+            assertEquals(1, saturatedPool.getQueue().size());
+
+            given().
+                    contentType(RestIdPClientAccessor.CONTENT_TYPE_JSON).
+                    body(credentials()).
+                    when().
+                    post(integrationTestSetupBean.getHostPath() + RestIdPClientAccessor.YOUR_MICROSERVICE_IDP_TOKEN_REQUEST_RESOURCE_PATH).
+                    then().
+                    assertThat().statusCode(HttpStatus.SC_SERVICE_UNAVAILABLE).
+                    assertThat().header(HttpHeaders.RETRY_AFTER, notNullValue());
+        } finally {
+            release.countDown();
+            ReflectionTestUtils.setField(passwordVerification, "verificationPool", verificationPool);
+            saturatedPool.shutdown();
+        }
+        /**
+         * Once the Pool has room, Logins are Admitted again.
+         */
+        postJson(RestIdPClientAccessor.YOUR_MICROSERVICE_IDP_TOKEN_REQUEST_RESOURCE_PATH,
+                credentials(), HttpStatus.SC_OK);
+    }
+
+    @Test
+    public void test21_EventHistoryStream() throws Exception {
+        LOGGER.info("Running: test21_EventHistoryStream...");
+        List<Long> eventIds = createEventHistory(USER_EMAIL);
+        Map<String, Object> authenticated = postJson(RestIdPClientAccessor.YOUR_MICROSERVICE_IDP_TOKEN_REQUEST_RESOURCE_PATH,
+                credentials(), HttpStatus.SC_OK);
+        /**
+         * Each Event Streamed is Written just as it is within a Page.
+         */
+        Map<Long, Map<String, Object>> paged = pagedEvents(
+                getWithAccessTokenBody(EVENT_HISTORY_ENDPOINT + "?limit=500", authenticated, HttpStatus.SC_OK));
+        Map<Long, Map<String, Object>> streamed = streamedEvents(EVENT_HISTORY_ENDPOINT + "/stream", authenticated);
+        for (Long eventId : eventIds) {
+            assertNotNull(streamed.get(eventId));
+            assertEquals(paged.get(eventId), streamed.get(eventId));
+            assertEquals(EVENT_HISTORY_TAG_NAME, streamed.get(eventId).get("eventTagName"));
+        }
+    }
+
+    @Test
+    public void test22_AdminEntityEventHistory() throws Exception {
+        LOGGER.info("Running: test22_AdminEntityEventHistory...");
+        List<Long> eventIds = createEventHistory(USER_EMAIL);
+        Long entityId = identityProviderEntityManager.findYourEntityByEmail(USER_EMAIL).getEntityId();
+        String entityEventHistoryPath = EVENT_HISTORY_ENDPOINT + "/entity/" + entityId;
+        /**
+         * Another Entity's Event History is Forbidden, but to an Administrator.
+         */
+        Map<String, Object> authenticated = postJson(RestIdPClientAccessor.YOUR_MICROSERVICE_IDP_TOKEN_REQUEST_RESOURCE_PATH,
+                credentials(), HttpStatus.SC_OK);
+        getWithAccessToken(entityEventHistoryPath, authenticated, HttpStatus.SC_FORBIDDEN);
+        getWithAccessToken(entityEventHistoryPath + "/stream", authenticated, HttpStatus.SC_FORBIDDEN);
+
+        Map<String, Object> administrator = postJson(RestIdPClientAccessor.YOUR_MICROSERVICE_IDP_TOKEN_REQUEST_RESOURCE_PATH,
+                credentials(ADMIN_EMAIL), HttpStatus.SC_OK);
+        Map<Long, Map<String, Object>> paged = pagedEvents(
+                getWithAccessTokenBody(entityEventHistoryPath + "?limit=500", administrator, HttpStatus.SC_OK));
+        Map<Long, Map<String, Object>> streamed = streamedEvents(entityEventHistoryPath + "/stream", administrator);
+        for (Long eventId : eventIds) {
+            assertNotNull(paged.get(eventId));
+            assertEquals(paged.get(eventId), streamed.get(eventId));
+        }
+    }
+
+    @Test
+    public void test23_LoginEventHistoryReferencesEntity() throws Exception {
+        LOGGER.info("Running: test23_LoginEventHistoryReferencesEntity...");
+        Long entityId = identityProviderEntityManager.findYourEntityByEmail(USER_EMAIL).getEntityId();
+        Set<Long> priorEventIds = new HashSet<>();
+        for (YourEntityEventHistory eventHistory : identityProviderEntityManager.findAllYourEntityEventHistory(entityId)) {
+            priorEventIds.add(eventHistory.getId());
+        }
+        postJson(RestIdPClientAccessor.YOUR_MICROSERVICE_IDP_TOKEN_REQUEST_RESOURCE_PATH, credentials(), HttpStatus.SC_OK);
+        /**
+         * The Login Event is Published by Entity Identifier alone, off the Response Path, and Persisted by
+         * the Listener, await its Arrival under the Entity's own Event History.
+         */
+        YourEntityEventHistory loginEvent = null;
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (loginEvent == null && System.currentTimeMillis() < deadline) {
+            for (YourEntityEventHistory eventHistory : identityProviderEntityManager.findAllYourEntityEventHistory(entityId)) {
+                if (!priorEventIds.contains(eventHistory.getId()) &&
+                        YourEntityEventHistory.EntityEventTagNames.LAST_LOGIN.name().equals(eventHistory.getEventTagName())) {
+                    loginEvent = eventHistory;
+                }
+            }
+            if (loginEvent == null) {
+                Thread.sleep(100);
+            }
+        }
+        assertNotNull("Login Event History should be Persisted referencing the Entity", loginEvent);
+        assertTrue(loginEvent.getEventMessage().startsWith(YourEntityEventHistory.EntityEventTagNames.LAST_LOGIN.name()));
+    }
+
+    /**
+     * createEventHistory
+     *
+     * @param email Email Address of the Entity.
+     * @return List of Identifiers of the Events Created.
+     */
+    private List<Long> createEventHistory(String email) {
+        YourEntity yourEntity = identityProviderEntityManager.findYourEntityByEmail(email);
+        assertNotNull(yourEntity);
+        Map<String, String> eventProperties = new HashMap<>();
+        eventProperties.put("HISTORY_KEY", "HISTORY_VALUE");
+        List<Long> eventIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            YourEntityEventHistory eventHistory = new YourEntityEventHistory(yourEntity, EVENT_HISTORY_TAG_NAME,
+                    "Event History " + UUID.randomUUID().toString(), eventProperties);
+            identityProviderEntityManager.createEventHistory(eventHistory);
+            assertNotNull(eventHistory.getId());
+            eventIds.add(eventHistory.getId());
+        }
+        return eventIds;
+    }
+
+    /**
+     * pagedEvents
+     *
+     * @param body Page of Event History.
+     * @return Map of the Page's Events by Identifier.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Map<String, Object>> pagedEvents(String body) throws IOException {
+        Map<Long, Map<String, Object>> events = new HashMap<>();
+        Map<String, Object> page = objectMapper.readValue(body, HashMap.class);
+        for (Map<String, Object> event : (List<Map<String, Object>>) page.get("events")) {
+            events.put(((Number) event.get("id")).longValue(), event);
+        }
+        return events;
+    }
+
+    /**
+     * streamedEvents
+     *
+     * @param path Resource Path.
+     * @param authenticated Authentication Response Body.
+     * @return Map of the Streamed Events by Identifier.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, Map<String, Object>> streamedEvents(String path, Map<String, Object> authenticated) throws IOException {
+        String body = given().
+                header(RestIdPClientAccessor.AUTHORIZATION_HEADER_NAME,
+                        RestIdPClientAccessor.AUTHORIZATION_HEADER_BEARER_VALUE + authenticated.get("access_token")).
+                when().
+                get(integrationTestSetupBean.getHostPath() + path).
+                then().
+                assertThat().statusCode(HttpStatus.SC_OK).
+                assertThat().contentType(startsWith(YourEntityEventHistoryController.APPLICATION_NDJSON_VALUE)).
+                extract().asString();
+        /**
+         * One Event per Line.
+         */
+        Map<Long, Map<String, Object>> events = new HashMap<>();
+        for (String line : body.split("\n")) {
+            if (!line.isEmpty()) {
+                Map<String, Object> event = objectMapper.readValue(line, HashMap.class);
+                events.put(((Number) event.get("id")).longValue(), event);
+            }
+        }
+        return events;
+    }
+
+    private static Map<String, String> credentials() {
+        return credentials(USER_EMAIL);
+    }
+
+    private static Map<String, String> credentials(String email) {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("username", email);
+        credentials.put("password", CLEAR_TEXT_CREDENTIALS);
+        return credentials;
+    }
+
+    private static void awaitRelease(CountDownLatch release) {
+        try {
+            release.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * getWithAccessToken
+     *
+     * @param path Resource Path.
+     * @param authenticated Authentication Response Body.
+     * @param expectedStatus Expected Http Status.
+     */
+    private void getWithAccessToken(String path, Map<String, Object> authenticated, int expectedStatus) {
+        getWithAccessTokenBody(path, authenticated, expectedStatus);
+    }
+
+    /**
+     * getWithAccessTokenBody
+     *
+     * @param path Resource Path.
+     * @param authenticated Authentication Response Body.
+     * @param expectedStatus Expected Http Status.
+     * @return String Response Body.
+     */
+    private String getWithAccessTokenBody(String path, Map<String, Object> authenticated, int expectedStatus) {
+        return given().
+                header(RestIdPClientAccessor.AUTHORIZATION_HEADER_NAME,
+                        RestIdPClientAccessor.AUTHORIZATION_HEADER_BEARER_VALUE + authenticated.get("access_token")).
+                when().
+                get(integrationTestSetupBean.getHostPath() + path).
+                then().
+                assertThat().statusCode(expectedStatus).
+                extract().asString();
+    }
+
+    /**
+     * exchangeRefreshToken
+     *
+     * @param refreshToken Opaque Refresh Token.
+     * @param expectedStatus Expected Http Status.
+     * @return Map Response Body.
+     */
+    private Map<String, Object> exchangeRefreshToken(String refreshToken, int expectedStatus) {
+        Map<String, String> refreshTokenRequest = new HashMap<>();
+        refreshTokenRequest.put("refresh_token", refreshToken);
+        return postJson(RestIdPClientAccessor.YOUR_MICROSERVICE_IDP_TOKEN_REQUEST_RESOURCE_PATH + "/token",
+                refreshTokenRequest, expectedStatus);
+    }
+
+    /**
+     * postJson
+     *
+     * @param path Resource Path.
+     * @param payload Request Payload.
+     * @param expectedStatus Expected Http Status.
+     * @return Map Response Body, empty unless the Expected Status is OK.
+     */
+    private Map<String, Object> postJson(String path, Map<String, String> payload, int expectedStatus) {
+        String body = given().
+                contentType(RestIdPClientAccessor.CONTENT_TYPE_JSON).
+                body(payload).
+                when().
+                post(integrationTestSetupBean.getHostPath() + path).
+                then().
+                assertThat().statusCode(expectedStatus).
+                extract().asString();
+        if (expectedStatus != HttpStatus.SC_OK) {
+            return new HashMap<>();
+        }
+        try {
+            return objectMapper.readValue(body, HashMap.class);
+        } catch (IOException ioe) {
+            fail("Unable to Read Response: " + ioe.getMessage());
+            return null;
+        }
+    }
+
     @Test
     public void test00_first() {
         LOGGER.info("Running: test00_first --> Should be First Test Run in Integration Test Suite");
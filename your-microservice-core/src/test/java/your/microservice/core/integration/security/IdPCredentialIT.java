@@ -6,17 +6,44 @@ import org.junit.runner.RunWith;
 import org.junit.runners.MethodSorters;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.boot.test.SpringApplicationConfiguration;
 import org.springframework.boot.test.WebIntegrationTest;
 import org.springframework.core.env.Environment;
+import org.springframework.mobile.device.Device;
+import org.springframework.mobile.device.DevicePlatform;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 import your.microservice.MicroserviceTestApplication;
+import your.microservice.core.security.idp.jwt.YourMicroserviceInvalidTokenException;
+import your.microservice.core.security.idp.jwt.YourMicroserviceRefreshTokenService;
+import your.microservice.core.security.idp.jwt.YourMicroserviceToken;
 import your.microservice.core.security.idp.model.base.YourEntity;
+import your.microservice.core.security.idp.model.base.YourEntityRefreshToken;
+import your.microservice.core.security.idp.model.security.YourMicroserviceUserDetails;
+import your.microservice.core.security.idp.model.types.YourEntityTokenStatus;
 import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+import your.microservice.core.security.idp.security.AuthenticationController;
+import your.microservice.core.security.idp.security.YourMSAuthenticationThrottledException;
 import your.microservice.core.security.idp.security.YourMicroserviceSecurityConstants;
+import your.microservice.core.security.idp.security.service.LoginThrottleService;
+import your.microservice.core.security.idp.security.service.PasswordVerificationService;
+import your.microservice.core.util.DigestUtility;
+import your.microservice.core.util.IdentifierUtility;
 import your.microservice.testutil.IntegrationTestSetupBean;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.Assert.*;
 
 /**
@@ -47,6 +74,30 @@ public class IdPCredentialIT {
     @Autowired
     private IdentityProviderEntityManager identityProviderEntityManager;
 
+    /**
+     * Password Verification Service
+     */
+    @Autowired
+    private PasswordVerificationService passwordVerificationService;
+
+    /**
+     * Login Throttle Service
+     */
+    @Autowired
+    private LoginThrottleService loginThrottleService;
+
+    /**
+     * Authentication Controller
+     */
+    @Autowired
+    private AuthenticationController authenticationController;
+
+    /**
+     * Refresh Token Service
+     */
+    @Autowired
+    private YourMicroserviceRefreshTokenService yourMicroserviceRefreshTokenService;
+
     @Test
     public void test01_EncodeCredentials() {
         LOGGER.info("Running: test01_EncodeCredentials");
@@ -69,6 +120,289 @@ public class IdPCredentialIT {
         assertTrue(encoder.matches(IntegrationTestSetupBean.CLEAR_TEXT_CREDENTIALS, yourEntity.getCredentials()));
     }
 
+    @Test
+    public void test03_CalibratedStrength() throws Exception {
+        LOGGER.info("Running: test03_CalibratedStrength");
+        int strength = passwordVerificationService.getStrength();
+        assertTrue(strength >= YourMicroserviceSecurityConstants.BCRYPT_STRENGTH_SETTING && strength <= 16);
+
+        /**
+         * Hashes of the Calibrated Strength, or greater, as Calibrated by another Instance, are Retained,
+         * those of a lesser Strength are Rehashed.
+         */
+        String encryptedCredentials = passwordVerificationService.encode(IntegrationTestSetupBean.CLEAR_TEXT_CREDENTIALS);
+        assertTrue(passwordVerificationService.matches(IntegrationTestSetupBean.CLEAR_TEXT_CREDENTIALS, encryptedCredentials));
+        assertFalse(passwordVerificationService.needsRehash(encryptedCredentials));
+        assertFalse(passwordVerificationService.needsRehash(
+                encryptedCredentials.substring(0, 4) + String.format("%02d", strength + 1) + encryptedCredentials.substring(6)));
+        assertTrue(passwordVerificationService.needsRehash(
+                new BCryptPasswordEncoder(4).encode(IntegrationTestSetupBean.CLEAR_TEXT_CREDENTIALS)));
+        assertFalse(passwordVerificationService.needsRehash("not-a-bcrypt-hash"));
+    }
+
+
+    @Test
+    public void test04_LoginThrottle() {
+        LOGGER.info("Running: test04_LoginThrottle");
+        String remoteAddress = "192.0.2.17";
+        String username = "throttled.user@example.com";
+        loginThrottleService.checkAllowed(remoteAddress, username);
+
+        /**
+         * Once the Username's Bucket is Empty, Authentications are Refused from any Address.
+         */
+        for (int i = 0; i < 5; i++) {
+            loginThrottleService.recordFailure(remoteAddress, username);
+        }
+        try {
+            loginThrottleService.checkAllowed("192.0.2.18", username.toUpperCase());
+            fail("Expected Authentication to be Throttled");
+        } catch (YourMSAuthenticationThrottledException te) {
+            assertTrue(te.getRetryAfterSeconds() >= 1);
+        }
+
+        /**
+         * A Success Refills the Username's Bucket, the Address is not yet Throttled.
+         */
+        loginThrottleService.recordSuccess(username);
+        loginThrottleService.checkAllowed(remoteAddress, username);
+    }
+
+    @Test
+    public void test05_RefreshTokenRotation() throws Exception {
+        LOGGER.info("Running: test05_RefreshTokenRotation");
+        String subject = "refresh.user@example.com";
+        String refreshToken = yourMicroserviceRefreshTokenService.issueRefreshToken(subject, "web",
+                IdentifierUtility.randomUUID());
+        assertNotNull(refreshToken);
+        assertNotNull(identityProviderEntityManager.readRefreshToken(DigestUtility.sha256(refreshToken)));
+
+        /**
+         * Exchange Rotates the Token within its Family.
+         */
+        YourEntityRefreshToken presented = yourMicroserviceRefreshTokenService.exchangeRefreshToken(refreshToken);
+        assertEquals(subject, presented.getSubject());
+        assertEquals("web", presented.getAudience());
+        String successor = yourMicroserviceRefreshTokenService.rotateRefreshToken(presented);
+        assertNotNull(successor);
+        assertNotEquals(refreshToken, successor);
+
+        /**
+         * Reuse of the Rotated Token Revokes the entire Family, including the Successor.
+         */
+        try {
+            yourMicroserviceRefreshTokenService.exchangeRefreshToken(refreshToken);
+            fail("Expected Reuse of a Rotated Refresh Token to be Rejected");
+        } catch (YourMicroserviceInvalidTokenException ite) {
+            assertEquals(YourMicroserviceInvalidTokenException.Reason.REVOKED, ite.getReason());
+        }
+        assertEquals(YourEntityTokenStatus.REVOKED,
+                identityProviderEntityManager.readRefreshToken(DigestUtility.sha256(successor)).getStatus());
+        try {
+            yourMicroserviceRefreshTokenService.exchangeRefreshToken(successor);
+            fail("Expected the Successor of a Revoked Family to be Rejected");
+        } catch (YourMicroserviceInvalidTokenException ite) {
+            assertEquals(YourMicroserviceInvalidTokenException.Reason.REVOKED, ite.getReason());
+        }
+
+        /**
+         * Only one of two concurrent Exchanges of the same Token may Rotate it, the other is a Replay.
+         */
+        refreshToken = yourMicroserviceRefreshTokenService.issueRefreshToken(subject, "web",
+                IdentifierUtility.randomUUID());
+        presented = yourMicroserviceRefreshTokenService.exchangeRefreshToken(refreshToken);
+        YourEntityRefreshToken concurrentlyPresented = yourMicroserviceRefreshTokenService.exchangeRefreshToken(refreshToken);
+        successor = yourMicroserviceRefreshTokenService.rotateRefreshToken(presented);
+        try {
+            yourMicroserviceRefreshTokenService.rotateRefreshToken(concurrentlyPresented);
+            fail("Expected a concurrent Rotation of the same Refresh Token to be Rejected");
+        } catch (YourMicroserviceInvalidTokenException ite) {
+            assertEquals(YourMicroserviceInvalidTokenException.Reason.REVOKED, ite.getReason());
+        }
+        assertEquals(YourEntityTokenStatus.REVOKED,
+                identityProviderEntityManager.readRefreshToken(DigestUtility.sha256(successor)).getStatus());
+    }
+
+    @Test
+    public void test06_LoginThrottleRemoteAddress() {
+        LOGGER.info("Running: test06_LoginThrottleRemoteAddress");
+
+        /**
+         * Without Trusted Proxies, a Client Supplied Forwarded For Header is Ignored.
+         */
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("192.0.2.30");
+        request.addHeader("X-Forwarded-For", "198.51.100.7");
+        assertEquals("192.0.2.30", obtainRemoteAddress(request));
+
+        ReflectionTestUtils.setField(authenticationController, "LOGIN_THROTTLE_TRUSTED_PROXIES", "10.0.0.0/8, 192.0.2.1");
+        authenticationController.initialization();
+        try {
+            /**
+             * Not from a Trusted Proxy, the Header is still Ignored.
+             */
+            assertEquals("192.0.2.30", obtainRemoteAddress(request));
+
+            /**
+             * From a Trusted Proxy, the Rightmost Hop which is not a Trusted Proxy is the Origin,
+             * whatever the Client Prepended.
+             */
+            request = new MockHttpServletRequest();
+            request.setRemoteAddr("10.1.2.3");
+            request.addHeader("X-Forwarded-For", "203.0.113.99, 198.51.100.7, 192.0.2.1");
+            assertEquals("198.51.100.7", obtainRemoteAddress(request));
+
+            request = new MockHttpServletRequest();
+            request.setRemoteAddr("10.1.2.3");
+            assertEquals("10.1.2.3", obtainRemoteAddress(request));
+
+            request = new MockHttpServletRequest();
+            request.setRemoteAddr("10.1.2.3");
+            request.addHeader("X-Forwarded-For", "10.9.9.9");
+            assertEquals("10.9.9.9", obtainRemoteAddress(request));
+        } finally {
+            ReflectionTestUtils.setField(authenticationController, "LOGIN_THROTTLE_TRUSTED_PROXIES", "");
+            authenticationController.initialization();
+        }
+    }
+
+    @Test
+    public void test07_LoginThrottleConcurrentFailures() throws Exception {
+        LOGGER.info("Running: test07_LoginThrottleConcurrentFailures");
+        String username = "concurrent.throttled.user@example.com";
+
+        /**
+         * Concurrent Failures all Take from the one Bucket, none are Lost.
+         */
+        int failures = 5;
+        ExecutorService executorService = Executors.newFixedThreadPool(failures);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < failures; i++) {
+            String remoteAddress = "192.0.2." + (40 + i);
+            futures.add(executorService.submit(() -> {
+                start.await();
+                loginThrottleService.recordFailure(remoteAddress, username);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+        try {
+            loginThrottleService.checkAllowed("192.0.2.50", username);
+            fail("Expected Authentication to be Throttled");
+        } catch (YourMSAuthenticationThrottledException te) {
+            assertTrue(te.getRetryAfterSeconds() >= 1);
+        }
+        loginThrottleService.recordSuccess(username);
+    }
+
+    @Test
+    public void test08_RehashKeyedOnEntityId() throws Exception {
+        LOGGER.info("Running: test08_RehashKeyedOnEntityId");
+        YourEntity yourEntity = identityProviderEntityManager.findYourEntityByEmail(IntegrationTestSetupBean.USER_EMAIL);
+        assertNotNull(yourEntity);
+        /**
+         * Store a Hash of a lesser Strength, as if Hashed before Calibration.
+         */
+        String weakCredentials = new BCryptPasswordEncoder(4).encode(IntegrationTestSetupBean.CLEAR_TEXT_CREDENTIALS);
+        assertEquals(1, identityProviderEntityManager.updateYourEntityCredentials(yourEntity.getEntityId(),
+                yourEntity.getEntityEmailAddress(), yourEntity.getCredentials(), weakCredentials).intValue());
+        /**
+         * The Username as Presented differs in Case from that Stored, yet the Rehash is Applied.
+         */
+        passwordVerificationService.rehashIfNeeded(yourEntity.getEntityId(),
+                IntegrationTestSetupBean.USER_EMAIL.toUpperCase(), IntegrationTestSetupBean.CLEAR_TEXT_CREDENTIALS,
+                weakCredentials);
+        String rehashedCredentials = weakCredentials;
+        for (int i = 0; i < 100 && rehashedCredentials.equals(weakCredentials); i++) {
+            Thread.sleep(100);
+            rehashedCredentials =
+                    identityProviderEntityManager.findYourEntityByEmail(IntegrationTestSetupBean.USER_EMAIL).getCredentials();
+        }
+        assertNotEquals(weakCredentials, rehashedCredentials);
+        assertFalse(passwordVerificationService.needsRehash(rehashedCredentials));
+        assertTrue(passwordVerificationService.matches(IntegrationTestSetupBean.CLEAR_TEXT_CREDENTIALS, rehashedCredentials));
+    }
+
+    @Test
+    public void test09_ProcessPrincipalServiceAudience() {
+        LOGGER.info("Running: test09_ProcessPrincipalServiceAudience");
+        YourMicroserviceUserDetails processDetails = new YourMicroserviceUserDetails("process@example.com", 1L,
+                Collections.singletonList("ROLE_PROCESS"), true, true, true, true);
+        YourMicroserviceUserDetails userDetails = new YourMicroserviceUserDetails("user@example.com", 2L,
+                Collections.singletonList("ROLE_USER"), true, true, true, true);
+        /**
+         * Process Principals are Issued Tokens for the Service Audience, whatever their Device.
+         */
+        assertEquals(YourMicroserviceToken.AUDIENCE_SERVICE, ReflectionTestUtils.invokeMethod(authenticationController,
+                "obtainAudience", processDetails, NORMAL_DEVICE));
+        assertEquals(YourMicroserviceToken.AUDIENCE_WEB, ReflectionTestUtils.invokeMethod(authenticationController,
+                "obtainAudience", userDetails, NORMAL_DEVICE));
+    }
+
+    @Test
+    public void test10_LoginThrottleFloodCannotResetUsername() throws Exception {
+        LOGGER.info("Running: test10_LoginThrottleFloodCannotResetUsername");
+        Object loginThrottleTarget = AopUtils.isAopProxy(loginThrottleService) ?
+                ((Advised) loginThrottleService).getTargetSource().getTarget() : loginThrottleService;
+        ReflectionTestUtils.setField(loginThrottleTarget, "LOGIN_THROTTLE_MAXIMUM_ENTRIES", 10);
+        ReflectionTestUtils.invokeMethod(loginThrottleTarget, "initialization");
+        try {
+            String username = "flooded.throttled.user@example.com";
+            for (int i = 0; i < 5; i++) {
+                loginThrottleService.recordFailure("192.0.2.60", username);
+            }
+            /**
+             * A Flood of Failures for new Usernames, from new Addresses, fills both Caches, yet no
+             * Throttled Bucket is Evicted to make room for them.
+             */
+            for (int i = 0; i < 100; i++) {
+                loginThrottleService.recordFailure("198.51.100." + i, "flood." + i + "@example.com");
+            }
+            try {
+                loginThrottleService.checkAllowed("192.0.2.61", username);
+                fail("Expected Authentication to be Throttled");
+            } catch (YourMSAuthenticationThrottledException te) {
+                assertTrue(te.getRetryAfterSeconds() >= 1);
+            }
+        } finally {
+            ReflectionTestUtils.setField(loginThrottleTarget, "LOGIN_THROTTLE_MAXIMUM_ENTRIES", 100000);
+            ReflectionTestUtils.invokeMethod(loginThrottleTarget, "initialization");
+        }
+    }
+
+    /**
+     * A Normal, Desktop Device, as Resolved for a Browser Request.
+     */
+    private static final Device NORMAL_DEVICE = new Device() {
+        @Override
+        public boolean isNormal() {
+            return true;
+        }
+
+        @Override
+        public boolean isMobile() {
+            return false;
+        }
+
+        @Override
+        public boolean isTablet() {
+            return false;
+        }
+
+        @Override
+        public DevicePlatform getDevicePlatform() {
+            return DevicePlatform.UNKNOWN;
+        }
+    };
+
+    private String obtainRemoteAddress(MockHttpServletRequest request) {
+        return ReflectionTestUtils.invokeMethod(authenticationController, "obtainRemoteAddress", request);
+    }
 
     @Test
     public void test00_first() {
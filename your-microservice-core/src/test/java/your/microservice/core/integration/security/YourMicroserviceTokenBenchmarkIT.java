@@ -0,0 +1,400 @@
+package your.microservice.core.integration.security;
+
+import com.nimbusds.jose.JWEObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.DirectDecrypter;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.SpringApplicationConfiguration;
+import org.springframework.boot.test.WebIntegrationTest;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import your.microservice.MicroserviceTestApplication;
+import your.microservice.core.security.idp.jwt.YourMicroserviceInvalidTokenException;
+import your.microservice.core.security.idp.jwt.YourMicroserviceToken;
+import your.microservice.core.security.idp.jwt.YourMicroserviceTokenCache;
+import your.microservice.core.security.idp.jwt.YourMicroserviceTokenCryptoContext;
+import your.microservice.core.security.idp.jwt.YourMicroserviceToken_nimbus_Impl;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+import static your.microservice.testutil.IntegrationTestSetupBean.USER_EMAIL;
+
+/**
+ * YourMicroserviceTokenBenchmarkIT
+ * <p>
+ * Measures Throughput and Bytes Allocated per Operation for Token Issue and Verify,
+ * with the Verified Token Cache Disabled, so every Verify performs the full Decryption
+ * and Verification.  Both the nested JWE Profile and the compact Signed only JWS Profile,
+ * used for the 'service' Audience, are Measured along with their Token Sizes, and the Signed only
+ * Profile is Asserted to Verify faster than the Nested Profile.  Reusing the Crypto Context is
+ * Compared against Constructing the Decrypter and Verifier upon each Verify, as was once done.
+ * <p>
+ * Iterations can be specified with System Property: 'token.benchmark.iterations'.
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringApplicationConfiguration(classes = {MicroserviceTestApplication.class})
+@WebIntegrationTest({"server.port:0", "test.environment.property:true"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class YourMicroserviceTokenBenchmarkIT {
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(YourMicroserviceTokenBenchmarkIT.class);
+
+    /**
+     * Benchmark Iterations
+     */
+    private static final int WARMUP_ITERATIONS = 2000;
+    private static final int ITERATIONS = Integer.getInteger("token.benchmark.iterations", 10000);
+    private static final int COMPARISON_ROUNDS = 5;
+
+    /**
+     * Your Microservice Token Component
+     */
+    @Autowired
+    private YourMicroserviceToken yourMicroserviceToken;
+
+    /**
+     * Your Microservice Token Cache
+     */
+    @Autowired
+    private YourMicroserviceTokenCache yourMicroserviceTokenCache;
+
+    /**
+     * Signed only Audiences in effect before each Benchmark.
+     */
+    private Set<String> signedOnlyAudiences;
+
+    /**
+     * Disable the Verified Token Cache and Issue Signed only Tokens for the Service Audience, upon the
+     * Context shared with all other Integration Tests, rather than a Context of its own, which would
+     * contend for the same Embedded Database.
+     */
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        ReflectionTestUtils.setField(target(yourMicroserviceTokenCache), "TOKEN_CACHE_ENABLED", false);
+        signedOnlyAudiences = (Set<String>) ReflectionTestUtils.getField(target(yourMicroserviceToken),
+                "signedOnlyAudiences");
+        ReflectionTestUtils.setField(target(yourMicroserviceToken), "signedOnlyAudiences",
+                Collections.singleton(YourMicroserviceToken.AUDIENCE_SERVICE));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        ReflectionTestUtils.setField(target(yourMicroserviceToken), "signedOnlyAudiences", signedOnlyAudiences);
+        ReflectionTestUtils.setField(target(yourMicroserviceTokenCache), "TOKEN_CACHE_ENABLED", true);
+    }
+
+    @Test
+    public void test01_IssueTokenBenchmark() throws Exception {
+        LOGGER.info("Running: test01_IssueTokenBenchmark");
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertNotNull(yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_WEB));
+        }
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_WEB);
+        }
+        report("Issue", System.nanoTime() - start, allocated, allocatedBytes());
+    }
+
+    @Test
+    public void test02_VerifyTokenBenchmark() throws Exception {
+        LOGGER.info("Running: test02_VerifyTokenBenchmark");
+
+        String token = yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_WEB);
+        assertNotNull(token);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertEquals(USER_EMAIL, yourMicroserviceToken.verifyToken(token).getSubject());
+        }
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            yourMicroserviceToken.verifyToken(token);
+        }
+        report("Verify", System.nanoTime() - start, allocated, allocatedBytes());
+    }
+
+    @Test
+    public void test03_VerifySignedOnlyTokenBenchmark() throws Exception {
+        LOGGER.info("Running: test03_VerifySignedOnlyTokenBenchmark");
+
+        String token = yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_SERVICE);
+        assertNotNull(token);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertEquals(USER_EMAIL, yourMicroserviceToken.verifyToken(token).getSubject());
+        }
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            yourMicroserviceToken.verifyToken(token);
+        }
+        report("Verify Signed only", System.nanoTime() - start, allocated, allocatedBytes());
+    }
+
+    @Test
+    public void test04_TokenSizeComparison() throws Exception {
+        LOGGER.info("Running: test04_TokenSizeComparison");
+
+        String nestedToken = yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_WEB);
+        String signedOnlyToken = yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_SERVICE);
+        assertEquals(5, nestedToken.split("\\.", -1).length);
+        assertEquals(3, signedOnlyToken.split("\\.", -1).length);
+        /**
+         * Bytes sent in the 'Authorization: Bearer ' Header.
+         */
+        LOGGER.info("Token Benchmark: Header Bytes, Nested JWE:[{}], Signed only JWS:[{}]",
+                nestedToken.length() + 22, signedOnlyToken.length() + 22);
+        assertTrue(signedOnlyToken.length() < nestedToken.length());
+    }
+
+    @Test
+    public void test05_ConcurrentIssueTokenBenchmark() throws Exception {
+        LOGGER.info("Running: test05_ConcurrentIssueTokenBenchmark");
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Integer>> issuers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                issuers.add(() -> {
+                    int issued = 0;
+                    for (int i = 0; i < ITERATIONS / threads; i++) {
+                        if (yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_WEB) != null) {
+                            issued++;
+                        }
+                    }
+                    return issued;
+                });
+            }
+            long start = System.nanoTime();
+            int issued = 0;
+            for (Future<Integer> future : executorService.invokeAll(issuers)) {
+                issued += future.get();
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            LOGGER.info("Token Benchmark: Concurrent Issue Threads:[{}], Tokens:[{}], tokens/sec:[{}]",
+                    threads, issued, String.format("%.1f", issued / (elapsedNanos / 1_000_000_000d)));
+            assertEquals(threads * (ITERATIONS / threads), issued);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test06_SignedOnlyVerifyComparison() throws Exception {
+        LOGGER.info("Running: test06_SignedOnlyVerifyComparison");
+
+        String nestedToken = yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_WEB);
+        String signedOnlyToken = yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_SERVICE);
+        /**
+         * Alternate the Profiles over several Rounds, taking the fastest Round of each,
+         * so neither is favored by Warm Up or by a Pause.
+         */
+        long nestedNanos = Long.MAX_VALUE;
+        long signedOnlyNanos = Long.MAX_VALUE;
+        for (int round = 0; round < COMPARISON_ROUNDS; round++) {
+            nestedNanos = Math.min(nestedNanos, timeVerify(nestedToken));
+            signedOnlyNanos = Math.min(signedOnlyNanos, timeVerify(signedOnlyToken));
+        }
+        LOGGER.info("Token Benchmark: Verify Comparison, Nested JWE:[{} us/op], Signed only JWS:[{} us/op], Speedup:[{}x]",
+                String.format("%.2f", (nestedNanos / 1000d) / ITERATIONS),
+                String.format("%.2f", (signedOnlyNanos / 1000d) / ITERATIONS),
+                String.format("%.2f", nestedNanos / (double) signedOnlyNanos));
+        assertTrue("Signed only Verify should be faster than Nested Verify", signedOnlyNanos < nestedNanos);
+    }
+
+    @Test
+    public void test07_SignedOnlyTokenUnlistedAudienceRejected() throws Exception {
+        LOGGER.info("Running: test07_SignedOnlyTokenUnlistedAudienceRejected");
+
+        /**
+         * A Token Signed with our Active Key, but without Encryption, for an Audience not listed
+         * as Signed only, must not be Accepted.
+         */
+        JWTClaimsSet claimsSet = yourMicroserviceToken.verifyToken(
+                yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_WEB));
+        YourMicroserviceTokenCryptoContext cryptoContext =
+                ((YourMicroserviceToken_nimbus_Impl) yourMicroserviceToken).getKeyring().getActive();
+        SignedJWT signedJWT = new SignedJWT(cryptoContext.getJwsHeader(), claimsSet);
+        signedJWT.sign(cryptoContext.getJwsSigner());
+        try {
+            yourMicroserviceToken.verify(signedJWT.serialize());
+            fail("Signed only Token for an unlisted Audience should not Verify");
+        } catch (YourMicroserviceInvalidTokenException ite) {
+            assertEquals(YourMicroserviceInvalidTokenException.Reason.INVALID_CLAIMS, ite.getReason());
+        }
+    }
+
+    @Test
+    public void test08_CryptoContextReuseComparison() throws Exception {
+        LOGGER.info("Running: test08_CryptoContextReuseComparison");
+
+        /**
+         * A Nested Token under a Key of our own, so the Decrypter and Verifier can be Constructed
+         * per Call, as every Verify once did, as well as Reused from the Crypto Context, as now.
+         */
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(256);
+        SecretKey secretKey = keyGenerator.generateKey();
+        YourMicroserviceTokenCryptoContext cryptoContext =
+                new YourMicroserviceTokenCryptoContext("benchmark", secretKey);
+        JWTClaimsSet claimsSet = yourMicroserviceToken.verifyToken(
+                yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_WEB));
+        SignedJWT signedJWT = new SignedJWT(cryptoContext.getJwsHeader(), claimsSet);
+        signedJWT.sign(cryptoContext.getJwsSigner());
+        JWEObject jweObject = new JWEObject(cryptoContext.getJweHeader(), new Payload(signedJWT));
+        jweObject.encrypt(cryptoContext.getJweEncrypter());
+        String token = jweObject.serialize();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertTrue(decryptAndVerify(token, cryptoContext, null));
+            assertTrue(decryptAndVerify(token, null, secretKey));
+        }
+        /**
+         * Alternate the Paths over several Rounds, taking the fastest and least Allocating Round of each.
+         */
+        long perCallNanos = Long.MAX_VALUE;
+        long reusedNanos = Long.MAX_VALUE;
+        long perCallBytes = Long.MAX_VALUE;
+        long reusedBytes = Long.MAX_VALUE;
+        for (int round = 0; round < COMPARISON_ROUNDS; round++) {
+            long allocated = allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                decryptAndVerify(token, null, secretKey);
+            }
+            perCallNanos = Math.min(perCallNanos, System.nanoTime() - start);
+            perCallBytes = Math.min(perCallBytes, allocatedBytes() - allocated);
+
+            allocated = allocatedBytes();
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                decryptAndVerify(token, cryptoContext, null);
+            }
+            reusedNanos = Math.min(reusedNanos, System.nanoTime() - start);
+            reusedBytes = Math.min(reusedBytes, allocatedBytes() - allocated);
+        }
+        LOGGER.info("Token Benchmark: Crypto Context Comparison, Constructed per Call:[{} us/op, {} bytes/op], " +
+                        "Reused:[{} us/op, {} bytes/op]",
+                String.format("%.2f", (perCallNanos / 1000d) / ITERATIONS), perCallBytes / ITERATIONS,
+                String.format("%.2f", (reusedNanos / 1000d) / ITERATIONS), reusedBytes / ITERATIONS);
+        /**
+         * Elapsed Time is Reported as the Baseline, Allocation is what is Asserted, being Deterministic.
+         */
+        if (allocatedBytes() >= 0) {
+            assertTrue("Reused Crypto Context should Allocate less than Constructing per Call",
+                    reusedBytes < perCallBytes);
+        }
+    }
+
+    /**
+     * decryptAndVerify
+     * Decrypt and Verify a Nested Token, Reusing the Crypto Context when supplied, otherwise
+     * Constructing the Decrypter and Verifier from the SecretKey, as every Verify once did.
+     *
+     * @param token Nested Token.
+     * @param cryptoContext Crypto Context to Reuse, or null.
+     * @param secretKey SecretKey to Construct from, when no Crypto Context.
+     * @return boolean indicates if the Signature Verified.
+     * @throws Exception If the Token cannot be Decrypted.
+     */
+    private static boolean decryptAndVerify(String token, YourMicroserviceTokenCryptoContext cryptoContext,
+                                            SecretKey secretKey) throws Exception {
+        JWEObject jweObject = JWEObject.parse(token);
+        if (cryptoContext != null) {
+            jweObject.decrypt(cryptoContext.getJweDecrypter());
+            return jweObject.getPayload().toSignedJWT().verify(cryptoContext.getJwsVerifier());
+        }
+        jweObject.decrypt(new DirectDecrypter(secretKey.getEncoded()));
+        return jweObject.getPayload().toSignedJWT().verify(new MACVerifier(secretKey.getEncoded()));
+    }
+
+    /**
+     * timeVerify
+     *
+     * @param token Token to be Verified.
+     * @return long Elapsed Nanoseconds to Verify the Token for our Iterations.
+     * @throws Exception If the Token does not Verify.
+     */
+    private long timeVerify(String token) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            yourMicroserviceToken.verifyToken(token);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * report
+     *
+     * @param operation Name of Operation Measured.
+     * @param elapsedNanos Elapsed Time.
+     * @param allocatedBefore Bytes Allocated by this Thread before, or negative if not Supported.
+     * @param allocatedAfter Bytes Allocated by this Thread after.
+     */
+    private void report(String operation, long elapsedNanos, long allocatedBefore, long allocatedAfter) {
+        long allocatedBytes = (allocatedBefore < 0) ? -1L : allocatedAfter - allocatedBefore;
+        double opsPerSecond = ITERATIONS / (elapsedNanos / 1_000_000_000d);
+        LOGGER.info("Token Benchmark: {} Iterations:[{}], ops/sec:[{}], avg:[{} us/op], allocated:[{} bytes/op]",
+                operation, ITERATIONS, String.format("%.1f", opsPerSecond),
+                String.format("%.2f", (elapsedNanos / 1000d) / ITERATIONS),
+                (allocatedBytes < 0) ? "n/a" : Long.toString(allocatedBytes / ITERATIONS));
+        assertTrue(opsPerSecond > 0);
+    }
+
+    /**
+     * target
+     *
+     * @param bean Bean, possibly Proxied.
+     * @return Object Target of the Bean.
+     */
+    private static Object target(Object bean) throws Exception {
+        return AopUtils.isAopProxy(bean) ? ((Advised) bean).getTargetSource().getTarget() : bean;
+    }
+
+    /**
+     * allocatedBytes
+     *
+     * @return long Bytes Allocated by the Current Thread, or -1 if not Supported by this JVM.
+     */
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (sunThreadMXBean.isThreadAllocatedMemorySupported() && sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                return sunThreadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1L;
+    }
+
+}
@@ -0,0 +1,941 @@
+package your.microservice.core.integration.security;
+
+import com.codahale.metrics.MetricRegistry;
+import com.nimbusds.jose.JWEObject;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.EncryptedJWT;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
+import net.minidev.json.JSONObject;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.SpringApplicationConfiguration;
+import org.springframework.boot.test.WebIntegrationTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import your.microservice.MicroserviceTestApplication;
+import your.microservice.core.security.idp.jwt.YourMicroserviceInvalidTokenException;
+import your.microservice.core.security.idp.jwt.YourMicroserviceToken;
+import your.microservice.core.security.idp.jwt.YourMicroserviceTokenCacheImpl;
+import your.microservice.core.security.idp.jwt.YourMicroserviceTokenHistoryWriter;
+import your.microservice.core.security.idp.jwt.YourMicroserviceTokenRevocationService;
+import your.microservice.core.security.idp.jwt.YourMicroserviceTokenUsageService;
+import your.microservice.core.security.idp.jwt.YourMicroserviceToken_nimbus_Impl;
+import your.microservice.core.security.idp.jwt.YourMicroserviceVerifiedToken;
+import your.microservice.core.security.idp.model.base.YourEntity;
+import your.microservice.core.security.idp.model.base.YourEntityTokenHistory;
+import your.microservice.core.security.idp.model.security.YourMicroserviceUserDetails;
+import your.microservice.core.security.idp.model.types.YourEntityStatus;
+import your.microservice.core.security.idp.model.types.YourEntityTokenStatus;
+import your.microservice.core.security.idp.repository.IdentityProviderEntityManager;
+import your.microservice.core.security.idp.repository.YourEntityChangedEvent;
+import your.microservice.core.security.idp.repository.YourEntityRestResourceEventHandler;
+import your.microservice.core.security.idp.security.AuthenticationTokenFilter;
+import your.microservice.core.security.idp.security.YourMicroserviceSecurityConstants;
+import your.microservice.core.security.idp.security.YourMicroserviceUserDetailsService;
+import your.microservice.core.system.ShutdownManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static your.microservice.testutil.IntegrationTestSetupBean.USER_EMAIL;
+
+/**
+ * YourMicroserviceTokenIT
+ *
+ * @author jeff.a.schenk@gmail.com
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringApplicationConfiguration(classes = {MicroserviceTestApplication.class})
+@WebIntegrationTest({"server.port:0", "test.environment.property:true"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class YourMicroserviceTokenIT {
+    /**
+     * Common Logger
+     */
+    protected final static org.slf4j.Logger LOGGER =
+            LoggerFactory.getLogger(YourMicroserviceTokenIT.class);
+
+    /**
+     * Expiration of Tokens Signed by our ES256 Token Implementation.
+     */
+    private static final long ES256_TOKEN_EXPIRATION_IN_SECONDS = 2L;
+
+    /**
+     * Email Addresses held in turn by the Entity whose Cached Principal is Evicted.
+     */
+    private static final String USER_EMAIL_116 = "user.entity+116@mail.com";
+    private static final String USER_EMAIL_117 = "user.entity+117@mail.com";
+    private static final String USER_EMAIL_118 = "user.entity+118@mail.com";
+    private static final String USER_EMAIL_119 = "user.entity+119@mail.com";
+    private static final String USER_EMAIL_120 = "user.entity+120@mail.com";
+    private static final String USER_EMAIL_121 = "user.entity+121@mail.com";
+
+    /**
+     * Authority Claimed by a Stateless Token, but no longer held by its Principal,
+     * a known Authority, as Unknown Authorities are never Granted.
+     */
+    private static final String REVOKED_AUTHORITY = "ROLE_ADMIN";
+
+    /**
+     * Your Microservice Token Component
+     */
+    @Autowired
+    private YourMicroserviceToken yourMicroserviceToken;
+
+    /**
+     * Verified Token Cache
+     */
+    @Autowired
+    private YourMicroserviceTokenCacheImpl yourMicroserviceTokenCache;
+
+    /**
+     * Token Revocation Service
+     */
+    @Autowired
+    private YourMicroserviceTokenRevocationService yourMicroserviceTokenRevocationService;
+
+    /**
+     * Token Usage Service
+     */
+    @Autowired
+    private YourMicroserviceTokenUsageService yourMicroserviceTokenUsageService;
+
+    /**
+     * Token History Writer
+     */
+    @Autowired
+    private YourMicroserviceTokenHistoryWriter yourMicroserviceTokenHistoryWriter;
+
+    /**
+     * Identity Provider Entity Manager
+     */
+    @Autowired
+    private IdentityProviderEntityManager identityProviderEntityManager;
+
+    /**
+     * User Details Service
+     */
+    @Autowired
+    private YourMicroserviceUserDetailsService userDetailsService;
+
+    /**
+     * JDBC Template, to Save as the REST Resource Repository does, bypassing the Entity Manager.
+     */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * YourEntity REST Resource Event Handler
+     */
+    @Autowired
+    private YourEntityRestResourceEventHandler yourEntityRestResourceEventHandler;
+
+    /**
+     * Authentication Token Filter
+     */
+    @Autowired
+    private AuthenticationTokenFilter authenticationTokenFilter;
+
+    /**
+     * Metric Registry
+     */
+    @Autowired
+    private MetricRegistry metricRegistry;
+
+    @Test
+    public void test01_VerifiedTokenCache() throws Exception {
+        LOGGER.info("Running: test01_VerifiedTokenCache");
+
+        String token = yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_WEB);
+        assertNotNull(token);
+
+        JWTClaimsSet claimsSet = yourMicroserviceToken.verifyToken(token);
+        assertNotNull(claimsSet);
+        assertEquals(USER_EMAIL, claimsSet.getSubject());
+
+        /**
+         * Subsequent Verifications are answered from the Cache.
+         */
+        long hits = yourMicroserviceTokenCache.getHits();
+        for (int i = 0; i < 10; i++) {
+            assertSame(claimsSet, yourMicroserviceToken.verifyToken(token));
+        }
+        assertEquals(hits + 10, yourMicroserviceTokenCache.getHits());
+        assertEquals(USER_EMAIL, yourMicroserviceToken.getUsernameFromToken(token));
+        assertEquals(claimsSet.getJWTID(), yourMicroserviceToken.getIdentifierFromToken(token));
+
+        /**
+         * Once Invalidated, the Token is fully Verified again.
+         */
+        yourMicroserviceTokenCache.invalidate(token);
+        JWTClaimsSet reVerified = yourMicroserviceToken.verifyToken(token);
+        assertNotSame(claimsSet, reVerified);
+        assertEquals(claimsSet.getJWTID(), reVerified.getJWTID());
+    }
+
+    @Test
+    public void test02_SinglePassVerifiedToken() throws Exception {
+        LOGGER.info("Running: test02_SinglePassVerifiedToken");
+
+        YourMicroserviceVerifiedToken issuedToken =
+                yourMicroserviceToken.issueToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_MOBILE);
+        assertNotNull(issuedToken);
+        assertNotNull(issuedToken.getManifest());
+
+        yourMicroserviceTokenCache.invalidate(issuedToken.getToken());
+        YourMicroserviceVerifiedToken verifiedToken = yourMicroserviceToken.verify(issuedToken.getToken());
+        assertEquals(USER_EMAIL, verifiedToken.getSubject());
+        assertEquals(issuedToken.getJti(), verifiedToken.getJti());
+        assertEquals(issuedToken.getManifest().getId(), verifiedToken.getManifest().getId());
+        assertEquals(issuedToken.getExpirationTime() / 1000, verifiedToken.getExpirationTime() / 1000);
+        assertEquals(verifiedToken.getIssuedAt(), yourMicroserviceToken.getIssuedDateFromToken(issuedToken.getToken()));
+        assertEquals(1, verifiedToken.getAudience().size());
+        assertEquals(YourMicroserviceToken.AUDIENCE_MOBILE, verifiedToken.getAudience().get(0));
+
+        YourMicroserviceVerifiedToken refreshedToken = yourMicroserviceToken.refreshToken(verifiedToken);
+        assertNotNull(refreshedToken);
+        assertEquals(USER_EMAIL, refreshedToken.getSubject());
+        assertNotEquals(verifiedToken.getJti(), refreshedToken.getJti());
+        assertEquals(verifiedToken.getAudience(), refreshedToken.getAudience());
+    }
+
+    @Test(expected = YourMicroserviceInvalidTokenException.class)
+    public void test03_InvalidTokenNotCached() throws Exception {
+        LOGGER.info("Running: test03_InvalidTokenNotCached");
+
+        String token = yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_WEB);
+        assertNotNull(token);
+        yourMicroserviceToken.verifyToken(token.substring(0, token.length() - 4) + "AAAA");
+    }
+
+    @Test
+    public void test04_RejectedTokenRemembered() throws Exception {
+        LOGGER.info("Running: test04_RejectedTokenRemembered");
+
+        String garbage = "garbage." + System.nanoTime() + ".token.replayed.by.a.bot";
+        YourMicroserviceInvalidTokenException.Reason reason = null;
+        try {
+            yourMicroserviceToken.verify(garbage);
+            fail("Garbage Token should not Verify");
+        } catch (YourMicroserviceInvalidTokenException ite) {
+            reason = ite.getReason();
+            assertEquals(YourMicroserviceInvalidTokenException.Reason.MALFORMED, reason);
+        }
+
+        /**
+         * Replays are answered from the Rejected Token Cache.
+         */
+        long rejectedHits = yourMicroserviceTokenCache.getRejectedHits();
+        for (int i = 0; i < 10; i++) {
+            try {
+                yourMicroserviceToken.verify(garbage);
+                fail("Garbage Token should not Verify");
+            } catch (YourMicroserviceInvalidTokenException ite) {
+                assertEquals(reason, ite.getReason());
+            }
+        }
+        assertEquals(rejectedHits + 10, yourMicroserviceTokenCache.getRejectedHits());
+        assertNull(yourMicroserviceToken.getUsernameFromToken(garbage));
+    }
+
+    @Test
+    public void test05_RevokedTokenDenied() throws Exception {
+        LOGGER.info("Running: test05_RevokedTokenDenied");
+
+        YourMicroserviceVerifiedToken issuedToken =
+                yourMicroserviceToken.issueToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_WEB);
+        assertNotNull(issuedToken);
+        assertNotNull(yourMicroserviceToken.verify(issuedToken.getToken()));
+        assertFalse(yourMicroserviceTokenRevocationService.isRevoked(issuedToken.getJti()));
+
+        /**
+         * A Revocation, as received from another Instance, Denies the Token even though it is Cached.
+         */
+        yourMicroserviceTokenRevocationService.applyRevocation(issuedToken.getJti(), issuedToken.getExpirationTime());
+        assertTrue(yourMicroserviceTokenRevocationService.isRevoked(issuedToken.getJti()));
+        try {
+            yourMicroserviceToken.verify(issuedToken.getToken());
+            fail("Revoked Token should not Verify");
+        } catch (YourMicroserviceInvalidTokenException ite) {
+            assertEquals(YourMicroserviceInvalidTokenException.Reason.REVOKED, ite.getReason());
+        }
+        assertNull(yourMicroserviceToken.getUsernameFromToken(issuedToken.getToken()));
+    }
+
+    @Test
+    public void test06_SubjectEpochRevokesOutstandingTokens() throws Exception {
+        LOGGER.info("Running: test06_SubjectEpochRevokesOutstandingTokens");
+
+        String subject = "Epoch." + System.nanoTime() + "@example.org";
+        YourMicroserviceVerifiedToken webToken =
+                yourMicroserviceToken.issueToken(subject, YourMicroserviceToken.AUDIENCE_WEB);
+        YourMicroserviceVerifiedToken mobileToken =
+                yourMicroserviceToken.issueToken(subject, YourMicroserviceToken.AUDIENCE_MOBILE);
+        assertNotNull(yourMicroserviceToken.verify(webToken.getToken()));
+        assertNotNull(yourMicroserviceToken.verify(mobileToken.getToken()));
+
+        /**
+         * A single Epoch Revokes every outstanding Token for the Subject.
+         */
+        assertTrue(yourMicroserviceTokenRevocationService.revokeAllTokens(subject));
+        for (YourMicroserviceVerifiedToken outstanding : new YourMicroserviceVerifiedToken[]{webToken, mobileToken}) {
+            try {
+                yourMicroserviceToken.verify(outstanding.getToken());
+                fail("Token Issued before Subject Epoch should not Verify");
+            } catch (YourMicroserviceInvalidTokenException ite) {
+                assertEquals(YourMicroserviceInvalidTokenException.Reason.REVOKED, ite.getReason());
+            }
+        }
+
+        /**
+         * Tokens Issued after the Epoch, Issued At is in whole Seconds, are Accepted.
+         */
+        Thread.sleep(1100);
+        YourMicroserviceVerifiedToken newToken =
+                yourMicroserviceToken.issueToken(subject, YourMicroserviceToken.AUDIENCE_WEB);
+        assertEquals(newToken.getJti(), yourMicroserviceToken.verify(newToken.getToken()).getJti());
+    }
+
+    @Test
+    public void test07_KeyRotation() throws Exception {
+        LOGGER.info("Running: test07_KeyRotation");
+
+        YourMicroserviceToken_nimbus_Impl nimbusImpl = (YourMicroserviceToken_nimbus_Impl) yourMicroserviceToken;
+        String activeKeyId = nimbusImpl.getKeyring().getActiveKeyId();
+        YourMicroserviceVerifiedToken issuedToken =
+                yourMicroserviceToken.issueToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_WEB);
+        assertEquals(activeKeyId, JWEObject.parse(issuedToken.getToken()).getHeader().getKeyID());
+
+        /**
+         * A Rotated Key is Verifiable at once, but not used to Issue until its Activation Delay has passed.
+         */
+        String rotatedKeyId = nimbusImpl.rotateKey();
+        assertNotNull(rotatedKeyId);
+        assertNotEquals(activeKeyId, rotatedKeyId);
+
+        /**
+         * A Token bearing a Key Identifier not yet Loaded is Rejected, but the Rejection is not Remembered,
+         * so once the Keyring is Reloaded, the Token is Verified afresh.
+         */
+        JWEObject jweObject = JWEObject.parse(issuedToken.getToken());
+        JSONObject rotatedHeader = jweObject.getHeader().toJSONObject();
+        rotatedHeader.put("kid", rotatedKeyId);
+        Base64URL[] parts = jweObject.getParsedParts();
+        String rotatedKeyToken = Base64URL.encode(rotatedHeader.toJSONString()) + "." + parts[1] + "." +
+                parts[2] + "." + parts[3] + "." + parts[4];
+        assertEquals(YourMicroserviceInvalidTokenException.Reason.UNKNOWN_KEY, rejectionReason(rotatedKeyToken));
+        nimbusImpl.reloadKeyring();
+        assertEquals(YourMicroserviceInvalidTokenException.Reason.DECRYPTION_FAILED, rejectionReason(rotatedKeyToken));
+        assertTrue(nimbusImpl.getKeyring().getKeyIds().contains(rotatedKeyId));
+        assertEquals(activeKeyId, nimbusImpl.getKeyring().getActiveKeyId());
+
+        /**
+         * Tokens Issued before the Rotation continue to Verify.
+         */
+        yourMicroserviceTokenCache.invalidate(issuedToken.getToken());
+        assertEquals(issuedToken.getJti(), yourMicroserviceToken.verify(issuedToken.getToken()).getJti());
+    }
+
+    @Test
+    public void test08_PublicVerificationKeys() throws Exception {
+        LOGGER.info("Running: test08_PublicVerificationKeys");
+
+        /**
+         * With a Symmetric Signature, no Public Keys are Published and Tokens remain Encrypted.
+         */
+        Map<String, Object> jwkSet = yourMicroserviceToken.getPublicVerificationKeys();
+        assertNotNull(jwkSet);
+        assertTrue(jwkSet.containsKey("keys"));
+        assertTrue(((List<?>) jwkSet.get("keys")).isEmpty());
+        assertTrue(JWTParser.parse(yourMicroserviceToken.generateToken(USER_EMAIL, YourMicroserviceToken.AUDIENCE_WEB))
+                instanceof EncryptedJWT);
+    }
+
+    @Test
+    public void test09_TokenUsageWrittenBehind() throws Exception {
+        LOGGER.info("Running: test09_TokenUsageWrittenBehind");
+
+        YourMicroserviceVerifiedToken issuedToken =
+                yourMicroserviceToken.issueToken("Usage." + System.nanoTime() + "@example.org",
+                        YourMicroserviceToken.AUDIENCE_WEB);
+        YourEntityTokenHistory yourEntityTokenHistory = new YourEntityTokenHistory();
+        yourEntityTokenHistory.setJti(issuedToken.getJti());
+        yourEntityTokenHistory.setSubject(issuedToken.getSubject());
+        yourEntityTokenHistory.setStatus(YourEntityTokenStatus.ACTIVE);
+        yourEntityTokenHistory.setIssuedAt(issuedToken.getIssuedAt());
+        yourEntityTokenHistory.setExpiration(issuedToken.getExpiration());
+        yourEntityTokenHistory.setNotUsedBefore(issuedToken.getNotUsedBefore());
+        yourEntityTokenHistory.setLastUsed(issuedToken.getIssuedAt());
+        yourEntityTokenHistory.setUsageCount(1L);
+        assertNotNull(identityProviderEntityManager.createTokenHistory(yourEntityTokenHistory));
+
+        /**
+         * Usage is Counted in Memory, and only Written upon a Flush.  The Test Context holds off the
+         * Scheduled Flush, so only our own Flushes Write.
+         */
+        yourMicroserviceTokenUsageService.flush();
+        for (int i = 0; i < 5; i++) {
+            yourMicroserviceTokenUsageService.recordUsage(issuedToken.getJti());
+        }
+        assertEquals(1L, identityProviderEntityManager.readTokenHistory(issuedToken.getJti()).getUsageCount().longValue());
+        assertEquals(1, yourMicroserviceTokenUsageService.flush());
+        YourEntityTokenHistory used = identityProviderEntityManager.readTokenHistory(issuedToken.getJti());
+        assertEquals(6L, used.getUsageCount().longValue());
+        assertFalse(used.getLastUsed().before(issuedToken.getIssuedAt()));
+
+        assertTrue(identityProviderEntityManager.deleteTokenHistory(issuedToken.getJti()) == 1);
+    }
+
+    @Test
+    public void test10_PrincipalCache() throws Exception {
+        LOGGER.info("Running: test10_PrincipalCache");
+
+        YourMicroserviceUserDetails principal = userDetailsService.loadPrincipal(USER_EMAIL);
+        assertNotNull(principal);
+        assertNull(principal.getPassword());
+        assertSame(principal, userDetailsService.loadPrincipal(USER_EMAIL.toUpperCase()));
+
+        /**
+         * A Change to the Entity Invalidates its Cached Principal.
+         */
+        userDetailsService.onYourEntityChanged(new YourEntityChangedEvent(this, USER_EMAIL));
+        YourMicroserviceUserDetails reloaded = userDetailsService.loadPrincipal(USER_EMAIL);
+        assertNotSame(principal, reloaded);
+        assertEquals(principal.getUsername(), reloaded.getUsername());
+        assertEquals(AuthorityUtils.authorityListToSet(principal.getAuthorities()),
+                AuthorityUtils.authorityListToSet(reloaded.getAuthorities()));
+    }
+
+    @Test
+    public void test11_PrincipalClaims() throws Exception {
+        LOGGER.info("Running: test11_PrincipalClaims");
+
+        YourMicroserviceUserDetails principal = userDetailsService.loadPrincipal(USER_EMAIL);
+        Map<String, Object> accountStatus = new HashMap<>();
+        accountStatus.put(YourMicroserviceToken.ACCOUNT_STATUS_ENABLED, principal.isEnabled());
+        accountStatus.put(YourMicroserviceToken.ACCOUNT_STATUS_NON_LOCKED, principal.isAccountNonLocked());
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(YourMicroserviceToken.CLAIM_NAME_SUBJECT, USER_EMAIL);
+        claims.put(YourMicroserviceToken.CLAIM_NAME_AUDIENCE, Collections.singletonList(YourMicroserviceToken.AUDIENCE_WEB));
+        claims.put(YourMicroserviceToken.CLAIM_NAME_AUTHORITIES,
+                new ArrayList<>(AuthorityUtils.authorityListToSet(principal.getAuthorities())));
+        claims.put(YourMicroserviceToken.CLAIM_NAME_ACCOUNT_STATUS, accountStatus);
+        claims.put(YourMicroserviceToken.CLAIM_NAME_PRINCIPAL_ID, principal.getPrincipalID());
+
+        /**
+         * Principal Claims survive Serialization and Verification, but not a Refresh without User Details.
+         */
+        String token = yourMicroserviceToken.generateToken(claims);
+        yourMicroserviceTokenCache.invalidate(token);
+        YourMicroserviceVerifiedToken verifiedToken = yourMicroserviceToken.verify(token);
+        assertTrue(verifiedToken.hasPrincipalClaims());
+        assertEquals(AuthorityUtils.authorityListToSet(principal.getAuthorities()),
+                new HashSet<>(verifiedToken.getAuthorities()));
+        assertEquals(principal.isEnabled(), verifiedToken.getAccountStatus(YourMicroserviceToken.ACCOUNT_STATUS_ENABLED));
+        assertEquals(principal.getPrincipalID(), verifiedToken.getPrincipalId());
+        assertFalse(yourMicroserviceToken.refreshToken(verifiedToken).hasPrincipalClaims());
+
+        /**
+         * Without Stateless Authorization, Tokens are Issued without Principal Claims.
+         */
+        assertFalse(yourMicroserviceToken.isStatelessAuthorization());
+        assertFalse(yourMicroserviceToken.issueToken(principal, YourMicroserviceToken.AUDIENCE_WEB).hasPrincipalClaims());
+    }
+
+    @Test
+    public void test12_VerificationStageTimers() throws Exception {
+        LOGGER.info("Running: test12_VerificationStageTimers");
+
+        long verified = metricRegistry.timer("timer.your.microservice.security.token.verify").getCount();
+        long parsed = metricRegistry.timer("timer.your.microservice.security.token.verify.parse").getCount();
+        long signed = metricRegistry.timer("timer.your.microservice.security.token.verify.signature").getCount();
+        long claimed = metricRegistry.timer("timer.your.microservice.security.token.verify.claims").getCount();
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(YourMicroserviceToken.CLAIM_NAME_SUBJECT, USER_EMAIL);
+        claims.put(YourMicroserviceToken.CLAIM_NAME_AUDIENCE, Collections.singletonList(YourMicroserviceToken.AUDIENCE_WEB));
+        String token = yourMicroserviceToken.generateToken(claims);
+        yourMicroserviceTokenCache.invalidate(token);
+        assertNotNull(yourMicroserviceToken.verify(token));
+
+        /**
+         * A full Verification is Timed in total and at each Stage.
+         */
+        assertEquals(verified + 1, metricRegistry.timer("timer.your.microservice.security.token.verify").getCount());
+        assertEquals(parsed + 1, metricRegistry.timer("timer.your.microservice.security.token.verify.parse").getCount());
+        assertEquals(signed + 1, metricRegistry.timer("timer.your.microservice.security.token.verify.signature").getCount());
+        assertEquals(claimed + 1, metricRegistry.timer("timer.your.microservice.security.token.verify.claims").getCount());
+    }
+
+    @Test
+    public void test13_TokenHistoryWrittenBehind() throws Exception {
+        LOGGER.info("Running: test13_TokenHistoryWrittenBehind");
+
+        YourMicroserviceVerifiedToken issuedToken =
+                yourMicroserviceToken.issueToken("History." + System.nanoTime() + "@example.org",
+                        YourMicroserviceToken.AUDIENCE_WEB);
+        YourEntityTokenHistory yourEntityTokenHistory = new YourEntityTokenHistory();
+        yourEntityTokenHistory.setJti(issuedToken.getJti());
+        yourEntityTokenHistory.setSubject(issuedToken.getSubject());
+        yourEntityTokenHistory.setStatus(YourEntityTokenStatus.ACTIVE);
+        yourEntityTokenHistory.setIssuedAt(issuedToken.getIssuedAt());
+        yourEntityTokenHistory.setExpiration(issuedToken.getExpiration());
+        yourEntityTokenHistory.setNotUsedBefore(issuedToken.getNotUsedBefore());
+        yourEntityTokenHistory.setLastUsed(issuedToken.getIssuedAt());
+        yourEntityTokenHistory.setUsageCount(1L);
+
+        /**
+         * A Token Revoked before its Token History is Written, is Written as Revoked.
+         */
+        yourMicroserviceTokenRevocationService.applyRevocation(issuedToken.getJti(), issuedToken.getExpirationTime());
+        yourMicroserviceTokenHistoryWriter.write(yourEntityTokenHistory);
+        yourMicroserviceTokenHistoryWriter.flush();
+        YourEntityTokenHistory written = null;
+        for (int i = 0; i < 50 && written == null; i++) {
+            List<YourEntityTokenHistory> history =
+                    identityProviderEntityManager.readTokenHistoryBySubject(issuedToken.getSubject());
+            if (!history.isEmpty() && history.get(0).getStatus() == YourEntityTokenStatus.REVOKED) {
+                written = history.get(0);
+            } else {
+                Thread.sleep(100);
+            }
+        }
+        assertNotNull(written);
+        assertEquals(issuedToken.getJti(), written.getJti());
+
+        assertTrue(identityProviderEntityManager.deleteTokenHistory(issuedToken.getJti()) == 1);
+    }
+
+    @Test
+    public void test14_TokenHistoryBatchFailureWrittenRowByRow() throws Exception {
+        LOGGER.info("Running: test14_TokenHistoryBatchFailureWrittenRowByRow");
+
+        long failed = metricRegistry.counter("counter.your.microservice.security.token.history.failed").getCount();
+        String subject = "history." + System.nanoTime() + "@example.org";
+        List<YourEntityTokenHistory> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            batch.add(tokenHistory(yourMicroserviceToken.issueToken(subject, YourMicroserviceToken.AUDIENCE_WEB)));
+        }
+        /**
+         * A Row without a Subject Fails its Batch, the remaining Rows must yet be Written.
+         */
+        YourEntityTokenHistory poisoned =
+                tokenHistory(yourMicroserviceToken.issueToken(subject, YourMicroserviceToken.AUDIENCE_WEB));
+        poisoned.setSubject(null);
+        batch.add(1, poisoned);
+        for (YourEntityTokenHistory yourEntityTokenHistory : batch) {
+            yourMicroserviceTokenHistoryWriter.write(yourEntityTokenHistory);
+        }
+        yourMicroserviceTokenHistoryWriter.flush();
+        List<YourEntityTokenHistory> history = identityProviderEntityManager.readTokenHistoryBySubject(subject);
+        for (int i = 0; i < 50 && history.size() < 3; i++) {
+            Thread.sleep(100);
+            history = identityProviderEntityManager.readTokenHistoryBySubject(subject);
+        }
+        assertEquals(3, history.size());
+        for (YourEntityTokenHistory written : history) {
+            assertNotEquals(poisoned.getJti(), written.getJti());
+        }
+        assertEquals(failed + 1,
+                metricRegistry.counter("counter.your.microservice.security.token.history.failed").getCount());
+
+        for (YourEntityTokenHistory written : history) {
+            assertTrue(identityProviderEntityManager.deleteTokenHistory(written.getJti()) == 1);
+        }
+    }
+
+    @Test
+    public void test15_AsymmetricKeyRotation() throws Exception {
+        LOGGER.info("Running: test15_AsymmetricKeyRotation");
+
+        YourMicroserviceToken_nimbus_Impl es256Impl = es256Implementation();
+        try {
+            String subject = "ES256." + System.nanoTime() + "@example.org";
+            String firstKeyId = es256Impl.getKeyring().getActiveSigningKey().getKeyId();
+            YourMicroserviceVerifiedToken firstToken = es256Impl.issueToken(subject, YourMicroserviceToken.AUDIENCE_WEB);
+            JWSHeader header = JWSObject.parse(firstToken.getToken()).getHeader();
+            assertEquals(JWSAlgorithm.ES256, header.getAlgorithm());
+            assertEquals(firstKeyId, header.getKeyID());
+            yourMicroserviceTokenCache.invalidate(firstToken.getToken());
+            assertEquals(firstToken.getJti(), es256Impl.verify(firstToken.getToken()).getJti());
+            assertEquals(Collections.singleton(firstKeyId), publishedKeyIds(es256Impl));
+
+            /**
+             * Once Rotated, new Tokens are Signed with the new Key, while the previous Key remains
+             * Published, so Tokens it Signed continue to Verify.
+             */
+            assertNotNull(es256Impl.rotateKey());
+            es256Impl.reloadKeyring();
+            String secondKeyId = es256Impl.getKeyring().getActiveSigningKey().getKeyId();
+            assertNotEquals(firstKeyId, secondKeyId);
+            assertEquals(new HashSet<>(Arrays.asList(firstKeyId, secondKeyId)), publishedKeyIds(es256Impl));
+            YourMicroserviceVerifiedToken secondToken = es256Impl.issueToken(subject, YourMicroserviceToken.AUDIENCE_WEB);
+            assertEquals(secondKeyId, JWSObject.parse(secondToken.getToken()).getHeader().getKeyID());
+            yourMicroserviceTokenCache.invalidate(firstToken.getToken());
+            assertEquals(firstToken.getJti(), es256Impl.verify(firstToken.getToken()).getJti());
+
+            /**
+             * Once every Token the previous Key Signed has Expired, the next Rotation Retires it.
+             */
+            Thread.sleep(TimeUnit.SECONDS.toMillis(ES256_TOKEN_EXPIRATION_IN_SECONDS) + 500);
+            assertNotNull(es256Impl.rotateKey());
+            es256Impl.reloadKeyring();
+            Set<String> publishedKeyIds = publishedKeyIds(es256Impl);
+            assertFalse(publishedKeyIds.contains(firstKeyId));
+            assertTrue(publishedKeyIds.contains(secondKeyId));
+        } finally {
+            es256Impl.shutdown();
+        }
+    }
+
+    @Test
+    public void test16_PrincipalCacheEvictedOnEmailChange() throws Exception {
+        LOGGER.info("Running: test16_PrincipalCacheEvictedOnEmailChange");
+
+        YourEntity yourEntity = new YourEntity();
+        yourEntity.setEntityEmailAddress(USER_EMAIL_116);
+        yourEntity.setCredentials("password");
+        yourEntity.setEntityGivenName("Cache");
+        yourEntity.setEntitySurname("Eviction");
+        yourEntity.setStatus(YourEntityStatus.ACTIVE);
+        yourEntity.setYourEntityRoles(new HashSet<>());
+        yourEntity.setEntityProperties(new HashMap<>());
+        yourEntity.setYourEntityOrganizations(new HashSet<>());
+        identityProviderEntityManager.saveYourEntity(yourEntity);
+        Long entityId = identityProviderEntityManager.findYourEntityByEmail(USER_EMAIL_116).getEntityId();
+        try {
+            /**
+             * Changing the Email Address through the Entity Manager Evicts the Previous Email Address.
+             */
+            assertNotNull(userDetailsService.loadPrincipal(USER_EMAIL_116));
+            yourEntity = identityProviderEntityManager.findYourEntityById(entityId);
+            yourEntity.setEntityEmailAddress(USER_EMAIL_117);
+            identityProviderEntityManager.saveYourEntity(yourEntity);
+            assertEquals(USER_EMAIL_117, identityProviderEntityManager.findYourEntityEmailAddressById(entityId));
+            assertPrincipalNotFound(USER_EMAIL_116);
+            YourMicroserviceUserDetails principal = userDetailsService.loadPrincipal(USER_EMAIL_117);
+            assertEquals(entityId, principal.getPrincipalID());
+
+            /**
+             * Saving as the REST Resource Repository does, bypassing the Entity Manager,
+             * Evicts by way of the Repository Event Handler.
+             */
+            yourEntity = identityProviderEntityManager.findYourEntityById(entityId);
+            yourEntity.setEntityEmailAddress(USER_EMAIL_118);
+            yourEntityRestResourceEventHandler.handleBeforeSave(yourEntity);
+            assertEquals(1, jdbcTemplate.update("UPDATE YourEntity SET email = ? WHERE entityId = ?",
+                    USER_EMAIL_118, entityId));
+            yourEntityRestResourceEventHandler.handleAfterSave(yourEntity);
+            assertPrincipalNotFound(USER_EMAIL_117);
+            principal = userDetailsService.loadPrincipal(USER_EMAIL_118);
+            assertSame(principal, userDetailsService.loadPrincipal(USER_EMAIL_118));
+
+            assertEquals(1, jdbcTemplate.update("DELETE FROM YourEntity WHERE entityId = ?", entityId));
+            yourEntityRestResourceEventHandler.handleAfterDelete(yourEntity);
+            assertPrincipalNotFound(USER_EMAIL_118);
+        } finally {
+            if (identityProviderEntityManager.findYourEntityEmailAddressById(entityId) != null) {
+                identityProviderEntityManager.deleteYourEntityById(entityId);
+            }
+        }
+    }
+
+    @Test
+    public void test17_StatelessRefreshReloadsAuthorities() throws Exception {
+        LOGGER.info("Running: test17_StatelessRefreshReloadsAuthorities");
+
+        YourMicroserviceUserDetails principal = userDetailsService.loadPrincipal(USER_EMAIL);
+        Map<String, Object> claims = principalClaims(principal, Collections.singletonList(REVOKED_AUTHORITY));
+
+        Object tokenImplementation = AopUtils.isAopProxy(yourMicroserviceToken) ?
+                ((Advised) yourMicroserviceToken).getTargetSource().getTarget() : yourMicroserviceToken;
+        ReflectionTestUtils.setField(tokenImplementation, "TOKEN_STATELESS_AUTHORIZATION", true);
+        try {
+            /**
+             * The Filter Authorizes a Stateless Token by its Claims, even an Authority since Revoked.
+             */
+            YourMicroserviceVerifiedToken verifiedToken = yourMicroserviceToken.issueToken(claims);
+            assertTrue(filteredAuthorities(verifiedToken.getToken()).contains(REVOKED_AUTHORITY));
+
+            /**
+             * Once Refreshed without User Details, the Filter Loads the Principal's current Authorities.
+             */
+            YourMicroserviceVerifiedToken refreshedToken = yourMicroserviceToken.refreshToken(verifiedToken);
+            assertFalse(refreshedToken.hasPrincipalClaims());
+            Set<String> authorities = filteredAuthorities(refreshedToken.getToken());
+            assertFalse(authorities.contains(REVOKED_AUTHORITY));
+            assertEquals(AuthorityUtils.authorityListToSet(principal.getAuthorities()), authorities);
+        } finally {
+            ReflectionTestUtils.setField(tokenImplementation, "TOKEN_STATELESS_AUTHORIZATION", false);
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    public void test18_TokensRevokedOnStandingChange() throws Exception {
+        LOGGER.info("Running: test18_TokensRevokedOnStandingChange");
+
+        YourEntity yourEntity = new YourEntity();
+        yourEntity.setEntityEmailAddress(USER_EMAIL_119);
+        yourEntity.setCredentials("password");
+        yourEntity.setEntityGivenName("Standing");
+        yourEntity.setEntitySurname("Change");
+        yourEntity.setStatus(YourEntityStatus.ACTIVE);
+        yourEntity.setYourEntityRoles(new HashSet<>());
+        yourEntity.setEntityProperties(new HashMap<>());
+        yourEntity.setYourEntityOrganizations(new HashSet<>());
+        identityProviderEntityManager.saveYourEntity(yourEntity);
+        Long entityId = identityProviderEntityManager.findYourEntityByEmail(USER_EMAIL_119).getEntityId();
+        try {
+            /**
+             * A Rehash of the Credentials, or a Save leaving them unchanged, Revokes nothing.
+             */
+            YourMicroserviceVerifiedToken issuedToken =
+                    yourMicroserviceToken.issueToken(USER_EMAIL_119, YourMicroserviceToken.AUDIENCE_WEB);
+            assertEquals(1, identityProviderEntityManager.updateYourEntityCredentials(entityId,
+                    USER_EMAIL_119, "password", "rehashed").intValue());
+            yourEntity = identityProviderEntityManager.findYourEntityById(entityId);
+            yourEntity.setEntitySurname("Unchanged");
+            identityProviderEntityManager.saveYourEntity(yourEntity);
+            assertEquals(issuedToken.getJti(), yourMicroserviceToken.verify(issuedToken.getToken()).getJti());
+
+            /**
+             * Changing the Credentials through the Entity Manager Revokes the outstanding Tokens.
+             */
+            yourEntity = identityProviderEntityManager.findYourEntityById(entityId);
+            yourEntity.setCredentials("changed");
+            identityProviderEntityManager.saveYourEntity(yourEntity);
+            assertEquals(YourMicroserviceInvalidTokenException.Reason.REVOKED,
+                    rejectionReason(issuedToken.getToken()));
+
+            /**
+             * Suspending the Entity, as the REST Resource Repository does, Revokes the outstanding Tokens.
+             */
+            Thread.sleep(1100);
+            issuedToken = yourMicroserviceToken.issueToken(USER_EMAIL_119, YourMicroserviceToken.AUDIENCE_WEB);
+            assertEquals(issuedToken.getJti(), yourMicroserviceToken.verify(issuedToken.getToken()).getJti());
+            yourEntity = identityProviderEntityManager.findYourEntityById(entityId);
+            yourEntity.setStatus(YourEntityStatus.SUSPENDED);
+            yourEntityRestResourceEventHandler.handleBeforeSave(yourEntity);
+            assertEquals(1, jdbcTemplate.update("UPDATE YourEntity SET status = ? WHERE entityId = ?",
+                    YourEntityStatus.SUSPENDED.name(), entityId));
+            yourEntityRestResourceEventHandler.handleAfterSave(yourEntity);
+            assertEquals(YourMicroserviceInvalidTokenException.Reason.REVOKED,
+                    rejectionReason(issuedToken.getToken()));
+        } finally {
+            identityProviderEntityManager.deleteYourEntityById(entityId);
+        }
+    }
+
+    @Test
+    public void test19_StatelessTokensRevokedOnEmailChangeAndDelete() throws Exception {
+        LOGGER.info("Running: test19_StatelessTokensRevokedOnEmailChangeAndDelete");
+
+        YourEntity yourEntity = new YourEntity();
+        yourEntity.setEntityEmailAddress(USER_EMAIL_120);
+        yourEntity.setCredentials("password");
+        yourEntity.setEntityGivenName("Stateless");
+        yourEntity.setEntitySurname("Revocation");
+        yourEntity.setStatus(YourEntityStatus.ACTIVE);
+        yourEntity.setYourEntityRoles(new HashSet<>());
+        yourEntity.setEntityProperties(new HashMap<>());
+        yourEntity.setYourEntityOrganizations(new HashSet<>());
+        identityProviderEntityManager.saveYourEntity(yourEntity);
+        Long entityId = identityProviderEntityManager.findYourEntityByEmail(USER_EMAIL_120).getEntityId();
+
+        Object tokenImplementation = AopUtils.isAopProxy(yourMicroserviceToken) ?
+                ((Advised) yourMicroserviceToken).getTargetSource().getTarget() : yourMicroserviceToken;
+        ReflectionTestUtils.setField(tokenImplementation, "TOKEN_STATELESS_AUTHORIZATION", true);
+        try {
+            /**
+             * Changing only the Email Address Revokes the Tokens bearing the Previous Email Address,
+             * though the Entity's Standing is unchanged.
+             */
+            YourMicroserviceVerifiedToken verifiedToken = yourMicroserviceToken.issueToken(
+                    principalClaims(userDetailsService.loadPrincipal(USER_EMAIL_120), Collections.emptyList()));
+            assertNotNull(filteredAuthorities(verifiedToken.getToken()));
+            yourEntity = identityProviderEntityManager.findYourEntityById(entityId);
+            yourEntity.setEntityEmailAddress(USER_EMAIL_121);
+            identityProviderEntityManager.saveYourEntity(yourEntity);
+            assertEquals(YourMicroserviceInvalidTokenException.Reason.REVOKED,
+                    rejectionReason(verifiedToken.getToken()));
+
+            /**
+             * Deleting the Entity Revokes its Stateless Tokens, which would otherwise Authorize
+             * the Deleted Entity by their Claims alone until Expiry.
+             */
+            verifiedToken = yourMicroserviceToken.issueToken(
+                    principalClaims(userDetailsService.loadPrincipal(USER_EMAIL_121), Collections.emptyList()));
+            assertNotNull(filteredAuthorities(verifiedToken.getToken()));
+            assertEquals(1, identityProviderEntityManager.deleteYourEntityById(entityId).intValue());
+            assertEquals(YourMicroserviceInvalidTokenException.Reason.REVOKED,
+                    rejectionReason(verifiedToken.getToken()));
+            SecurityContextHolder.clearContext();
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(YourMicroserviceSecurityConstants.AUTHORIZATION_HEADER_NAME,
+                    YourMicroserviceSecurityConstants.AUTHORIZATION_HEADER_BEARER_VALUE + verifiedToken.getToken());
+            authenticationTokenFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+        } finally {
+            ReflectionTestUtils.setField(tokenImplementation, "TOKEN_STATELESS_AUTHORIZATION", false);
+            SecurityContextHolder.clearContext();
+            if (identityProviderEntityManager.findYourEntityEmailAddressById(entityId) != null) {
+                identityProviderEntityManager.deleteYourEntityById(entityId);
+            }
+        }
+    }
+
+    /**
+     * rejectionReason
+     *
+     * @param token JWT expected to be Rejected.
+     * @return Reason the Token was Rejected.
+     */
+    private YourMicroserviceInvalidTokenException.Reason rejectionReason(String token) {
+        try {
+            yourMicroserviceToken.verify(token);
+            fail("Token should not Verify");
+            return null;
+        } catch (YourMicroserviceInvalidTokenException ite) {
+            return ite.getReason();
+        }
+    }
+
+    /**
+     * filteredAuthorities
+     * Authorities Granted by the Authentication Token Filter to a Request bearing the Token.
+     *
+     * @param token JWT
+     * @return Set of Authority Names.
+     */
+    private Set<String> filteredAuthorities(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(YourMicroserviceSecurityConstants.AUTHORIZATION_HEADER_NAME,
+                YourMicroserviceSecurityConstants.AUTHORIZATION_HEADER_BEARER_VALUE + token);
+        authenticationTokenFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        return AuthorityUtils.authorityListToSet(authentication.getAuthorities());
+    }
+
+    /**
+     * principalClaims
+     * Claims of a Stateless Token bearing the Principal's Account Status and the given Authorities.
+     *
+     * @param principal Principal to whom the Token is Issued.
+     * @param authorities Authority Names Claimed.
+     * @return Map of Claims.
+     */
+    private static Map<String, Object> principalClaims(YourMicroserviceUserDetails principal,
+                                                       List<String> authorities) {
+        Map<String, Object> accountStatus = new HashMap<>();
+        accountStatus.put(YourMicroserviceToken.ACCOUNT_STATUS_ENABLED, principal.isEnabled());
+        accountStatus.put(YourMicroserviceToken.ACCOUNT_STATUS_NON_LOCKED, principal.isAccountNonLocked());
+        accountStatus.put(YourMicroserviceToken.ACCOUNT_STATUS_NON_EXPIRED, principal.isAccountNonExpired());
+        accountStatus.put(YourMicroserviceToken.ACCOUNT_STATUS_CREDENTIALS_NON_EXPIRED, principal.isCredentialsNonExpired());
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(YourMicroserviceToken.CLAIM_NAME_SUBJECT, principal.getUsername());
+        claims.put(YourMicroserviceToken.CLAIM_NAME_AUDIENCE, Collections.singletonList(YourMicroserviceToken.AUDIENCE_WEB));
+        claims.put(YourMicroserviceToken.CLAIM_NAME_AUTHORITIES, authorities);
+        claims.put(YourMicroserviceToken.CLAIM_NAME_ACCOUNT_STATUS, accountStatus);
+        claims.put(YourMicroserviceToken.CLAIM_NAME_PRINCIPAL_ID, principal.getPrincipalID());
+        return claims;
+    }
+
+    /**
+     * assertPrincipalNotFound
+     *
+     * @param email Email Address no longer held by any Entity.
+     */
+    private void assertPrincipalNotFound(String email) {
+        try {
+            userDetailsService.loadPrincipal(email);
+            fail("Principal for " + email + " should no longer be Cached or Found");
+        } catch (UsernameNotFoundException unfe) {
+            /**
+             * Expected.
+             */
+        }
+    }
+
+    /**
+     * es256Implementation
+     * A Token Implementation Signing with ES256, upon its own Temporary KeyStore, whose Keys Activate
+     * immediately and whose Tokens Expire quickly.
+     *
+     * @return YourMicroserviceToken_nimbus_Impl Initialized.
+     */
+    private YourMicroserviceToken_nimbus_Impl es256Implementation() {
+        YourMicroserviceToken_nimbus_Impl es256Impl = new YourMicroserviceToken_nimbus_Impl();
+        ReflectionTestUtils.setField(es256Impl, "KEYSTORE_CREDENTIALS", "ks-yourMS-ES256");
+        ReflectionTestUtils.setField(es256Impl, "KEYSTORE_ENTRY_NAME", "Your-Microservice-IdP-ES256");
+        ReflectionTestUtils.setField(es256Impl, "KEYSTORE_KEY_ACTIVATION_DELAY_IN_SECONDS", 0L);
+        ReflectionTestUtils.setField(es256Impl, "TOKEN_EXPIRATION_IN_SECONDS", ES256_TOKEN_EXPIRATION_IN_SECONDS);
+        ReflectionTestUtils.setField(es256Impl, "TOKEN_SIGNATURE_ALGORITHM", "ES256");
+        ReflectionTestUtils.setField(es256Impl, "shutdownManager",
+                (ShutdownManager) (reason, returnCode) -> fail(reason));
+        ReflectionTestUtils.setField(es256Impl, "yourMicroserviceTokenCache", yourMicroserviceTokenCache);
+        ReflectionTestUtils.setField(es256Impl, "yourMicroserviceTokenRevocationService",
+                yourMicroserviceTokenRevocationService);
+        ReflectionTestUtils.setField(es256Impl, "metricRegistry", metricRegistry);
+        es256Impl.initialization();
+        assertNotNull(es256Impl.getKeyring());
+        return es256Impl;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> publishedKeyIds(YourMicroserviceToken yourMicroserviceToken) {
+        Set<String> keyIds = new HashSet<>();
+        for (Map<String, Object> jwk : (List<Map<String, Object>>) yourMicroserviceToken.getPublicVerificationKeys().get("keys")) {
+            keyIds.add((String) jwk.get("kid"));
+        }
+        return keyIds;
+    }
+
+    /**
+     * tokenHistory
+     *
+     * @param issuedToken Issued Token.
+     * @return YourEntityTokenHistory of the Issued Token.
+     */
+    private static YourEntityTokenHistory tokenHistory(YourMicroserviceVerifiedToken issuedToken) {
+        YourEntityTokenHistory yourEntityTokenHistory = new YourEntityTokenHistory();
+        yourEntityTokenHistory.setJti(issuedToken.getJti());
+        yourEntityTokenHistory.setSubject(issuedToken.getSubject());
+        yourEntityTokenHistory.setStatus(YourEntityTokenStatus.ACTIVE);
+        yourEntityTokenHistory.setIssuedAt(issuedToken.getIssuedAt());
+        yourEntityTokenHistory.setExpiration(issuedToken.getExpiration());
+        yourEntityTokenHistory.setNotUsedBefore(issuedToken.getNotUsedBefore());
+        yourEntityTokenHistory.setLastUsed(issuedToken.getIssuedAt());
+        yourEntityTokenHistory.setUsageCount(1L);
+        return yourEntityTokenHistory;
+    }
+
+}